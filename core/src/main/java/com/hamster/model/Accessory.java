@@ -0,0 +1,309 @@
+package com.hamster.model;
+
+import com.hamster.render.RenderResources;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+public enum Accessory {
+    // HEAD
+    RED_RIBBON(Slot.HEAD, "\uBE68\uAC04 \uB9AC\uBCF8", 50, "\uADC0\uC5EC\uC6B4 \uBE68\uAC04 \uB9AC\uBCF8", 0.03, "\u2764\uFE0F"),
+    BLUE_RIBBON(Slot.HEAD, "\uD30C\uB780 \uB9AC\uBCF8", 50, "\uC0C1\uCFE8\uD55C \uD30C\uB780 \uB9AC\uBCF8", 0.03, "\uD83D\uDC99"),
+    TOP_HAT(Slot.HEAD, "\uC815\uC7A5 \uBAA8\uC790", 100, "\uACA9\uC2DD \uC788\uB294 \uC815\uC7A5 \uBAA8\uC790", 0.10, "\uD83C\uDFA9"),
+    PARTY_HAT(Slot.HEAD, "\uD30C\uD2F0 \uBAA8\uC790", 80, "\uCD95\uD558 \uD30C\uD2F0 \uBAA8\uC790", 0.05, "\uD83E\uDD73"),
+    CROWN(Slot.HEAD, "\uC655\uAD00", 200, "\uD669\uAE08 \uC655\uAD00", 0.20, "\uD83D\uDC51"),
+    BANDANA(Slot.HEAD, "\uB450\uAC74", 70, "\uBA4B\uC9C4 \uB450\uAC74", 0.05, "\uD83E\uDDE2"),
+    FLOWER(Slot.HEAD, "\uAF43", 30, "\uC608\uC05C \uAF43 \uC7A5\uC2DD", 0.02, "\uD83C\uDF38"),
+    STAR_PIN(Slot.HEAD, "\uBCC4 \uD540", 40, "\uBC18\uC9DD\uC774\uB294 \uBCC4 \uD540", 0.03, "\u2B50"),
+
+    // FACE
+    GLASSES(Slot.FACE, "\uC548\uACBD", 60, "\uB181\uAE00 \uC548\uACBD", 0.05, "\uD83D\uDC53"),
+    SUNGLASSES(Slot.FACE, "\uC120\uAE00\uB77C\uC2A4", 80, "\uBA4B\uC9C4 \uC120\uAE00\uB77C\uC2A4", 0.08, "\uD83D\uDD76\uFE0F"),
+    MONOCLE(Slot.FACE, "\uBAA8\uB178\uD074", 120, "\uACE0\uAE09\uC2A4\uB7EC\uC6B4 \uBAA8\uB178\uD074", 0.12, "\uD83E\uDDD0"),
+
+    // NECK
+    SCARF(Slot.NECK, "\uBAA9\uB3C4\uB9AC", 90, "\uB530\uB73B\uD55C \uBAA9\uB3C4\uB9AC", 0.07, "\uD83E\uDDE3"),
+    BOW_TIE(Slot.NECK, "\uB098\uBE44 \uB125\uD0C0\uC774", 60, "\uC591\uBCF5\uB2EC\uB9B0 \uB098\uBE44 \uB125\uD0C0\uC774", 0.05, "\uD83D\uDC54"),
+    BELL(Slot.NECK, "\uBC29\uC6B8", 45, "\uB531\uB7C9\uB531\uB7C9 \uBC29\uC6B8", 0.03, "\uD83D\uDD14"),
+
+    // BODY
+    CAPE(Slot.BODY, "\uB9DD\uD1A0", 150, "\uC601\uC6C5\uC801\uC778 \uB9DD\uD1A0", 0.15, "\uD83E\uDDB8"),
+
+    // SHOES
+    RUNNING_SHOES(Slot.SHOES, "\uC6B4\uB3D9\uD654", 70, "\uBE60\uB978 \uC6B4\uB3D9\uD654", 0.05, "\uD83D\uDC5F"),
+    WARM_SOCKS(Slot.SHOES, "\uB530\uB73B\uD55C \uC591\uB9D0", 40, "\uD3EC\uADFC\uD558\uACE0 \uB530\uB73B\uD55C \uC591\uB9D0", 0.03, "\uD83E\uDDE6"),
+    SLIPPERS(Slot.SHOES, "\uC2AC\uB9AC\uD37C", 55, "\uD3B8\uC548\uD55C \uC2AC\uB9AC\uD37C", 0.04, "\uD83E\uDE74"),
+
+    // HANDS
+    TINY_GLOVES(Slot.HANDS, "\uC791\uC740 \uC7A5\uAC11", 60, "\uADC0\uC5EC\uC6B4 \uC791\uC740 \uC7A5\uAC11", 0.05, "\uD83E\uDDE4"),
+    WRISTBAND(Slot.HANDS, "\uC190\uBAA9\uBC34\uB4DC", 45, "\uC2A4\uD3EC\uD2F0 \uC190\uBAA9\uBC34\uB4DC", 0.03, "\uD83D\uDCAA"),
+    RING(Slot.HANDS, "\uBC18\uC9C0", 120, "\uBC18\uC9DD\uC774\uB294 \uBC18\uC9C0", 0.10, "\uD83D\uDC8D");
+
+    public enum Slot {
+        HEAD, FACE, NECK, BODY, SHOES, HANDS
+    }
+
+    /** Number of distinct slot types */
+    public static final int SLOT_COUNT = Slot.values().length;
+
+    private final Slot slot;
+    private final String displayName;
+    private final int cost;
+    private final String description;
+    private final double coinBonus;
+    private final String emoji;
+
+    Accessory(Slot slot, String displayName, int cost, String description, double coinBonus, String emoji) {
+        this.slot = slot;
+        this.displayName = displayName;
+        this.cost = cost;
+        this.description = description;
+        this.coinBonus = coinBonus;
+        this.emoji = emoji;
+    }
+
+    public Slot getSlot() { return slot; }
+    public String getDisplayName() { return displayName; }
+    public int getCost() { return cost; }
+    public String getDescription() { return description; }
+    public double getCoinBonus() { return coinBonus; }
+    public String getEmoji() { return emoji; }
+
+    // Paint resources, resolved once (see RenderResources)
+    private static final BasicStroke STROKE_1 = RenderResources.stroke(1);
+    private static final BasicStroke STROKE_1_5 = RenderResources.stroke(1.5f);
+    private static final BasicStroke STROKE_2 = RenderResources.stroke(2);
+    private static final Color RIBBON_RED = RenderResources.color(220, 50, 50);
+    private static final Color RIBBON_RED_KNOT = RenderResources.color(180, 30, 30);
+    private static final Color RIBBON_BLUE = RenderResources.color(50, 100, 220);
+    private static final Color RIBBON_BLUE_KNOT = RenderResources.color(30, 70, 180);
+    private static final Color HAT_BLACK = RenderResources.color(40, 40, 40);
+    private static final Color HAT_BAND = RenderResources.color(180, 140, 20);
+    private static final Color PARTY_PINK = RenderResources.color(255, 100, 150);
+    private static final Color YELLOW = RenderResources.color(255, 220, 50);
+    private static final Color GOLD = RenderResources.color(255, 200, 0);
+    private static final Color GEM_RED = RenderResources.color(220, 50, 50);
+    private static final Color GEM_BLUE = RenderResources.color(50, 100, 220);
+    private static final Color BANDANA_PURPLE = RenderResources.color(100, 50, 150);
+    private static final Color BANDANA_KNOT = RenderResources.color(80, 30, 130);
+    private static final Color PETAL = RenderResources.color(255, 150, 180);
+    private static final Color FRAME_GREY = RenderResources.color(60, 60, 60);
+    private static final Color LENS_BLACK = RenderResources.color(30, 30, 30);
+    private static final Color MONOCLE_GOLD = RenderResources.color(180, 160, 0);
+    private static final Color MONOCLE_GLASS = RenderResources.color(200, 200, 200, 100);
+    private static final Color SCARF_RED = RenderResources.color(220, 60, 60);
+    private static final Color SCARF_END = RenderResources.color(200, 40, 40);
+    private static final Color BOW_BLUE = RenderResources.color(50, 50, 200);
+    private static final Color BOW_KNOT = RenderResources.color(70, 70, 220);
+    private static final Color BELL_RIM = RenderResources.color(200, 160, 0);
+    private static final Color BELL_SLOT = RenderResources.color(80, 80, 80);
+    private static final Color SHOE_BLUE = RenderResources.color(60, 60, 200);
+    private static final Color SOCK_PINK = RenderResources.color(255, 200, 200);
+    private static final Color SOCK_STRIPE = RenderResources.color(255, 150, 150);
+    private static final Color SLIPPER_PURPLE = RenderResources.color(200, 160, 220);
+    private static final Color SLIPPER_POMPOM = RenderResources.color(255, 200, 220);
+    private static final Color GLOVE_BROWN = RenderResources.color(180, 100, 60);
+    private static final Color BAND_RED = RenderResources.color(255, 80, 80);
+    private static final Color RING_GOLD = RenderResources.color(255, 215, 0);
+    private static final Color RING_GEM = RenderResources.color(100, 200, 255);
+    private static final Color CAPE_FILL = RenderResources.color(180, 30, 30, 180);
+    private static final Color CAPE_EDGE = RenderResources.color(200, 50, 50);
+
+    // Geometry at baseY = 0; draw() translates by baseY
+    private static final Shape PARTY_HAT_SHAPE = RenderResources.polygon(30, -4, 20, 12, 40, 12);
+    private static final Shape CROWN_SHAPE = RenderResources.polygon(
+            16, 12, 20, 0, 25, 8, 30, -2, 35, 8, 40, 0, 44, 12, 44, 12, 16, 12);
+    private static final Shape BANDANA_KNOT_SHAPE = RenderResources.polygon(48, 10, 56, 14, 52, 18);
+    private static final Shape BOW_LEFT = RenderResources.polygon(24, 34, 30, 38, 24, 42);
+    private static final Shape BOW_RIGHT = RenderResources.polygon(36, 34, 30, 38, 36, 42);
+    private static final Shape CAPE_SHAPE = RenderResources.polygon(10, 30, 5, 55, 15, 58, 50, 58, 55, 55, 50, 30);
+    private static final int[] PETAL_X = new int[5], PETAL_Y = new int[5];
+    static {
+        for (int i = 0; i < 5; i++) {
+            double angle = i * Math.PI * 2 / 5;
+            PETAL_X[i] = 25 + (int)(5 * Math.cos(angle));
+            PETAL_Y[i] = 4 + (int)(5 * Math.sin(angle));
+        }
+    }
+
+    public void draw(Graphics2D g2, int direction, int baseY) {
+        // Flip context: if direction is already handled by caller, we draw normally
+        g2.translate(0, baseY);
+        switch (this) {
+            // HEAD accessories
+            case RED_RIBBON:
+                g2.setColor(RIBBON_RED);
+                g2.fillOval(22, 2, 16, 10);
+                g2.setColor(RIBBON_RED_KNOT);
+                g2.fillOval(25, 4, 10, 6);
+                break;
+            case BLUE_RIBBON:
+                g2.setColor(RIBBON_BLUE);
+                g2.fillOval(22, 2, 16, 10);
+                g2.setColor(RIBBON_BLUE_KNOT);
+                g2.fillOval(25, 4, 10, 6);
+                break;
+            case TOP_HAT:
+                g2.setColor(HAT_BLACK);
+                g2.fillRect(18, -2, 24, 14);
+                g2.fillRect(14, 10, 32, 4);
+                g2.setColor(HAT_BAND);
+                g2.fillRect(18, 8, 24, 3);
+                break;
+            case PARTY_HAT:
+                g2.setColor(PARTY_PINK);
+                g2.fill(PARTY_HAT_SHAPE);
+                g2.setColor(YELLOW);
+                g2.fillOval(27, -7, 6, 6);
+                break;
+            case CROWN:
+                g2.setColor(GOLD);
+                g2.fill(CROWN_SHAPE);
+                g2.setColor(GEM_RED);
+                g2.fillOval(28, 2, 4, 4);
+                g2.setColor(GEM_BLUE);
+                g2.fillOval(21, 4, 3, 3);
+                g2.fillOval(36, 4, 3, 3);
+                break;
+            case BANDANA:
+                g2.setColor(BANDANA_PURPLE);
+                g2.fillRoundRect(10, 8, 40, 8, 4, 4);
+                g2.setColor(BANDANA_KNOT);
+                g2.fill(BANDANA_KNOT_SHAPE);
+                break;
+            case FLOWER:
+                g2.setColor(PETAL);
+                for (int i = 0; i < 5; i++) {
+                    g2.fillOval(PETAL_X[i], PETAL_Y[i], 5, 5);
+                }
+                g2.setColor(YELLOW);
+                g2.fillOval(26, 5, 4, 4);
+                break;
+            case STAR_PIN:
+                g2.setColor(YELLOW);
+                drawMiniStar(g2, 38, 6, 5);
+                break;
+
+            // FACE accessories
+            case GLASSES:
+                g2.setColor(FRAME_GREY);
+                g2.setStroke(STROKE_2);
+                g2.drawOval(17, 18, 12, 10);
+                g2.drawOval(33, 18, 12, 10);
+                g2.drawLine(29, 22, 33, 22);
+                g2.drawLine(17, 22, 12, 20);
+                g2.drawLine(45, 22, 50, 20);
+                g2.setStroke(STROKE_1);
+                break;
+            case SUNGLASSES:
+                g2.setColor(LENS_BLACK);
+                g2.fillRoundRect(16, 18, 14, 10, 4, 4);
+                g2.fillRoundRect(32, 18, 14, 10, 4, 4);
+                g2.setStroke(STROKE_2);
+                g2.drawLine(30, 22, 32, 22);
+                g2.drawLine(16, 22, 10, 20);
+                g2.drawLine(46, 22, 52, 20);
+                g2.setStroke(STROKE_1);
+                break;
+            case MONOCLE:
+                g2.setColor(MONOCLE_GOLD);
+                g2.setStroke(STROKE_2);
+                g2.drawOval(33, 17, 12, 12);
+                g2.setColor(MONOCLE_GLASS);
+                g2.fillOval(34, 18, 10, 10);
+                g2.setColor(MONOCLE_GOLD);
+                g2.drawLine(39, 29, 39, 38);
+                g2.setStroke(STROKE_1);
+                break;
+
+            // NECK accessories
+            case SCARF:
+                g2.setColor(SCARF_RED);
+                g2.fillRoundRect(12, 36, 36, 8, 4, 4);
+                g2.setColor(SCARF_END);
+                g2.fillRoundRect(38, 38, 8, 14, 3, 3);
+                break;
+            case BOW_TIE:
+                g2.setColor(BOW_BLUE);
+                g2.fill(BOW_LEFT);
+                g2.fill(BOW_RIGHT);
+                g2.setColor(BOW_KNOT);
+                g2.fillOval(28, 36, 4, 4);
+                break;
+            case BELL:
+                g2.setColor(GOLD);
+                g2.fillOval(26, 36, 8, 8);
+                g2.setColor(BELL_RIM);
+                g2.drawOval(26, 36, 8, 8);
+                g2.setColor(BELL_SLOT);
+                g2.fillOval(29, 40, 3, 3);
+                break;
+
+            // SHOES accessories
+            case RUNNING_SHOES:
+                g2.setColor(SHOE_BLUE);
+                g2.fillRoundRect(14, 52, 12, 8, 3, 3);
+                g2.fillRoundRect(34, 52, 12, 8, 3, 3);
+                g2.setColor(Color.WHITE);
+                g2.drawLine(16, 55, 24, 55);
+                g2.drawLine(36, 55, 44, 55);
+                break;
+            case WARM_SOCKS:
+                g2.setColor(SOCK_PINK);
+                g2.fillRoundRect(14, 48, 12, 12, 4, 4);
+                g2.fillRoundRect(34, 48, 12, 12, 4, 4);
+                g2.setColor(SOCK_STRIPE);
+                g2.drawLine(14, 52, 26, 52);
+                g2.drawLine(34, 52, 46, 52);
+                break;
+            case SLIPPERS:
+                g2.setColor(SLIPPER_PURPLE);
+                g2.fillRoundRect(12, 54, 14, 7, 4, 4);
+                g2.fillRoundRect(32, 54, 14, 7, 4, 4);
+                g2.setColor(SLIPPER_POMPOM);
+                g2.fillOval(14, 53, 6, 6);
+                g2.fillOval(34, 53, 6, 6);
+                break;
+
+            // HANDS accessories
+            case TINY_GLOVES:
+                g2.setColor(GLOVE_BROWN);
+                g2.fillRoundRect(6, 36, 8, 10, 3, 3);
+                g2.fillRoundRect(46, 36, 8, 10, 3, 3);
+                break;
+            case WRISTBAND:
+                g2.setColor(BAND_RED);
+                g2.fillRoundRect(6, 38, 8, 5, 2, 2);
+                g2.fillRoundRect(46, 38, 8, 5, 2, 2);
+                break;
+            case RING:
+                g2.setColor(RING_GOLD);
+                g2.setStroke(STROKE_2);
+                g2.drawOval(46, 38, 7, 7);
+                g2.setColor(RING_GEM);
+                g2.fillOval(48, 36, 4, 4);
+                g2.setStroke(STROKE_1);
+                break;
+
+            // BODY accessories
+            case CAPE:
+                g2.setColor(CAPE_FILL);
+                g2.fill(CAPE_SHAPE);
+                g2.setColor(CAPE_EDGE);
+                g2.setStroke(STROKE_1_5);
+                g2.draw(CAPE_SHAPE);
+                g2.setStroke(STROKE_1);
+                break;
+        }
+        g2.translate(0, -baseY);
+    }
+
+    private static void drawMiniStar(Graphics2D g2, int cx, int cy, int size) {
+        g2.setStroke(STROKE_2);
+        g2.drawLine(cx - size, cy, cx + size, cy);
+        g2.drawLine(cx, cy - size, cx, cy + size);
+        g2.drawLine(cx - size / 2, cy - size / 2, cx + size / 2, cy + size / 2);
+        g2.drawLine(cx + size / 2, cy - size / 2, cx - size / 2, cy + size / 2);
+        g2.setStroke(STROKE_1);
+    }
+}
@@ -0,0 +1,40 @@
+package com.hamster.model;
+
+/**
+ * A timed stat modifier. Built with a duration; once added to a hamster it is stamped
+ * with the absolute tick it expires on (see {@link Hamster#addBuff(Buff)}).
+ */
+public class Buff {
+    public enum Type {
+        HUNGER_DRAIN,
+        HAPPINESS_DRAIN,
+        ENERGY_DRAIN,
+        COIN_BONUS
+    }
+
+    private final Type type;
+    private final double multiplier;
+    private final int durationFrames;
+    private final String description;
+    long expiresAt; // tick on the owning store's clock; shifted when the hamster changes store
+
+    public Buff(Type type, double multiplier, int durationFrames, String description) {
+        this.type = type;
+        this.multiplier = multiplier;
+        this.durationFrames = durationFrames;
+        this.description = description;
+    }
+
+    Buff(Buff template, long expiresAt) {
+        this(template.type, template.multiplier, template.durationFrames, template.description);
+        this.expiresAt = expiresAt;
+    }
+
+    public Type getType() { return type; }
+    public double getMultiplier() { return multiplier; }
+    public int getDurationFrames() { return durationFrames; }
+    public String getDescription() { return description; }
+
+    /** Tick this buff expires on; only meaningful once it was added to a hamster. */
+    public long getExpiresAt() { return expiresAt; }
+}
@@ -0,0 +1,82 @@
+package com.hamster.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * The active buffs of one hamster.
+ *
+ * The combined multiplier for each {@link Buff.Type} is cached and only recomputed when
+ * a buff is added or expires, so the per-frame drain and coin code reads an array slot
+ * instead of scanning the list. Expiry comes from a min-heap on the absolute expiry
+ * tick: checking a hamster with nothing due is a single peek.
+ */
+final class BuffSet {
+
+    private static final Buff.Type[] TYPES = Buff.Type.values();
+
+    private final List<Buff> active = new ArrayList<>(2);
+    private final List<Buff> view = Collections.unmodifiableList(active);
+    private final PriorityQueue<Buff> expiry = new PriorityQueue<>(2,
+            (a, b) -> Long.compare(a.expiresAt, b.expiresAt));
+    private final double[] multipliers = new double[TYPES.length];
+
+    BuffSet() {
+        recompute();
+    }
+
+    /** Add a copy of {@code template} that expires on {@code expiresAt}. */
+    void add(Buff template, long expiresAt) {
+        Buff b = new Buff(template, expiresAt);
+        active.add(b);
+        expiry.add(b);
+        recompute();
+    }
+
+    /** Drop every buff due on or before {@code now}. */
+    void expire(long now) {
+        Buff head = expiry.peek();
+        if (head == null || head.expiresAt > now) return;
+        do {
+            active.remove(expiry.poll());
+            head = expiry.peek();
+        } while (head != null && head.expiresAt <= now);
+        recompute();
+    }
+
+    /** Earliest expiry tick, or {@link Long#MAX_VALUE} when there are no buffs. */
+    long nextExpiry() {
+        Buff head = expiry.peek();
+        return head != null ? head.expiresAt : Long.MAX_VALUE;
+    }
+
+    /** Move every expiry by {@code delta} ticks (a uniform shift keeps the heap valid). */
+    void shift(long delta) {
+        if (delta == 0) return;
+        for (Buff b : active) {
+            b.expiresAt += delta;
+        }
+    }
+
+    double multiplier(Buff.Type type) {
+        return multipliers[type.ordinal()];
+    }
+
+    List<Buff> list() {
+        return view;
+    }
+
+    // Buffs of one type stack additively around 1.0, floored at 0.1
+    private void recompute() {
+        double[] sums = new double[TYPES.length];
+        for (int k = 0; k < active.size(); k++) {
+            Buff b = active.get(k);
+            sums[b.getType().ordinal()] += b.getMultiplier() - 1.0;
+        }
+        for (int t = 0; t < sums.length; t++) {
+            multipliers[t] = Math.max(0.1, 1.0 + sums[t]);
+        }
+    }
+}
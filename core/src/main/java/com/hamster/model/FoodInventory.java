@@ -29,6 +29,25 @@ public class FoodInventory {
         return true;
     }
 
+    /** An independent copy, e.g. for a save written on another thread. */
+    public FoodInventory copy() {
+        FoodInventory inv = new FoodInventory();
+        inv.items.clear();
+        inv.items.putAll(items);
+        return inv;
+    }
+
+    /** Remove everything, including the starting seeds. */
+    public void clear() {
+        items.clear();
+    }
+
+    /** Set the stock of {@code food}; zero or less removes it. */
+    public void setCount(FoodItem food, int count) {
+        if (count > 0) items.put(food, count);
+        else items.remove(food);
+    }
+
     public int getCount(FoodItem food) {
         return items.containsKey(food) ? items.get(food) : 0;
     }
@@ -0,0 +1,109 @@
+package com.hamster.model;
+
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Wall-clock hour and {@link TimeOfDay} for the game.
+ *
+ * The local hour is worked out once and cached until the next hour boundary, so asking
+ * for the period every frame costs a clock read and a compare. Listeners hear about
+ * period changes (e.g. evening to night). The time source and zone can be injected so
+ * fast-forward runs and tests can drive simulated wall-clock time.
+ */
+public class GameClock {
+
+    /** Supplies the current time in epoch milliseconds. */
+    public interface TimeSource {
+        long currentTimeMillis();
+    }
+
+    /** Notified when the period changes, on the thread that noticed the change. */
+    public interface PeriodListener {
+        void onPeriodChanged(TimeOfDay previous, TimeOfDay current);
+    }
+
+    private static final long HOUR_MILLIS = 3_600_000L;
+
+    private static final GameClock SYSTEM = new GameClock(System::currentTimeMillis, TimeZone.getDefault());
+
+    private final TimeSource source;
+    private final TimeZone zone;
+    private final List<PeriodListener> listeners = new CopyOnWriteArrayList<>();
+
+    // Cached for the current hour: [hourStart, nextHourStart)
+    private long hourStart = Long.MAX_VALUE;
+    private long nextHourStart = Long.MIN_VALUE;
+    private int hour;
+    private TimeOfDay period;
+
+    public GameClock(TimeSource source, TimeZone zone) {
+        this.source = source;
+        this.zone = zone;
+    }
+
+    /** The clock backed by the system time and default zone. */
+    public static GameClock system() {
+        return SYSTEM;
+    }
+
+    public TimeOfDay getPeriod() {
+        refresh();
+        return period;
+    }
+
+    /** Local hour of day, 0~23. */
+    public int getHour() {
+        refresh();
+        return hour;
+    }
+
+    /** Current time of the clock's source, in epoch milliseconds. */
+    public long currentTimeMillis() {
+        return source.currentTimeMillis();
+    }
+
+    /** Local hour of day (0~23) at {@code millis}. */
+    public int hourAt(long millis) {
+        long local = millis + zone.getOffset(millis);
+        return (int) Math.floorMod(Math.floorDiv(local, HOUR_MILLIS), 24L);
+    }
+
+    /** Start of the first local hour after {@code millis}. */
+    public long nextHourStart(long millis) {
+        long local = millis + zone.getOffset(millis);
+        return millis - Math.floorMod(local, HOUR_MILLIS) + HOUR_MILLIS;
+    }
+
+    public void addPeriodListener(PeriodListener l) {
+        listeners.add(l);
+    }
+
+    public void removePeriodListener(PeriodListener l) {
+        listeners.remove(l);
+    }
+
+    private void refresh() {
+        TimeOfDay previous;
+        TimeOfDay current;
+        synchronized (this) {
+            long now = source.currentTimeMillis();
+            if (now >= hourStart && now < nextHourStart) return;
+
+            // Recompute only on an hour boundary (or if the source jumped backwards)
+            nextHourStart = nextHourStart(now);
+            hourStart = nextHourStart - HOUR_MILLIS;
+            hour = hourAt(now);
+
+            previous = period;
+            current = TimeOfDay.forHour(hour);
+            period = current;
+        }
+        if (previous != null && previous != current) {
+            for (PeriodListener l : listeners) {
+                l.onPeriodChanged(previous, current);
+            }
+        }
+    }
+}
@@ -10,13 +10,27 @@ public final class GameConstants {
     // === Timing (frames) ===
     /** Frames per in-game day (~5 minutes real time at 30fps) */
     public static final int FRAMES_PER_DAY = 9000;
-    /** Game loop tick interval in milliseconds (~30fps) */
-    public static final int GAME_TICK_MS = 33;
-    /** Auto-save interval in frames (~1 minute) */
-    public static final int AUTO_SAVE_INTERVAL = 1800;
+    /** Simulation steps per real second */
+    public static final int TICKS_PER_SECOND = 30;
+    /** Exact length of one simulation step in nanoseconds */
+    public static final long GAME_STEP_NANOS = 1_000_000_000L / TICKS_PER_SECOND;
+    /** Most steps replayed after a stall (~1 second); older ones are dropped */
+    public static final int MAX_CATCH_UP_STEPS = 30;
+    /** Stalls longer than this (e.g. a suspended laptop) are fast-forwarded instead of replayed */
+    public static final long OFFLINE_GAP_MILLIS = 5_000L;
+    /** Longest offline time fast-forwarded on load or resume (7 days) */
+    public static final long MAX_OFFLINE_MILLIS = 7L * 24 * 3_600_000L;
+    /** Full save interval in frames (~5 minutes); the save log covers the run in between */
+    public static final int AUTO_SAVE_INTERVAL = 9000;
+    /** Save interval in frames (~1 minute) for the statistics, achievements and journal, which the save log does not cover */
+    public static final int PROFILE_SAVE_INTERVAL = 1800;
+    /** Save-log batch interval in frames (~2 seconds) */
+    public static final int SAVE_LOG_INTERVAL = 60;
+    /** Save-log size that triggers a full save ahead of schedule */
+    public static final long SAVE_LOG_MAX_BYTES = 256 * 1024;
     /** Passive income interval in frames (~30 seconds) */
     public static final int PASSIVE_INCOME_INTERVAL = 900;
-    /** Achievement check interval in frames (~30 seconds) */
+    /** Time-of-day achievement check interval in frames (~30 seconds) */
     public static final int ACHIEVEMENT_CHECK_INTERVAL = 900;
     /** Hamster interaction check interval in frames (~90 seconds) */
     public static final int INTERACTION_CHECK_INTERVAL = 2700;
@@ -66,6 +80,6 @@ public final class GameConstants {
     public static final int WHEEL_WINDOW_HEIGHT = 140;
 
     // === Save format ===
-    public static final int SAVE_VERSION = 2;
+    public static final int SAVE_VERSION = 3; // 3: binary format, 1-2: .properties
     public static final String SAVE_DIR = System.getProperty("user.home") + "/.desktophamster/";
 }
@@ -0,0 +1,124 @@
+package com.hamster.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class GameState {
+    public int money;
+    public long totalFrames;
+    public int hamstersRaised;
+    public int qualifiedHamsters;
+    public int hamsterPurchaseCount;
+    public List<HamsterData> hamsters;
+    public List<PoopData> poops;
+    public FoodInventory foodInventory;
+    public long rngSeed; // seed of the run's RngService, for reproducible runs
+    public long savedAtMillis; // wall-clock time of the save (0 if unknown), for offline catch-up
+    public long logEpoch; // save-log generation this snapshot starts, see WriteAheadLog
+
+    public static class HamsterData {
+        public int id; // Hamster.getId() at capture, keys the save-log records; not saved
+        public String name;
+        public HamsterColor color;
+        public int hunger, happiness, energy, poopTimer;
+        public long ageFrames;
+        public int lifespanFrames;
+        public int windowX, windowY;
+        // Roguelike fields
+        public int generation;
+        public int legacyHungerBonus, legacyHappinessBonus, legacyEnergyBonus, legacyLifespanBonus;
+        public int legacyMaxStatBonus;
+        public int maxHunger, maxHappiness, maxEnergy;
+        public int breedCooldownFrames;
+        public List<BuffData> buffs = new ArrayList<>();
+        // 2.0 fields
+        public String personality;
+        public List<String> equippedAccessories = new ArrayList<>();
+        public List<String> ownedAccessories = new ArrayList<>();
+    }
+
+    public static class BuffData {
+        public Buff.Type type;
+        public double multiplier;
+        public long expiresAtTick; // on the totalFrames clock
+        public String description;
+    }
+
+    public static class PoopData {
+        public int screenX, screenY;
+    }
+
+    public static GameState capture(int money, long totalFrames,
+                                    List<Hamster> hamsters, List<Poop> poops,
+                                    int hamstersRaised, int qualifiedHamsters,
+                                    FoodInventory foodInventory,
+                                    int hamsterPurchaseCount) {
+        GameState state = new GameState();
+        state.money = money;
+        state.totalFrames = totalFrames;
+        state.hamstersRaised = hamstersRaised;
+        state.qualifiedHamsters = qualifiedHamsters;
+        state.hamsterPurchaseCount = hamsterPurchaseCount;
+        state.foodInventory = foodInventory != null ? foodInventory.copy() : null;
+
+        state.hamsters = new ArrayList<>();
+        for (int i = 0; i < hamsters.size(); i++) {
+            state.hamsters.add(capture(hamsters.get(i)));
+        }
+
+        state.poops = new ArrayList<>();
+        for (Poop poop : poops) {
+            PoopData pd = new PoopData();
+            pd.screenX = poop.getScreenX();
+            pd.screenY = poop.getScreenY();
+            state.poops.add(pd);
+        }
+
+        return state;
+    }
+
+    /** Copy one hamster into save form. */
+    public static HamsterData capture(Hamster h) {
+        HamsterData hd = new HamsterData();
+        hd.id = h.getId();
+        hd.name = h.getName();
+        hd.color = h.getColor();
+        hd.hunger = h.getHunger();
+        hd.happiness = h.getHappiness();
+        hd.energy = h.getEnergy();
+        hd.poopTimer = h.getPoopTimer();
+        hd.ageFrames = h.getAgeFrames();
+        hd.lifespanFrames = h.getLifespanFrames();
+        // Saves keep the window's top-left corner for compatibility
+        hd.windowX = h.getX() - Hamster.footprintWidth(h.getState()) / 2;
+        hd.windowY = h.getY() - Hamster.footprintHeight(h.getState());
+        // Roguelike data
+        hd.generation = h.getGeneration();
+        hd.legacyHungerBonus = h.getLegacyHungerBonus();
+        hd.legacyHappinessBonus = h.getLegacyHappinessBonus();
+        hd.legacyEnergyBonus = h.getLegacyEnergyBonus();
+        hd.legacyLifespanBonus = h.getLegacyLifespanBonus();
+        hd.legacyMaxStatBonus = h.getLegacyMaxStatBonus();
+        hd.maxHunger = h.getMaxHunger();
+        hd.maxHappiness = h.getMaxHappiness();
+        hd.maxEnergy = h.getMaxEnergy();
+        hd.breedCooldownFrames = h.getBreedCooldownFrames();
+        for (Buff b : h.getBuffs()) {
+            BuffData bd = new BuffData();
+            bd.type = b.getType();
+            bd.multiplier = b.getMultiplier();
+            bd.expiresAtTick = b.getExpiresAt();
+            bd.description = b.getDescription();
+            hd.buffs.add(bd);
+        }
+        // 2.0 fields
+        hd.personality = h.getPersonality() != null ? h.getPersonality().name() : "CHEERFUL";
+        for (Accessory acc : h.getEquippedAccessories()) {
+            hd.equippedAccessories.add(acc.name());
+        }
+        for (String owned : h.getOwnedAccessories()) {
+            hd.ownedAccessories.add(owned);
+        }
+        return hd;
+    }
+}
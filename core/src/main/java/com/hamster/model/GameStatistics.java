@@ -1,6 +1,6 @@
 package com.hamster.model;
 
-import com.hamster.system.GameLogger;
+import com.hamster.system.ProfileStore;
 
 import java.io.*;
 import java.util.Properties;
@@ -8,6 +8,8 @@ import java.util.Properties;
 public class GameStatistics {
 
     private static final String SAVE_DIR = GameConstants.SAVE_DIR;
+    private static final String RECORD = "statistics";
+    // Read once to migrate into the profile
     private static final String STATS_FILE = SAVE_DIR + "statistics.properties";
 
     public long totalPlayTimeFrames = 0;
@@ -27,10 +29,8 @@ public class GameStatistics {
     public int totalDeaths = 0;
     public int totalGamesPlayed = 0;
 
+    /** Stage the profile record; it is committed with the next auto-save. */
     public void save() {
-        File dir = new File(SAVE_DIR);
-        if (!dir.exists()) dir.mkdirs();
-
         Properties props = new Properties();
         props.setProperty("totalPlayTimeFrames", String.valueOf(totalPlayTimeFrames));
         props.setProperty("totalHamstersRaised", String.valueOf(totalHamstersRaised));
@@ -49,24 +49,13 @@ public class GameStatistics {
         props.setProperty("totalDeaths", String.valueOf(totalDeaths));
         props.setProperty("totalGamesPlayed", String.valueOf(totalGamesPlayed));
 
-        try (FileOutputStream fos = new FileOutputStream(STATS_FILE)) {
-            props.store(fos, "DesktopHamster Statistics");
-        } catch (IOException e) {
-            GameLogger.error("Failed to save statistics", e);
-        }
+        ProfileStore.shared().putProperties(RECORD, props);
     }
 
     public static GameStatistics load() {
         GameStatistics stats = new GameStatistics();
-        File file = new File(STATS_FILE);
-        if (!file.exists()) return stats;
-
-        Properties props = new Properties();
-        try (FileInputStream fis = new FileInputStream(file)) {
-            props.load(fis);
-        } catch (IOException e) {
-            return stats;
-        }
+        Properties props = ProfileStore.shared().getProperties(RECORD, new File(STATS_FILE));
+        if (props == null) return stats;
 
         stats.totalPlayTimeFrames = Long.parseLong(props.getProperty("totalPlayTimeFrames", "0"));
         stats.totalHamstersRaised = Integer.parseInt(props.getProperty("totalHamstersRaised", "0"));
@@ -0,0 +1,350 @@
+package com.hamster.model;
+
+import java.util.*;
+
+
+
+public class Hamster {
+
+    public enum State {
+        IDLE, WALKING, EATING, SLEEPING, HAPPY, RUNNING_WHEEL
+    }
+
+    public static final int FRAMES_PER_DAY = GameConstants.FRAMES_PER_DAY;
+
+    // Hot per-frame state (position, stats, timers) lives in a HamsterStore slot
+    HamsterStore store;
+    int id;
+
+    private String name = "내 햄스터";
+    private HamsterColor color;
+    private double buffDurationMultiplier = 1.0; // buff duration multiplier
+
+    // 2.0 fields
+    private FoodItem pendingFood = null;
+    private final List<Accessory> equippedAccessories = new ArrayList<>();
+    private final Set<String> ownedAccessories = new HashSet<>();
+    private final StatHistory history = new StatHistory();
+
+    public static final int MAX_STAT_CAP = GameConstants.MAX_STAT_CAP;
+
+    // Roguelike fields
+    private int generation = 1;
+    private int legacyHungerBonus = 0;
+    private int legacyHappinessBonus = 0;
+    private int legacyEnergyBonus = 0;
+    private int legacyLifespanBonus = 0;
+    private int legacyMaxStatBonus = 0;
+    final BuffSet buffs = new BuffSet();
+
+    public Hamster(int screenWidth, int groundY) {
+        this(screenWidth, groundY, HamsterColor.BROWN);
+    }
+
+    public Hamster(int screenWidth, int groundY, HamsterColor color) {
+        this(screenWidth, groundY, color, -1);
+    }
+
+    public Hamster(int screenWidth, int groundY, HamsterColor color, int lifespanFrames) {
+        this(screenWidth, groundY, color, lifespanFrames, new SplittableRandom());
+    }
+
+    /**
+     * @param random stream for the personality and, when {@code lifespanFrames < 0},
+     *               the lifespan roll; the hamster keeps using it until a world adopts it
+     */
+    public Hamster(int screenWidth, int groundY, HamsterColor color, int lifespanFrames, SplittableRandom random) {
+        this.store = new HamsterStore(1, random);
+        this.id = store.allocate(this);
+        int i = slot();
+        store.x[i] = screenWidth / 2;
+        store.y[i] = groundY;
+        this.color = color;
+        store.personality[i] = Personality.randomSafe(random);
+        // Random lifespan: 20~35 days
+        store.lifespanFrames[i] = lifespanFrames >= 0 ? lifespanFrames : (20 + random.nextInt(16)) * FRAMES_PER_DAY;
+    }
+
+    private int slot() { return store.slotOf(id); }
+
+    /** Generational id of this hamster within its current store. */
+    public int getId() { return id; }
+
+    public void update() {
+        store.tick(slot(), TimeOfDay.getCurrentPeriod());
+    }
+
+    private static final int USER_ACTION_ANIM_FRAMES = GameConstants.USER_ACTION_ANIM_FRAMES;
+
+    public boolean feed() {
+        return startUserAction(State.EATING, null);
+    }
+
+    public boolean feed(FoodItem food) {
+        return startUserAction(State.EATING, food);
+    }
+
+    public boolean play() {
+        return startUserAction(State.HAPPY, null);
+    }
+
+    public boolean runWheel() {
+        return startUserAction(State.RUNNING_WHEEL, null);
+    }
+
+    public boolean sleep() {
+        return startUserAction(State.SLEEPING, null);
+    }
+
+    private boolean startUserAction(State next, FoodItem food) {
+        if (isDead()) return false;
+        int i = slot();
+        store.state[i] = (byte) next.ordinal();
+        store.stateTimer[i] = USER_ACTION_ANIM_FRAMES;
+        store.setFlag(i, HamsterStore.FLAG_USER_ACTION, true);
+        pendingFood = food;
+        return true;
+    }
+
+    public int collectPendingCoins() {
+        return store.collectPendingCoins(slot());
+    }
+
+    public void wake() {
+        int i = slot();
+        if (store.state[i] == State.SLEEPING.ordinal() || store.state[i] == State.RUNNING_WHEEL.ordinal()) {
+            store.state[i] = (byte) State.IDLE.ordinal();
+            store.stateTimer[i] = 60;
+        }
+    }
+
+    public boolean shouldPoop() {
+        return store.rollPoop(slot());
+    }
+
+    public void applyPoopPenalty(int poopCount) {
+        store.applyPoopPenalty(slot(), poopCount);
+    }
+
+    // getters
+    public int getX() { return store.x[slot()]; }
+    public int getY() { return store.y[slot()]; }
+    public void setX(int x) { store.x[slot()] = x; }
+    public void setY(int y) { store.y[slot()] = y; }
+    public void setPosition(int x, int y) { int i = slot(); store.x[i] = x; store.y[i] = y; }
+    /** Width of the on-screen area the hamster occupies in the given state. */
+    public static int footprintWidth(State state) {
+        return state == State.RUNNING_WHEEL ? GameConstants.WHEEL_WINDOW_WIDTH : GameConstants.HAMSTER_WINDOW_WIDTH;
+    }
+
+    /** Height of the on-screen area the hamster occupies in the given state. */
+    public static int footprintHeight(State state) {
+        return state == State.RUNNING_WHEEL ? GameConstants.WHEEL_WINDOW_HEIGHT : GameConstants.HAMSTER_WINDOW_HEIGHT;
+    }
+
+    public boolean isGrabbed() { return store.hasFlag(slot(), HamsterStore.FLAG_GRABBED); }
+    public void setGrabbed(boolean grabbed) { store.setFlag(slot(), HamsterStore.FLAG_GRABBED, grabbed); }
+    public int getDirection() { return store.direction[slot()]; }
+    public double getMoveX() { return store.moveX[slot()]; }
+    public double getMoveY() { return store.moveY[slot()]; }
+    public State getState() { return store.stateOf(slot()); }
+    public int getAnimFrame() { return store.animFrame[slot()]; }
+    public int getHunger() { return store.hunger[slot()]; }
+    public int getHappiness() { return store.happiness[slot()]; }
+    public int getEnergy() { return store.energy[slot()]; }
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    // new getters/setters for color, age, death
+    public HamsterColor getColor() { return color; }
+    public void setColor(HamsterColor color) { this.color = color; }
+    public long getAgeFrames() { return store.ageFrames[slot()]; }
+    public void setAgeFrames(long ageFrames) { store.ageFrames[slot()] = ageFrames; }
+    public int getAgeDays() { return (int)(getAgeFrames() / FRAMES_PER_DAY); }
+    public int getLifespanFrames() { return store.lifespanFrames[slot()]; }
+    public boolean isDead() { return store.hasFlag(slot(), HamsterStore.FLAG_DEAD); }
+    public void kill() { store.setFlag(slot(), HamsterStore.FLAG_DEAD, true); }
+    public boolean isFrozen() { return store.hasFlag(slot(), HamsterStore.FLAG_FROZEN); }
+    public void setFrozen(boolean frozen) { store.setFlag(slot(), HamsterStore.FLAG_FROZEN, frozen); }
+    public void setHunger(int hunger) { int i = slot(); store.hunger[i] = Math.max(0, Math.min(store.maxHunger[i], hunger)); }
+    public void setHappiness(int happiness) { int i = slot(); store.happiness[i] = Math.max(0, Math.min(store.maxHappiness[i], happiness)); }
+    public void setEnergy(int energy) { int i = slot(); store.energy[i] = Math.max(0, Math.min(store.maxEnergy[i], energy)); }
+    public int getMaxHunger() { return store.maxHunger[slot()]; }
+    public int getMaxHappiness() { return store.maxHappiness[slot()]; }
+    public int getMaxEnergy() { return store.maxEnergy[slot()]; }
+    public void setMaxHunger(int v) { store.maxHunger[slot()] = Math.min(MAX_STAT_CAP, v); }
+    public void setMaxHappiness(int v) { store.maxHappiness[slot()] = Math.min(MAX_STAT_CAP, v); }
+    public void setMaxEnergy(int v) { store.maxEnergy[slot()] = Math.min(MAX_STAT_CAP, v); }
+    public void setPoopTimer(int poopTimer) { store.poopTimer[slot()] = poopTimer; }
+    public int getPoopTimer() { return store.poopTimer[slot()]; }
+    public void setAgingSpeed(double v) { store.agingSpeed[slot()] = v; }
+    public void setActionGain(int v) { store.actionGain[slot()] = v; }
+    public void setDrainMultiplier(double v) { store.drainMultiplier[slot()] = v; }
+    public void setDrainInterval(int v) { store.drainInterval[slot()] = v; }
+    public void setCoinBonus(int v) { store.coinBonus[slot()] = v; }
+    public void setPoopChanceMultiplier(double v) { store.poopChanceMultiplier[slot()] = v; }
+    public void setPoopPenaltyMultiplier(double v) { store.poopPenaltyMultiplier[slot()] = v; }
+    public void setBuffDurationMultiplier(double v) { this.buffDurationMultiplier = v; }
+
+    // Buff methods
+    public double getBuffMultiplier(Buff.Type type) {
+        return buffs.multiplier(type);
+    }
+
+    /** Start {@code buff}; its duration is scaled by the meta buff-duration upgrade. */
+    public void addBuff(Buff buff) {
+        int duration = buff.getDurationFrames();
+        if (buffDurationMultiplier != 1.0) {
+            duration = (int)(duration * buffDurationMultiplier);
+        }
+        buffs.add(buff, store.now + duration);
+    }
+
+    /** Re-add a saved buff with the frames it had left (no duration upgrade applied). */
+    public void restoreBuff(Buff buff, int remainingFrames) {
+        buffs.add(buff, store.now + Math.max(0, remainingFrames));
+    }
+
+    public int getBuffRemainingFrames(Buff buff) {
+        return (int) Math.max(0, buff.expiresAt - store.now);
+    }
+
+    /** Active buffs in the order they were added (read-only). */
+    public List<Buff> getBuffs() {
+        return buffs.list();
+    }
+
+    // Generation / Legacy
+    public int getGeneration() { return generation; }
+    public void setGeneration(int generation) { this.generation = generation; }
+
+    public int getLegacyHungerBonus() { return legacyHungerBonus; }
+    public void setLegacyHungerBonus(int v) { this.legacyHungerBonus = v; }
+
+    public int getLegacyHappinessBonus() { return legacyHappinessBonus; }
+    public void setLegacyHappinessBonus(int v) { this.legacyHappinessBonus = v; }
+
+    public int getLegacyEnergyBonus() { return legacyEnergyBonus; }
+    public void setLegacyEnergyBonus(int v) { this.legacyEnergyBonus = v; }
+
+    public int getLegacyLifespanBonus() { return legacyLifespanBonus; }
+    public void setLegacyLifespanBonus(int v) { this.legacyLifespanBonus = v; }
+
+    public int getLegacyMaxStatBonus() { return legacyMaxStatBonus; }
+    public void setLegacyMaxStatBonus(int v) { this.legacyMaxStatBonus = v; }
+
+    // Breeding
+    public boolean canBreed(int breedAgeFrames) {
+        int i = slot();
+        return !store.isDead(i) && store.ageFrames[i] >= breedAgeFrames && store.breedReadyTick[i] <= store.now
+                && store.hunger[i] >= 50 && store.happiness[i] >= 50 && store.energy[i] >= 50;
+    }
+    public void startBreedCooldown() { setBreedCooldownFrames(GameConstants.BREED_COOLDOWN_DAYS * FRAMES_PER_DAY); }
+
+    /** Remaining breed cooldown in age frames (it runs down at the aging speed). */
+    public int getBreedCooldownFrames() {
+        int i = slot();
+        long ticks = Math.max(0, store.breedReadyTick[i] - store.now);
+        return (int) Math.min(Integer.MAX_VALUE, ticks * breedCooldownRate(i));
+    }
+    public void setBreedCooldownFrames(int v) {
+        int i = slot();
+        int rate = breedCooldownRate(i);
+        store.breedReadyTick[i] = store.now + (Math.max(0, v) + rate - 1) / rate;
+    }
+    private int breedCooldownRate(int i) { return Math.max(1, (int) store.agingSpeed[i]); }
+
+    public void applyLegacyBonuses() {
+        int i = slot();
+        store.maxHunger[i] = Math.min(MAX_STAT_CAP, 100 + legacyMaxStatBonus);
+        store.maxHappiness[i] = Math.min(MAX_STAT_CAP, 100 + legacyMaxStatBonus);
+        store.maxEnergy[i] = Math.min(MAX_STAT_CAP, 100 + legacyMaxStatBonus);
+        store.hunger[i] = Math.min(store.maxHunger[i], store.hunger[i] + legacyHungerBonus);
+        store.happiness[i] = Math.min(store.maxHappiness[i], store.happiness[i] + legacyHappinessBonus);
+        store.energy[i] = Math.min(store.maxEnergy[i], store.energy[i] + legacyEnergyBonus);
+        store.lifespanFrames[i] += legacyLifespanBonus;
+    }
+
+    /**
+     * Compute legacy bonuses for the next generation.
+     * @return int array: [nextGen, hungerBonus, happinessBonus, energyBonus, lifespanBonus, maxStatBonus]
+     */
+    public int[] computeLegacy() {
+        int avgStat = (getHunger() + getHappiness() + getEnergy()) / 3;
+        int nextHungerBonus = legacyHungerBonus;
+        int nextHappinessBonus = legacyHappinessBonus;
+        int nextEnergyBonus = legacyEnergyBonus;
+        int nextLifespanBonus = legacyLifespanBonus;
+        int nextMaxStatBonus = legacyMaxStatBonus;
+        if (avgStat > 30) {
+            nextHungerBonus = Math.min(25, legacyHungerBonus + 5);
+            nextHappinessBonus = Math.min(25, legacyHappinessBonus + 5);
+            nextEnergyBonus = Math.min(25, legacyEnergyBonus + 5);
+            nextLifespanBonus = Math.min(5 * FRAMES_PER_DAY, legacyLifespanBonus + FRAMES_PER_DAY);
+            nextMaxStatBonus = Math.min(MAX_STAT_CAP - 100, legacyMaxStatBonus + 5);
+        }
+        return new int[] { generation + 1, nextHungerBonus, nextHappinessBonus, nextEnergyBonus, nextLifespanBonus, nextMaxStatBonus };
+    }
+
+    public static int upgradeCost(int currentMax) {
+        return currentMax - 50;
+    }
+
+    // 2.0 getters/setters
+    public Personality getPersonality() { return store.personality[slot()]; }
+    public void setPersonality(Personality p) { store.personality[slot()] = p; }
+    public FoodItem getPendingFood() { return pendingFood; }
+    public void setPendingFood(FoodItem food) { this.pendingFood = food; }
+
+    public List<Accessory> getEquippedAccessories() { return equippedAccessories; }
+    public Set<String> getOwnedAccessories() { return ownedAccessories; }
+    public StatHistory getHistory() { return history; }
+
+    public void equipAccessory(Accessory acc) {
+        // Remove existing in same slot
+        Iterator<Accessory> it = equippedAccessories.iterator();
+        while (it.hasNext()) {
+            if (it.next().getSlot() == acc.getSlot()) {
+                it.remove();
+            }
+        }
+        equippedAccessories.add(acc);
+    }
+
+    public void unequipAccessory(Accessory acc) {
+        equippedAccessories.remove(acc);
+    }
+
+    public int getInteractionCooldownFrames() {
+        int i = slot();
+        return (int) Math.max(0, store.interactionReadyTick[i] - store.now);
+    }
+    public void setInteractionCooldownFrames(int v) { store.interactionReadyTick[slot()] = store.now + Math.max(0, v); }
+    public boolean canInteract() { int i = slot(); return !store.isDead(i) && store.interactionReadyTick[i] <= store.now; }
+    public void startInteractionCooldown() { setInteractionCooldownFrames(GameConstants.INTERACTION_COOLDOWN); }
+
+    /**
+     * Calculate set bonus: if all accessory slots are filled, grant extra coin bonus.
+     * @return bonus multiplier (0.0 if no set, 0.10 = 10% if full set)
+     */
+    public double getSetBonus() {
+        if (equippedAccessories.isEmpty()) return 0.0;
+        java.util.Set<Accessory.Slot> filledSlots = new java.util.HashSet<Accessory.Slot>();
+        for (Accessory acc : equippedAccessories) {
+            filledSlots.add(acc.getSlot());
+        }
+        if (filledSlots.size() >= Accessory.SLOT_COUNT) {
+            return 0.10; // 10% bonus for full set
+        }
+        return 0.0;
+    }
+
+    public double getCoinMultiplier() {
+        double mult = getBuffMultiplier(Buff.Type.COIN_BONUS);
+        for (Accessory acc : equippedAccessories) {
+            mult += acc.getCoinBonus();
+        }
+        mult += getSetBonus();
+        return mult;
+    }
+}
@@ -41,6 +41,7 @@ public enum HamsterColor {
     private final Color whisker;
     private final Color tailAndLegs;
     private final Color eyebrow;
+    private final Color mouth;
     private final int shopPrice;
 
     HamsterColor(String displayName, Color body, Color belly, Color earInner,
@@ -55,6 +56,7 @@ public enum HamsterColor {
         this.whisker = whisker;
         this.tailAndLegs = body.darker();
         this.eyebrow = body.darker().darker();
+        this.mouth = nose.darker();
         this.shopPrice = shopPrice;
     }
 
@@ -68,5 +70,6 @@ public enum HamsterColor {
     public Color getWhisker() { return whisker; }
     public Color getTailAndLegs() { return tailAndLegs; }
     public Color getEyebrow() { return eyebrow; }
+    public Color getMouth() { return mouth; }
     public int getShopPrice() { return shopPrice; }
 }
@@ -0,0 +1,735 @@
+package com.hamster.model;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Struct-of-arrays storage for the per-frame hamster state.
+ *
+ * Every hamster lives in one dense slot; its hot components (stats, timers, position,
+ * state) sit in parallel primitive arrays so a tick over the whole colony is a linear
+ * sweep with no per-entity allocation. Removing a hamster swaps the last slot into the
+ * hole, so slots move: outside code refers to hamsters by a generational id
+ * (index + generation) that stays valid until the hamster is removed and then never
+ * matches again.
+ *
+ * {@link Hamster} is a facade over one slot and keeps the cold data (name, accessories,
+ * buffs, legacy). A hamster that is not part of a world owns a private one-slot store
+ * and is moved into the world's store by {@link #adopt(Hamster)}.
+ *
+ * Each hamster carries its own SplitMix64 states for AI and poop rolls, seeded from the
+ * store's stream when the slot is created. The per-slot systems touch nothing but their
+ * own slot (and its owner's cold data), so disjoint slot ranges may be ticked on
+ * different threads and still give the same result as a serial sweep.
+ */
+public final class HamsterStore {
+
+    private static final int INDEX_BITS = 20;
+    private static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+    private static final int GENERATION_MASK = 0x7FF;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    static final byte FLAG_DEAD = 1;
+    static final byte FLAG_FROZEN = 1 << 1;
+    static final byte FLAG_GRABBED = 1 << 2;
+    static final byte FLAG_USER_ACTION = 1 << 3;
+
+    private static final Hamster.State[] STATES = Hamster.State.values();
+    private static final byte WALKING = (byte) Hamster.State.WALKING.ordinal();
+    private static final byte SLEEPING = (byte) Hamster.State.SLEEPING.ordinal();
+    private static final byte RUNNING_WHEEL = (byte) Hamster.State.RUNNING_WHEEL.ordinal();
+    private static final byte IDLE = (byte) Hamster.State.IDLE.ordinal();
+
+    private final SplittableRandom random; // seeds the per-hamster streams
+
+    // id index -> dense slot, plus the generation each index is currently on
+    private int[] sparse;
+    private int[] generations;
+    private int[] freeIndices;
+    private int freeCount;
+    private int nextIndex;
+
+    private int size;
+    private int[] ids;
+    private Hamster[] owners;
+
+    // Hot components, indexed by dense slot
+    int[] x, y;
+    double[] moveX, moveY;
+    byte[] direction;
+    byte[] state;
+    byte[] flags;
+    int[] stateTimer, animFrame;
+    int[] hunger, happiness, energy;
+    int[] maxHunger, maxHappiness, maxEnergy;
+    int[] poopTimer, pendingCoins;
+    long[] ageFrames;
+    double[] ageAccumulator;
+    int[] lifespanFrames;
+    long[] breedReadyTick, interactionReadyTick; // first tick the cooldown is over
+    Personality[] personality;
+    long[] aiRng, poopRng; // per-hamster SplitMix64 states
+    long now;              // simulation tick, set by the world each step
+
+    // Meta-configurable values (set by HamsterManager from MetaProgress)
+    double[] agingSpeed, drainMultiplier, poopChanceMultiplier, poopPenaltyMultiplier;
+    int[] actionGain, drainInterval, coinBonus;
+
+    public HamsterStore(int initialCapacity, SplittableRandom random) {
+        this.random = random;
+        int cap = Math.max(1, initialCapacity);
+        sparse = new int[cap];
+        generations = new int[cap];
+        freeIndices = new int[cap];
+        ids = new int[cap];
+        owners = new Hamster[cap];
+        allocateComponents(cap);
+    }
+
+    private void allocateComponents(int cap) {
+        x = new int[cap]; y = new int[cap];
+        moveX = new double[cap]; moveY = new double[cap];
+        direction = new byte[cap]; state = new byte[cap]; flags = new byte[cap];
+        stateTimer = new int[cap]; animFrame = new int[cap];
+        hunger = new int[cap]; happiness = new int[cap]; energy = new int[cap];
+        maxHunger = new int[cap]; maxHappiness = new int[cap]; maxEnergy = new int[cap];
+        poopTimer = new int[cap]; pendingCoins = new int[cap];
+        ageFrames = new long[cap]; ageAccumulator = new double[cap];
+        lifespanFrames = new int[cap];
+        breedReadyTick = new long[cap]; interactionReadyTick = new long[cap];
+        personality = new Personality[cap];
+        aiRng = new long[cap]; poopRng = new long[cap];
+        agingSpeed = new double[cap]; drainMultiplier = new double[cap];
+        poopChanceMultiplier = new double[cap]; poopPenaltyMultiplier = new double[cap];
+        actionGain = new int[cap]; drainInterval = new int[cap]; coinBonus = new int[cap];
+    }
+
+    private void grow() {
+        int cap = ids.length * 2;
+        ids = Arrays.copyOf(ids, cap);
+        owners = Arrays.copyOf(owners, cap);
+        x = Arrays.copyOf(x, cap); y = Arrays.copyOf(y, cap);
+        moveX = Arrays.copyOf(moveX, cap); moveY = Arrays.copyOf(moveY, cap);
+        direction = Arrays.copyOf(direction, cap); state = Arrays.copyOf(state, cap);
+        flags = Arrays.copyOf(flags, cap);
+        stateTimer = Arrays.copyOf(stateTimer, cap); animFrame = Arrays.copyOf(animFrame, cap);
+        hunger = Arrays.copyOf(hunger, cap); happiness = Arrays.copyOf(happiness, cap);
+        energy = Arrays.copyOf(energy, cap);
+        maxHunger = Arrays.copyOf(maxHunger, cap); maxHappiness = Arrays.copyOf(maxHappiness, cap);
+        maxEnergy = Arrays.copyOf(maxEnergy, cap);
+        poopTimer = Arrays.copyOf(poopTimer, cap); pendingCoins = Arrays.copyOf(pendingCoins, cap);
+        ageFrames = Arrays.copyOf(ageFrames, cap); ageAccumulator = Arrays.copyOf(ageAccumulator, cap);
+        lifespanFrames = Arrays.copyOf(lifespanFrames, cap);
+        breedReadyTick = Arrays.copyOf(breedReadyTick, cap);
+        interactionReadyTick = Arrays.copyOf(interactionReadyTick, cap);
+        personality = Arrays.copyOf(personality, cap);
+        aiRng = Arrays.copyOf(aiRng, cap); poopRng = Arrays.copyOf(poopRng, cap);
+        agingSpeed = Arrays.copyOf(agingSpeed, cap); drainMultiplier = Arrays.copyOf(drainMultiplier, cap);
+        poopChanceMultiplier = Arrays.copyOf(poopChanceMultiplier, cap);
+        poopPenaltyMultiplier = Arrays.copyOf(poopPenaltyMultiplier, cap);
+        actionGain = Arrays.copyOf(actionGain, cap); drainInterval = Arrays.copyOf(drainInterval, cap);
+        coinBonus = Arrays.copyOf(coinBonus, cap);
+    }
+
+    // ===================== Entity registry =====================
+
+    /**
+     * Reserve a slot with default values for {@code owner}.
+     * @return the new generational id
+     */
+    int allocate(Hamster owner) {
+        if (size == ids.length) grow();
+
+        int index;
+        if (freeCount > 0) {
+            index = freeIndices[--freeCount];
+        } else {
+            if (nextIndex == sparse.length) {
+                int cap = sparse.length * 2;
+                sparse = Arrays.copyOf(sparse, cap);
+                generations = Arrays.copyOf(generations, cap);
+                freeIndices = Arrays.copyOf(freeIndices, cap);
+            }
+            if (nextIndex > INDEX_MASK) {
+                throw new IllegalStateException("Too many hamsters");
+            }
+            index = nextIndex++;
+        }
+
+        int slot = size++;
+        int id = (generations[index] << INDEX_BITS) | index;
+        sparse[index] = slot;
+        ids[slot] = id;
+        owners[slot] = owner;
+        resetSlot(slot);
+        return id;
+    }
+
+    private void resetSlot(int i) {
+        x[i] = 0; y[i] = 0;
+        moveX[i] = 2.0; moveY[i] = 0.0;
+        direction[i] = 1;
+        state[i] = IDLE;
+        flags[i] = 0;
+        stateTimer[i] = 0; animFrame[i] = 0;
+        hunger[i] = 80; happiness[i] = 80; energy[i] = 80;
+        maxHunger[i] = 100; maxHappiness[i] = 100; maxEnergy[i] = 100;
+        poopTimer[i] = 0; pendingCoins[i] = 0;
+        ageFrames[i] = 0; ageAccumulator[i] = 0;
+        lifespanFrames[i] = 0;
+        breedReadyTick[i] = 0; interactionReadyTick[i] = 0;
+        personality[i] = null;
+        aiRng[i] = random.nextLong();
+        poopRng[i] = random.nextLong();
+        agingSpeed[i] = 2.0;           // frames aged per update (default: 2x fast)
+        drainMultiplier[i] = 1.0;
+        poopChanceMultiplier[i] = 1.0;
+        poopPenaltyMultiplier[i] = 1.0;
+        actionGain[i] = 5;
+        drainInterval[i] = GameConstants.BASE_DRAIN_INTERVAL;
+        coinBonus[i] = 0;
+    }
+
+    /** Remove an entity; the last slot moves into its place and its id is retired. */
+    void free(int id) {
+        int slot = slotOf(id);
+        int index = id & INDEX_MASK;
+        int last = --size;
+        if (slot != last) {
+            copySlot(this, last, this, slot);
+            ids[slot] = ids[last];
+            owners[slot] = owners[last];
+            sparse[ids[slot] & INDEX_MASK] = slot;
+        }
+        owners[last] = null;
+        personality[last] = null;
+        generations[index] = (generations[index] + 1) & GENERATION_MASK;
+        freeIndices[freeCount++] = index;
+    }
+
+    /** @return the dense slot for {@code id}; throws if the id was retired */
+    int slotOf(int id) {
+        int index = id & INDEX_MASK;
+        if (index >= nextIndex || generations[index] != (id >>> INDEX_BITS)) {
+            throw new IllegalStateException("Stale hamster id " + id);
+        }
+        return sparse[index];
+    }
+
+    /** @return true if {@code id} still refers to a live slot in this store */
+    public boolean contains(int id) {
+        int index = id & INDEX_MASK;
+        return index < nextIndex && generations[index] == (id >>> INDEX_BITS);
+    }
+
+    /** Move {@code h} from its current store into this one. */
+    public void adopt(Hamster h) {
+        if (h.store == this) return;
+        HamsterStore from = h.store;
+        int oldId = h.id;
+        int newId = allocate(h);
+        int slot = slotOf(newId);
+        copySlot(from, from.slotOf(oldId), this, slot);
+        // Cooldown and buff deadlines are relative to the store's clock; keep the time remaining
+        breedReadyTick[slot] = rebase(breedReadyTick[slot], from.now);
+        interactionReadyTick[slot] = rebase(interactionReadyTick[slot], from.now);
+        h.buffs.shift(now - from.now);
+        from.free(oldId);
+        h.store = this;
+        h.id = newId;
+    }
+
+    /** Move {@code h} out of this store into a private one, e.g. when it leaves the world. */
+    public void release(Hamster h) {
+        if (h.store != this) return;
+        HamsterStore own = new HamsterStore(1, random);
+        own.now = now;
+        own.adopt(h);
+    }
+
+    private long rebase(long readyTick, long fromNow) {
+        return now + Math.max(0, readyTick - fromNow);
+    }
+
+    /** Set the current simulation tick that cooldown deadlines are measured against. */
+    public void setNow(long now) { this.now = now; }
+
+    /** The current simulation tick. */
+    public long now() { return now; }
+
+    private static void copySlot(HamsterStore a, int i, HamsterStore b, int j) {
+        b.x[j] = a.x[i]; b.y[j] = a.y[i];
+        b.moveX[j] = a.moveX[i]; b.moveY[j] = a.moveY[i];
+        b.direction[j] = a.direction[i]; b.state[j] = a.state[i]; b.flags[j] = a.flags[i];
+        b.stateTimer[j] = a.stateTimer[i]; b.animFrame[j] = a.animFrame[i];
+        b.hunger[j] = a.hunger[i]; b.happiness[j] = a.happiness[i]; b.energy[j] = a.energy[i];
+        b.maxHunger[j] = a.maxHunger[i]; b.maxHappiness[j] = a.maxHappiness[i]; b.maxEnergy[j] = a.maxEnergy[i];
+        b.poopTimer[j] = a.poopTimer[i]; b.pendingCoins[j] = a.pendingCoins[i];
+        b.ageFrames[j] = a.ageFrames[i]; b.ageAccumulator[j] = a.ageAccumulator[i];
+        b.lifespanFrames[j] = a.lifespanFrames[i];
+        b.breedReadyTick[j] = a.breedReadyTick[i];
+        b.interactionReadyTick[j] = a.interactionReadyTick[i];
+        b.personality[j] = a.personality[i];
+        b.aiRng[j] = a.aiRng[i]; b.poopRng[j] = a.poopRng[i];
+        b.agingSpeed[j] = a.agingSpeed[i]; b.drainMultiplier[j] = a.drainMultiplier[i];
+        b.poopChanceMultiplier[j] = a.poopChanceMultiplier[i];
+        b.poopPenaltyMultiplier[j] = a.poopPenaltyMultiplier[i];
+        b.actionGain[j] = a.actionGain[i]; b.drainInterval[j] = a.drainInterval[i];
+        b.coinBonus[j] = a.coinBonus[i];
+    }
+
+    SplittableRandom random() { return random; }
+
+    // ===================== Slot access for the simulation =====================
+
+    public int size() { return size; }
+    public Hamster owner(int slot) { return owners[slot]; }
+    public int x(int slot) { return x[slot]; }
+    public int y(int slot) { return y[slot]; }
+    public boolean isDead(int slot) { return (flags[slot] & FLAG_DEAD) != 0; }
+    public boolean isFrozen(int slot) { return (flags[slot] & FLAG_FROZEN) != 0; }
+    public int ageDays(int slot) { return (int) (ageFrames[slot] / GameConstants.FRAMES_PER_DAY); }
+
+    boolean hasFlag(int slot, byte flag) { return (flags[slot] & flag) != 0; }
+
+    void setFlag(int slot, byte flag, boolean on) {
+        if (on) flags[slot] |= flag;
+        else flags[slot] &= ~flag;
+    }
+
+    Hamster.State stateOf(int slot) { return STATES[state[slot]]; }
+
+    /** @return true if any stat is at its maximum (for the max-stat achievement) */
+    public boolean reachedMaxStat(int i) {
+        return (flags[i] & FLAG_DEAD) == 0 && (hunger[i] >= maxHunger[i]
+                || happiness[i] >= maxHappiness[i] || energy[i] >= maxEnergy[i]);
+    }
+
+    public int collectPendingCoins(int i) {
+        int coins = pendingCoins[i];
+        pendingCoins[i] = 0;
+        return coins;
+    }
+
+    // ===================== Per-frame systems =====================
+
+    /** Age, drain, recover and run the state machine for one hamster. */
+    public void tick(int i, TimeOfDay tod) {
+        if ((flags[i] & (FLAG_DEAD | FLAG_FROZEN)) != 0) return;
+
+        ageAccumulator[i] += agingSpeed[i];
+        int ageGain = (int) ageAccumulator[i];
+        ageAccumulator[i] -= ageGain;
+        ageFrames[i] += ageGain;
+        if (ageFrames[i] >= lifespanFrames[i]) {
+            flags[i] |= FLAG_DEAD;
+            return;
+        }
+
+        int frame = ++animFrame[i];
+        stateTimer[i]--;
+        poopTimer[i]++;
+
+        // Expire buffs
+        Hamster owner = owners[i];
+        owner.buffs.expire(now);
+
+        Personality p = personality[i];
+        boolean userAction = (flags[i] & FLAG_USER_ACTION) != 0;
+        byte st = state[i];
+        double drain = drainMultiplier[i];
+
+        // decrease stats over time (with buff multipliers + meta drain + personality + TimeOfDay)
+        if (frame % drainInterval[i] == 0) {
+            double pHunger = p != null ? p.getHungerDrainMult() : 1.0;
+            double pHappiness = p != null ? p.getHappinessDrainMult() : 1.0;
+            double hungerMult = owner.getBuffMultiplier(Buff.Type.HUNGER_DRAIN);
+            hunger[i] = Math.max(0, hunger[i] - Math.max(1, (int)(1 * drain * hungerMult * pHunger * tod.getHungerDrainMult())));
+            double happinessMult = owner.getBuffMultiplier(Buff.Type.HAPPINESS_DRAIN);
+            happiness[i] = Math.max(0, happiness[i] - Math.max(1, (int)(1 * drain * happinessMult * pHappiness * tod.getHappinessDrainMult())));
+        }
+
+        // Natural (AI-chosen) sleeping: recover energy
+        if (!userAction && st == SLEEPING && frame % GameConstants.AI_SLEEP_INTERVAL == 0) {
+            int baseRecover = (int)(3 * tod.getEnergyRecoveryMult());
+            double pSleep = p != null ? p.getSleepMult() : 1.0;
+            energy[i] = Math.min(maxEnergy[i], energy[i] + Math.max(1, (int)(baseRecover * pSleep)));
+        } else if (st != SLEEPING && !userAction && frame % GameConstants.AI_ENERGY_DRAIN_INTERVAL == 0) {
+            double pEnergy = p != null ? p.getEnergyDrainMult() : 1.0;
+            double energyMult = owner.getBuffMultiplier(Buff.Type.ENERGY_DRAIN);
+            energy[i] = Math.max(0, energy[i] - Math.max(1, (int)(1 * drain * energyMult * pEnergy * tod.getEnergyDrainMult())));
+        }
+
+        // Natural (AI-chosen) running wheel: drain energy, boost happiness
+        if (!userAction && st == RUNNING_WHEEL && frame % GameConstants.AI_WHEEL_INTERVAL == 0) {
+            double energyMult = owner.getBuffMultiplier(Buff.Type.ENERGY_DRAIN);
+            energy[i] = Math.max(0, energy[i] - Math.max(1, (int)(1 * drain * energyMult)));
+            happiness[i] = Math.min(maxHappiness[i], happiness[i] + 2);
+        }
+        if (st == RUNNING_WHEEL && energy[i] < 10) {
+            state[i] = IDLE;
+            stateTimer[i] = 60;
+            flags[i] &= ~FLAG_USER_ACTION;
+            userAction = false;
+        }
+
+        // Die if any stat reaches 0
+        if (hunger[i] <= 0 || happiness[i] <= 0 || energy[i] <= 0) {
+            flags[i] |= FLAG_DEAD;
+            return;
+        }
+
+        if (stateTimer[i] <= 0) {
+            if (userAction) {
+                finishUserAction(i, owner, p, tod);
+            } else {
+                chooseNextState(i, tod);
+            }
+        }
+
+        // movement is handled by walk()
+    }
+
+    /** Apply stat/coin rewards after the action animation completes, then start walking. */
+    private void finishUserAction(int i, Hamster owner, Personality p, TimeOfDay tod) {
+        double pCoin = p != null ? p.getCoinMult() : 1.0;
+        int todBonus = tod.getCoinBonus();
+        int gain = actionGain[i];
+        switch (STATES[state[i]]) {
+            case EATING:
+                double pFeed = p != null ? p.getFeedMult() : 1.0;
+                FoodItem food = owner.getPendingFood();
+                if (food != null) {
+                    hunger[i] = Math.min(maxHunger[i], hunger[i] + (int)(food.getHungerGain() * pFeed));
+                    happiness[i] = Math.min(maxHappiness[i], happiness[i] + food.getHappinessGain());
+                    energy[i] = Math.min(maxEnergy[i], Math.max(0, energy[i] + food.getEnergyGain()));
+                    owner.setPendingFood(null);
+                } else {
+                    hunger[i] = Math.min(maxHunger[i], hunger[i] + (int)(gain * pFeed));
+                    happiness[i] = Math.min(maxHappiness[i], happiness[i] + Math.max(1, gain / 3));
+                }
+                pendingCoins[i] += (int)((2 + coinBonus[i] + todBonus) * pCoin);
+                break;
+            case HAPPY:
+                double pPlay = p != null ? p.getPlayMult() : 1.0;
+                happiness[i] = Math.min(maxHappiness[i], happiness[i] + (int)(gain * pPlay));
+                energy[i] = Math.max(0, energy[i] - 3);
+                pendingCoins[i] += (int)((3 + coinBonus[i] + todBonus) * pCoin);
+                break;
+            case RUNNING_WHEEL:
+                happiness[i] = Math.min(maxHappiness[i], happiness[i] + gain);
+                energy[i] = Math.max(0, energy[i] - 5);
+                pendingCoins[i] += (int)((1 + coinBonus[i] + todBonus) * pCoin);
+                break;
+            case SLEEPING:
+                double pSleep = p != null ? p.getSleepMult() : 1.0;
+                energy[i] = Math.min(maxEnergy[i], energy[i] + (int)(gain * pSleep));
+                break;
+            default:
+                break;
+        }
+        flags[i] &= ~FLAG_USER_ACTION;
+        startWalking(i);
+    }
+
+    private void chooseNextState(int i, TimeOfDay tod) {
+        flags[i] &= ~FLAG_USER_ACTION;
+        if (energy[i] < 20) {
+            state[i] = SLEEPING;
+            stateTimer[i] = 300 + nextInt(aiRng, i, 200);
+            return;
+        }
+
+        // Night/late-night: increased sleep chance
+        double sleepBonus = tod.getSleepChanceBonus();
+        if (sleepBonus > 0 && nextDouble(aiRng, i) < sleepBonus && energy[i] < 60) {
+            state[i] = SLEEPING;
+            stateTimer[i] = 300 + nextInt(aiRng, i, 200);
+            return;
+        }
+
+        int r = nextInt(aiRng, i, 100);
+        if (r < 40) {
+            startWalking(i);
+        } else if (r < 55 && energy[i] > 30) {
+            state[i] = RUNNING_WHEEL;
+            stateTimer[i] = 150 + nextInt(aiRng, i, 150);
+        } else {
+            state[i] = IDLE;
+            stateTimer[i] = 60 + nextInt(aiRng, i, 120);
+        }
+    }
+
+    private void startWalking(int i) {
+        state[i] = WALKING;
+        double angle = nextDouble(aiRng, i) * Math.PI * 2;
+        double speed = 2.0;
+        moveX[i] = Math.cos(angle) * speed;
+        moveY[i] = Math.sin(angle) * speed;
+        direction[i] = (byte) (moveX[i] >= 0 ? 1 : -1);
+        stateTimer[i] = 100 + nextInt(aiRng, i, 200);
+    }
+
+    /** Walk a hamster and bounce it off the edges of a {@code width} x {@code height} area. */
+    public void walk(int i, int width, int height) {
+        if (state[i] != WALKING || (flags[i] & FLAG_GRABBED) != 0) return;
+        int w = GameConstants.HAMSTER_WINDOW_WIDTH;
+        int ht = GameConstants.HAMSTER_WINDOW_HEIGHT;
+        // Bounds are checked on the sprite's top-left corner, as the window used to be
+        int newX = x[i] - w / 2 + (int) Math.round(moveX[i]);
+        int newY = y[i] - ht + (int) Math.round(moveY[i]);
+        int maxX = width - w;
+        int maxY = height - ht;
+        if (newX <= 0 || newX >= maxX) {
+            moveX[i] = -moveX[i];
+            direction[i] = (byte) (moveX[i] >= 0 ? 1 : -1);
+            newX = Math.max(0, Math.min(newX, maxX));
+        }
+        if (newY <= 0 || newY >= maxY) {
+            moveY[i] = -moveY[i];
+            newY = Math.max(0, Math.min(newY, maxY));
+        }
+        x[i] = newX + w / 2;
+        y[i] = newY + ht;
+    }
+
+    /** Roll whether a hamster poops this frame; resets its poop timer when it does. */
+    public boolean rollPoop(int i) {
+        if ((flags[i] & FLAG_DEAD) != 0) return false;
+        if (poopTimer[i] < GameConstants.POOP_MIN_TIMER) return false;
+        // Higher hunger = more likely to poop (well-fed hamster poops more)
+        int chance = (int)((2 + hunger[i] / 20) * poopChanceMultiplier[i]); // 2~7 per frame out of 1000
+        if (nextInt(poopRng, i, 1000) < chance) {
+            poopTimer[i] = 0;
+            return true;
+        }
+        return false;
+    }
+
+    public void applyPoopPenalty(int i, int poopCount) {
+        if ((flags[i] & FLAG_DEAD) != 0) return;
+        if (poopCount > 0 && animFrame[i] % GameConstants.POOP_PENALTY_INTERVAL == 0) {
+            happiness[i] = Math.max(0, happiness[i] - Math.max(1, (int)(poopCount * poopPenaltyMultiplier[i])));
+        }
+    }
+
+    // ===================== Offline catch-up =====================
+
+    // Mean state lengths drawn in chooseNextState() / startWalking()
+    private static final double MEAN_SLEEP_FRAMES = 300 + 199 / 2.0;
+    private static final double MEAN_WALK_FRAMES = 100 + 199 / 2.0;
+    private static final double MEAN_WHEEL_FRAMES = 150 + 149 / 2.0;
+    private static final double MEAN_IDLE_FRAMES = 60 + 119 / 2.0;
+    // Energy bands where the AI's choices change: forced sleep, no wheel, night naps, rested
+    private static final double[] ENERGY_BAND_FLOOR = {0, 20, 30, 60};
+
+    // Scratch for energyAfter(), reused across hamsters; catch-up runs on one thread
+    private final double[] bandDrift = new double[ENERGY_BAND_FLOOR.length];
+    private final double[] bandWheelShare = new double[ENERGY_BAND_FLOOR.length];
+    private double wheelFrames; // expected ticks on the wheel, set by energyAfter()
+
+    /**
+     * Closed-form stand-in for {@code frames} calls of {@link #tick} starting at
+     * {@link #now()}, for time the world was not running (see World#catchUp).
+     *
+     * Aging, the fixed-interval hunger/happiness drain, the poop penalty and buff expiry
+     * are counted exactly. The AI's sleep/walk/wheel choices are random, so energy and the
+     * wheel's happiness bonus follow the long-run average of those choices for the current
+     * energy band; they land near a tick-by-tick replay rather than on it. Poops are not
+     * produced. A hamster whose lifespan or stats run out is flagged dead at that point.
+     *
+     * @param poopCount poops on screen, for the poop penalty
+     * @return passive income earned by this hamster
+     */
+    public long fastForward(int i, long frames, TimeOfDay tod, int poopCount) {
+        if ((flags[i] & (FLAG_DEAD | FLAG_FROZEN)) != 0 || frames <= 0) return 0;
+        Hamster owner = owners[i];
+        if ((flags[i] & FLAG_USER_ACTION) != 0) {
+            finishUserAction(i, owner, personality[i], tod);
+        }
+
+        // Split at buff expiries so the multipliers are constant within each piece
+        long income = 0;
+        long t = now;
+        long end = now + frames;
+        while (t < end && (flags[i] & FLAG_DEAD) == 0) {
+            owner.buffs.expire(t + 1);
+            long pieceEnd = Math.min(end, owner.buffs.nextExpiry() - 1);
+            income += fastForwardPiece(i, t, pieceEnd - t, tod, poopCount);
+            t = pieceEnd;
+        }
+        owner.buffs.expire(end);
+
+        // Let the AI pick a fresh state on the next tick
+        state[i] = IDLE;
+        stateTimer[i] = 0;
+        return income;
+    }
+
+    // Ticks (t0, t0 + n] with fixed multipliers
+    private long fastForwardPiece(int i, long t0, long n, TimeOfDay tod, int poopCount) {
+        Hamster owner = owners[i];
+        Personality p = personality[i];
+        double drain = drainMultiplier[i];
+        long f0 = animFrame[i];
+        int interval = drainInterval[i];
+
+        int hungerLoss = Math.max(1, (int)(1 * drain * owner.getBuffMultiplier(Buff.Type.HUNGER_DRAIN)
+                * (p != null ? p.getHungerDrainMult() : 1.0) * tod.getHungerDrainMult()));
+        int happinessLoss = Math.max(1, (int)(1 * drain * owner.getBuffMultiplier(Buff.Type.HAPPINESS_DRAIN)
+                * (p != null ? p.getHappinessDrainMult() : 1.0) * tod.getHappinessDrainMult()));
+        int poopLoss = poopCount > 0 ? Math.max(1, (int)(poopCount * poopPenaltyMultiplier[i])) : 0;
+
+        // When would this hamster die if nothing else happened?
+        long oldAge = Long.MAX_VALUE;
+        if (agingSpeed[i] > 0) {
+            double ageLeft = lifespanFrames[i] - ageFrames[i] - ageAccumulator[i];
+            oldAge = Math.max(1, (long) Math.ceil(ageLeft / agingSpeed[i]));
+        }
+        long drainsToStarve = (hunger[i] + hungerLoss - 1) / hungerLoss;
+        long starved = (f0 / interval + drainsToStarve) * interval - f0;
+
+        double energyAfter = energyAfter(i, n, tod);
+        double happinessRate = (double) happinessLoss / interval
+                + (double) poopLoss / GameConstants.POOP_PENALTY_INTERVAL
+                - 2.0 * wheelFrames / n / GameConstants.AI_WHEEL_INTERVAL;
+        long unhappy = happinessRate > 0
+                ? Math.max(1, (long) Math.ceil(happiness[i] / happinessRate)) : Long.MAX_VALUE;
+        long death = Math.min(oldAge, Math.min(starved, unhappy));
+
+        boolean dies = death <= n;
+        long k = dies ? death : n;
+        if (k < n) energyAfter = energyAfter(i, k, tod);
+
+        double age = ageAccumulator[i] + agingSpeed[i] * k;
+        long ageGain = (long) age;
+        ageFrames[i] += ageGain;
+        ageAccumulator[i] = age - ageGain;
+
+        long drains = (f0 + k) / interval - f0 / interval;
+        long penalties = poopLoss > 0
+                ? (f0 + k) / GameConstants.POOP_PENALTY_INTERVAL - f0 / GameConstants.POOP_PENALTY_INTERVAL : 0;
+        hunger[i] = (int) Math.max(0, hunger[i] - drains * hungerLoss);
+        double h = happiness[i] - drains * happinessLoss - penalties * poopLoss
+                + 2.0 * wheelFrames / GameConstants.AI_WHEEL_INTERVAL;
+        happiness[i] = (int) Math.max(0, Math.min(maxHappiness[i], h));
+        energy[i] = (int) Math.max(0, Math.min(maxEnergy[i], Math.round(energyAfter)));
+
+        animFrame[i] = (int) (f0 + k);
+        poopTimer[i] = (int) Math.min(Integer.MAX_VALUE, poopTimer[i] + k);
+
+        // Passive income is paid to hamsters that are alive on the payout tick
+        long paidUntil = dies ? t0 + k - 1 : t0 + k;
+        int period = GameConstants.PASSIVE_INCOME_INTERVAL;
+        long payouts = Math.max(0, paidUntil / period - t0 / period);
+        long income = payouts * (int)(GameConstants.PASSIVE_INCOME_AMOUNT * owner.getCoinMultiplier());
+
+        if (dies) {
+            // Pin the cause the estimate picked, so rounding can't leave a dead hamster "fine"
+            if (death == oldAge) {
+                ageFrames[i] = Math.max(ageFrames[i], lifespanFrames[i]);
+            } else if (death == starved) {
+                hunger[i] = 0;
+            } else {
+                happiness[i] = 0;
+            }
+            flags[i] |= FLAG_DEAD;
+        }
+        return income;
+    }
+
+    /**
+     * Energy after {@code n} ticks of AI behaviour, from the average energy drift in each
+     * band. Where the drift changes sign across a band edge the hamster hovers around the
+     * edge (e.g. napping whenever it drops under 20). Sets {@link #wheelFrames} to the expected
+     * number of ticks spent on the wheel.
+     */
+    private double energyAfter(int i, long n, TimeOfDay tod) {
+        Personality p = personality[i];
+        double drain = drainMultiplier[i];
+        double energyMult = owners[i].getBuffMultiplier(Buff.Type.ENERGY_DRAIN);
+        double awakeCost = Math.max(1, (int)(1 * drain * energyMult
+                * (p != null ? p.getEnergyDrainMult() : 1.0) * tod.getEnergyDrainMult()))
+                / (double) GameConstants.AI_ENERGY_DRAIN_INTERVAL;
+        double wheelCost = Math.max(1, (int)(1 * drain * energyMult)) / (double) GameConstants.AI_WHEEL_INTERVAL;
+        double sleepGain = Math.max(1, (int)((int)(3 * tod.getEnergyRecoveryMult()) * (p != null ? p.getSleepMult() : 1.0)))
+                / (double) GameConstants.AI_SLEEP_INTERVAL;
+
+        int bands = ENERGY_BAND_FLOOR.length;
+        double[] drift = bandDrift;
+        double[] wheelShare = bandWheelShare;
+        drift[0] = sleepGain;
+        for (int b = 1; b < bands; b++) {
+            double nap = b < 3 ? tod.getSleepChanceBonus() : 0.0;
+            double wheel = b >= 2 ? 0.15 : 0.0;
+            double awake = 0.40 * MEAN_WALK_FRAMES + wheel * MEAN_WHEEL_FRAMES + (0.60 - wheel) * MEAN_IDLE_FRAMES;
+            double cycle = nap * MEAN_SLEEP_FRAMES + (1 - nap) * awake;
+            double asleep = nap * MEAN_SLEEP_FRAMES / cycle;
+            wheelShare[b] = (1 - nap) * wheel * MEAN_WHEEL_FRAMES / cycle;
+            drift[b] = asleep * sleepGain - (1 - asleep) * awakeCost - wheelShare[b] * wheelCost;
+        }
+
+        double top = maxEnergy[i];
+        double e = Math.min(energy[i], top);
+        double left = n;
+        wheelFrames = 0;
+        while (left > 0) {
+            int b = bands - 1;
+            while (b > 0 && e < ENERGY_BAND_FLOOR[b]) b--;
+            double d = drift[b];
+            int next = d > 0 ? b + 1 : b - 1;
+            double edge = d > 0 ? (next < bands ? Math.min(ENERGY_BAND_FLOOR[next], top) : top) : ENERGY_BAND_FLOOR[b];
+            if (d == 0 || (d > 0 && e >= top) || (d < 0 && b == 0)) {
+                wheelFrames += wheelShare[b] * left;
+                if (d < 0) e = Math.max(0, e + d * left);
+                break;
+            }
+            double dt = (edge - e) / d;
+            if (dt >= left) {
+                e += d * left;
+                wheelFrames += wheelShare[b] * left;
+                break;
+            }
+            e = edge;
+            left -= dt;
+            wheelFrames += wheelShare[b] * dt;
+            if (next < 0 || next >= bands || edge >= top) continue;
+            if ((d > 0) != (drift[next] > 0)) {
+                // Drifts point at each other: hover around the edge, mixing both bands.
+                // Energy is whole, so naps start from edge - 1 at best, after some awake
+                // drain when naps are only a chance; each nap then overshoots the edge and
+                // the time above it is spent sliding back down
+                int lo = Math.min(b, next), hi = Math.max(b, next);
+                double inLo = drift[hi] / (drift[hi] - drift[lo]);
+                wheelFrames += left * (inLo * wheelShare[lo] + (1 - inLo) * wheelShare[hi]);
+                double nap = lo == 0 ? 1.0 : tod.getSleepChanceBonus();
+                double wheel = lo >= 2 ? 0.15 : 0.0;
+                double awake = 0.40 * MEAN_WALK_FRAMES + wheel * MEAN_WHEEL_FRAMES + (0.60 - wheel) * MEAN_IDLE_FRAMES;
+                double dip = (1 - nap) / nap * (awake * awakeCost + wheel * MEAN_WHEEL_FRAMES * wheelCost);
+                double overshoot = MEAN_SLEEP_FRAMES * sleepGain;
+                e = Math.min(top, edge - 1 + (1 - inLo) * overshoot / 2 - inLo * dip / 2);
+                break;
+            }
+            if (d < 0) e = Math.nextDown(edge);
+        }
+        return e;
+    }
+
+    // ===================== Per-hamster random streams =====================
+
+    private static long nextLong(long[] states, int i) {
+        long z = (states[i] += GOLDEN_GAMMA);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /** Uniform int in [0, bound) from the high 32 bits (multiply-shift). */
+    private static int nextInt(long[] states, int i, int bound) {
+        return (int) (((nextLong(states, i) >>> 32) * bound) >>> 32);
+    }
+
+    private static double nextDouble(long[] states, int i) {
+        return (nextLong(states, i) >>> 11) * 0x1.0p-53;
+    }
+}
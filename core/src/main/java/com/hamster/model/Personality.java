@@ -1,6 +1,6 @@
 package com.hamster.model;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
 public enum Personality {
     GLUTTON("먹보", "항상 배고픈 햄스터",
@@ -54,7 +54,7 @@ public enum Personality {
     public double getSleepMult() { return sleepMult; }
     public double getCoinMult() { return coinMult; }
 
-    public static Personality random(Random rng) {
+    public static Personality random(SplittableRandom rng) {
         Personality[] values = values();
         return values[rng.nextInt(values.length)];
     }
@@ -62,7 +62,7 @@ public enum Personality {
     /**
      * Null-safe random personality. Always returns a non-null value.
      */
-    public static Personality randomSafe(Random rng) {
+    public static Personality randomSafe(SplittableRandom rng) {
         Personality[] values = values();
         if (values.length == 0) return CHEERFUL;
         if (rng == null) return CHEERFUL;
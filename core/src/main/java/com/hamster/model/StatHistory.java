@@ -0,0 +1,140 @@
+package com.hamster.model;
+
+import java.util.Arrays;
+
+/**
+ * Recent history of one hamster's stats (or the colony's averages) at three resolutions.
+ *
+ * The game records one sample a second; each {@link Resolution} averages its own span of
+ * samples into a bucket and keeps the newest buckets in a ring of primitive arrays, so
+ * memory is bounded no matter how long the hamster lives (about 7.7KB once every ring is
+ * full, grown on demand until then). Stats are kept as a percentage of their maximum,
+ * coins as the sum earned in the bucket. {@link #version} moves when a bucket closes,
+ * which is all a cached chart needs to check. Not saved; history starts with the session.
+ */
+public final class StatHistory {
+
+    public enum Channel { HUNGER, HAPPINESS, ENERGY, COINS }
+
+    public enum Resolution {
+        /** One bucket a second, the last 10 minutes. */
+        SECONDS(1, 600),
+        /** One bucket a minute, the last 4 hours. */
+        MINUTES(60, 240),
+        /** One bucket per in-game day, the last 256 days. */
+        DAYS(GameConstants.FRAMES_PER_DAY / GameConstants.TICKS_PER_SECOND, 256);
+
+        final int samples;  // samples averaged into one bucket
+        final int capacity; // buckets kept
+
+        Resolution(int samples, int capacity) {
+            this.samples = samples;
+            this.capacity = capacity;
+        }
+    }
+
+    private static final int STATS = 3; // channels before COINS
+
+    /** A ring of closed buckets plus the bucket being filled. */
+    private static final class Ring {
+        final Resolution res;
+        byte[][] stats = new byte[STATS][0];
+        int[] coins = new int[0];
+        int head; // index of the oldest bucket once the ring wraps
+        int size;
+        int version;
+
+        final int[] sum = new int[STATS];
+        int coinSum;
+        int count;
+
+        Ring(Resolution res) {
+            this.res = res;
+        }
+
+        void add(int hunger, int happiness, int energy, int coinsEarned) {
+            sum[0] += hunger;
+            sum[1] += happiness;
+            sum[2] += energy;
+            coinSum += coinsEarned;
+            if (++count < res.samples) return;
+
+            int slot;
+            if (size < res.capacity) {
+                if (size == coins.length) grow();
+                slot = size++;
+            } else {
+                slot = head;
+                head = (head + 1) % res.capacity;
+            }
+            for (int c = 0; c < STATS; c++) {
+                stats[c][slot] = (byte) (sum[c] / count);
+                sum[c] = 0;
+            }
+            coins[slot] = coinSum;
+            coinSum = 0;
+            count = 0;
+            version++;
+        }
+
+        // Rings only wrap once at capacity, so growing never has to unwrap
+        private void grow() {
+            int n = Math.min(res.capacity, Math.max(16, coins.length * 2));
+            for (int c = 0; c < STATS; c++) {
+                stats[c] = Arrays.copyOf(stats[c], n);
+            }
+            coins = Arrays.copyOf(coins, n);
+        }
+
+        int get(Channel ch, int i) {
+            int slot = (head + i) % res.capacity;
+            return ch == Channel.COINS ? coins[slot] : stats[ch.ordinal()][slot];
+        }
+    }
+
+    private final Ring[] rings;
+    private int pendingCoins;
+
+    public StatHistory() {
+        Resolution[] all = Resolution.values();
+        rings = new Ring[all.length];
+        for (int i = 0; i < all.length; i++) {
+            rings[i] = new Ring(all[i]);
+        }
+    }
+
+    /** Count coins earned; they go into the next sample. */
+    public void addCoins(int amount) {
+        pendingCoins += amount;
+    }
+
+    /** Take the once-a-second sample; stats are percentages (0~100) of their maximum. */
+    public void record(int hunger, int happiness, int energy) {
+        int coins = pendingCoins;
+        pendingCoins = 0;
+        for (Ring r : rings) {
+            r.add(hunger, happiness, energy, coins);
+        }
+    }
+
+    /** Closed buckets at {@code res}, up to its capacity. */
+    public int size(Resolution res) {
+        return rings[res.ordinal()].size;
+    }
+
+    /** Value of bucket {@code i} at {@code res}, 0 = oldest kept. */
+    public int get(Resolution res, Channel ch, int i) {
+        Ring r = rings[res.ordinal()];
+        if (i < 0 || i >= r.size) throw new IndexOutOfBoundsException(i + " of " + r.size);
+        return r.get(ch, i);
+    }
+
+    /** Number of buckets closed at {@code res} so far; changes only when one closes. */
+    public int version(Resolution res) {
+        return rings[res.ordinal()].version;
+    }
+
+    public static int percent(int value, int max) {
+        return max > 0 ? Math.max(0, Math.min(100, value * 100 / max)) : 0;
+    }
+}
@@ -1,7 +1,5 @@
 package com.hamster.model;
 
-import java.util.Calendar;
-
 public enum TimeOfDay {
     DAWN("새벽녘", 5, 7, 1.0, 1.0, 0.7, 1, "\uD83C\uDF05"),
     MORNING("아침", 7, 10, 1.0, 0.8, 1.0, 2, "\u2600\uFE0F"),
@@ -53,8 +51,13 @@ public enum TimeOfDay {
         return 1.0;
     }
 
+    /** Period for the shared system {@link GameClock}. */
     public static TimeOfDay getCurrentPeriod() {
-        int hour = Calendar.getInstance().get(Calendar.HOUR_OF_DAY);
+        return GameClock.system().getPeriod();
+    }
+
+    /** Period containing the given local hour (0~23). */
+    public static TimeOfDay forHour(int hour) {
         if (hour >= 0 && hour < 5) return LATE_NIGHT;
         if (hour >= 5 && hour < 7) return DAWN;
         if (hour >= 7 && hour < 10) return MORNING;
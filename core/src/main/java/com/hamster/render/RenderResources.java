@@ -0,0 +1,98 @@
+package com.hamster.render;
+
+import java.awt.*;
+import java.awt.geom.Path2D;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Interned colours, alpha ramps, fonts and strokes for the paint code, plus a builder
+ * for prebuilt polygon geometry.
+ *
+ * Drawing code resolves everything it needs once, into static fields, and only reads
+ * those fields while painting, so a frame allocates nothing of its own. Equal requests
+ * return the same instance. Lives in the core because the accessory drawings do.
+ */
+public final class RenderResources {
+
+    private static final Map<Integer, Color> COLORS = new HashMap<>();
+    private static final Map<Integer, AlphaRamp> RAMPS = new HashMap<>();
+    private static final Map<String, Font> FONTS = new HashMap<>();
+    private static final Map<Integer, BasicStroke> STROKES = new HashMap<>();
+
+    private RenderResources() {}
+
+    /** One colour at every alpha from 0 to 255, for fades. */
+    public static final class AlphaRamp {
+        private final Color[] steps = new Color[256];
+
+        private AlphaRamp(int r, int g, int b) {
+            for (int a = 0; a < 256; a++) {
+                steps[a] = color(r, g, b, a);
+            }
+        }
+
+        /** The colour at {@code alpha}, clamped to 0..255. */
+        public Color at(int alpha) {
+            return steps[Math.max(0, Math.min(255, alpha))];
+        }
+    }
+
+    public static Color color(int r, int g, int b) {
+        return color(r, g, b, 255);
+    }
+
+    public static synchronized Color color(int r, int g, int b, int a) {
+        int argb = (a & 0xFF) << 24 | (r & 0xFF) << 16 | (g & 0xFF) << 8 | (b & 0xFF);
+        Color c = COLORS.get(argb);
+        if (c == null) {
+            c = new Color(r, g, b, a);
+            COLORS.put(argb, c);
+        }
+        return c;
+    }
+
+    public static synchronized AlphaRamp alphaRamp(int r, int g, int b) {
+        int rgb = (r & 0xFF) << 16 | (g & 0xFF) << 8 | (b & 0xFF);
+        AlphaRamp ramp = RAMPS.get(rgb);
+        if (ramp == null) {
+            ramp = new AlphaRamp(r, g, b);
+            RAMPS.put(rgb, ramp);
+        }
+        return ramp;
+    }
+
+    public static synchronized Font font(String name, int style, int size) {
+        String key = name + '|' + style + '|' + size;
+        Font f = FONTS.get(key);
+        if (f == null) {
+            f = new Font(name, style, size);
+            FONTS.put(key, f);
+        }
+        return f;
+    }
+
+    public static synchronized BasicStroke stroke(float width) {
+        int key = Float.floatToIntBits(width);
+        BasicStroke s = STROKES.get(key);
+        if (s == null) {
+            s = new BasicStroke(width);
+            STROKES.put(key, s);
+        }
+        return s;
+    }
+
+    /**
+     * A closed polygon from alternating x, y coordinates. Drawings that move by a
+     * per-frame offset build it at offset 0 and translate the graphics instead.
+     */
+    public static Shape polygon(int... xy) {
+        Path2D.Float p = new Path2D.Float(Path2D.WIND_EVEN_ODD, xy.length / 2);
+        p.moveTo(xy[0], xy[1]);
+        for (int k = 2; k < xy.length; k += 2) {
+            p.lineTo(xy[k], xy[k + 1]);
+        }
+        p.closePath();
+        return p;
+    }
+}
@@ -0,0 +1,186 @@
+package com.hamster.sim;
+
+import com.hamster.system.GameLogger;
+import com.hamster.system.PhaseProfiler;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Fixed-timestep driver for {@link World#step()}.
+ *
+ * A daemon thread measures elapsed time with {@link System#nanoTime()} and accumulates it
+ * into whole steps. Due steps are handed to {@code executor} (the EDT on the desktop) in
+ * one batch, so the simulation itself stays single-threaded. When the executor falls
+ * behind, steps pile up to at most {@code maxCatchUpSteps}; anything beyond that is
+ * dropped and counted instead of replayed, so a long stall cannot snowball.
+ *
+ * A gap longer than the threshold given to {@link #setGapListener} (the machine was
+ * suspended, say) is not turned into steps at all; it is reported to the listener so the
+ * world can fast-forward over it. Gaps are measured on the wall clock as well, since
+ * {@code nanoTime} stops during suspend on some platforms; a clock set forward by hand
+ * counts as a gap too.
+ */
+public class FixedStepLoop {
+
+    /** Runs a batch of simulation steps on the executor thread. */
+    public interface Stepper {
+        /**
+         * @param steps number of fixed steps that are due (at least 1)
+         */
+        void runSteps(int steps);
+    }
+
+    /** Receives gaps too long to replay step by step, on the executor thread. */
+    public interface GapListener {
+        void onGap(long gapNanos);
+    }
+
+    private static final long REPORT_INTERVAL_NANOS = 60_000_000_000L; // log drops at most once a minute
+
+    private final long stepNanos;
+    private final int maxCatchUpSteps;
+    private final Executor executor;
+    private final Stepper stepper;
+
+    private volatile GapListener gapListener;
+    private volatile long gapThresholdNanos = Long.MAX_VALUE;
+
+    private final AtomicInteger pendingSteps = new AtomicInteger();
+    private volatile long postedAt; // when the queued drain was handed to the executor
+    private volatile boolean running;
+    private Thread thread;
+
+    // Counters (written by the loop / executor threads, read by anyone)
+    private volatile long stepsRun;
+    private volatile long lateSteps;
+    private volatile long droppedSteps;
+
+    public FixedStepLoop(long stepNanos, int maxCatchUpSteps, Executor executor, Stepper stepper) {
+        if (stepNanos <= 0) throw new IllegalArgumentException("stepNanos must be positive");
+        if (maxCatchUpSteps < 1) throw new IllegalArgumentException("maxCatchUpSteps must be at least 1");
+        this.stepNanos = stepNanos;
+        this.maxCatchUpSteps = maxCatchUpSteps;
+        this.executor = executor;
+        this.stepper = stepper;
+    }
+
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        thread = new Thread(this::run, "GameLoop");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /** Stop scheduling steps. Steps already handed to the executor are discarded. */
+    public synchronized void stop() {
+        running = false;
+        pendingSteps.set(0);
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+    }
+
+    public boolean isRunning() { return running; }
+
+    /** Report gaps of at least {@code thresholdNanos} to {@code listener} instead of stepping them. */
+    public void setGapListener(long thresholdNanos, GapListener listener) {
+        this.gapThresholdNanos = thresholdNanos;
+        this.gapListener = listener;
+    }
+
+    private void run() {
+        long previous = System.nanoTime();
+        long previousWall = System.currentTimeMillis();
+        long accumulator = 0;
+        long lastReport = previous;
+        long droppedAtLastReport = 0;
+
+        while (running) {
+            long now = System.nanoTime();
+            long wall = System.currentTimeMillis();
+            long elapsed = now - previous;
+            // Time spent suspended shows up only here where nanoTime stops meanwhile
+            long gapNanos = Math.max(elapsed, (wall - previousWall) * 1_000_000L);
+            previous = now;
+            previousWall = wall;
+            GapListener gap = gapListener;
+            if (gap != null && gapNanos >= gapThresholdNanos) {
+                executor.execute(() -> {
+                    if (running) gap.onGap(gapNanos);
+                });
+            } else {
+                accumulator += elapsed;
+            }
+
+            int due = (int) Math.min(Integer.MAX_VALUE, accumulator / stepNanos);
+            if (due > 0) {
+                accumulator -= due * stepNanos;
+                schedule(due);
+            }
+
+            if (now - lastReport >= REPORT_INTERVAL_NANOS) {
+                long dropped = droppedSteps;
+                if (dropped > droppedAtLastReport) {
+                    GameLogger.warn("Game loop fell behind: dropped " + (dropped - droppedAtLastReport)
+                            + " steps in the last minute (late steps so far: " + lateSteps + ")");
+                    droppedAtLastReport = dropped;
+                }
+                lastReport = now;
+            }
+
+            // Sleep until the next step boundary
+            long wait = stepNanos - accumulator;
+            if (wait > 0) {
+                LockSupport.parkNanos(this, wait);
+            }
+        }
+    }
+
+    /** Add {@code due} steps to the pending batch, posting a drain only when none is queued. */
+    private void schedule(int due) {
+        int before;
+        int after;
+        do {
+            before = pendingSteps.get();
+            long wanted = (long) before + due;
+            after = (int) Math.min(wanted, maxCatchUpSteps);
+            if (pendingSteps.compareAndSet(before, after)) {
+                long dropped = wanted - after;
+                if (dropped > 0) droppedSteps += dropped;
+                break;
+            }
+        } while (true);
+
+        if (before == 0 && after > 0) {
+            postedAt = System.nanoTime();
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        PhaseProfiler.end(PhaseProfiler.Phase.EDT_WAIT, postedAt);
+        int steps = pendingSteps.getAndSet(0);
+        if (steps <= 0 || !running) return;
+        if (steps > 1) lateSteps += steps - 1;
+        stepsRun += steps;
+        stepper.runSteps(steps);
+    }
+
+    public long getStepNanos() { return stepNanos; }
+
+    /** Steps executed so far. */
+    public long getStepsRun() { return stepsRun; }
+
+    /** Steps that ran behind schedule as part of a catch-up batch. */
+    public long getLateSteps() { return lateSteps; }
+
+    /** Steps due but not handed to the stepper yet. */
+    public int getPendingSteps() { return pendingSteps.get(); }
+
+    /** Steps skipped because the catch-up budget was exhausted. */
+    public long getDroppedSteps() { return droppedSteps; }
+}
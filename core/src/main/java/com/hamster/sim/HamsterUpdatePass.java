@@ -0,0 +1,158 @@
+package com.hamster.sim;
+
+import com.hamster.model.HamsterStore;
+import com.hamster.model.TimeOfDay;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The fused per-hamster part of {@link World#step()}: AI, walking, poop rolls, coin
+ * collection, poop penalty, the max-stat check, death detection and lifespan records,
+ * all in one visit per slot.
+ *
+ * Slots are split into fixed-size chunks. Each chunk only writes its own slots and
+ * records world-level side effects (poops, coins, deaths, records) in a private buffer;
+ * {@link World} then applies the buffers in chunk order, i.e. in slot order. Chunk
+ * boundaries do not depend on the thread count, and every hamster draws from its own
+ * random stream, so a parallel step gives exactly the same result as a serial one.
+ */
+final class HamsterUpdatePass {
+
+    /** Slots per chunk. */
+    static final int CHUNK_SIZE = 512;
+    /** Colonies smaller than this are swept on the calling thread, by default. */
+    static final int PARALLEL_THRESHOLD = 4 * CHUNK_SIZE;
+
+    /** Side effects of one chunk, applied by the world after the pass. */
+    static final class Chunk extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private HamsterStore store;
+        private TimeOfDay tod;
+        private int width, height, poopCount;
+        private boolean paused;
+        int from, to;
+
+        int[] poopSlots = new int[16];
+        int poops;
+        int[] coinSlots = new int[16];
+        int[] coinAmounts = new int[16];
+        int coins;
+        int deaths;
+        boolean maxStatReached;
+        int maxAgeDays;
+        int maxGeneration;
+
+        @Override
+        protected void compute() {
+            poops = 0;
+            coins = 0;
+            deaths = 0;
+            maxStatReached = false;
+            maxAgeDays = 0;
+            maxGeneration = 0;
+
+            HamsterStore s = store;
+            for (int i = from; i < to; i++) {
+                // Hamster AI and movement (animation continues even when paused)
+                if (!s.isFrozen(i)) {
+                    s.tick(i, tod);
+                    s.walk(i, width, height);
+                }
+
+                // Poop (even when paused)
+                if (s.rollPoop(i)) {
+                    if (poops == poopSlots.length) poopSlots = Arrays.copyOf(poopSlots, poops * 2);
+                    poopSlots[poops++] = i;
+                }
+
+                if (!paused) {
+                    int earned = s.collectPendingCoins(i);
+                    if (earned > 0) {
+                        if (coins == coinSlots.length) {
+                            coinSlots = Arrays.copyOf(coinSlots, coins * 2);
+                            coinAmounts = Arrays.copyOf(coinAmounts, coins * 2);
+                        }
+                        coinSlots[coins] = i;
+                        coinAmounts[coins++] = earned;
+                    }
+                    s.applyPoopPenalty(i, poopCount);
+                    if (!maxStatReached && s.reachedMaxStat(i)) {
+                        maxStatReached = true;
+                    }
+                }
+
+                if (s.isDead(i)) {
+                    deaths++;
+                } else {
+                    maxAgeDays = Math.max(maxAgeDays, s.ageDays(i));
+                    maxGeneration = Math.max(maxGeneration, s.owner(i).getGeneration());
+                }
+            }
+        }
+    }
+
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+    private Chunk[] chunks = new Chunk[0];
+    private int chunkCount;
+
+    HamsterUpdatePass(ForkJoinPool pool) {
+        this(pool, PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * @param parallelThreshold colonies at least this large are split across the pool;
+     *                          0 always forks, {@link Integer#MAX_VALUE} never does
+     */
+    HamsterUpdatePass(ForkJoinPool pool, int parallelThreshold) {
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Run the pass over every slot of {@code store}.
+     * @param poopCount poops on screen when the step started (for the poop penalty)
+     */
+    void run(HamsterStore store, TimeOfDay tod, int width, int height, boolean paused, int poopCount) {
+        int size = store.size();
+        chunkCount = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        if (chunks.length < chunkCount) {
+            Chunk[] grown = Arrays.copyOf(chunks, chunkCount);
+            for (int k = chunks.length; k < chunkCount; k++) grown[k] = new Chunk();
+            chunks = grown;
+        }
+        for (int k = 0; k < chunkCount; k++) {
+            Chunk c = chunks[k];
+            c.reinitialize();
+            c.store = store;
+            c.tod = tod;
+            c.width = width;
+            c.height = height;
+            c.paused = paused;
+            c.poopCount = poopCount;
+            c.from = k * CHUNK_SIZE;
+            c.to = Math.min(size, c.from + CHUNK_SIZE);
+        }
+
+        if (size < parallelThreshold) {
+            for (int k = 0; k < chunkCount; k++) {
+                chunks[k].compute();
+            }
+        } else {
+            final Chunk[] work = Arrays.copyOf(chunks, chunkCount);
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(work);
+                }
+            });
+        }
+    }
+
+    int chunkCount() { return chunkCount; }
+
+    Chunk chunk(int k) { return chunks[k]; }
+}
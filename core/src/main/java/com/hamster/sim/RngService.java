@@ -0,0 +1,67 @@
+package com.hamster.sim;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seeded random streams for the simulation, one per subsystem.
+ *
+ * Every stream is split from a single root seed, so a run started from the same seed
+ * (and fed the same user input) plays out identically, and drawing from one subsystem
+ * never shifts the numbers another one sees. {@link SplittableRandom} has no shared
+ * atomic seed, so the streams are cheap but must stay on the simulation thread.
+ */
+public final class RngService {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private final SplittableRandom ai;
+    private final SplittableRandom poop;
+    private final SplittableRandom events;
+    private final SplittableRandom interactions;
+    private final SplittableRandom breeding;
+
+    public RngService(long seed) {
+        this(seed, new SplittableRandom(seed));
+    }
+
+    private RngService(long seed, SplittableRandom root) {
+        this.seed = seed;
+        this.ai = root.split();
+        this.poop = root.split();
+        this.events = root.split();
+        this.interactions = root.split();
+        this.breeding = root.split();
+    }
+
+    /** A fresh, unpredictable seed for a new run. */
+    public static long newSeed() {
+        return new SplittableRandom().nextLong();
+    }
+
+    /**
+     * Streams for a run loaded from a save. The stream positions are not saved, so the
+     * streams are re-derived from the run seed and the frame the save was taken at.
+     */
+    public static RngService resume(long seed, long totalFrames) {
+        return new RngService(seed, new SplittableRandom(seed + totalFrames * GOLDEN_GAMMA));
+    }
+
+    /** The run seed recorded in the save. */
+    public long getSeed() { return seed; }
+
+    /** Hamster state machine (next state, walk direction, timers). */
+    public SplittableRandom ai() { return ai; }
+
+    /** Poop rolls and drop offsets. */
+    public SplittableRandom poop() { return poop; }
+
+    /** Random event selection and outcomes. */
+    public SplittableRandom events() { return events; }
+
+    /** Interaction partner checks and interaction types. */
+    public SplittableRandom interactions() { return interactions; }
+
+    /** Lifespans, personalities, colours and inheritance of new hamsters. */
+    public SplittableRandom breeding() { return breeding; }
+}
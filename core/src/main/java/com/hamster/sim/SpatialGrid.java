@@ -0,0 +1,132 @@
+package com.hamster.sim;
+
+import com.hamster.model.HamsterStore;
+
+import java.util.Arrays;
+
+/**
+ * Spatial hash over the slots of a {@link HamsterStore}, for "who is near this hamster"
+ * queries without checking every pair.
+ *
+ * Positions are bucketed into square cells of {@code cellSize}; cells are hashed into a
+ * fixed power-of-two table, and every bucket is an intrusive doubly linked list of slots.
+ * {@link #sync} walks the store and relinks only the slots whose cell changed (a slot
+ * whose hamster was swapped in by a removal just looks like a hamster that moved), so a
+ * query costs the 3x3 block of cells around the hamster plus a sync since the last one.
+ */
+final class SpatialGrid {
+
+    private static final int NONE = -1;
+
+    private final int cellSize;
+    private final int mask;
+    private final int[] heads;
+
+    // Per slot
+    private int[] bucketOf = new int[0];
+    private int[] cellX = new int[0], cellY = new int[0];
+    private int[] next = new int[0], prev = new int[0];
+    private int linked;
+
+    private int[] hits = new int[16];
+    private int hitCount;
+    private final int[] seen = new int[9]; // buckets already walked by the current query
+
+    /** @param buckets table size, rounded up to a power of two */
+    SpatialGrid(int cellSize, int buckets) {
+        this.cellSize = cellSize;
+        int n = Integer.highestOneBit(Math.max(1, buckets - 1)) << 1;
+        this.mask = n - 1;
+        this.heads = new int[n];
+        Arrays.fill(heads, NONE);
+    }
+
+    /** Bring the grid up to date with the positions and slot count of {@code store}. */
+    void sync(HamsterStore store) {
+        int size = store.size();
+        ensureCapacity(size);
+        for (int i = size; i < linked; i++) {
+            unlink(i);
+        }
+        for (int i = 0; i < size; i++) {
+            int cx = Math.floorDiv(store.x(i), cellSize);
+            int cy = Math.floorDiv(store.y(i), cellSize);
+            if (i < linked && cx == cellX[i] && cy == cellY[i]) continue;
+            if (i < linked) unlink(i);
+            cellX[i] = cx;
+            cellY[i] = cy;
+            link(i, bucket(cx, cy));
+        }
+        linked = size;
+    }
+
+    /**
+     * Collect the slots closer than {@code cellSize} to {@code slot} (excluding itself).
+     * Read them back with {@link #hitCount()} / {@link #hit(int)}; the grid must be synced.
+     */
+    int queryNear(HamsterStore store, int slot) {
+        hitCount = 0;
+        int px = store.x(slot);
+        int py = store.y(slot);
+        long r2 = (long) cellSize * cellSize;
+        int seenCount = 0;
+        for (int dy = -1; dy <= 1; dy++) {
+            for (int dx = -1; dx <= 1; dx++) {
+                int b = bucket(cellX[slot] + dx, cellY[slot] + dy);
+                // Neighbouring cells can hash to the same bucket; walk each bucket once
+                boolean dup = false;
+                for (int k = 0; k < seenCount; k++) {
+                    if (seen[k] == b) { dup = true; break; }
+                }
+                if (dup) continue;
+                seen[seenCount++] = b;
+
+                for (int j = heads[b]; j != NONE; j = next[j]) {
+                    if (j == slot) continue;
+                    long ddx = store.x(j) - px;
+                    long ddy = store.y(j) - py;
+                    if (ddx * ddx + ddy * ddy < r2) {
+                        if (hitCount == hits.length) hits = Arrays.copyOf(hits, hitCount * 2);
+                        hits[hitCount++] = j;
+                    }
+                }
+            }
+        }
+        return hitCount;
+    }
+
+    int hitCount() { return hitCount; }
+
+    int hit(int k) { return hits[k]; }
+
+    private int bucket(int cx, int cy) {
+        int h = cx * 0x9E3779B1 ^ cy * 0x85EBCA77;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private void link(int i, int b) {
+        bucketOf[i] = b;
+        prev[i] = NONE;
+        next[i] = heads[b];
+        if (heads[b] != NONE) prev[heads[b]] = i;
+        heads[b] = i;
+    }
+
+    private void unlink(int i) {
+        int b = bucketOf[i];
+        if (prev[i] != NONE) next[prev[i]] = next[i];
+        else heads[b] = next[i];
+        if (next[i] != NONE) prev[next[i]] = prev[i];
+        bucketOf[i] = NONE;
+    }
+
+    private void ensureCapacity(int size) {
+        if (size <= bucketOf.length) return;
+        int cap = Math.max(size, bucketOf.length * 2);
+        bucketOf = Arrays.copyOf(bucketOf, cap);
+        cellX = Arrays.copyOf(cellX, cap);
+        cellY = Arrays.copyOf(cellY, cap);
+        next = Arrays.copyOf(next, cap);
+        prev = Arrays.copyOf(prev, cap);
+    }
+}
@@ -0,0 +1,184 @@
+package com.hamster.sim;
+
+/**
+ * Hierarchical timing wheel keyed by simulation tick.
+ *
+ * Four wheels of 256 slots cover deadlines up to 2^32 ticks ahead (further ones are
+ * parked in the top wheel and re-filed when it turns). A task sits in the slot of the
+ * coarsest wheel that still separates it from "now" and is cascaded down as the lower
+ * wheels wrap, so {@link #advance()} only touches the tasks that are due plus the
+ * occasional cascade, no matter how many tasks are waiting.
+ *
+ * Tasks due on the same tick run in the order they were filed into the last wheel.
+ * Not thread-safe: use it from the simulation thread only.
+ */
+public final class TickScheduler {
+
+    /** A scheduled action; keep it to {@link #cancel()} or inspect the deadline. */
+    public static final class Task {
+        private final Runnable action;
+        private final long period;
+        private long deadline;
+        private Task prev, next;
+        private TickScheduler owner;
+        private int level, slot;
+
+        private Task(Runnable action, long deadline, long period) {
+            this.action = action;
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        /** Tick this task fires on next. */
+        public long getDeadline() { return deadline; }
+
+        public boolean isScheduled() { return owner != null; }
+
+        public void cancel() {
+            if (owner != null) owner.unlink(this);
+        }
+    }
+
+    private static final int BITS = 8;
+    private static final int SIZE = 1 << BITS;
+    private static final int MASK = SIZE - 1;
+    private static final int LEVELS = 4;
+
+    private final Task[][] heads = new Task[LEVELS][SIZE];
+    private final Task[][] tails = new Task[LEVELS][SIZE];
+    private long now;
+    private int size;
+
+    public TickScheduler(long now) {
+        this.now = now;
+    }
+
+    /** The last tick that was advanced to. */
+    public long now() { return now; }
+
+    /** Number of pending tasks. */
+    public int size() { return size; }
+
+    /** Run {@code action} once on {@code tick}; past ticks fire on the next advance. */
+    public Task schedule(long tick, Runnable action) {
+        Task t = new Task(action, Math.max(tick, now + 1), 0);
+        file(t);
+        return t;
+    }
+
+    /** Run {@code action} {@code delay} ticks from now. */
+    public Task scheduleAfter(long delay, Runnable action) {
+        return schedule(now + delay, action);
+    }
+
+    /** Run {@code action} on {@code firstTick} and then every {@code period} ticks. */
+    public Task scheduleEvery(long firstTick, long period, Runnable action) {
+        if (period <= 0) throw new IllegalArgumentException("period must be positive");
+        Task t = new Task(action, Math.max(firstTick, now + 1), period);
+        file(t);
+        return t;
+    }
+
+    /** Move a pending (or fired one-shot) task to a new tick. */
+    public void reschedule(Task t, long tick) {
+        if (t.owner != null) t.owner.unlink(t);
+        t.deadline = Math.max(tick, now + 1);
+        file(t);
+    }
+
+    /** Drop every task and restart the clock at {@code tick}. */
+    public void reset(long tick) {
+        for (int l = 0; l < LEVELS; l++) {
+            for (int s = 0; s < SIZE; s++) {
+                for (Task t = heads[l][s]; t != null; ) {
+                    Task n = t.next;
+                    t.owner = null;
+                    t.prev = t.next = null;
+                    t = n;
+                }
+                heads[l][s] = null;
+                tails[l][s] = null;
+            }
+        }
+        size = 0;
+        now = tick;
+    }
+
+    /** Advance one tick and run every task due on it. */
+    public void advance() {
+        now++;
+        if ((now & MASK) == 0) cascade();
+
+        // Pop one at a time: an action may cancel other tasks due on this tick.
+        // Nothing new can land in this slot, since every new deadline is after now.
+        int slot = (int) (now & MASK);
+        Task t;
+        while ((t = heads[0][slot]) != null) {
+            unlink(t);
+            if (t.deadline > now) {
+                file(t); // parked beyond the wheel range
+            } else {
+                if (t.period > 0) {
+                    t.deadline = now + t.period;
+                    file(t); // refile first so the action may cancel or reschedule it
+                }
+                t.action.run();
+            }
+        }
+    }
+
+    /** Advance until {@link #now()} reaches {@code tick}. */
+    public void advanceTo(long tick) {
+        while (now < tick) advance();
+    }
+
+    // Refile the current slot of every wheel that wrapped, coarsest first
+    private void cascade() {
+        int top = 1;
+        while (top < LEVELS - 1 && ((now >>> (top * BITS)) & MASK) == 0) top++;
+        for (int l = top; l >= 1; l--) {
+            int slot = (int) ((now >>> (l * BITS)) & MASK);
+            Task t = heads[l][slot];
+            heads[l][slot] = null;
+            tails[l][slot] = null;
+            while (t != null) {
+                Task n = t.next;
+                t.prev = t.next = null;
+                t.owner = null;
+                size--;
+                file(t);
+                t = n;
+            }
+        }
+    }
+
+    private void file(Task t) {
+        long delta = t.deadline - now;
+        int level;
+        if (delta < SIZE) level = 0;
+        else if (delta < 1L << (2 * BITS)) level = 1;
+        else if (delta < 1L << (3 * BITS)) level = 2;
+        else level = 3;
+        int slot = (int) ((t.deadline >>> (level * BITS)) & MASK);
+
+        t.level = level;
+        t.slot = slot;
+        t.owner = this;
+        t.prev = tails[level][slot];
+        t.next = null;
+        if (t.prev != null) t.prev.next = t;
+        else heads[level][slot] = t;
+        tails[level][slot] = t;
+        size++;
+    }
+
+    private void unlink(Task t) {
+        if (t.prev != null) t.prev.next = t.next;
+        else heads[t.level][t.slot] = t.next;
+        if (t.next != null) t.next.prev = t.prev;
+        else tails[t.level][t.slot] = t.prev;
+        t.prev = t.next = null;
+        t.owner = null;
+        size--;
+    }
+}
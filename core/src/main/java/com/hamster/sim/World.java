@@ -0,0 +1,662 @@
+package com.hamster.sim;
+
+import com.hamster.model.FoodInventory;
+import com.hamster.model.GameClock;
+import com.hamster.model.GameConstants;
+import com.hamster.model.GameState;
+import com.hamster.model.GameStatistics;
+import com.hamster.model.Hamster;
+import com.hamster.model.HamsterStore;
+import com.hamster.model.Poop;
+import com.hamster.model.StatHistory;
+import com.hamster.model.TimeOfDay;
+import com.hamster.system.Achievement;
+import com.hamster.system.AchievementManager;
+import com.hamster.system.GameLogger;
+import com.hamster.system.HamsterInteraction;
+import com.hamster.system.HamsterJournal;
+import com.hamster.system.HamsterManager;
+import com.hamster.system.MetaProgress;
+import com.hamster.system.PhaseProfiler;
+import com.hamster.system.PhaseProfiler.Phase;
+import com.hamster.system.ProfileStore;
+import com.hamster.system.RandomEvent;
+import com.hamster.system.SaveManager;
+import com.hamster.system.WriteAheadLog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Headless simulation of one game: hamsters and their positions, poops, coins,
+ * deaths and timed events. {@link #step()} advances one game tick (~33ms).
+ * The desktop layer renders the world and forwards user input; nothing in here
+ * touches Swing, so the world can be stepped with {@code java.awt.headless=true}.
+ *
+ * Per-frame hamster state lives in a {@link HamsterStore}; the tick runs one fused
+ * {@link HamsterUpdatePass} over its slots (in parallel for large colonies) instead of
+ * going through the {@link Hamster} facades.
+ */
+public class World {
+
+    private final HamsterStore store;
+    private final HamsterUpdatePass updatePass;
+    private final List<Hamster> hamsters = new ArrayList<>();
+    private final List<Poop> poops = new ArrayList<>();
+    private final RngService rng;
+
+    private final MetaProgress metaProgress;
+    private final GameStatistics statistics;
+    private final AchievementManager achievementManager;
+    private final HamsterJournal journal;
+    private final HamsterManager hamsterManager;
+    private WorldListener listener = new WorldListener() {};
+    private GameClock clock = GameClock.system();
+
+    // Walkable area: hamster feet stay within [0, width] x [0, height]
+    private final int width;
+    private final int height;
+
+    // Economy / run progress
+    private int money = 0;
+    private long totalFrames = 0;
+    private int hamstersRaised = 1;
+    private int qualifiedHamsters = 0; // hamsters that lived >= 1 day (for seed calc)
+    private int hamsterPurchaseCount = 0;
+    private FoodInventory foodInventory = new FoodInventory();
+    private int[] pendingLegacy = null; // best legacy earned by hamsters that died this run
+
+    // Save log: epoch of the last full save and the capture the next batch is diffed against
+    private long logEpoch;
+    private GameState logBase;
+
+    // Colony averages and coins, sampled with each hamster's history
+    private final StatHistory colonyHistory = new StatHistory();
+
+    // Proximity index over store slots, synced before each interaction check
+    private final SpatialGrid grid = new SpatialGrid(HamsterInteraction.CLOSE_DISTANCE, 256);
+
+    // Periodic world work, keyed by totalFrames
+    private final TickScheduler scheduler = new TickScheduler(0);
+
+    private boolean paused = false;
+    private boolean hidden = false;
+    private boolean eventInProgress = false;
+
+    public World(int width, int height, MetaProgress metaProgress, GameStatistics statistics,
+                 AchievementManager achievementManager, HamsterJournal journal, RngService rng) {
+        this(width, height, metaProgress, statistics, achievementManager, journal, rng,
+                new HamsterUpdatePass(ForkJoinPool.commonPool()));
+    }
+
+    /** With a given update pass, e.g. one forced serial or parallel. */
+    World(int width, int height, MetaProgress metaProgress, GameStatistics statistics,
+          AchievementManager achievementManager, HamsterJournal journal, RngService rng,
+          HamsterUpdatePass updatePass) {
+        this.updatePass = updatePass;
+        this.width = width;
+        this.height = height;
+        this.metaProgress = metaProgress;
+        this.statistics = statistics;
+        this.achievementManager = achievementManager;
+        this.journal = journal;
+        this.rng = rng;
+        this.store = new HamsterStore(16, rng.ai());
+        this.hamsterManager = new HamsterManager(metaProgress, rng.breeding());
+        scheduleWorldTasks();
+    }
+
+    /**
+     * File the recurring world work with the scheduler. Checks that are skipped (hidden,
+     * event already showing, too few hamsters) retry on the next tick, like the old
+     * counters that kept running until the check could go ahead.
+     */
+    private void scheduleWorldTasks() {
+        long now = scheduler.now();
+        scheduler.scheduleAfter(metaProgress.getEventInterval(), new Runnable() {
+            @Override
+            public void run() {
+                if (hidden || eventInProgress || hamsters.isEmpty()) {
+                    scheduler.scheduleAfter(1, this);
+                    return;
+                }
+                long start = PhaseProfiler.start();
+                triggerRandomEvent();
+                PhaseProfiler.end(Phase.RANDOM_EVENT, start);
+                statistics.totalEventsTriggered++;
+                achievementManager.add(AchievementManager.Counter.EVENTS, 1);
+                scheduler.scheduleAfter(metaProgress.getEventInterval(), this);
+            }
+        });
+        scheduler.scheduleAfter(GameConstants.INTERACTION_CHECK_INTERVAL, new Runnable() {
+            @Override
+            public void run() {
+                if (hidden || hamsters.size() < 2) {
+                    scheduler.scheduleAfter(1, this);
+                    return;
+                }
+                tryInteraction();
+                scheduler.scheduleAfter(GameConstants.INTERACTION_CHECK_INTERVAL, this);
+            }
+        });
+        scheduler.scheduleEvery(nextMultiple(now, GameConstants.PASSIVE_INCOME_INTERVAL),
+                GameConstants.PASSIVE_INCOME_INTERVAL, () -> {
+            for (Hamster h : hamsters) {
+                if (!h.isDead()) {
+                    addMoney(GameConstants.PASSIVE_INCOME_AMOUNT, h);
+                }
+            }
+        });
+        scheduler.scheduleAfter(GameConstants.ACHIEVEMENT_CHECK_INTERVAL, new Runnable() {
+            @Override
+            public void run() {
+                if (hidden) {
+                    scheduler.scheduleAfter(1, this);
+                    return;
+                }
+                achievementManager.playAt(clock.getHour());
+                scheduler.scheduleAfter(GameConstants.ACHIEVEMENT_CHECK_INTERVAL, this);
+            }
+        });
+        scheduler.scheduleEvery(nextMultiple(now, GameConstants.TICKS_PER_SECOND),
+                GameConstants.TICKS_PER_SECOND, this::recordHistory);
+        scheduler.scheduleEvery(nextMultiple(now, GameConstants.AUTO_SAVE_INTERVAL),
+                GameConstants.AUTO_SAVE_INTERVAL, () -> listener.onAutoSaveDue(this));
+        scheduler.scheduleEvery(nextMultiple(now, GameConstants.PROFILE_SAVE_INTERVAL),
+                GameConstants.PROFILE_SAVE_INTERVAL, () -> {
+                    // A full save on the same tick covers these records
+                    if (scheduler.now() % GameConstants.AUTO_SAVE_INTERVAL != 0) listener.onProfileSaveDue(this);
+                });
+        scheduler.scheduleEvery(nextMultiple(now, GameConstants.SAVE_LOG_INTERVAL),
+                GameConstants.SAVE_LOG_INTERVAL, () -> listener.onSaveLogDue(this));
+    }
+
+    /** First multiple of {@code period} after {@code tick}. */
+    private static long nextMultiple(long tick, long period) {
+        return (tick / period + 1) * period;
+    }
+
+    public void setListener(WorldListener listener) {
+        this.listener = listener != null ? listener : new WorldListener() {};
+    }
+
+    /** Replace the wall clock that drives time-of-day effects (e.g. a simulated one). */
+    public void setClock(GameClock clock) {
+        this.clock = clock != null ? clock : GameClock.system();
+    }
+
+    // ===================== Setup =====================
+
+    /**
+     * Add a hamster with its feet at (x, y) and register it with the achievement tracker.
+     */
+    public void addHamster(Hamster h, int x, int y) {
+        hamsterManager.registerWithAchievements(h, achievementManager);
+        store.adopt(h);
+        h.setPosition(x, y);
+        h.setFrozen(paused);
+        hamsters.add(h);
+    }
+
+    /**
+     * Restore a saved run. Expects a freshly constructed world.
+     */
+    public void loadState(GameState state) {
+        money = state.money;
+        totalFrames = state.totalFrames;
+        hamstersRaised = state.hamstersRaised;
+        qualifiedHamsters = state.qualifiedHamsters;
+        foodInventory = state.foodInventory != null ? state.foodInventory : new FoodInventory();
+        hamsterPurchaseCount = state.hamsterPurchaseCount;
+        logEpoch = state.logEpoch;
+        scheduler.reset(totalFrames);
+        scheduleWorldTasks();
+        store.setNow(totalFrames);
+
+        for (GameState.HamsterData hd : state.hamsters) {
+            Hamster h = hamsterManager.restoreHamster(hd, totalFrames);
+            store.adopt(h);
+            hamsters.add(h);
+        }
+
+        // Merge global accessories to all hamsters (in case they were bought after last save)
+        for (Hamster h : hamsters) {
+            for (String accName : achievementManager.getAccessoriesBought()) {
+                h.getOwnedAccessories().add(accName);
+            }
+        }
+
+        for (GameState.PoopData pd : state.poops) {
+            poops.add(new Poop(pd.screenX, pd.screenY, 0));
+        }
+    }
+
+    public GameState captureState() {
+        GameState state = GameState.capture(money, totalFrames, hamsters, poops, hamstersRaised,
+                qualifiedHamsters, foodInventory, hamsterPurchaseCount);
+        state.rngSeed = rng.getSeed();
+        state.savedAtMillis = clock.currentTimeMillis();
+        return state;
+    }
+
+    /**
+     * Write the journal, then commit the run plus the persistent statistics and
+     * achievements to the profile in one transaction.
+     */
+    public void save() {
+        captureSave().run();
+    }
+
+    /**
+     * Stage everything {@link #save()} writes in the profile and return the code that
+     * writes it, so the write can run on another thread (see
+     * {@link com.hamster.system.SavePipeline}) while the world keeps stepping. Staging
+     * happens here, so whichever commit goes out first carries a consistent set, also
+     * inside {@link ProfileStore#atomically}. Costs one pass over the hamsters and the
+     * encoding of the run; the journal is append-only and writes whatever was added by
+     * then.
+     */
+    public Runnable captureSave() {
+        GameState state = captureState();
+        state.logEpoch = ++logEpoch;
+        logBase = state;
+        statistics.save();
+        int achievements = achievementManager.stageChanges();
+        SaveManager.stageAuto(state);
+        return () -> {
+            journal.save();
+            SaveManager.commitAuto(state);
+            achievementManager.acknowledge(achievements);
+        };
+    }
+
+    /**
+     * Like {@link #captureSave()} for the records the save log does not cover: stage the
+     * statistics and achievements, and return the code that writes them with the journal.
+     */
+    public Runnable captureProfileSave() {
+        statistics.save();
+        int achievements = achievementManager.stageChanges();
+        return () -> {
+            journal.save();
+            ProfileStore.shared().commit();
+            achievementManager.acknowledge(achievements);
+        };
+    }
+
+    /**
+     * Diff the world against the last full save or batch, for the save log. Cheap enough
+     * to run every couple of seconds: a capture plus a compare, and a batch of a few bytes
+     * per changed hamster.
+     *
+     * @return the changes, or null if nothing changed or there is no full save to build on
+     */
+    public WriteAheadLog.Batch captureLogBatch() {
+        if (logBase == null) return null;
+        GameState now = captureState();
+        now.logEpoch = logEpoch;
+        WriteAheadLog.Batch batch = WriteAheadLog.diff(logBase, now);
+        logBase = now;
+        return batch.isEmpty() ? null : batch;
+    }
+
+    // ===================== Tick =====================
+
+    /**
+     * Advance the simulation by one frame.
+     */
+    public void step() {
+        // One fused pass over all hamsters; side effects come back per chunk, in slot order
+        // Deadlines in the pass are checked against the tick this step produces
+        store.setNow(paused ? totalFrames : totalFrames + 1);
+        long passStart = PhaseProfiler.start();
+        updatePass.run(store, clock.getPeriod(), width, height, paused, poops.size());
+        PhaseProfiler.end(Phase.UPDATE_PASS, passStart);
+        int chunkCount = updatePass.chunkCount();
+
+        for (int k = 0; k < chunkCount; k++) {
+            HamsterUpdatePass.Chunk c = updatePass.chunk(k);
+            for (int p = 0; p < c.poops; p++) {
+                int slot = c.poopSlots[p];
+                spawnPoop(store.x(slot), store.y(slot));
+            }
+        }
+
+        // Skip all game logic when paused
+        if (paused) return;
+
+        totalFrames++;
+        statistics.totalPlayTimeFrames++;
+
+        int deaths = 0;
+        int maxAgeDays = 0;
+        int maxGeneration = 0;
+        for (int k = 0; k < chunkCount; k++) {
+            HamsterUpdatePass.Chunk c = updatePass.chunk(k);
+            // Coins from finished actions
+            for (int j = 0; j < c.coins; j++) {
+                addMoney(c.coinAmounts[j], store.owner(c.coinSlots[j]));
+            }
+            // Track max stat reached (checked every frame so we don't miss it)
+            if (c.maxStatReached) {
+                achievementManager.reachMaxStat();
+            }
+            deaths += c.deaths;
+            maxAgeDays = Math.max(maxAgeDays, c.maxAgeDays);
+            maxGeneration = Math.max(maxGeneration, c.maxGeneration);
+        }
+
+        // Check deaths; nothing else happens once the colony is gone
+        if (deaths > 0) {
+            long deathStart = PhaseProfiler.start();
+            boolean died = checkDeaths();
+            PhaseProfiler.end(Phase.DEATHS, deathStart);
+            if (died && hamsters.isEmpty()) {
+                listener.onColonyLost();
+                return;
+            }
+        }
+
+        // Track longest lifespan (hamsters alive after the fused pass)
+        if (maxAgeDays > statistics.longestLifespanDays) {
+            statistics.longestLifespanDays = maxAgeDays;
+        }
+        if (maxGeneration > statistics.maxGenerationReached) {
+            statistics.maxGenerationReached = maxGeneration;
+        }
+
+        // Events, interactions, passive income, time-of-day achievements and auto-save
+        long scheduledStart = PhaseProfiler.start();
+        scheduler.advanceTo(totalFrames);
+        PhaseProfiler.end(Phase.SCHEDULED, scheduledStart);
+
+        achievementManager.reach(AchievementManager.Counter.HAMSTERS_RAISED, statistics.totalHamstersRaised);
+        achievementManager.reach(AchievementManager.Counter.MAX_GENERATION, statistics.maxGenerationReached);
+        achievementManager.reach(AchievementManager.Counter.COINS_EARNED, statistics.totalCoinsEarned);
+        achievementManager.reach(AchievementManager.Counter.LONGEST_LIFESPAN, statistics.longestLifespanDays);
+        if (!hidden && achievementManager.hasUnlocked()) {
+            long grantStart = PhaseProfiler.start();
+            grantAchievements();
+            PhaseProfiler.end(Phase.ACHIEVEMENTS, grantStart);
+        }
+    }
+
+    /**
+     * Fast-forward over wall time the world did not run for (app closed, machine asleep),
+     * ending now, using {@link HamsterStore#fastForward}. Time is cut at hour boundaries so
+     * each stretch has one {@link TimeOfDay}. Passive income is paid and buffs expire;
+     * random events, interactions and auto-saves that fell in the gap are skipped.
+     * Hamsters that die are flagged and handled by the next {@link #step()}.
+     *
+     * @return number of ticks applied
+     */
+    public long catchUp(long elapsedMillis) {
+        if (paused || elapsedMillis <= 0) return 0;
+        long millis = Math.min(elapsedMillis, GameConstants.MAX_OFFLINE_MILLIS);
+        long frames = millis * GameConstants.TICKS_PER_SECOND / 1000;
+        if (frames <= 0) return 0;
+
+        long startMillis = clock.currentTimeMillis() - millis;
+        long first = totalFrames;
+        long last = totalFrames + frames;
+        int poopCount = poops.size();
+        long income = 0;
+        long tick = first;
+        while (tick < last) {
+            long wall = startMillis + (tick - first) * 1000 / GameConstants.TICKS_PER_SECOND;
+            TimeOfDay tod = TimeOfDay.forHour(clock.hourAt(wall));
+            long boundary = clock.nextHourStart(wall) - startMillis;
+            long until = Math.min(last, first + Math.max(tick - first + 1,
+                    (boundary * GameConstants.TICKS_PER_SECOND + 999) / 1000));
+            store.setNow(tick);
+            for (int i = 0; i < store.size(); i++) {
+                income += store.fastForward(i, until - tick, tod, poopCount);
+            }
+            tick = until;
+        }
+
+        totalFrames = last;
+        store.setNow(totalFrames);
+        scheduler.reset(totalFrames);
+        scheduleWorldTasks();
+        addMoney((int) Math.min(Integer.MAX_VALUE, income), null);
+        GameLogger.info("Caught up " + frames + " ticks (" + millis / 1000 + "s) offline, " + income + " coins");
+        return frames;
+    }
+
+    private void spawnPoop(int x, int y) {
+        int offsetX = rng.poop().nextInt(21) - 10;
+        int offsetY = rng.poop().nextInt(11) - 5;
+        Poop poop = new Poop(x - 15 + offsetX, y - 30 + offsetY, (int) totalFrames);
+        poops.add(poop);
+        listener.onPoopSpawned(poop);
+    }
+
+    /** @return true if any hamster died this frame */
+    private boolean checkDeaths() {
+        boolean anyDied = false;
+        for (int i = hamsters.size() - 1; i >= 0; i--) {
+            Hamster h = hamsters.get(i);
+            if (!h.isDead()) continue;
+
+            int[] legacy = h.computeLegacy();
+            if (pendingLegacy == null) {
+                pendingLegacy = legacy;
+            } else {
+                // Keep the best legacy values from multiple deaths
+                for (int j = 0; j < legacy.length; j++) {
+                    pendingLegacy[j] = Math.max(pendingLegacy[j], legacy[j]);
+                }
+            }
+
+            String cause = hamsterManager.getCauseOfDeath(h);
+            journal.addEntry(h, cause);
+            statistics.totalDeaths++;
+
+            int lifeDays = h.getAgeDays();
+            if (lifeDays >= 1) {
+                qualifiedHamsters++;
+            }
+            if (lifeDays > statistics.longestLifespanDays) {
+                statistics.longestLifespanDays = lifeDays;
+            }
+
+            hamsters.remove(i);
+            store.release(h);
+            anyDied = true;
+            listener.onHamsterDied(h, cause);
+        }
+        if (anyDied) {
+            listener.onHamstersChanged();
+        }
+        return anyDied;
+    }
+
+    private void triggerRandomEvent() {
+        if (eventInProgress) return;
+        // Pick a random living hamster
+        List<Hamster> living = new ArrayList<>();
+        for (Hamster h : hamsters) {
+            if (!h.isDead()) living.add(h);
+        }
+        if (living.isEmpty()) return;
+        Hamster target = living.get(rng.events().nextInt(living.size()));
+
+        eventInProgress = true;
+        try {
+            RandomEvent event = RandomEvent.pickRandom(rng.events());
+            listener.onRandomEvent(this, target, event);
+        } finally {
+            eventInProgress = false;
+        }
+    }
+
+    private void tryInteraction() {
+        if (hamsters.size() < 2) return;
+        grid.sync(store);
+        for (int i = 0; i < store.size(); i++) {
+            Hamster a = store.owner(i);
+            if (a.isDead() || !a.canInteract()) continue;
+            // Lowest-slot partner, so the pick does not depend on bucket order
+            int partner = -1;
+            int near = grid.queryNear(store, i);
+            for (int k = 0; k < near; k++) {
+                int j = grid.hit(k);
+                if (j > i && (partner < 0 || j < partner)) {
+                    Hamster b = store.owner(j);
+                    if (!b.isDead() && b.canInteract()) partner = j;
+                }
+            }
+            if (partner >= 0) {
+                Hamster b = store.owner(partner);
+                HamsterInteraction.Type type = HamsterInteraction.pickRandom(rng.interactions());
+                String result = HamsterInteraction.interact(a, b, type);
+                a.startInteractionCooldown();
+                b.startInteractionCooldown();
+                statistics.totalInteractions++;
+                achievementManager.add(AchievementManager.Counter.INTERACTIONS, 1);
+                listener.onInteraction(a, b, result);
+                return; // only one interaction per check
+            }
+        }
+    }
+
+    /** The once-a-second sample of every hamster's stats and the colony averages. */
+    private void recordHistory() {
+        int alive = 0, hunger = 0, happiness = 0, energy = 0;
+        for (Hamster h : hamsters) {
+            if (h.isDead()) continue;
+            int hu = StatHistory.percent(h.getHunger(), h.getMaxHunger());
+            int ha = StatHistory.percent(h.getHappiness(), h.getMaxHappiness());
+            int en = StatHistory.percent(h.getEnergy(), h.getMaxEnergy());
+            h.getHistory().record(hu, ha, en);
+            alive++;
+            hunger += hu;
+            happiness += ha;
+            energy += en;
+        }
+        if (alive > 0) {
+            colonyHistory.record(hunger / alive, happiness / alive, energy / alive);
+        }
+    }
+
+    /** Grant the rewards of the achievements unlocked since the last step and announce them. */
+    private void grantAchievements() {
+        List<Achievement> newAchievements = achievementManager.takeUnlocked();
+
+        // The unlocks, their seed rewards and the run are staged together and go out in
+        // one profile commit, so a crash can't keep the seeds and lose the unlock that
+        // granted them
+        ProfileStore.shared().atomically(() -> {
+            for (Achievement ach : newAchievements) {
+                if (ach.getRewardType() == Achievement.RewardType.COINS) {
+                    addMoney(ach.getRewardAmount(), null);
+                } else {
+                    metaProgress.addSeeds(ach.getRewardAmount());
+                }
+            }
+            achievementManager.stageChanges();
+            // A listener that saves captures right away, so the run is staged in this block too
+            listener.onAutoSaveDue(this);
+        });
+        for (Achievement ach : newAchievements) {
+            listener.onAchievementUnlocked(ach);
+        }
+    }
+
+    // ===================== Economy =====================
+
+    public void addMoney(int amount, Hamster source) {
+        int actual;
+        if (source != null) {
+            actual = (int)(amount * source.getCoinMultiplier());
+        } else {
+            actual = amount;
+        }
+        money += actual;
+        if (money < 0) money = 0;
+        if (money > 999_999_999) money = 999_999_999;
+        if (actual > 0) {
+            statistics.totalCoinsEarned += actual;
+            colonyHistory.addCoins(actual);
+            if (source != null) source.getHistory().addCoins(actual);
+        }
+    }
+
+    public void spendMoney(int amount) {
+        money -= amount;
+        if (money < 0) money = 0;
+        statistics.totalCoinsSpent += amount;
+    }
+
+    /** Remove a clicked poop and pay the click reward. */
+    public void cleanPoop(Poop poop) {
+        if (poops.remove(poop)) {
+            addMoney(GameConstants.POOP_CLICK_REWARD, null);
+        }
+    }
+
+    /** Remove every poop and pay the clean-all reward. @return number of poops removed */
+    public int cleanAllPoops() {
+        int count = poops.size();
+        addMoney(GameConstants.POOP_CLEAN_ALL_REWARD * count, null);
+        poops.clear();
+        statistics.totalPoopsCleaned += count;
+        achievementManager.add(AchievementManager.Counter.POOPS_CLEANED, count);
+        return count;
+    }
+
+    // ===================== Controls =====================
+
+    /** Freeze or unfreeze every hamster; paused worlds only animate. */
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+        for (Hamster h : hamsters) {
+            h.setFrozen(paused);
+        }
+    }
+
+    public boolean isPaused() { return paused; }
+
+    /** Hidden worlds skip events and interactions and hold back achievements (nobody would see them). */
+    public void setHidden(boolean hidden) { this.hidden = hidden; }
+
+    /** Move every hamster to the bottom-right corner of the world. */
+    public void gatherAll() {
+        int x = Math.max(GameConstants.HAMSTER_WINDOW_WIDTH / 2, width - GameConstants.HAMSTER_WINDOW_WIDTH / 2);
+        int y = Math.max(GameConstants.HAMSTER_WINDOW_HEIGHT, height);
+        for (Hamster h : hamsters) {
+            h.setPosition(x, y);
+        }
+    }
+
+    /** Count one more hamster raised in this run (breeding or shop purchase). */
+    public void recordHamsterRaised() {
+        hamstersRaised++;
+    }
+
+    public void recordHamsterPurchase() {
+        hamsterPurchaseCount++;
+    }
+
+    // ===================== Getters =====================
+
+    public List<Hamster> getHamsters() { return Collections.unmodifiableList(hamsters); }
+    public StatHistory getColonyHistory() { return colonyHistory; }
+    public List<Poop> getPoops() { return Collections.unmodifiableList(poops); }
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public int getMoney() { return money; }
+    public long getTotalFrames() { return totalFrames; }
+    public int getHamstersRaised() { return hamstersRaised; }
+    public int getQualifiedHamsters() { return qualifiedHamsters; }
+    public int getHamsterPurchaseCount() { return hamsterPurchaseCount; }
+    public FoodInventory getFoodInventory() { return foodInventory; }
+    public int[] getPendingLegacy() { return pendingLegacy; }
+    public HamsterManager getHamsterManager() { return hamsterManager; }
+    public RngService getRng() { return rng; }
+    public GameClock getClock() { return clock; }
+    public TickScheduler getScheduler() { return scheduler; }
+}
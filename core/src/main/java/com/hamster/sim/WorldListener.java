@@ -0,0 +1,55 @@
+package com.hamster.sim;
+
+import com.hamster.model.Hamster;
+import com.hamster.model.Poop;
+import com.hamster.system.Achievement;
+import com.hamster.system.RandomEvent;
+
+/**
+ * Notifications from {@link World#step()} to whoever presents the world.
+ * All methods default to no-ops so headless runs only override what they need.
+ */
+public interface WorldListener {
+
+    /** A new poop was dropped. */
+    default void onPoopSpawned(Poop poop) {}
+
+    /** A hamster died and has already been removed from the world. */
+    default void onHamsterDied(Hamster hamster, String causeOfDeath) {}
+
+    /** The set of living hamsters changed (after deaths). */
+    default void onHamstersChanged() {}
+
+    /** The last hamster died. */
+    default void onColonyLost() {}
+
+    /**
+     * A random event fired for {@code target}. The listener picks a choice and applies it;
+     * the default takes choice A so headless simulations keep progressing.
+     */
+    default void onRandomEvent(World world, Hamster target, RandomEvent event) {
+        event.applyChoiceA(target, world);
+    }
+
+    /** Two nearby hamsters interacted. */
+    default void onInteraction(Hamster a, Hamster b, String result) {}
+
+    /** An achievement was unlocked and its reward already granted. */
+    default void onAchievementUnlocked(Achievement achievement) {}
+
+    /**
+     * A full save is due: periodically, or after unlocks inside the profile transaction
+     * that grants their rewards. A listener that saves should call
+     * {@link World#captureSave()} right away. Headless runs usually skip disk writes.
+     */
+    default void onAutoSaveDue(World world) {}
+
+    /**
+     * The records outside the run (statistics, achievements, journal) are due between
+     * full saves, see {@link World#captureProfileSave()}.
+     */
+    default void onProfileSaveDue(World world) {}
+
+    /** The next save-log batch is due, see {@link World#captureLogBatch()}. */
+    default void onSaveLogDue(World world) {}
+}
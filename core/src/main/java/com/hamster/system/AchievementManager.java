@@ -0,0 +1,343 @@
+package com.hamster.system;
+import com.hamster.model.Accessory;
+import com.hamster.model.FoodItem;
+import com.hamster.model.HamsterColor;
+import com.hamster.model.Personality;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Tracks progress towards the achievements and unlocks them as it happens.
+ *
+ * Each {@link Counter} has its thresholds sorted ascending and a cursor on the next one
+ * not reached yet, so moving a counter costs one comparison unless it crosses a
+ * threshold. Collections are bitsets by enum ordinal and complete when every bit is set.
+ * Unlocks wait in a queue until {@link #takeUnlocked()}, which is when the game grants
+ * their rewards; only then do they count as unlocked (and get saved), so a crash in
+ * between unlocks them again on the next load.
+ */
+public class AchievementManager {
+
+    private static final String SAVE_DIR = com.hamster.model.GameConstants.SAVE_DIR;
+    private static final String RECORD = "achievements";
+    // Read once to migrate into the profile
+    private static final String ACH_FILE = SAVE_DIR + "achievements.properties";
+
+    /** Counted progress. The first four mirror {@link com.hamster.model.GameStatistics} and are not saved here. */
+    public enum Counter {
+        HAMSTERS_RAISED(null),
+        MAX_GENERATION(null),
+        COINS_EARNED(null),
+        LONGEST_LIFESPAN(null),
+        POOPS_CLEANED("totalPoopsCleaned"),
+        EVENTS("totalEventsTriggered"),
+        BREEDS("totalBreeds"),
+        PLAYS("totalPlays"),
+        INTERACTIONS("totalInteractions");
+
+        final String key; // property in the record, null if not saved
+
+        Counter(String key) {
+            this.key = key;
+        }
+    }
+
+    private static final int COUNTERS = Counter.values().length;
+    // Per counter, ascending, with the achievement each threshold unlocks
+    private static final long[][] THRESHOLDS = new long[COUNTERS][];
+    private static final Achievement[][] TARGETS = new Achievement[COUNTERS][];
+
+    static {
+        Object[][] goals = {
+                { Counter.HAMSTERS_RAISED, 1L, Achievement.FIRST_HAMSTER },
+                { Counter.HAMSTERS_RAISED, 5L, Achievement.FIVE_HAMSTERS },
+                { Counter.HAMSTERS_RAISED, 10L, Achievement.TEN_HAMSTERS },
+                { Counter.HAMSTERS_RAISED, 50L, Achievement.FIFTY_HAMSTERS },
+                { Counter.MAX_GENERATION, 3L, Achievement.THREE_GENERATIONS },
+                { Counter.MAX_GENERATION, 10L, Achievement.TEN_GENERATIONS },
+                { Counter.MAX_GENERATION, 50L, Achievement.FIFTY_GENERATIONS },
+                { Counter.COINS_EARNED, 500L, Achievement.FIVE_HUNDRED_COINS },
+                { Counter.COINS_EARNED, 5000L, Achievement.FIVE_THOUSAND_COINS },
+                { Counter.COINS_EARNED, 50000L, Achievement.FIFTY_THOUSAND_COINS },
+                { Counter.LONGEST_LIFESPAN, 30L, Achievement.SURVIVE_30 },
+                { Counter.LONGEST_LIFESPAN, 50L, Achievement.SURVIVE_50 },
+                { Counter.LONGEST_LIFESPAN, 100L, Achievement.SURVIVE_100 },
+                { Counter.POOPS_CLEANED, 50L, Achievement.POOP_50 },
+                { Counter.POOPS_CLEANED, 200L, Achievement.POOP_200 },
+                { Counter.POOPS_CLEANED, 1000L, Achievement.POOP_1000 },
+                { Counter.EVENTS, 20L, Achievement.EVENT_20 },
+                { Counter.EVENTS, 100L, Achievement.EVENT_100 },
+                { Counter.EVENTS, 500L, Achievement.EVENT_500 },
+                { Counter.BREEDS, 5L, Achievement.BREED_5 },
+                { Counter.BREEDS, 20L, Achievement.BREED_20 },
+                { Counter.BREEDS, 100L, Achievement.BREED_100 },
+                { Counter.PLAYS, 100L, Achievement.PLAY_100 },
+                { Counter.PLAYS, 500L, Achievement.PLAY_500 },
+                { Counter.INTERACTIONS, 50L, Achievement.INTERACTION_50 },
+                { Counter.INTERACTIONS, 200L, Achievement.INTERACTION_200 },
+        };
+        Arrays.sort(goals, Comparator.comparingLong(g -> (Long) g[1]));
+        for (Counter c : Counter.values()) {
+            List<Object[]> own = new ArrayList<>();
+            for (Object[] g : goals) {
+                if (g[0] == c) own.add(g);
+            }
+            THRESHOLDS[c.ordinal()] = new long[own.size()];
+            TARGETS[c.ordinal()] = new Achievement[own.size()];
+            for (int i = 0; i < own.size(); i++) {
+                THRESHOLDS[c.ordinal()][i] = (Long) own.get(i)[1];
+                TARGETS[c.ordinal()][i] = (Achievement) own.get(i)[2];
+            }
+        }
+    }
+
+    private final Set<String> unlocked = new HashSet<>();
+    private final Set<Achievement> queued = EnumSet.noneOf(Achievement.class);
+
+    private final long[] counts = new long[COUNTERS];
+    private final int[] next = new int[COUNTERS]; // first threshold not reached, per counter
+    private boolean maxStatReached = false;
+
+    // Collections, by enum ordinal
+    private final BitSet colorsSeen = new BitSet();
+    private final BitSet foodsTried = new BitSet();
+    private final BitSet personalitiesSeen = new BitSet();
+    private final BitSet accessoriesBought = new BitSet();
+
+    // Bumped by every change to something saved in the record
+    private int version = 0;
+    // The version the last acknowledged commit carried; written on the save thread
+    private volatile int savedVersion = 0;
+
+    public boolean isUnlocked(Achievement ach) {
+        return unlocked.contains(ach.name());
+    }
+
+    public int getUnlockedCount() {
+        return unlocked.size();
+    }
+
+    /** Count {@code amount} more of a saved counter. */
+    public void add(Counter c, int amount) {
+        if (amount <= 0) return;
+        counts[c.ordinal()] += amount;
+        version++;
+        advance(c.ordinal());
+    }
+
+    /** Raise a counter kept elsewhere to {@code value}; lower values are ignored. */
+    public void reach(Counter c, long value) {
+        int i = c.ordinal();
+        if (value <= counts[i]) return;
+        counts[i] = value;
+        if (c.key != null) version++;
+        advance(i);
+    }
+
+    public void reachMaxStat() {
+        if (maxStatReached) return;
+        maxStatReached = true;
+        version++;
+        queue(Achievement.MAX_STAT);
+    }
+
+    /** @param hour current local hour (0~23) from the game clock */
+    public void playAt(int hour) {
+        if (hour == 0) queue(Achievement.MIDNIGHT);
+        if (hour == 6) queue(Achievement.EARLY_BIRD);
+    }
+
+    public void seeColor(HamsterColor color) {
+        if (collect(colorsSeen, color.ordinal()) && colorsSeen.cardinality() == HamsterColor.values().length) {
+            queue(Achievement.ALL_COLORS);
+        }
+    }
+
+    public void seePersonality(Personality personality) {
+        if (collect(personalitiesSeen, personality.ordinal())
+                && personalitiesSeen.cardinality() == Personality.values().length) {
+            queue(Achievement.ALL_PERSONALITIES);
+        }
+    }
+
+    public void tryFood(FoodItem food) {
+        if (collect(foodsTried, food.ordinal()) && foodsTried.cardinality() == FoodItem.values().length) {
+            queue(Achievement.ALL_FOODS);
+        }
+    }
+
+    /** Record an accessory bought in the shop, by {@link Accessory} name. */
+    public void buyAccessory(String name) {
+        Accessory acc = find(Accessory.class, name);
+        if (acc == null || !collect(accessoriesBought, acc.ordinal())) return;
+        queue(Achievement.FIRST_ACCESSORY);
+        if (accessoriesBought.cardinality() == Accessory.values().length) {
+            queue(Achievement.ALL_ACCESSORIES);
+        }
+    }
+
+    /** Names of the accessories bought so far; every hamster owns these. */
+    public Set<String> getAccessoriesBought() {
+        Set<String> names = new HashSet<>();
+        Accessory[] all = Accessory.values();
+        for (int i = accessoriesBought.nextSetBit(0); i >= 0; i = accessoriesBought.nextSetBit(i + 1)) {
+            names.add(all[i].name());
+        }
+        return names;
+    }
+
+    public boolean hasUnlocked() {
+        return !queued.isEmpty();
+    }
+
+    /**
+     * Achievements reached since the last call, now marked unlocked. The caller grants
+     * the rewards.
+     */
+    public List<Achievement> takeUnlocked() {
+        if (queued.isEmpty()) return Collections.emptyList();
+        List<Achievement> list = new ArrayList<>(queued);
+        queued.clear();
+        for (Achievement ach : list) {
+            unlocked.add(ach.name());
+        }
+        version++;
+        return list;
+    }
+
+    // Unlock everything up to the counter's value; thresholds are sorted, so this stops
+    // at the first one not reached
+    private void advance(int c) {
+        long[] t = THRESHOLDS[c];
+        int i = next[c];
+        while (i < t.length && counts[c] >= t[i]) {
+            queue(TARGETS[c][i]);
+            i++;
+        }
+        next[c] = i;
+    }
+
+    private void queue(Achievement ach) {
+        if (!unlocked.contains(ach.name())) queued.add(ach);
+    }
+
+    private boolean collect(BitSet bits, int index) {
+        if (bits.get(index)) return false;
+        bits.set(index);
+        version++;
+        return true;
+    }
+
+    /**
+     * Stage the profile record if anything saved in it changed since the last
+     * acknowledged write. The changes count as saved only once {@link #acknowledge} sees
+     * them on disk, so a save job that is dropped or fails stages them again next time.
+     *
+     * @return the version staged, to pass to {@link #acknowledge}, or -1 if nothing changed
+     */
+    public int stageChanges() {
+        if (version == savedVersion) return -1;
+        save();
+        return version;
+    }
+
+    /**
+     * After a commit: mark {@code staged} (from {@link #stageChanges}) saved if the record
+     * on disk is the newest one. Safe from the save thread.
+     */
+    public void acknowledge(int staged) {
+        if (staged >= 0 && ProfileStore.shared().isCommitted(RECORD)) savedVersion = staged;
+    }
+
+    /** Stage the profile record; it is committed with the next auto-save. */
+    public void save() {
+        Properties props = new Properties();
+        props.setProperty("unlocked", join(unlocked));
+        for (Counter c : Counter.values()) {
+            if (c.key != null) props.setProperty(c.key, String.valueOf(counts[c.ordinal()]));
+        }
+        props.setProperty("maxStatReached", String.valueOf(maxStatReached));
+        props.setProperty("colorsSeen", join(colorsSeen, HamsterColor.values()));
+        props.setProperty("foodsTried", join(foodsTried, FoodItem.values()));
+        props.setProperty("personalitiesSeen", join(personalitiesSeen, Personality.values()));
+        props.setProperty("accessoriesBought", join(accessoriesBought, Accessory.values()));
+
+        ProfileStore.shared().putProperties(RECORD, props);
+    }
+
+    public static AchievementManager load() {
+        AchievementManager mgr = new AchievementManager();
+        Properties props = ProfileStore.shared().getProperties(RECORD, new File(ACH_FILE));
+        if (props == null) return mgr;
+
+        split(props.getProperty("unlocked", ""), mgr.unlocked);
+        for (Counter c : Counter.values()) {
+            if (c.key != null) mgr.counts[c.ordinal()] = Long.parseLong(props.getProperty(c.key, "0"));
+        }
+        mgr.maxStatReached = Boolean.parseBoolean(props.getProperty("maxStatReached", "false"));
+        split(props.getProperty("colorsSeen", ""), HamsterColor.class, mgr.colorsSeen);
+        split(props.getProperty("foodsTried", ""), FoodItem.class, mgr.foodsTried);
+        split(props.getProperty("personalitiesSeen", ""), Personality.class, mgr.personalitiesSeen);
+        split(props.getProperty("accessoriesBought", ""), Accessory.class, mgr.accessoriesBought);
+
+        // Queue what older builds reached but had not checked yet
+        for (int c = 0; c < COUNTERS; c++) {
+            mgr.advance(c);
+        }
+        if (mgr.maxStatReached) mgr.queue(Achievement.MAX_STAT);
+        if (mgr.colorsSeen.cardinality() == HamsterColor.values().length) mgr.queue(Achievement.ALL_COLORS);
+        if (mgr.foodsTried.cardinality() == FoodItem.values().length) mgr.queue(Achievement.ALL_FOODS);
+        if (mgr.personalitiesSeen.cardinality() == Personality.values().length) {
+            mgr.queue(Achievement.ALL_PERSONALITIES);
+        }
+        if (!mgr.accessoriesBought.isEmpty()) mgr.queue(Achievement.FIRST_ACCESSORY);
+        if (mgr.accessoriesBought.cardinality() == Accessory.values().length) mgr.queue(Achievement.ALL_ACCESSORIES);
+        return mgr;
+    }
+
+    private static String join(Set<String> set) {
+        StringBuilder sb = new StringBuilder();
+        for (String s : set) {
+            if (sb.length() > 0) sb.append(",");
+            sb.append(s);
+        }
+        return sb.toString();
+    }
+
+    private static String join(BitSet bits, Enum<?>[] values) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            if (sb.length() > 0) sb.append(",");
+            sb.append(values[i].name());
+        }
+        return sb.toString();
+    }
+
+    private static void split(String str, Set<String> set) {
+        if (str == null || str.isEmpty()) return;
+        String[] parts = str.split(",");
+        for (String part : parts) {
+            String trimmed = part.trim();
+            if (!trimmed.isEmpty()) set.add(trimmed);
+        }
+    }
+
+    private static <E extends Enum<E>> void split(String str, Class<E> type, BitSet bits) {
+        Set<String> names = new HashSet<>();
+        split(str, names);
+        for (String name : names) {
+            E e = find(type, name);
+            if (e != null) bits.set(e.ordinal());
+        }
+    }
+
+    // Null for names this build does not know
+    private static <E extends Enum<E>> E find(Class<E> type, String name) {
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
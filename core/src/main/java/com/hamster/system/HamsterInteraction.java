@@ -1,9 +1,7 @@
 package com.hamster.system;
 import com.hamster.model.Hamster;
-import com.hamster.ui.HamsterWindow;
 
-import java.awt.*;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 public class HamsterInteraction {
 
@@ -35,14 +33,13 @@ public class HamsterInteraction {
         public int getEnergyEffect() { return energyEffect; }
     }
 
-    private static final int CLOSE_DISTANCE = 150;
+    /** Hamsters closer than this (feet to feet) can interact */
+    public static final int CLOSE_DISTANCE = 150;
 
-    public static boolean areClose(HamsterWindow a, HamsterWindow b) {
-        Point pa = a.getHamsterScreenPosition();
-        Point pb = b.getHamsterScreenPosition();
-        int dx = pa.x - pb.x;
-        int dy = pa.y - pb.y;
-        return Math.sqrt(dx * dx + dy * dy) < CLOSE_DISTANCE;
+    public static boolean areClose(Hamster a, Hamster b) {
+        int dx = a.getX() - b.getX();
+        int dy = a.getY() - b.getY();
+        return dx * dx + dy * dy < CLOSE_DISTANCE * CLOSE_DISTANCE;
     }
 
     public static String interact(Hamster a, Hamster b, Type type) {
@@ -75,7 +72,7 @@ public class HamsterInteraction {
         return sb.toString().trim();
     }
 
-    public static Type pickRandom(Random rng) {
+    public static Type pickRandom(SplittableRandom rng) {
         int totalWeight = 0;
         for (Type t : Type.values()) {
             totalWeight += t.weight;
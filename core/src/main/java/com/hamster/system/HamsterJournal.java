@@ -0,0 +1,190 @@
+package com.hamster.system;
+import com.hamster.model.Hamster;
+
+import java.io.File;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Properties;
+import java.util.RandomAccess;
+
+public class HamsterJournal {
+
+    private static final String SAVE_DIR = com.hamster.model.GameConstants.SAVE_DIR;
+    // Where older builds kept the journal; read once to migrate into the log
+    private static final String RECORD = "journal";
+    private static final String JOURNAL_FILE = SAVE_DIR + "journal.properties";
+
+    public static class JournalEntry {
+        public final String name;
+        public final String color;
+        public final String personality;
+        public final int generation;
+        public final int lifespanDays;
+        public final String causeOfDeath;
+        public final long timestamp;
+
+        public JournalEntry(String name, String color, String personality,
+                            int generation, int lifespanDays, String causeOfDeath, long timestamp) {
+            this.name = name;
+            this.color = color;
+            this.personality = personality;
+            this.generation = generation;
+            this.lifespanDays = lifespanDays;
+            this.causeOfDeath = causeOfDeath;
+            this.timestamp = timestamp;
+        }
+    }
+
+    private static HamsterJournal shared;
+
+    private final JournalLog log;
+    private JournalIndex index; // built on the first query
+
+    /** A journal kept in memory only. */
+    public HamsterJournal() {
+        this(new JournalLog(null));
+    }
+
+    private HamsterJournal(JournalLog log) {
+        this.log = log;
+    }
+
+    public synchronized void addEntry(Hamster hamster, String causeOfDeath) {
+        String personalityName = hamster.getPersonality() != null
+                ? hamster.getPersonality().getDisplayName() : "\uBBF8\uC0C1";
+        JournalEntry entry = new JournalEntry(
+                hamster.getName(),
+                hamster.getColor().getDisplayName(),
+                personalityName,
+                hamster.getGeneration(),
+                hamster.getAgeDays(),
+                causeOfDeath,
+                System.currentTimeMillis()
+        );
+        log.append(entry);
+        if (index != null) index.add(entry);
+    }
+
+    /**
+     * Every entry, newest first. The list is a view: entries are read from disk as they
+     * are asked for, so walk it with {@link #getEntries(int, int)} pages where possible.
+     */
+    public List<JournalEntry> getEntries() {
+        return new EntryList();
+    }
+
+    /** Up to {@code limit} entries starting {@code offset} from the newest. */
+    public List<JournalEntry> getEntries(int offset, int limit) {
+        return log.page(offset, limit);
+    }
+
+    public int getEntryCount() {
+        return log.size();
+    }
+
+    /**
+     * Entries matching {@code q} in its order, as a view that reads entries as they are
+     * asked for. The first query reads the whole journal once to build the indices.
+     */
+    public synchronized List<JournalEntry> query(JournalQuery q) {
+        return new ResultList(index().query(q));
+    }
+
+    /** The values recorded for {@code field}, most common first. */
+    public synchronized List<String> distinctValues(JournalQuery.Field field) {
+        return index().distinctValues(field);
+    }
+
+    private JournalIndex index() {
+        if (index == null) {
+            long start = System.nanoTime();
+            index = new JournalIndex();
+            for (int p = 0, n = log.size(); p < n; p++) {
+                index.add(log.getAt(p));
+            }
+            GameLogger.debug(String.format("Journal index: %d entries in %.1f ms", index.size(),
+                    (System.nanoTime() - start) / 1e6));
+        }
+        return index;
+    }
+
+    /** Write the entries added since the last save; safe from the save thread. */
+    public void save() {
+        log.flush();
+    }
+
+    /**
+     * The journal in the save directory. It is opened once and shared, since all writes
+     * must go through one log.
+     */
+    public static synchronized HamsterJournal load() {
+        if (shared != null) return shared;
+        shared = new HamsterJournal(new JournalLog(new File(SAVE_DIR + "journal")));
+        shared.migrate();
+        return shared;
+    }
+
+    // Move a journal of an older build (profile record or .properties) into the log
+    private void migrate() {
+        ProfileStore profile = ProfileStore.shared();
+        if (log.size() > 0) {
+            // A migration that stopped before the record was dropped
+            if (profile.get(RECORD) != null) {
+                profile.remove(RECORD);
+                profile.requestCommit();
+            }
+            return;
+        }
+        Properties props = profile.getProperties(RECORD, new File(JOURNAL_FILE));
+        if (props == null) return;
+
+        int count = Integer.parseInt(props.getProperty("count", "0"));
+        // Stored newest first
+        for (int i = count - 1; i >= 0; i--) {
+            String prefix = "entry." + i + ".";
+            log.append(new JournalEntry(
+                    props.getProperty(prefix + "name", "\uD584\uC2A4\uD130"),
+                    props.getProperty(prefix + "color", "\uAC08\uC0C9"),
+                    props.getProperty(prefix + "personality", "\uBBF8\uC0C1"),
+                    Integer.parseInt(props.getProperty(prefix + "generation", "1")),
+                    Integer.parseInt(props.getProperty(prefix + "lifespanDays", "0")),
+                    props.getProperty(prefix + "causeOfDeath", "\uBBF8\uC0C1"),
+                    Long.parseLong(props.getProperty(prefix + "timestamp", "0"))
+            ));
+        }
+        log.flush();
+        GameLogger.info("Moved " + count + " journal entries into the journal log");
+        profile.remove(RECORD);
+        profile.requestCommit();
+    }
+
+    private final class EntryList extends AbstractList<JournalEntry> implements RandomAccess {
+        @Override
+        public JournalEntry get(int index) {
+            return log.get(index);
+        }
+
+        @Override
+        public int size() {
+            return log.size();
+        }
+    }
+
+    private final class ResultList extends AbstractList<JournalEntry> implements RandomAccess {
+        private final int[] pos;
+
+        ResultList(int[] pos) {
+            this.pos = pos;
+        }
+
+        @Override
+        public JournalEntry get(int index) {
+            return log.getAt(pos[index]);
+        }
+
+        @Override
+        public int size() {
+            return pos.length;
+        }
+    }
+}
@@ -2,7 +2,7 @@ package com.hamster.system;
 
 import com.hamster.model.*;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Manages hamster creation, meta value application, and lifespan calculation.
@@ -11,9 +11,9 @@ import java.util.Random;
 public class HamsterManager {
 
     private final MetaProgress metaProgress;
-    private final Random random;
+    private final SplittableRandom random; // breeding stream
 
-    public HamsterManager(MetaProgress metaProgress, Random random) {
+    public HamsterManager(MetaProgress metaProgress, SplittableRandom random) {
         this.metaProgress = metaProgress;
         this.random = random;
     }
@@ -32,7 +32,7 @@ public class HamsterManager {
      */
     public Hamster createHamster(int screenWidth, HamsterColor color, String name) {
         int lifespanFrames = calculateLifespan();
-        Hamster h = new Hamster(screenWidth, 10, color, lifespanFrames);
+        Hamster h = new Hamster(screenWidth, 10, color, lifespanFrames, random);
         h.setName(name);
         applyMetaValues(h);
         applyStartingStats(h);
@@ -60,6 +60,56 @@ public class HamsterManager {
         return baby;
     }
 
+    /**
+     * Rebuild a hamster from saved data. The feet position is derived from the saved window corner.
+     * @param now the saved totalFrames, which buff expiry ticks are measured against
+     */
+    public Hamster restoreHamster(GameState.HamsterData hd, long now) {
+        Hamster h = new Hamster(0, 0, hd.color, hd.lifespanFrames, random);
+        h.setName(hd.name);
+        h.setHunger(hd.hunger);
+        h.setHappiness(hd.happiness);
+        h.setEnergy(hd.energy);
+        h.setPoopTimer(hd.poopTimer);
+        h.setAgeFrames(hd.ageFrames);
+        // Restore roguelike data
+        h.setGeneration(hd.generation);
+        h.setLegacyHungerBonus(hd.legacyHungerBonus);
+        h.setLegacyHappinessBonus(hd.legacyHappinessBonus);
+        h.setLegacyEnergyBonus(hd.legacyEnergyBonus);
+        h.setLegacyLifespanBonus(hd.legacyLifespanBonus);
+        h.setLegacyMaxStatBonus(hd.legacyMaxStatBonus);
+        h.setMaxHunger(hd.maxHunger);
+        h.setMaxHappiness(hd.maxHappiness);
+        h.setMaxEnergy(hd.maxEnergy);
+        // Apply meta values
+        applyMetaValues(h);
+        // After the meta values: the cooldown runs down at the aging speed
+        h.setBreedCooldownFrames(hd.breedCooldownFrames);
+        for (GameState.BuffData bd : hd.buffs) {
+            h.restoreBuff(new Buff(bd.type, bd.multiplier, 0, bd.description),
+                    (int) Math.min(Integer.MAX_VALUE, bd.expiresAtTick - now));
+        }
+        // 2.0: personality
+        try {
+            h.setPersonality(Personality.valueOf(hd.personality));
+        } catch (Exception e) {
+            h.setPersonality(Personality.CHEERFUL);
+        }
+        // 2.0: accessories
+        for (String accName : hd.ownedAccessories) {
+            h.getOwnedAccessories().add(accName);
+        }
+        for (String accName : hd.equippedAccessories) {
+            try {
+                h.equipAccessory(Accessory.valueOf(accName));
+            } catch (Exception ignored) {}
+        }
+        h.setPosition(hd.windowX + GameConstants.HAMSTER_WINDOW_WIDTH / 2,
+                hd.windowY + GameConstants.HAMSTER_WINDOW_HEIGHT);
+        return h;
+    }
+
     /**
      * Apply pending legacy bonuses to a hamster.
      */
@@ -78,11 +128,11 @@ public class HamsterManager {
      * Register a hamster with the achievement manager (color, personality, accessories).
      */
     public void registerWithAchievements(Hamster h, AchievementManager achMgr) {
-        achMgr.colorsSeen.add(h.getColor().name());
+        achMgr.seeColor(h.getColor());
         if (h.getPersonality() != null) {
-            achMgr.personalitiesSeen.add(h.getPersonality().name());
+            achMgr.seePersonality(h.getPersonality());
         }
-        for (String accName : achMgr.accessoriesBought) {
+        for (String accName : achMgr.getAccessoriesBought()) {
             h.getOwnedAccessories().add(accName);
         }
     }
@@ -121,14 +171,4 @@ public class HamsterManager {
         if (h.getEnergy() <= 0) return "\uCCB4\uB825 \uBD80\uC871";
         return "\uAC8C\uC784 \uD3EC\uAE30";
     }
-
-    /**
-     * Compute the ground Y position for hamster placement.
-     */
-    public int getGroundY(java.awt.Dimension screenSize) {
-        java.awt.Insets insets = java.awt.Toolkit.getDefaultToolkit().getScreenInsets(
-                java.awt.GraphicsEnvironment.getLocalGraphicsEnvironment()
-                        .getDefaultScreenDevice().getDefaultConfiguration());
-        return screenSize.height - insets.bottom - 100;
-    }
 }
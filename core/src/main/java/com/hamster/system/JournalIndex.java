@@ -0,0 +1,207 @@
+package com.hamster.system;
+
+import com.hamster.system.HamsterJournal.JournalEntry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * In-memory secondary indices over the journal, by position (0 = oldest).
+ *
+ * The filterable attributes are kept as columns, so checking an entry never touches the
+ * log. Colour, personality and cause of death have a posting list per value; generation
+ * and lifespan have one per number, sorted, for range lookups. A query starts from the
+ * shortest list any of its filters selects and checks the remaining filters against the
+ * columns. Built from the log in one pass on first use and kept up to date on append.
+ */
+final class JournalIndex {
+
+    /** Positions in ascending order. */
+    private static final class Postings {
+        int[] pos = new int[8];
+        int size;
+
+        void add(int p) {
+            if (size == pos.length) pos = Arrays.copyOf(pos, size * 2);
+            pos[size++] = p;
+        }
+    }
+
+    private static final int FIELDS = JournalQuery.Field.values().length;
+
+    // Strings of all fields share one numbering
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+
+    private int size;
+    private int[][] columns = new int[FIELDS][64];
+    private int[] generation = new int[64];
+    private int[] lifespan = new int[64];
+
+    private final List<Map<Integer, Postings>> byValue = new ArrayList<>();
+    private final TreeMap<Integer, Postings> byGeneration = new TreeMap<>();
+    private final TreeMap<Integer, Postings> byLifespan = new TreeMap<>();
+
+    JournalIndex() {
+        for (int f = 0; f < FIELDS; f++) {
+            byValue.add(new HashMap<>());
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /** Index the entry at the next position. */
+    void add(JournalEntry e) {
+        if (size == generation.length) {
+            int n = size * 2;
+            for (int f = 0; f < FIELDS; f++) {
+                columns[f] = Arrays.copyOf(columns[f], n);
+            }
+            generation = Arrays.copyOf(generation, n);
+            lifespan = Arrays.copyOf(lifespan, n);
+        }
+        int p = size++;
+        String[] values = { e.color, e.personality, e.causeOfDeath };
+        for (int f = 0; f < FIELDS; f++) {
+            int id = id(values[f]);
+            columns[f][p] = id;
+            byValue.get(f).computeIfAbsent(id, k -> new Postings()).add(p);
+        }
+        generation[p] = e.generation;
+        lifespan[p] = e.lifespanDays;
+        byGeneration.computeIfAbsent(e.generation, k -> new Postings()).add(p);
+        byLifespan.computeIfAbsent(e.lifespanDays, k -> new Postings()).add(p);
+    }
+
+    /** Values of {@code field}, most common first. */
+    List<String> distinctValues(JournalQuery.Field field) {
+        Map<Integer, Postings> lists = byValue.get(field.ordinal());
+        List<Integer> keys = new ArrayList<>(lists.keySet());
+        keys.sort((a, b) -> lists.get(b).size != lists.get(a).size
+                ? Integer.compare(lists.get(b).size, lists.get(a).size)
+                : names.get(a).compareTo(names.get(b)));
+        List<String> out = new ArrayList<>(keys.size());
+        for (int id : keys) {
+            out.add(names.get(id));
+        }
+        return out;
+    }
+
+    /** Positions matching {@code q}, in its order. */
+    int[] query(JournalQuery q) {
+        int[] want = new int[FIELDS];
+        int[] candidates = null;
+        int candidateCount = size;
+        for (JournalQuery.Field f : JournalQuery.Field.values()) {
+            String value = q.value(f);
+            want[f.ordinal()] = -1;
+            if (value == null) continue;
+            Integer id = ids.get(value);
+            Postings list = id != null ? byValue.get(f.ordinal()).get(id) : null;
+            if (list == null) return new int[0];
+            want[f.ordinal()] = id;
+            if (list.size < candidateCount) {
+                candidates = list.pos;
+                candidateCount = list.size;
+            }
+        }
+        boolean genFilter = q.minGeneration > 0 || q.maxGeneration < Integer.MAX_VALUE;
+        boolean lifeFilter = q.minLifespanDays > 0 || q.maxLifespanDays < Integer.MAX_VALUE;
+        if (q.minGeneration > q.maxGeneration || q.minLifespanDays > q.maxLifespanDays) return new int[0];
+        if (genFilter) {
+            int[] range = union(byGeneration.subMap(q.minGeneration, true, q.maxGeneration, true), candidateCount);
+            if (range != null) {
+                candidates = range;
+                candidateCount = range.length;
+            }
+        }
+        if (lifeFilter) {
+            int[] range = union(byLifespan.subMap(q.minLifespanDays, true, q.maxLifespanDays, true), candidateCount);
+            if (range != null) {
+                candidates = range;
+                candidateCount = range.length;
+            }
+        }
+
+        int[] out = new int[candidateCount];
+        int n = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            int p = candidates != null ? candidates[i] : i;
+            if (matches(p, want, q)) out[n++] = p;
+        }
+        return sort(Arrays.copyOf(out, n), q.sort);
+    }
+
+    private boolean matches(int p, int[] want, JournalQuery q) {
+        for (int f = 0; f < FIELDS; f++) {
+            if (want[f] >= 0 && columns[f][p] != want[f]) return false;
+        }
+        return generation[p] >= q.minGeneration && generation[p] <= q.maxGeneration
+                && lifespan[p] >= q.minLifespanDays && lifespan[p] <= q.maxLifespanDays;
+    }
+
+    // All positions in the lists, or null if there are not fewer than limit
+    private static int[] union(NavigableMap<Integer, Postings> lists, int limit) {
+        int n = 0;
+        for (Postings list : lists.values()) {
+            n += list.size;
+            if (n >= limit) return null;
+        }
+        int[] out = new int[n];
+        int i = 0;
+        for (Postings list : lists.values()) {
+            System.arraycopy(list.pos, 0, out, i, list.size);
+            i += list.size;
+        }
+        return out;
+    }
+
+    private int[] sort(int[] pos, JournalQuery.Sort sort) {
+        int[] key;
+        switch (sort) {
+            case LONGEST_LIVED: key = lifespan; break;
+            case HIGHEST_GENERATION: key = generation; break;
+            default: key = null;
+        }
+        if (key == null) {
+            Arrays.sort(pos);
+            if (sort == JournalQuery.Sort.NEWEST) reverse(pos);
+            return pos;
+        }
+        // Sort key in the high half, position in the low half: ties go newest first
+        long[] packed = new long[pos.length];
+        for (int i = 0; i < pos.length; i++) {
+            packed[i] = ((long) key[pos[i]] << 32) | pos[i];
+        }
+        Arrays.sort(packed);
+        for (int i = 0; i < pos.length; i++) {
+            pos[pos.length - 1 - i] = (int) packed[i];
+        }
+        return pos;
+    }
+
+    private static void reverse(int[] a) {
+        for (int i = 0, j = a.length - 1; i < j; i++, j--) {
+            int t = a[i];
+            a[i] = a[j];
+            a[j] = t;
+        }
+    }
+
+    private int id(String s) {
+        Integer id = ids.get(s);
+        if (id == null) {
+            id = names.size();
+            names.add(s);
+            ids.put(s, id);
+        }
+        return id;
+    }
+}
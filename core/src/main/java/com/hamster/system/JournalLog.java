@@ -0,0 +1,545 @@
+package com.hamster.system;
+
+import com.hamster.system.HamsterJournal.JournalEntry;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Storage behind {@link HamsterJournal}: an append-only log of deaths split into segments
+ * of {@link #SEGMENT_ENTRIES} entries.
+ *
+ * A segment is a header (magic, version, flags, first position) followed by records of
+ * [length][CRC32C][payload]. Colours, personalities and causes of death repeat endlessly,
+ * so each distinct string is written once per segment as a dictionary record and entries
+ * refer to it by number; a segment decodes on its own. Full segments are sealed: their
+ * entry count, dictionary and the file offset of every {@link #STRIDE}th entry go into a
+ * small index file. Startup reads that index and only scans the newest segment, so old
+ * segments are never opened unless someone reads that far back; a read then fetches one
+ * block of {@code STRIDE} entries from the offset index and keeps a few blocks cached.
+ *
+ * Appends only add to memory; {@link #flush()} writes them out with one sync, on the save
+ * thread. Reads are from any thread. A log without a directory stays in memory.
+ */
+final class JournalLog {
+
+    /** "HMJS" */
+    private static final int SEGMENT_MAGIC = 0x484D4A53;
+    /** "HMJI" */
+    private static final int INDEX_MAGIC = 0x484D4A49;
+    private static final int VERSION = 1;
+    private static final int SEGMENT_HEADER_SIZE = 16;
+    private static final int FRAME_OVERHEAD = 8;
+    private static final String INDEX_FILE = "index.dat";
+
+    static final int SEGMENT_ENTRIES = 1024;
+    static final int STRIDE = 32;
+    private static final int CACHED_BLOCKS = 32;
+
+    private static final int REC_DICT = 1;
+    private static final int REC_ENTRY = 2;
+
+    private static final JournalEntry UNREADABLE = new JournalEntry("\uBBF8\uC0C1", "\uBBF8\uC0C1",
+            "\uBBF8\uC0C1", 1, 0, "\uBBF8\uC0C1", 0);
+
+    /** A segment file, sealed or active. */
+    private static final class Segment {
+        final File file;
+        long start;      // position of its first entry in the whole journal
+        int count;
+        long end;        // bytes of valid data
+        long[] blocks;   // offset of entry k * STRIDE
+        String[] dict;
+
+        Segment(File file) {
+            this.file = file;
+        }
+    }
+
+    private final File dir;
+
+    // Guarded by this
+    private final List<Segment> sealed = new ArrayList<>();
+    private final List<JournalEntry> recent = new ArrayList<>(); // from activeStart, oldest first
+    private long activeStart;
+    private int flushed; // entries of recent already on disk
+    private final Map<Long, JournalEntry[]> blockCache =
+            new LinkedHashMap<Long, JournalEntry[]>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, JournalEntry[]> eldest) {
+                    return size() > CACHED_BLOCKS;
+                }
+            };
+
+    // Active segment, guarded by ioLock
+    private final Object ioLock = new Object();
+    private Segment active;
+    private FileChannel ch;
+    private final Map<String, Integer> dictIds = new HashMap<>();
+    private final List<String> dict = new ArrayList<>();
+    private final List<Long> blocks = new ArrayList<>();
+    private boolean recover;
+
+    /** @param dir segment directory, or null for a journal kept in memory */
+    JournalLog(File dir) {
+        this.dir = dir;
+        if (dir == null) return;
+        synchronized (ioLock) {
+            try {
+                open();
+            } catch (IOException e) {
+                GameLogger.error("Failed to open journal: " + dir, e);
+                recover = true;
+            }
+        }
+    }
+
+    // ===================== Reads =====================
+
+    synchronized int size() {
+        return (int) (activeStart + recent.size());
+    }
+
+    /** Entry {@code index}, counting from the newest (0). */
+    synchronized JournalEntry get(int index) {
+        if (index < 0) throw new IndexOutOfBoundsException("Journal entry " + index);
+        return getAt(size() - 1 - index);
+    }
+
+    /** Entry number {@code pos}, counting from the oldest (0). */
+    synchronized JournalEntry getAt(long pos) {
+        if (pos < 0 || pos >= size()) throw new IndexOutOfBoundsException("Journal position " + pos);
+        if (pos >= activeStart) return recent.get((int) (pos - activeStart));
+
+        // Last sealed segment starting at or before pos
+        int lo = 0, hi = sealed.size() - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (sealed.get(mid).start <= pos) lo = mid;
+            else hi = mid - 1;
+        }
+        Segment s = sealed.get(lo);
+        int local = (int) (pos - s.start);
+        int block = local / STRIDE;
+        Long key = (s.start << 20) | block;
+        JournalEntry[] entries = blockCache.get(key);
+        if (entries == null) {
+            try {
+                entries = readBlock(s, block);
+            } catch (IOException e) {
+                GameLogger.error("Failed to read journal segment " + s.file.getName(), e);
+                return UNREADABLE;
+            }
+            blockCache.put(key, entries);
+        }
+        int i = local - block * STRIDE;
+        return i < entries.length ? entries[i] : UNREADABLE;
+    }
+
+    /** Up to {@code limit} entries from {@code offset}, newest first. */
+    synchronized List<JournalEntry> page(int offset, int limit) {
+        int end = Math.min(size(), offset + limit);
+        List<JournalEntry> page = new ArrayList<>(Math.max(0, end - offset));
+        for (int i = Math.max(0, offset); i < end; i++) {
+            page.add(get(i));
+        }
+        return page;
+    }
+
+    private JournalEntry[] readBlock(Segment s, int block) throws IOException {
+        long from = s.blocks[block];
+        long to = block + 1 < s.blocks.length ? s.blocks[block + 1] : s.end;
+        ByteBuffer buf = ByteBuffer.allocate((int) (to - from));
+        try (FileChannel in = FileChannel.open(s.file.toPath(), StandardOpenOption.READ)) {
+            while (buf.hasRemaining()) {
+                if (in.read(buf, from + buf.position()) < 0) throw new IOException("Segment truncated");
+            }
+        }
+        List<JournalEntry> out = new ArrayList<>(STRIDE);
+        byte[] data = buf.array();
+        int p = 0;
+        while (p < data.length && out.size() < STRIDE) {
+            SaveReader rec = frame(data, p, data.length);
+            if (rec == null) throw new IOException("Damaged record at " + (from + p));
+            p += FRAME_OVERHEAD + rec.remaining();
+            if (rec.readVarInt() == REC_ENTRY) out.add(readEntry(rec, s.dict));
+        }
+        return out.toArray(new JournalEntry[0]);
+    }
+
+    // ===================== Writes =====================
+
+    synchronized void append(JournalEntry entry) {
+        recent.add(entry);
+    }
+
+    /** Write the entries appended since the last flush, with one sync per segment. */
+    void flush() {
+        if (dir == null) return;
+        synchronized (ioLock) {
+            try {
+                if (recover) {
+                    open();
+                    recover = false;
+                }
+                List<JournalEntry> todo;
+                long pos;
+                synchronized (this) {
+                    todo = new ArrayList<>(recent.subList(flushed, recent.size()));
+                    pos = activeStart + flushed;
+                }
+                if (todo.isEmpty()) return;
+
+                List<Segment> newlySealed = new ArrayList<>();
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                DataOutputStream out = new DataOutputStream(bytes);
+                for (JournalEntry e : todo) {
+                    if (active != null && active.count >= SEGMENT_ENTRIES) {
+                        write(bytes);
+                        newlySealed.add(seal());
+                    }
+                    if (active == null) startSegment(pos);
+                    int color = dictId(out, e.color);
+                    int personality = dictId(out, e.personality);
+                    int cause = dictId(out, e.causeOfDeath);
+                    if (active.count % STRIDE == 0) blocks.add(active.end + bytes.size());
+                    SaveWriter rec = new SaveWriter(true);
+                    rec.writeVarInt(REC_ENTRY);
+                    rec.writeString(e.name);
+                    rec.writeVarInt(color);
+                    rec.writeVarInt(personality);
+                    rec.writeVarInt(cause);
+                    rec.writeVarInt(e.generation);
+                    rec.writeVarInt(e.lifespanDays);
+                    rec.writeVarLong(e.timestamp);
+                    writeFrame(out, rec);
+                    active.count++;
+                    pos++;
+                }
+                write(bytes);
+                if (!newlySealed.isEmpty()) writeIndex(newlySealed);
+
+                synchronized (this) {
+                    flushed += todo.size();
+                    for (Segment s : newlySealed) {
+                        sealed.add(s);
+                        int drop = s.count;
+                        recent.subList(0, drop).clear();
+                        flushed -= drop;
+                        activeStart += drop;
+                    }
+                }
+            } catch (IOException e) {
+                // Rebuilt from the files next time; the entries stay in memory until then
+                GameLogger.error("Failed to write journal", e);
+                closeChannel();
+                recover = true;
+            }
+        }
+    }
+
+    // ioLock held: number of s in the active dictionary, adding a record if it is new
+    private int dictId(DataOutputStream out, String s) throws IOException {
+        Integer id = dictIds.get(s);
+        if (id != null) return id;
+        id = dict.size();
+        dict.add(s);
+        dictIds.put(s, id);
+        SaveWriter rec = new SaveWriter(true);
+        rec.writeVarInt(REC_DICT);
+        rec.writeString(s);
+        writeFrame(out, rec);
+        return id;
+    }
+
+    private static void writeFrame(DataOutputStream out, SaveWriter rec) throws IOException {
+        out.writeInt(rec.size());
+        out.writeInt(SaveFormat.crc32c(rec.buffer(), 0, rec.size()));
+        out.write(rec.buffer(), 0, rec.size());
+    }
+
+    // ioLock held: append the pending bytes to the active segment and sync
+    private void write(ByteArrayOutputStream bytes) throws IOException {
+        if (bytes.size() == 0) return;
+        ByteBuffer buf = ByteBuffer.wrap(bytes.toByteArray());
+        while (buf.hasRemaining()) ch.write(buf);
+        ch.force(false);
+        active.end += bytes.size();
+        bytes.reset();
+    }
+
+    // ioLock held
+    private void startSegment(long start) throws IOException {
+        Segment s = new Segment(new File(dir, String.format("%010d.seg", start)));
+        s.start = start;
+        ch = FileChannel.open(s.file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER_SIZE);
+        header.putInt(SEGMENT_MAGIC).putShort((short) VERSION).putShort((short) 0).putLong(start);
+        header.flip();
+        while (header.hasRemaining()) ch.write(header);
+        s.end = SEGMENT_HEADER_SIZE;
+        active = s;
+    }
+
+    // ioLock held: freeze the active segment's offsets and dictionary
+    private Segment seal() {
+        Segment s = active;
+        s.blocks = new long[blocks.size()];
+        for (int i = 0; i < s.blocks.length; i++) {
+            s.blocks[i] = blocks.get(i);
+        }
+        s.dict = dict.toArray(new String[0]);
+        closeChannel();
+        active = null;
+        blocks.clear();
+        dict.clear();
+        dictIds.clear();
+        return s;
+    }
+
+    private void closeChannel() {
+        if (ch == null) return;
+        try {
+            ch.close();
+        } catch (IOException e) {
+            GameLogger.warn("Failed to close journal segment: " + e.getMessage());
+        }
+        ch = null;
+    }
+
+    // ===================== Index =====================
+
+    // ioLock held: rewrite the index with every sealed segment
+    private void writeIndex(List<Segment> extra) throws IOException {
+        List<Segment> all;
+        synchronized (this) {
+            all = new ArrayList<>(sealed);
+        }
+        all.addAll(extra);
+
+        SaveWriter rec = new SaveWriter(true);
+        rec.writeVarInt(all.size());
+        for (Segment s : all) {
+            rec.writeString(s.file.getName());
+            rec.writeVarInt(s.count);
+            rec.writeVarLong(s.end);
+            rec.writeVarInt(s.dict.length);
+            for (String d : s.dict) {
+                rec.writeString(d);
+            }
+            rec.writeVarInt(s.blocks.length);
+            long prev = 0;
+            for (long b : s.blocks) {
+                rec.writeVarLong(b - prev);
+                prev = b;
+            }
+        }
+        ByteBuffer buf = ByteBuffer.allocate(8 + FRAME_OVERHEAD + rec.size());
+        buf.putInt(INDEX_MAGIC).putShort((short) VERSION).putShort((short) 0);
+        buf.putInt(rec.size()).putInt(SaveFormat.crc32c(rec.buffer(), 0, rec.size()));
+        buf.put(rec.buffer(), 0, rec.size());
+        buf.flip();
+
+        File index = new File(dir, INDEX_FILE);
+        File temp = new File(dir, INDEX_FILE + ".tmp");
+        try (FileChannel out = FileChannel.open(temp.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buf.hasRemaining()) out.write(buf);
+            out.force(false);
+        }
+        Files.move(temp.toPath(), index.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // Sealed segments by file name; empty if the index is missing or damaged
+    private Map<String, Segment> readIndex() {
+        Map<String, Segment> index = new HashMap<>();
+        File file = new File(dir, INDEX_FILE);
+        if (!file.exists()) return index;
+        try {
+            byte[] data = Files.readAllBytes(file.toPath());
+            ByteBuffer in = ByteBuffer.wrap(data);
+            if (data.length < 8 || in.getInt() != INDEX_MAGIC || (in.getShort() & 0xFFFF) > VERSION) {
+                throw new IOException("Not a journal index");
+            }
+            SaveReader rec = frame(data, 8, data.length);
+            if (rec == null) throw new IOException("Damaged journal index");
+            int n = rec.readVarInt();
+            for (int i = 0; i < n; i++) {
+                Segment s = new Segment(new File(dir, rec.readString()));
+                s.count = rec.readVarInt();
+                s.end = rec.readVarLong();
+                s.dict = new String[rec.readVarInt()];
+                for (int j = 0; j < s.dict.length; j++) {
+                    s.dict[j] = rec.readString();
+                }
+                s.blocks = new long[rec.readVarInt()];
+                long prev = 0;
+                for (int j = 0; j < s.blocks.length; j++) {
+                    s.blocks[j] = prev += rec.readVarLong();
+                }
+                index.put(s.file.getName(), s);
+            }
+        } catch (IOException | RuntimeException e) {
+            GameLogger.warn("Rebuilding journal index: " + e.getMessage());
+            index.clear();
+        }
+        return index;
+    }
+
+    // ===================== Opening =====================
+
+    // ioLock held: take the sealed segments from the index, scan the newest segment (and
+    // any the index doesn't know), and keep entries not on disk yet in memory
+    private void open() throws IOException {
+        closeChannel();
+        if (!dir.exists()) dir.mkdirs();
+        Map<String, Segment> index = readIndex();
+        File[] files = dir.listFiles((d, name) -> name.endsWith(".seg"));
+        if (files == null) throw new IOException("Cannot list " + dir);
+        Arrays.sort(files);
+
+        List<Segment> segments = new ArrayList<>();
+        List<JournalEntry> activeEntries = new ArrayList<>();
+        boolean indexStale = false;
+        long pos = 0;
+        active = null;
+        blocks.clear();
+        dict.clear();
+        dictIds.clear();
+        for (int i = 0; i < files.length; i++) {
+            boolean last = i == files.length - 1;
+            Segment s = index.get(files[i].getName());
+            if (s == null || files[i].length() < s.end) {
+                s = new Segment(files[i]);
+                List<JournalEntry> entries = scan(s, last ? activeEntries : null);
+                if (last) {
+                    // Still open for appends
+                    active = s;
+                    ch = FileChannel.open(s.file.toPath(), StandardOpenOption.WRITE);
+                    ch.truncate(s.end);
+                    ch.position(s.end);
+                    for (long b : s.blocks) {
+                        blocks.add(b);
+                    }
+                    for (String d : s.dict) {
+                        dictIds.put(d, dict.size());
+                        dict.add(d);
+                    }
+                    activeEntries = entries;
+                } else {
+                    indexStale = true;
+                }
+            }
+            s.start = pos;
+            pos += s.count;
+            if (s != active) segments.add(s);
+        }
+
+        synchronized (this) {
+            long diskTotal = pos;
+            long memTotal = activeStart + recent.size();
+            // Keep what was appended but never written
+            List<JournalEntry> unwritten = memTotal > diskTotal
+                    ? new ArrayList<>(recent.subList((int) (recent.size() - (memTotal - diskTotal)), recent.size()))
+                    : new ArrayList<>();
+            sealed.clear();
+            sealed.addAll(segments);
+            blockCache.clear();
+            activeStart = active != null ? active.start : pos;
+            recent.clear();
+            recent.addAll(activeEntries);
+            flushed = recent.size();
+            recent.addAll(unwritten);
+        }
+        if (indexStale) writeIndex(new ArrayList<>());
+        GameLogger.debug("Journal: " + segments.size() + " sealed segments, " + activeEntries.size()
+                + " entries in the open one");
+    }
+
+    /**
+     * Read a whole segment to fill in its count, dictionary, offsets and valid end.
+     *
+     * @param keep receives the entries, or null to skip decoding them
+     */
+    private static List<JournalEntry> scan(Segment s, List<JournalEntry> keep) throws IOException {
+        byte[] data = Files.readAllBytes(s.file.toPath());
+        ByteBuffer header = ByteBuffer.wrap(data);
+        if (data.length < SEGMENT_HEADER_SIZE || header.getInt() != SEGMENT_MAGIC) {
+            throw new IOException("Not a journal segment: " + s.file);
+        }
+        List<String> dict = new ArrayList<>();
+        List<Long> blocks = new ArrayList<>();
+        int p = SEGMENT_HEADER_SIZE;
+        int count = 0;
+        while (p < data.length) {
+            SaveReader rec = frame(data, p, data.length);
+            if (rec == null) {
+                GameLogger.warn("Dropping " + (data.length - p) + " damaged bytes at the end of " + s.file.getName());
+                break;
+            }
+            int start = p;
+            p += FRAME_OVERHEAD + rec.remaining();
+            int type = rec.readVarInt();
+            if (type == REC_DICT) {
+                dict.add(rec.readString());
+            } else if (type == REC_ENTRY) {
+                if (count % STRIDE == 0) blocks.add((long) start);
+                if (keep != null) keep.add(readEntry(rec, dict.toArray(new String[0])));
+                count++;
+            }
+        }
+        s.count = count;
+        s.end = p;
+        s.dict = dict.toArray(new String[0]);
+        s.blocks = new long[blocks.size()];
+        for (int i = 0; i < s.blocks.length; i++) {
+            s.blocks[i] = blocks.get(i);
+        }
+        return keep;
+    }
+
+    // ===================== Encoding =====================
+
+    /** The record framed at {@code p}, or null if it is cut off or fails its checksum. */
+    private static SaveReader frame(byte[] data, int p, int limit) {
+        if (limit - p < FRAME_OVERHEAD) return null;
+        ByteBuffer head = ByteBuffer.wrap(data, p, FRAME_OVERHEAD);
+        int n = head.getInt();
+        int crc = head.getInt();
+        int off = p + FRAME_OVERHEAD;
+        if (n < 0 || n > limit - off || SaveFormat.crc32c(data, off, n) != crc) return null;
+        return new SaveReader(Arrays.copyOfRange(data, off, off + n), n);
+    }
+
+    private static JournalEntry readEntry(SaveReader rec, String[] dict) throws IOException {
+        String name = rec.readString();
+        String color = word(dict, rec.readVarInt());
+        String personality = word(dict, rec.readVarInt());
+        String cause = word(dict, rec.readVarInt());
+        int generation = rec.readVarInt();
+        int lifespanDays = rec.readVarInt();
+        long timestamp = rec.readVarLong();
+        return new JournalEntry(name != null ? name : "\uD584\uC2A4\uD130", color, personality,
+                generation, lifespanDays, cause, timestamp);
+    }
+
+    private static String word(String[] dict, int id) throws IOException {
+        if (id < 0 || id >= dict.length) throw new IOException("Dictionary id " + id + " out of range");
+        return dict[id];
+    }
+}
@@ -0,0 +1,34 @@
+package com.hamster.system;
+
+/**
+ * Filter and order for {@link HamsterJournal#query}. Unset filters ({@code null}, or the
+ * default bounds) match everything; ranges are inclusive.
+ */
+public class JournalQuery {
+
+    public enum Sort {
+        NEWEST, OLDEST, LONGEST_LIVED, HIGHEST_GENERATION
+    }
+
+    /** Fields with a fixed set of values, see {@link HamsterJournal#distinctValues}. */
+    public enum Field {
+        COLOR, PERSONALITY, CAUSE_OF_DEATH
+    }
+
+    public String color;
+    public String personality;
+    public String causeOfDeath;
+    public int minGeneration = 0;
+    public int maxGeneration = Integer.MAX_VALUE;
+    public int minLifespanDays = 0;
+    public int maxLifespanDays = Integer.MAX_VALUE;
+    public Sort sort = Sort.NEWEST;
+
+    String value(Field field) {
+        switch (field) {
+            case COLOR: return color;
+            case PERSONALITY: return personality;
+            default: return causeOfDeath;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.hamster.system;
+
+import java.util.Arrays;
+
+/**
+ * Counts of durations in log-linear buckets: each power of two is split into 16 equal
+ * buckets, so a bucket is at most 1/16 (~6%) of its values wide, from 16ns up to about
+ * an hour. Recording is one index computation and an array increment, with no
+ * allocation, so it can sit on every tick.
+ *
+ * Not synchronized: each histogram should have one writer. Readers on other threads may
+ * see counts a few records behind, which is fine for display and export.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int MAX_BITS = 42; // 2^42ns is about 73 minutes; longer is clamped
+    static final int BUCKETS = (MAX_BITS - SUB_BITS + 1) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long sum;
+    private long max;
+
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        counts[index(nanos)]++;
+        count++;
+        sum += nanos;
+        if (nanos > max) max = nanos;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long max() {
+        return max;
+    }
+
+    public long mean() {
+        return count > 0 ? sum / count : 0;
+    }
+
+    /**
+     * Upper bound of the bucket holding the {@code p}-th percentile (0~100), capped at
+     * the largest value recorded; 0 when empty.
+     */
+    public long percentile(double p) {
+        if (count == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(count * p / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(upperBound(i), max);
+        }
+        return max;
+    }
+
+    /** Make this a copy of {@code other}. */
+    public void copyFrom(LatencyHistogram other) {
+        System.arraycopy(other.counts, 0, counts, 0, BUCKETS);
+        count = other.count;
+        sum = other.sum;
+        max = other.max;
+    }
+
+    /**
+     * Make this the records {@code now} has beyond {@code before}, an earlier copy of it.
+     * The max is the bound of the highest bucket that grew.
+     */
+    public void setDelta(LatencyHistogram now, LatencyHistogram before) {
+        max = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = now.counts[i] - before.counts[i];
+            if (counts[i] > 0) max = Math.min(upperBound(i), now.max);
+        }
+        count = now.count - before.count;
+        sum = now.sum - before.sum;
+    }
+
+    public void clear() {
+        Arrays.fill(counts, 0);
+        count = sum = max = 0;
+    }
+
+    /** Append one {@code low high count} line per non-empty bucket, in nanoseconds. */
+    public void appendBuckets(StringBuilder sb) {
+        for (int i = 0; i < BUCKETS; i++) {
+            if (counts[i] == 0) continue;
+            sb.append(lowerBound(i)).append(' ').append(upperBound(i)).append(' ').append(counts[i]).append('\n');
+        }
+    }
+
+    static int index(long v) {
+        if (v < SUB_BUCKETS) return (int) v;
+        int bits = 64 - Long.numberOfLeadingZeros(v); // v is in [2^(bits-1), 2^bits)
+        if (bits > MAX_BITS) return BUCKETS - 1;
+        int shift = bits - 1 - SUB_BITS;
+        return (bits - SUB_BITS) * SUB_BUCKETS + (int) ((v >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    static long lowerBound(int i) {
+        int group = i / SUB_BUCKETS;
+        long sub = i % SUB_BUCKETS;
+        if (group == 0) return sub;
+        int shift = group - 1;
+        return (SUB_BUCKETS + sub) << shift;
+    }
+
+    static long upperBound(int i) {
+        return i == BUCKETS - 1 ? Long.MAX_VALUE : lowerBound(i + 1) - 1;
+    }
+}
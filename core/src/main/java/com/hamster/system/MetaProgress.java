@@ -8,6 +8,8 @@ import java.util.Properties;
 public class MetaProgress {
 
     private static final String SAVE_DIR = GameConstants.SAVE_DIR;
+    private static final String RECORD = "meta";
+    // Read once to migrate into the profile
     private static final String META_FILE = SAVE_DIR + "meta.properties";
 
     public int sunflowerSeeds = 0;
@@ -241,10 +243,8 @@ public class MetaProgress {
 
     // ===================== Save / Load =====================
 
+    /** Stage the profile record and commit it on the save thread. */
     public void save() {
-        File dir = new File(SAVE_DIR);
-        if (!dir.exists()) dir.mkdirs();
-
         Properties props = new Properties();
         props.setProperty("sunflowerSeeds", String.valueOf(sunflowerSeeds));
         props.setProperty("lifespanLevel", String.valueOf(lifespanLevel));
@@ -261,25 +261,14 @@ public class MetaProgress {
         props.setProperty("buffDurationLevel", String.valueOf(buffDurationLevel));
         props.setProperty("startingStatsLevel", String.valueOf(startingStatsLevel));
 
-        try (FileOutputStream fos = new FileOutputStream(META_FILE)) {
-            props.store(fos, "DesktopHamster Meta Progress");
-        } catch (IOException e) {
-            GameLogger.error("Failed to save meta progress", e);
-        }
+        ProfileStore.shared().putProperties(RECORD, props);
+        ProfileStore.shared().requestCommit();
     }
 
     public static MetaProgress load() {
         MetaProgress meta = new MetaProgress();
-        File file = new File(META_FILE);
-        if (!file.exists()) return meta;
-
-        Properties props = new Properties();
-        try (FileInputStream fis = new FileInputStream(file)) {
-            props.load(fis);
-        } catch (IOException e) {
-            GameLogger.error("Failed to load meta progress", e);
-            return meta;
-        }
+        Properties props = ProfileStore.shared().getProperties(RECORD, new File(META_FILE));
+        if (props == null) return meta;
 
         meta.sunflowerSeeds = Integer.parseInt(props.getProperty("sunflowerSeeds", "0"));
         meta.lifespanLevel = Integer.parseInt(props.getProperty("lifespanLevel", "0"));
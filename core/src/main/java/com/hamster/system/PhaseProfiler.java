@@ -0,0 +1,105 @@
+package com.hamster.system;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * Where the game loop spends its time: one {@link LatencyHistogram} per {@link Phase}.
+ *
+ * Callers take {@link #start()} before a phase and pass it to {@link #end} after; that is
+ * two {@link System#nanoTime()} calls and a histogram increment, cheap enough to leave on.
+ * Every phase is recorded from one thread, as the histograms expect: the thread stepping
+ * the world (the EDT on the desktop), or the save thread for {@link Phase#SAVE_WRITE}.
+ */
+public final class PhaseProfiler {
+
+    public enum Phase {
+        /** One {@code World.step()}. */
+        STEP("step"),
+        /** The fused hamster update inside a step. */
+        UPDATE_PASS("update pass"),
+        DEATHS("deaths"),
+        /** Scheduled world work: events, interactions, income, save triggers. */
+        SCHEDULED("scheduled"),
+        RANDOM_EVENT("random event"),
+        ACHIEVEMENTS("achievements"),
+        /** Moving the hamster views to the world after a batch of steps. */
+        VIEW_SYNC("view sync"),
+        PANEL_REFRESH("panel refresh"),
+        /** One paint of a hamster window (or of a whole screen layer). */
+        WINDOW_PAINT("window paint"),
+        SAVE_CAPTURE("save capture"),
+        SAVE_WRITE("save write"),
+        /** From a batch of steps being posted until the EDT runs it. */
+        EDT_WAIT("edt wait"),
+        /** Between two batches of steps reaching the screen. */
+        FRAME("frame");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String label() {
+            return label;
+        }
+    }
+
+    private static final LatencyHistogram[] HISTOGRAMS = new LatencyHistogram[Phase.values().length];
+
+    static {
+        for (int i = 0; i < HISTOGRAMS.length; i++) {
+            HISTOGRAMS[i] = new LatencyHistogram();
+        }
+    }
+
+    private PhaseProfiler() {}
+
+    public static long start() {
+        return System.nanoTime();
+    }
+
+    /** Record the phase that began at {@code start} (from {@link #start()}) as ending now. */
+    public static void end(Phase phase, long start) {
+        HISTOGRAMS[phase.ordinal()].record(System.nanoTime() - start);
+    }
+
+    /** Record a duration measured elsewhere. */
+    public static void record(Phase phase, long nanos) {
+        HISTOGRAMS[phase.ordinal()].record(nanos);
+    }
+
+    /** The live histogram of {@code phase}; read it on its writer's thread or accept slightly stale counts. */
+    public static LatencyHistogram histogram(Phase phase) {
+        return HISTOGRAMS[phase.ordinal()];
+    }
+
+    /**
+     * Write every histogram since startup to a text file: a summary line per phase, then
+     * its non-empty buckets.
+     *
+     * @return the file written
+     */
+    public static File export(File dir) throws IOException {
+        String stamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+        File file = new File(dir, "perf-" + stamp + ".txt");
+        StringBuilder sb = new StringBuilder();
+        sb.append("# phase count mean_ns p50_ns p99_ns max_ns, then per bucket: low_ns high_ns count\n");
+        for (Phase p : Phase.values()) {
+            LatencyHistogram h = histogram(p);
+            sb.append("phase ").append(p.name()).append(' ').append(h.count()).append(' ').append(h.mean())
+                    .append(' ').append(h.percentile(50)).append(' ').append(h.percentile(99))
+                    .append(' ').append(h.max()).append('\n');
+            h.appendBuckets(sb);
+        }
+        dir.mkdirs();
+        Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+        GameLogger.info("Exported profiler histograms to " + file);
+        return file;
+    }
+}
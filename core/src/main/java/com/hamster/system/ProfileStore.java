@@ -0,0 +1,452 @@
+package com.hamster.system;
+
+import com.hamster.model.GameConstants;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+
+/**
+ * One file for everything the game keeps between sessions: the run, statistics,
+ * achievements, journal, settings, meta progress and the pending legacy.
+ *
+ * Each subsystem owns a named record (opaque bytes). Saving a record only stages it;
+ * {@link #commit()} writes every staged record as one transaction, appended to the file
+ * as [length][CRC32C][records] and synced once. Loading replays the transactions in
+ * order and stops at the first damaged one, so a crash mid-commit leaves the previous
+ * commit intact and the records never disagree with each other (e.g. seeds granted in a
+ * commit that also dropped the finished run). A record equal to its last value is not
+ * staged at all, so a commit only carries what changed. When the file has grown to a few
+ * times its live size, it is rewritten with one transaction holding every record.
+ *
+ * Staging and reading are safe from any thread; commits run one at a time, usually on
+ * the save thread (see {@link #setCommitExecutor}). The {@code .properties} files of
+ * older versions are read once through {@link #getProperties} and deleted after the
+ * first commit that carries their contents.
+ */
+public final class ProfileStore {
+
+    /** "HMPF" */
+    private static final int MAGIC = 0x484D5046;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int FRAME_OVERHEAD = 8;
+
+    // Rewrite when the file is this many times the live records, and at least this big
+    private static final int COMPACT_RATIO = 4;
+    private static final long COMPACT_MIN_BYTES = 64 * 1024;
+
+    private static final byte[] DELETED = new byte[0];
+
+    private static ProfileStore shared;
+
+    private final File file;
+    private final Object commitLock = new Object();
+    private FileChannel ch; // Guarded by commitLock; null until the file is (re)written whole
+    private volatile long fileSize;
+
+    // Guarded by this
+    private final Map<String, byte[]> committed = new HashMap<>();
+    private final Map<String, byte[]> latest = new HashMap<>();
+    private Map<String, byte[]> pending = new LinkedHashMap<>();
+    private List<File> retired = new ArrayList<>();
+    private int holds;
+    private Thread holder;
+    private boolean commitRequested;
+    private int commits, skipped, failed;
+    private long bytesWritten;
+
+    private volatile Executor commitExecutor = Runnable::run;
+
+    private ProfileStore(File file) {
+        this.file = file;
+    }
+
+    /** The store in the save directory, opened on first use. */
+    public static synchronized ProfileStore shared() {
+        if (shared == null) {
+            shared = open(new File(GameConstants.SAVE_DIR + "profile.dat"));
+        }
+        return shared;
+    }
+
+    /**
+     * Replace the shared store, e.g. with one in a temporary directory for tests; null
+     * opens the one in the save directory again on next use.
+     */
+    public static synchronized void setShared(ProfileStore store) {
+        shared = store;
+    }
+
+    /** Read the committed records of {@code file}; a missing file is an empty store. */
+    public static ProfileStore open(File file) {
+        ProfileStore store = new ProfileStore(file);
+        if (file.exists()) {
+            try {
+                store.load();
+            } catch (IOException e) {
+                // Keep the file for inspection and start over from the legacy files
+                File bad = new File(file.getPath() + ".bad");
+                GameLogger.error("Unreadable profile, moving it to " + bad, e);
+                store.committed.clear();
+                file.renameTo(bad);
+            }
+        }
+        store.latest.putAll(store.committed);
+        return store;
+    }
+
+    /** Run commit requests through {@code executor}, e.g. the save pipeline. */
+    public void setCommitExecutor(Executor executor) {
+        commitExecutor = executor;
+    }
+
+    // ===================== Records =====================
+
+    /** The newest value of a record, staged or committed, or null. */
+    public synchronized byte[] get(String name) {
+        return latest.get(name);
+    }
+
+    /** Whether the newest value of a record is on disk; false if it is still staged. */
+    synchronized boolean isCommitted(String name) {
+        return latest.get(name) == committed.get(name);
+    }
+
+    /** Stage a new value for a record; dropped if nothing changed. */
+    public synchronized void put(String name, byte[] data) {
+        if (Arrays.equals(latest.get(name), data)) {
+            skipped++;
+            return;
+        }
+        latest.put(name, data);
+        pending.put(name, data);
+    }
+
+    /** Stage the removal of a record. */
+    public synchronized void remove(String name) {
+        if (latest.remove(name) == null) return;
+        pending.put(name, DELETED);
+    }
+
+    /** Stage a record encoded from {@code props}, keys in sorted order. */
+    public void putProperties(String name, Properties props) {
+        SaveWriter out = new SaveWriter(true);
+        Map<String, String> sorted = new TreeMap<>();
+        for (String key : props.stringPropertyNames()) {
+            sorted.put(key, props.getProperty(key));
+        }
+        out.writeVarInt(sorted.size());
+        for (Map.Entry<String, String> e : sorted.entrySet()) {
+            out.writeString(e.getKey());
+            out.writeString(e.getValue());
+        }
+        put(name, Arrays.copyOf(out.buffer(), out.size()));
+    }
+
+    /**
+     * A record written by {@link #putProperties}. Without one, {@code legacy} is read
+     * instead, staged as the record and deleted after the next commit.
+     *
+     * @return the properties, or null if neither exists
+     */
+    public Properties getProperties(String name, File legacy) {
+        byte[] data = get(name);
+        if (data != null) {
+            Properties props = new Properties();
+            try {
+                SaveReader in = new SaveReader(data, data.length);
+                int count = in.readVarInt();
+                for (int i = 0; i < count; i++) {
+                    String key = in.readString();
+                    String value = in.readString();
+                    if (key != null && value != null) props.setProperty(key, value);
+                }
+            } catch (IOException e) {
+                GameLogger.error("Damaged profile record: " + name, e);
+            }
+            return props;
+        }
+        if (legacy == null || !legacy.exists()) return null;
+
+        Properties props = new Properties();
+        try (FileInputStream fis = new FileInputStream(legacy)) {
+            props.load(fis);
+        } catch (IOException e) {
+            GameLogger.error("Failed to read " + legacy, e);
+            return null;
+        }
+        GameLogger.info("Moving " + legacy.getName() + " into the profile");
+        synchronized (this) {
+            putProperties(name, props);
+            retired.add(legacy);
+        }
+        requestCommit();
+        return props;
+    }
+
+    // ===================== Commits =====================
+
+    /**
+     * Commit soon through the commit executor. Inside {@link #atomically} the request
+     * waits for the end of the block.
+     */
+    public void requestCommit() {
+        synchronized (this) {
+            if (holds > 0) {
+                commitRequested = true;
+                return;
+            }
+        }
+        commitExecutor.execute(this::commit);
+    }
+
+    /**
+     * Stage the changes made by {@code changes} so that they land in the same commit:
+     * commits on other threads wait until it returns, so nothing in it may wait for one.
+     * A commit on the calling thread itself goes ahead with what is staged so far.
+     */
+    public void atomically(Runnable changes) {
+        synchronized (this) {
+            if (holds++ == 0) holder = Thread.currentThread();
+        }
+        boolean request = false;
+        try {
+            changes.run();
+        } finally {
+            synchronized (this) {
+                if (--holds == 0) {
+                    holder = null;
+                    request = commitRequested;
+                    commitRequested = false;
+                    notifyAll();
+                }
+            }
+        }
+        if (request) requestCommit();
+    }
+
+    /**
+     * Write every staged record as one transaction with a single sync.
+     *
+     * @return whether something was written
+     */
+    public boolean commit() {
+        synchronized (commitLock) {
+            Map<String, byte[]> batch;
+            List<File> retire;
+            synchronized (this) {
+                while (holds > 0 && holder != Thread.currentThread()) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return false;
+                    }
+                }
+                if (pending.isEmpty()) return false;
+                batch = pending;
+                retire = retired;
+                pending = new LinkedHashMap<>();
+                retired = new ArrayList<>();
+            }
+
+            long written;
+            try {
+                written = ch == null ? rewrite(batch) : append(batch);
+            } catch (IOException e) {
+                GameLogger.error("Failed to commit profile", e);
+                closeChannel();
+                synchronized (this) {
+                    failed++;
+                    // Newer stagings win; the rest goes out with the next commit
+                    for (Map.Entry<String, byte[]> en : batch.entrySet()) {
+                        pending.putIfAbsent(en.getKey(), en.getValue());
+                    }
+                    retired.addAll(retire);
+                }
+                return false;
+            }
+
+            long live;
+            synchronized (this) {
+                apply(batch, committed);
+                commits++;
+                bytesWritten += written;
+                live = liveBytes();
+            }
+            for (File f : retire) {
+                if (f.exists()) f.delete();
+            }
+            if (fileSize > COMPACT_MIN_BYTES && fileSize > live * COMPACT_RATIO) {
+                try {
+                    long n = rewrite(new HashMap<>());
+                    synchronized (this) {
+                        bytesWritten += n;
+                    }
+                } catch (IOException e) {
+                    // The appended file is still valid; try again after the next commit
+                    GameLogger.warn("Failed to compact profile: " + e.getMessage());
+                    closeChannel();
+                }
+            }
+            return true;
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("commits=%d bytes=%d skipped=%d failed=%d size=%d", commits, bytesWritten,
+                skipped, failed, fileSize);
+    }
+
+    // ===================== File =====================
+
+    // Commit lock held: append one frame and sync it
+    private long append(Map<String, byte[]> batch) throws IOException {
+        ByteBuffer frame = frame(batch);
+        int n = frame.remaining();
+        while (frame.hasRemaining()) ch.write(frame);
+        ch.force(false);
+        fileSize += n;
+        return n;
+    }
+
+    // Commit lock held: write the committed records plus batch as a fresh file, then
+    // swap it in, so a crash leaves either the old file or the new one
+    private long rewrite(Map<String, byte[]> batch) throws IOException {
+        closeChannel();
+        Map<String, byte[]> all;
+        synchronized (this) {
+            all = new LinkedHashMap<>(committed);
+        }
+        apply(batch, all);
+
+        File dir = file.getParentFile();
+        if (dir != null && !dir.exists()) dir.mkdirs();
+        File temp = new File(file.getPath() + ".tmp");
+        ByteBuffer frame = frame(all);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putShort((short) VERSION).putShort((short) 0);
+        header.flip();
+        long n = HEADER_SIZE + frame.remaining();
+        try (FileChannel out = FileChannel.open(temp.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (header.hasRemaining()) out.write(header);
+            while (frame.hasRemaining()) out.write(frame);
+            out.force(false);
+        }
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        ch = FileChannel.open(file.toPath(), StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        fileSize = n;
+        return n;
+    }
+
+    private static ByteBuffer frame(Map<String, byte[]> records) {
+        SaveWriter out = new SaveWriter(true);
+        out.writeVarInt(records.size());
+        for (Map.Entry<String, byte[]> e : records.entrySet()) {
+            out.writeString(e.getKey());
+            byte[] data = e.getValue();
+            // 0 marks a removed record, 1 a value
+            if (data == DELETED) {
+                out.writeVarInt(0);
+            } else {
+                out.writeVarInt(1);
+                out.writeBytes(data);
+            }
+        }
+        int n = out.size();
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_OVERHEAD + n);
+        frame.putInt(n).putInt(SaveFormat.crc32c(out.buffer(), 0, n));
+        frame.put(out.buffer(), 0, n);
+        frame.flip();
+        return frame;
+    }
+
+    // Replay the transactions; a damaged tail is cut off so appends follow valid data
+    private void load() throws IOException {
+        byte[] data = Files.readAllBytes(file.toPath());
+        ByteBuffer in = ByteBuffer.wrap(data);
+        if (data.length < HEADER_SIZE || in.getInt() != MAGIC) throw new IOException("Not a profile: " + file);
+        int version = in.getShort() & 0xFFFF;
+        in.getShort(); // flags, unused
+        if (version > VERSION) throw new IOException("Profile format " + version + " is newer than this build");
+
+        int frames = 0;
+        while (in.remaining() >= FRAME_OVERHEAD) {
+            int start = in.position();
+            int n = in.getInt();
+            int crc = in.getInt();
+            if (n < 0 || n > in.remaining() || SaveFormat.crc32c(data, in.position(), n) != crc) {
+                in.position(start);
+                break;
+            }
+            Map<String, byte[]> batch = new LinkedHashMap<>();
+            try {
+                SaveReader records = new SaveReader(Arrays.copyOfRange(data, in.position(), in.position() + n), n);
+                int count = records.readVarInt();
+                for (int i = 0; i < count; i++) {
+                    String name = records.readString();
+                    batch.put(name, records.readVarInt() == 0 ? DELETED : records.readBytes());
+                }
+            } catch (IOException e) {
+                GameLogger.warn("Undecodable profile commit: " + e.getMessage());
+                in.position(start);
+                break;
+            }
+            apply(batch, committed);
+            in.position(in.position() + n);
+            frames++;
+        }
+
+        if (in.hasRemaining()) {
+            GameLogger.warn("Dropping " + in.remaining() + " damaged bytes at the end of the profile");
+        }
+        ch = FileChannel.open(file.toPath(), StandardOpenOption.WRITE);
+        ch.truncate(in.position());
+        ch.position(in.position());
+        fileSize = in.position();
+        GameLogger.debug("Profile: " + committed.size() + " records from " + frames + " commits, " + fileSize + " bytes");
+    }
+
+    private static void apply(Map<String, byte[]> batch, Map<String, byte[]> into) {
+        for (Map.Entry<String, byte[]> e : batch.entrySet()) {
+            if (e.getValue() == DELETED) into.remove(e.getKey());
+            else into.put(e.getKey(), e.getValue());
+        }
+    }
+
+    private long liveBytes() {
+        long n = HEADER_SIZE + FRAME_OVERHEAD;
+        for (Map.Entry<String, byte[]> e : committed.entrySet()) {
+            n += e.getKey().length() + e.getValue().length + 8;
+        }
+        return n;
+    }
+
+    private void closeChannel() {
+        if (ch == null) return;
+        try {
+            ch.close();
+        } catch (IOException e) {
+            GameLogger.warn("Failed to close profile: " + e.getMessage());
+        }
+        ch = null;
+    }
+}
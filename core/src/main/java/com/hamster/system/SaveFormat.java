@@ -0,0 +1,51 @@
+package com.hamster.system;
+
+/**
+ * Layout constants of the binary save format shared by {@link SaveWriter} and
+ * {@link SaveReader}.
+ *
+ * A save is a header (magic, format version, reserved flags) followed by sections. Each
+ * section is a tag byte, the payload length as a 4-byte int, the payload and the CRC32C
+ * of the payload. The first section is always the string table, the last an empty
+ * {@link #TAG_END}; game sections in between may come in any order and unknown tags are
+ * skipped, so older builds can read saves with sections they don't know about.
+ */
+final class SaveFormat {
+
+    /** "HMSV" */
+    static final int MAGIC = 0x484D5356;
+    static final int HEADER_SIZE = 8;
+
+    static final int TAG_END = 0;
+    static final int TAG_STRINGS = 1;
+    /** First tag free for game sections. */
+    static final int TAG_FIRST_USER = 16;
+
+    /** Sanity bound on one section; a larger length means the file is damaged. */
+    static final int MAX_SECTION_SIZE = 64 << 20;
+
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    // Castagnoli polynomial, reflected (java.util.zip.CRC32C only exists from Java 9)
+    private static final int[] CRC_TABLE = new int[256];
+
+    static {
+        for (int n = 0; n < 256; n++) {
+            int c = n;
+            for (int k = 0; k < 8; k++) {
+                c = (c & 1) != 0 ? (c >>> 1) ^ 0x82F63B78 : c >>> 1;
+            }
+            CRC_TABLE[n] = c;
+        }
+    }
+
+    private SaveFormat() {}
+
+    static int crc32c(byte[] data, int off, int len) {
+        int crc = ~0;
+        for (int i = off, end = off + len; i < end; i++) {
+            crc = CRC_TABLE[(crc ^ data[i]) & 0xFF] ^ (crc >>> 8);
+        }
+        return ~crc;
+    }
+}
@@ -0,0 +1,559 @@
+package com.hamster.system;
+import com.hamster.model.Buff;
+import com.hamster.model.FoodInventory;
+import com.hamster.model.FoodItem;
+import com.hamster.model.GameConstants;
+import com.hamster.model.GameState;
+import com.hamster.model.HamsterColor;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SplittableRandom;
+
+/**
+ * Reads and writes the auto-save.
+ *
+ * Saves are binary ({@link SaveWriter} / {@link SaveReader}): one section for the run
+ * totals, one for the hamsters, one for the poops and one for the food inventory. The save
+ * is the {@code run} record of the {@link ProfileStore}, committed together with whatever
+ * else changed since the last commit. Saves of older builds (the binary file of format 3,
+ * the {@code .properties} saves of format 1 and 2) are still read; the first commit after
+ * loading one deletes it.
+ *
+ * Between full saves, changes go to a {@link WriteAheadLog} next to the profile, which
+ * every full save restarts and every load replays. A save is staged on the stepping
+ * thread; committing it and appending run on the save thread.
+ */
+public class SaveManager {
+
+    private static final String SAVE_DIR = GameConstants.SAVE_DIR;
+    private static final String RUN_RECORD = "run";
+    private static final String AUTOSAVE_FILE = SAVE_DIR + "save_autosave.dat";
+    private static final String LEGACY_AUTOSAVE_FILE = SAVE_DIR + "save_autosave.properties";
+    private static final String LOG_FILE = SAVE_DIR + "save_autosave.wal";
+
+    private static final WriteAheadLog LOG = new WriteAheadLog(new File(LOG_FILE));
+
+    private static final int SEC_RUN = SaveFormat.TAG_FIRST_USER;
+    private static final int SEC_HAMSTERS = SaveFormat.TAG_FIRST_USER + 1;
+    private static final int SEC_POOPS = SaveFormat.TAG_FIRST_USER + 2;
+    private static final int SEC_INVENTORY = SaveFormat.TAG_FIRST_USER + 3;
+
+    /**
+     * Stage a full save as the {@code run} record. Encoding runs on the calling thread, so
+     * a block of {@link ProfileStore#atomically} can stage it with the changes it belongs
+     * to; {@link #commitAuto} writes it.
+     */
+    public static void stageAuto(GameState state) {
+        ProfileStore.shared().put(RUN_RECORD, encode(state));
+    }
+
+    /**
+     * Commit the staged run, with every other staged profile record, and start a new save
+     * log on top of {@code state}, the run staged by the matching {@link #stageAuto}.
+     */
+    public static void commitAuto(GameState state) {
+        ProfileStore profile = ProfileStore.shared();
+        profile.commit();
+        if (!profile.isCommitted(RUN_RECORD)) return;
+        deleteOldSave(AUTOSAVE_FILE);
+        deleteOldSave(LEGACY_AUTOSAVE_FILE);
+        try {
+            LOG.restart(state);
+        } catch (IOException e) {
+            // Appends are dropped until the next full save restarts the log
+            LOG.close();
+            GameLogger.error("Failed to restart save log", e);
+        }
+    }
+
+    /** Append a batch of changes to the save log (see {@link WriteAheadLog#diff}). */
+    public static void appendLog(WriteAheadLog.Batch batch) {
+        try {
+            LOG.append(batch);
+        } catch (IOException e) {
+            LOG.close();
+            GameLogger.error("Failed to append to save log", e);
+        }
+    }
+
+    /** Bytes in the current save log; full saves reset it. */
+    public static long logSize() {
+        return LOG.size();
+    }
+
+    public static GameState loadAuto() {
+        GameState state;
+        byte[] run = ProfileStore.shared().get(RUN_RECORD);
+        if (run != null) {
+            try (SaveReader in = new SaveReader(ByteBuffer.wrap(run), RUN_RECORD)) {
+                state = readSave(in);
+            } catch (IOException | RuntimeException e) {
+                GameLogger.error("Corrupted save data in profile", e);
+                return null;
+            }
+        } else if (new File(AUTOSAVE_FILE).exists() || new File(AUTOSAVE_FILE + ".bak").exists()) {
+            GameLogger.info("Migrating binary save: " + AUTOSAVE_FILE);
+            state = loadFromFile(AUTOSAVE_FILE);
+        } else if (new File(LEGACY_AUTOSAVE_FILE).exists() || new File(LEGACY_AUTOSAVE_FILE + ".bak").exists()) {
+            GameLogger.info("Migrating properties save: " + LEGACY_AUTOSAVE_FILE);
+            return loadLegacyFile(LEGACY_AUTOSAVE_FILE);
+        } else {
+            return null;
+        }
+        if (state != null) {
+            int records = WriteAheadLog.replay(new File(LOG_FILE), state);
+            if (records >= 0) GameLogger.info("Replayed " + records + " save log records");
+        }
+        return state;
+    }
+
+    public static boolean autoSaveExists() {
+        return ProfileStore.shared().get(RUN_RECORD) != null
+                || new File(AUTOSAVE_FILE).exists() || new File(LEGACY_AUTOSAVE_FILE).exists();
+    }
+
+    /**
+     * Stage dropping the run and request a commit; inside
+     * {@link ProfileStore#atomically} it lands with the other changes of the block.
+     * The save log goes separately, on the save thread ({@link #deleteLog()}).
+     */
+    public static void deleteAutoSave() {
+        ProfileStore profile = ProfileStore.shared();
+        profile.remove(RUN_RECORD);
+        profile.requestCommit();
+        deleteOldSave(AUTOSAVE_FILE);
+        deleteOldSave(LEGACY_AUTOSAVE_FILE);
+    }
+
+    /** Delete the save log of a dropped run. */
+    public static void deleteLog() {
+        LOG.delete();
+    }
+
+    static byte[] encode(GameState state) {
+        SaveWriter out = new SaveWriter();
+        out.beginSection(SEC_RUN);
+        out.writeVarInt(state.money);
+        out.writeVarLong(state.totalFrames);
+        out.writeVarInt(state.hamstersRaised);
+        out.writeVarInt(state.qualifiedHamsters);
+        out.writeVarInt(state.hamsterPurchaseCount);
+        out.writeFixedLong(state.rngSeed);
+        out.writeVarLong(state.savedAtMillis);
+        out.writeVarLong(state.logEpoch);
+        out.endSection();
+
+        out.beginSection(SEC_HAMSTERS);
+        out.writeVarInt(state.hamsters.size());
+        for (GameState.HamsterData hd : state.hamsters) {
+            writeHamster(out, hd);
+        }
+        out.endSection();
+
+        out.beginSection(SEC_POOPS);
+        out.writeVarInt(state.poops.size());
+        for (GameState.PoopData pd : state.poops) {
+            out.writeSignedInt(pd.screenX);
+            out.writeSignedInt(pd.screenY);
+        }
+        out.endSection();
+
+        // Food inventory
+        if (state.foodInventory != null) {
+            out.beginSection(SEC_INVENTORY);
+            Map<FoodItem, Integer> items = state.foodInventory.getAllItems();
+            out.writeVarInt(items.size());
+            for (Map.Entry<FoodItem, Integer> e : items.entrySet()) {
+                out.writeString(e.getKey().name());
+                out.writeVarInt(e.getValue());
+            }
+            out.endSection();
+        }
+
+        return out.toByteArray();
+    }
+
+    static void writeHamster(SaveWriter out, GameState.HamsterData hd) {
+        out.writeString(hd.name);
+        out.writeString(hd.color.name());
+        out.writeVarInt(hd.hunger);
+        out.writeVarInt(hd.happiness);
+        out.writeVarInt(hd.energy);
+        out.writeVarInt(hd.poopTimer);
+        out.writeVarLong(hd.ageFrames);
+        out.writeVarInt(hd.lifespanFrames);
+        out.writeSignedInt(hd.windowX);
+        out.writeSignedInt(hd.windowY);
+        // Roguelike fields
+        out.writeVarInt(hd.generation);
+        out.writeVarInt(hd.legacyHungerBonus);
+        out.writeVarInt(hd.legacyHappinessBonus);
+        out.writeVarInt(hd.legacyEnergyBonus);
+        out.writeVarInt(hd.legacyLifespanBonus);
+        out.writeVarInt(hd.legacyMaxStatBonus);
+        out.writeVarInt(hd.maxHunger);
+        out.writeVarInt(hd.maxHappiness);
+        out.writeVarInt(hd.maxEnergy);
+        out.writeVarInt(hd.breedCooldownFrames);
+        out.writeVarInt(hd.buffs.size());
+        for (GameState.BuffData bd : hd.buffs) {
+            writeBuff(out, bd);
+        }
+        // 2.0 fields
+        out.writeString(hd.personality != null ? hd.personality : "CHEERFUL");
+        writeList(out, hd.equippedAccessories);
+        writeList(out, hd.ownedAccessories);
+    }
+
+    static void writeBuff(SaveWriter out, GameState.BuffData bd) {
+        out.writeString(bd.type.name());
+        out.writeDouble(bd.multiplier);
+        out.writeSignedLong(bd.expiresAtTick);
+        out.writeString(bd.description);
+    }
+
+    static GameState.BuffData readBuff(SaveReader in) throws IOException {
+        GameState.BuffData bd = new GameState.BuffData();
+        bd.type = safeEnum(Buff.Type.class, in.readString(), Buff.Type.HUNGER_DRAIN);
+        bd.multiplier = in.readDouble();
+        bd.expiresAtTick = in.readSignedLong();
+        bd.description = orDefault(in.readString(), "");
+        return bd;
+    }
+
+    private static void writeList(SaveWriter out, List<String> list) {
+        out.writeVarInt(list.size());
+        for (String s : list) {
+            out.writeString(s);
+        }
+    }
+
+    static GameState loadFromFile(String path) {
+        File file = new File(path);
+        File backup = new File(path + ".bak");
+        if (file.exists()) {
+            try {
+                return readSave(file);
+            } catch (IOException | RuntimeException e) {
+                GameLogger.error("Corrupted save data, attempting backup: " + path, e);
+            }
+        } else if (backup.exists()) {
+            GameLogger.warn("Main save missing, trying backup: " + path);
+        }
+        if (!backup.exists()) return null;
+        try {
+            GameState state = readSave(backup);
+            GameLogger.info("Successfully loaded from backup");
+            return state;
+        } catch (IOException | RuntimeException e) {
+            GameLogger.error("Backup also corrupted", e);
+            return null;
+        }
+    }
+
+    private static GameState readSave(File file) throws IOException {
+        try (SaveReader in = new SaveReader(file)) {
+            return readSave(in);
+        }
+    }
+
+    // Sections are applied as they stream in; a missing one keeps the defaults below
+    static GameState readSave(SaveReader in) throws IOException {
+        GameState state = new GameState();
+        state.hamstersRaised = 1;
+        state.hamsters = new ArrayList<>();
+        state.poops = new ArrayList<>();
+        state.foodInventory = new FoodInventory();
+        boolean seeded = false;
+
+        GameLogger.debug("Loading save version " + in.version());
+        int tag;
+        while ((tag = in.nextSection()) != SaveFormat.TAG_END) {
+            if (tag == SEC_RUN) {
+                state.money = clamp(in.readVarInt(), 0, Integer.MAX_VALUE);
+                state.totalFrames = in.readVarLong();
+                state.hamstersRaised = clamp(in.readVarInt(), 1, Integer.MAX_VALUE);
+                state.qualifiedHamsters = clamp(in.readVarInt(), 0, Integer.MAX_VALUE);
+                state.hamsterPurchaseCount = clamp(in.readVarInt(), 0, Integer.MAX_VALUE);
+                state.rngSeed = in.readFixedLong();
+                state.savedAtMillis = in.readVarLong();
+                if (in.remaining() > 0) state.logEpoch = in.readVarLong();
+                seeded = true;
+            } else if (tag == SEC_HAMSTERS) {
+                int count = Math.min(in.readVarInt(), 100);
+                for (int i = 0; i < count; i++) {
+                    state.hamsters.add(readHamster(in));
+                }
+            } else if (tag == SEC_POOPS) {
+                int count = Math.min(in.readVarInt(), 500);
+                for (int i = 0; i < count; i++) {
+                    GameState.PoopData pd = new GameState.PoopData();
+                    pd.screenX = in.readSignedInt();
+                    pd.screenY = in.readSignedInt();
+                    state.poops.add(pd);
+                }
+            } else if (tag == SEC_INVENTORY) {
+                state.foodInventory.clear();
+                int count = in.readVarInt();
+                for (int i = 0; i < count; i++) {
+                    String food = in.readString();
+                    int n = in.readVarInt();
+                    FoodItem item = safeEnum(FoodItem.class, food, null);
+                    if (item != null && n > 0) state.foodInventory.add(item, n);
+                }
+            } else {
+                GameLogger.debug("Skipping unknown save section " + tag);
+            }
+        }
+        if (!seeded) state.rngSeed = new SplittableRandom().nextLong();
+        return state;
+    }
+
+    static GameState.HamsterData readHamster(SaveReader in) throws IOException {
+        GameState.HamsterData hd = new GameState.HamsterData();
+        hd.name = orDefault(in.readString(), "\uD584\uC2A4\uD130");
+        hd.color = safeEnum(HamsterColor.class, in.readString(), HamsterColor.BROWN);
+        hd.hunger = clamp(in.readVarInt(), 0, GameConstants.MAX_STAT_CAP);
+        hd.happiness = clamp(in.readVarInt(), 0, GameConstants.MAX_STAT_CAP);
+        hd.energy = clamp(in.readVarInt(), 0, GameConstants.MAX_STAT_CAP);
+        hd.poopTimer = clamp(in.readVarInt(), 0, Integer.MAX_VALUE);
+        hd.ageFrames = in.readVarLong();
+        hd.lifespanFrames = clamp(in.readVarInt(), 1, Integer.MAX_VALUE);
+        hd.windowX = in.readSignedInt();
+        hd.windowY = in.readSignedInt();
+        // Roguelike fields
+        hd.generation = clamp(in.readVarInt(), 1, Integer.MAX_VALUE);
+        hd.legacyHungerBonus = clamp(in.readVarInt(), 0, 25);
+        hd.legacyHappinessBonus = clamp(in.readVarInt(), 0, 25);
+        hd.legacyEnergyBonus = clamp(in.readVarInt(), 0, 25);
+        hd.legacyLifespanBonus = clamp(in.readVarInt(), 0, Integer.MAX_VALUE);
+        hd.legacyMaxStatBonus = clamp(in.readVarInt(), 0, GameConstants.MAX_STAT_CAP - 100);
+        hd.maxHunger = clamp(in.readVarInt(), 100, GameConstants.MAX_STAT_CAP);
+        hd.maxHappiness = clamp(in.readVarInt(), 100, GameConstants.MAX_STAT_CAP);
+        hd.maxEnergy = clamp(in.readVarInt(), 100, GameConstants.MAX_STAT_CAP);
+        hd.breedCooldownFrames = clamp(in.readVarInt(), 0, Integer.MAX_VALUE);
+        int buffCount = in.readVarInt();
+        for (int j = 0; j < buffCount; j++) {
+            GameState.BuffData bd = readBuff(in);
+            if (j < 50) hd.buffs.add(bd);
+        }
+        // 2.0 fields
+        hd.personality = orDefault(in.readString(), "CHEERFUL");
+        readList(in, hd.equippedAccessories);
+        readList(in, hd.ownedAccessories);
+        return hd;
+    }
+
+    private static void readList(SaveReader in, List<String> list) throws IOException {
+        int count = in.readVarInt();
+        for (int i = 0; i < count; i++) {
+            String s = in.readString();
+            if (s != null && !s.isEmpty()) list.add(s);
+        }
+    }
+
+    static int clamp(int v, int min, int max) {
+        return Math.max(min, Math.min(max, v));
+    }
+
+    private static String orDefault(String s, String def) {
+        return s != null ? s : def;
+    }
+
+    private static void deleteOldSave(String path) {
+        File old = new File(path);
+        File oldBackup = new File(path + ".bak");
+        if (old.exists() && old.delete()) {
+            GameLogger.info("Replaced save file with profile record: " + path);
+        }
+        if (oldBackup.exists()) oldBackup.delete();
+    }
+
+    /** Returns a brief summary of the auto-save for display in the start dialog, or null if none. */
+    public static String getAutoSaveSummary() {
+        GameState state = loadAuto();
+        if (state == null || state.hamsters.isEmpty()) return null;
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < state.hamsters.size(); i++) {
+            GameState.HamsterData hd = state.hamsters.get(i);
+            int ageDays = (int)(hd.ageFrames / GameConstants.FRAMES_PER_DAY);
+            if (i > 0) sb.append(", ");
+            sb.append(hd.name).append("(").append(ageDays).append("\uC77C");
+            if (hd.generation > 1) sb.append(", ").append(hd.generation).append("\uC138\uB300");
+            sb.append(")");
+        }
+        sb.append(" | ").append(state.money).append("\uCF54\uC778");
+        return sb.toString();
+    }
+
+    /** Parse a format 1 or 2 {@code .properties} save. */
+    private static GameState parseGameState(Properties props) {
+        int saveVersion = Integer.parseInt(props.getProperty("saveVersion", "1"));
+        GameLogger.debug("Loading save version " + saveVersion);
+
+        GameState state = new GameState();
+        state.money = clampInt(props.getProperty("money", "0"), 0, Integer.MAX_VALUE);
+        state.totalFrames = Long.parseLong(props.getProperty("totalFrames", "0"));
+        state.hamstersRaised = clampInt(props.getProperty("hamstersRaised", "1"), 1, Integer.MAX_VALUE);
+        state.qualifiedHamsters = clampInt(props.getProperty("qualifiedHamsters", "0"), 0, Integer.MAX_VALUE);
+        state.hamsterPurchaseCount = clampInt(props.getProperty("hamsterPurchaseCount", "0"), 0, Integer.MAX_VALUE);
+        // Saves from before seeded runs get a fresh seed
+        String seed = props.getProperty("rngSeed");
+        state.rngSeed = seed != null ? Long.parseLong(seed) : new SplittableRandom().nextLong();
+        state.savedAtMillis = Long.parseLong(props.getProperty("savedAt", "0"));
+
+        int hamsterCount = clampInt(props.getProperty("hamsterCount", "0"), 0, 100);
+        state.hamsters = new ArrayList<>();
+        for (int i = 0; i < hamsterCount; i++) {
+            String prefix = "hamster." + i + ".";
+            GameState.HamsterData hd = new GameState.HamsterData();
+            hd.name = props.getProperty(prefix + "name", "\uD584\uC2A4\uD130");
+            hd.color = safeEnum(HamsterColor.class, props.getProperty(prefix + "color", "BROWN"), HamsterColor.BROWN);
+            hd.hunger = clampInt(props.getProperty(prefix + "hunger", "70"), 0, GameConstants.MAX_STAT_CAP);
+            hd.happiness = clampInt(props.getProperty(prefix + "happiness", "70"), 0, GameConstants.MAX_STAT_CAP);
+            hd.energy = clampInt(props.getProperty(prefix + "energy", "70"), 0, GameConstants.MAX_STAT_CAP);
+            hd.poopTimer = clampInt(props.getProperty(prefix + "poopTimer", "0"), 0, Integer.MAX_VALUE);
+            hd.ageFrames = Long.parseLong(props.getProperty(prefix + "ageFrames", "0"));
+            hd.lifespanFrames = clampInt(props.getProperty(prefix + "lifespanFrames", "225000"), 1, Integer.MAX_VALUE);
+            hd.windowX = Integer.parseInt(props.getProperty(prefix + "windowX", "500"));
+            hd.windowY = Integer.parseInt(props.getProperty(prefix + "windowY", "700"));
+            // Roguelike fields (defaults for backwards compat)
+            hd.generation = clampInt(props.getProperty(prefix + "generation", "1"), 1, Integer.MAX_VALUE);
+            hd.legacyHungerBonus = clampInt(props.getProperty(prefix + "legacyHungerBonus", "0"), 0, 25);
+            hd.legacyHappinessBonus = clampInt(props.getProperty(prefix + "legacyHappinessBonus", "0"), 0, 25);
+            hd.legacyEnergyBonus = clampInt(props.getProperty(prefix + "legacyEnergyBonus", "0"), 0, 25);
+            hd.legacyLifespanBonus = clampInt(props.getProperty(prefix + "legacyLifespanBonus", "0"), 0, Integer.MAX_VALUE);
+            hd.legacyMaxStatBonus = clampInt(props.getProperty(prefix + "legacyMaxStatBonus", "0"), 0, GameConstants.MAX_STAT_CAP - 100);
+            hd.maxHunger = clampInt(props.getProperty(prefix + "maxHunger", "100"), 100, GameConstants.MAX_STAT_CAP);
+            hd.maxHappiness = clampInt(props.getProperty(prefix + "maxHappiness", "100"), 100, GameConstants.MAX_STAT_CAP);
+            hd.maxEnergy = clampInt(props.getProperty(prefix + "maxEnergy", "100"), 100, GameConstants.MAX_STAT_CAP);
+            hd.breedCooldownFrames = clampInt(props.getProperty(prefix + "breedCooldownFrames", "0"), 0, Integer.MAX_VALUE);
+            int buffCount = clampInt(props.getProperty(prefix + "buffCount", "0"), 0, 50);
+            hd.buffs = new java.util.ArrayList<>();
+            for (int j = 0; j < buffCount; j++) {
+                String bp = prefix + "buff." + j + ".";
+                GameState.BuffData bd = new GameState.BuffData();
+                bd.type = safeEnum(Buff.Type.class, props.getProperty(bp + "type", "HUNGER_DRAIN"), Buff.Type.HUNGER_DRAIN);
+                bd.multiplier = Double.parseDouble(props.getProperty(bp + "multiplier", "1.0"));
+                String expiresAt = props.getProperty(bp + "expiresAt");
+                if (expiresAt != null) {
+                    bd.expiresAtTick = Long.parseLong(expiresAt);
+                } else {
+                    // Older saves stored a countdown
+                    bd.expiresAtTick = state.totalFrames
+                            + clampInt(props.getProperty(bp + "remainingFrames", "0"), 0, Integer.MAX_VALUE);
+                }
+                bd.description = props.getProperty(bp + "description", "");
+                hd.buffs.add(bd);
+            }
+            // 2.0 fields
+            hd.personality = props.getProperty(prefix + "personality", "CHEERFUL");
+            hd.equippedAccessories = splitList(props.getProperty(prefix + "equippedAccessories", ""));
+            hd.ownedAccessories = splitList(props.getProperty(prefix + "ownedAccessories", ""));
+            state.hamsters.add(hd);
+        }
+
+        int poopCount = clampInt(props.getProperty("poopCount", "0"), 0, 500);
+        state.poops = new ArrayList<>();
+        for (int i = 0; i < poopCount; i++) {
+            String prefix = "poop." + i + ".";
+            GameState.PoopData pd = new GameState.PoopData();
+            pd.screenX = Integer.parseInt(props.getProperty(prefix + "screenX", "0"));
+            pd.screenY = Integer.parseInt(props.getProperty(prefix + "screenY", "0"));
+            state.poops.add(pd);
+        }
+
+        // Food inventory
+        state.foodInventory = FoodInventory.loadFromProperties(props, "inv.");
+
+        return state;
+    }
+
+    private static int clampInt(String value, int min, int max) {
+        try {
+            int v = Integer.parseInt(value);
+            return Math.max(min, Math.min(max, v));
+        } catch (NumberFormatException e) {
+            return min;
+        }
+    }
+
+    static <T extends Enum<T>> T safeEnum(Class<T> enumType, String value, T defaultValue) {
+        try {
+            return Enum.valueOf(enumType, value);
+        } catch (IllegalArgumentException e) {
+            return defaultValue;
+        }
+    }
+
+    private static java.util.List<String> splitList(String str) {
+        java.util.List<String> list = new ArrayList<>();
+        if (str == null || str.isEmpty()) return list;
+        String[] parts = str.split(",");
+        for (String part : parts) {
+            String trimmed = part.trim();
+            if (!trimmed.isEmpty()) list.add(trimmed);
+        }
+        return list;
+    }
+
+    static GameState loadLegacyFile(String path) {
+        File file = new File(path);
+        if (!file.exists()) {
+            // Try backup
+            File backup = new File(path + ".bak");
+            if (backup.exists()) {
+                GameLogger.warn("Main save missing, trying backup: " + path);
+                file = backup;
+            } else {
+                return null;
+            }
+        }
+
+        Properties props = new Properties();
+        try (FileInputStream fis = new FileInputStream(file)) {
+            props.load(fis);
+        } catch (IOException e) {
+            GameLogger.error("Failed to load save: " + path, e);
+            // Try backup
+            File backup = new File(path + ".bak");
+            if (backup.exists() && !file.equals(backup)) {
+                GameLogger.info("Trying backup file");
+                try (FileInputStream bfis = new FileInputStream(backup)) {
+                    props.load(bfis);
+                } catch (IOException e2) {
+                    GameLogger.error("Failed to load backup", e2);
+                    return null;
+                }
+            } else {
+                return null;
+            }
+        }
+
+        try {
+            return parseGameState(props);
+        } catch (Exception e) {
+            GameLogger.error("Corrupted save data, attempting backup: " + path, e);
+            // Try loading from backup
+            File backup = new File(path + ".bak");
+            if (backup.exists()) {
+                Properties backupProps = new Properties();
+                try (FileInputStream bfis = new FileInputStream(backup)) {
+                    backupProps.load(bfis);
+                    GameState backupState = parseGameState(backupProps);
+                    GameLogger.info("Successfully loaded from backup");
+                    return backupState;
+                } catch (Exception e2) {
+                    GameLogger.error("Backup also corrupted", e2);
+                }
+            }
+            return null;
+        }
+    }
+
+}
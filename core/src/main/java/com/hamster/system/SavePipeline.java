@@ -0,0 +1,140 @@
+package com.hamster.system;
+
+import java.util.ArrayDeque;
+
+/**
+ * Writes saves on a background thread so the game loop never waits for the disk.
+ *
+ * The caller stages a snapshot in the profile on the EDT (see
+ * {@code World.captureSave()}) and hands over the code that writes it. A single writer
+ * thread runs the jobs in order. A save that is still waiting when the next one arrives
+ * is replaced, since the newer snapshot supersedes it, so a burst of saves costs one
+ * write. A save job therefore must not hold the only copy of anything: what it writes is
+ * staged before it is submitted, and whatever it marks saved is marked only after its
+ * own commit (see {@code AchievementManager.acknowledge}). Other jobs ({@link #submit})
+ * are never dropped and keep their place in line.
+ */
+public final class SavePipeline {
+
+    private static final class Job {
+        final Runnable work;
+        final boolean save;
+
+        Job(Runnable work, boolean save) {
+            this.work = work;
+            this.save = save;
+        }
+    }
+
+    private final ArrayDeque<Job> queue = new ArrayDeque<>();
+    private final Thread writer;
+    private boolean busy;
+    private boolean stopped;
+
+    // Guarded by this
+    private int saved, coalesced, failed;
+    private long writeNanos;
+
+    public SavePipeline() {
+        writer = new Thread(this::run, "SaveWriter");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /** Queue a save; replaces a save that has not started yet. */
+    public synchronized void submitSave(Runnable write) {
+        if (stopped) return;
+        Job last = queue.peekLast();
+        if (last != null && last.save) {
+            queue.pollLast();
+            coalesced++;
+        }
+        queue.addLast(new Job(write, true));
+        notifyAll();
+    }
+
+    /** Queue a job that must run after the saves before it, e.g. deleting the save. */
+    public synchronized void submit(Runnable job) {
+        if (stopped) return;
+        queue.addLast(new Job(job, false));
+        notifyAll();
+    }
+
+    /**
+     * Wait until every queued job was written.
+     *
+     * @return false if the writer was still busy after {@code timeoutMillis}
+     */
+    public synchronized boolean flush(long timeoutMillis) {
+        if (Thread.currentThread() == writer) return queue.isEmpty();
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (!queue.isEmpty() || busy) {
+            long wait = deadline - System.currentTimeMillis();
+            if (wait <= 0 || !writer.isAlive()) return false;
+            try {
+                wait(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Flush, then stop the writer; later submissions are ignored. Safe to call twice. */
+    public void shutdown(long timeoutMillis) {
+        if (!flush(timeoutMillis)) {
+            GameLogger.warn("Save pipeline did not finish within " + timeoutMillis + " ms");
+        }
+        synchronized (this) {
+            if (stopped) return;
+            stopped = true;
+            notifyAll();
+        }
+        GameLogger.info("Save pipeline stopped: " + this);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("saves=%d coalesced=%d failed=%d avg=%.1fms", saved, coalesced, failed,
+                saved > 0 ? writeNanos / 1e6 / saved : 0.0);
+    }
+
+    private void run() {
+        while (true) {
+            Job job;
+            synchronized (this) {
+                while (queue.isEmpty() && !stopped) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (queue.isEmpty()) return;
+                job = queue.pollFirst();
+                busy = true;
+            }
+
+            long start = System.nanoTime();
+            boolean ok = true;
+            try {
+                job.work.run();
+            } catch (RuntimeException e) {
+                ok = false;
+                GameLogger.error("Background save failed", e);
+            }
+            long elapsed = System.nanoTime() - start;
+
+            synchronized (this) {
+                busy = false;
+                if (!ok) failed++;
+                else if (job.save) {
+                    saved++;
+                    writeNanos += elapsed;
+                }
+                notifyAll();
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.hamster.system;
+
+import com.hamster.model.GameConstants;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streams the sections of a binary save (see {@link SaveFormat}).
+ *
+ * The file is read through a fixed buffer one section at a time: {@link #nextSection()}
+ * loads the next payload, checks its CRC32C and returns its tag, and the read methods
+ * decode from that payload. The string table is taken in on the way and never shown to
+ * the caller. Any damage (bad magic, checksum mismatch, truncation, a read past the end
+ * of a section) is an {@link IOException}.
+ *
+ * A reader over a byte array decodes what an inline {@link SaveWriter} wrote: there are
+ * no sections, the whole array is the current payload.
+ */
+final class SaveReader implements Closeable {
+
+    private final FileChannel ch;
+    private final ByteBuffer in;
+    private final int version;
+    private final boolean inline;
+    private String[] strings = new String[0];
+    private boolean ended;
+
+    private byte[] payload = new byte[4096];
+    private int tag = -1;
+    private int pos, limit;
+
+    SaveReader(File file) throws IOException {
+        inline = false;
+        in = ByteBuffer.allocate(SaveFormat.BUFFER_SIZE);
+        ch = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            in.limit(0);
+            version = readHeader(file.toString());
+        } catch (IOException e) {
+            ch.close();
+            throw e;
+        }
+    }
+
+    /** Read a save held in memory, e.g. a record of the {@link ProfileStore}. */
+    SaveReader(ByteBuffer save, String source) throws IOException {
+        inline = false;
+        ch = null;
+        in = save;
+        version = readHeader(source);
+    }
+
+    /** Decode {@code len} bytes written by an inline {@link SaveWriter}. */
+    SaveReader(byte[] data, int len) {
+        ch = null;
+        in = null;
+        inline = true;
+        version = GameConstants.SAVE_VERSION;
+        payload = data;
+        limit = len;
+        ended = true;
+    }
+
+    private int readHeader(String source) throws IOException {
+        fill(SaveFormat.HEADER_SIZE);
+        if (in.getInt() != SaveFormat.MAGIC) throw new IOException("Not a binary save: " + source);
+        int v = in.getShort() & 0xFFFF;
+        in.getShort(); // flags, unused
+        if (v > GameConstants.SAVE_VERSION) {
+            throw new IOException("Save format " + v + " is newer than this build");
+        }
+        return v;
+    }
+
+    /** Format version from the header. */
+    int version() {
+        return version;
+    }
+
+    /**
+     * Load the next game section and return its tag, or {@link SaveFormat#TAG_END} once
+     * the end marker was read.
+     */
+    int nextSection() throws IOException {
+        while (!ended) {
+            fill(5);
+            tag = in.get() & 0xFF;
+            int n = in.getInt();
+            if (n < 0 || n > SaveFormat.MAX_SECTION_SIZE) throw new IOException("Bad length " + n + " in section " + tag);
+            if (payload.length < n) payload = new byte[Math.max(n, payload.length * 2)];
+            for (int off = 0; off < n; ) {
+                if (!in.hasRemaining()) fill(1);
+                int k = Math.min(n - off, in.remaining());
+                in.get(payload, off, k);
+                off += k;
+            }
+            fill(4);
+            if (in.getInt() != SaveFormat.crc32c(payload, 0, n)) {
+                throw new IOException("Checksum mismatch in section " + tag);
+            }
+            pos = 0;
+            limit = n;
+
+            if (tag == SaveFormat.TAG_END) {
+                ended = true;
+            } else if (tag == SaveFormat.TAG_STRINGS) {
+                readStringTable();
+            } else {
+                return tag;
+            }
+        }
+        return SaveFormat.TAG_END;
+    }
+
+    /** Bytes of the current section not read yet. */
+    int remaining() {
+        return limit - pos;
+    }
+
+    int readVarInt() throws IOException {
+        long v = readVarLong();
+        if ((v >>> 32) != 0) throw new IOException("Varint overflow in section " + tag);
+        return (int) v;
+    }
+
+    long readVarLong() throws IOException {
+        long v = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (pos >= limit) throw overrun();
+            int b = payload[pos++];
+            v |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return v;
+        }
+        throw new IOException("Malformed varint in section " + tag);
+    }
+
+    int readSignedInt() throws IOException {
+        int v = readVarInt();
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    long readSignedLong() throws IOException {
+        long v = readVarLong();
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    long readFixedLong() throws IOException {
+        if (limit - pos < 8) throw overrun();
+        long v = 0;
+        for (int i = 0; i < 8; i++) {
+            v = (v << 8) | (payload[pos++] & 0xFF);
+        }
+        return v;
+    }
+
+    double readDouble() throws IOException {
+        return Double.longBitsToDouble(readFixedLong());
+    }
+
+    /** A string written by {@link SaveWriter#writeString}; may be {@code null}. */
+    String readString() throws IOException {
+        int idx = readVarInt();
+        if (idx == 0) return null;
+        if (inline) {
+            int n = idx - 1;
+            if (n > limit - pos) throw overrun();
+            String s = new String(payload, pos, n, StandardCharsets.UTF_8);
+            pos += n;
+            return s;
+        }
+        if (idx > strings.length) throw new IOException("String index " + idx + " out of range in section " + tag);
+        return strings[idx - 1];
+    }
+
+    /** Bytes written by {@link SaveWriter#writeBytes}. */
+    byte[] readBytes() throws IOException {
+        int n = readVarInt();
+        if (n < 0 || n > limit - pos) throw overrun();
+        byte[] data = new byte[n];
+        System.arraycopy(payload, pos, data, 0, n);
+        pos += n;
+        return data;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (ch != null) ch.close();
+    }
+
+    private void readStringTable() throws IOException {
+        int count = readVarInt();
+        if (count > limit) throw new IOException("Bad string table size " + count);
+        String[] table = new String[count];
+        for (int i = 0; i < count; i++) {
+            int n = readVarInt();
+            if (n > limit - pos) throw overrun();
+            table[i] = new String(payload, pos, n, StandardCharsets.UTF_8);
+            pos += n;
+        }
+        strings = table;
+    }
+
+    // Make at least need bytes readable from in (which stays in read mode)
+    private void fill(int need) throws IOException {
+        if (in.remaining() >= need) return;
+        if (ch == null) throw new EOFException("Save truncated");
+        in.compact();
+        while (in.position() < need) {
+            if (ch.read(in) < 0) throw new EOFException("Save file truncated");
+        }
+        in.flip();
+    }
+
+    private IOException overrun() {
+        return new IOException("Read past the end of section " + tag);
+    }
+}
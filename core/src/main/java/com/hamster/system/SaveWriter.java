@@ -0,0 +1,191 @@
+package com.hamster.system;
+
+import com.hamster.model.GameConstants;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds a binary save (see {@link SaveFormat}) in memory and writes it out in one pass.
+ *
+ * Sections are encoded back to back into a single growable buffer. Unsigned values are
+ * LEB128 varints, signed ones are zigzag-encoded first so small negatives stay short.
+ * Strings are interned: the first use adds the string to the table and every use writes
+ * its index, so the colour and accessory names repeated across hamsters cost a byte or
+ * two each. The table is only known at the end, which is why it is written last here
+ * and put first by {@link #toByteArray()}.
+ *
+ * An inline writer skips the table and sections and just collects values (strings as
+ * length-prefixed UTF-8), for records that must decode on their own, like the batches of
+ * the {@link WriteAheadLog}.
+ */
+final class SaveWriter {
+
+    // Tag byte, length and CRC around each section payload
+    private static final int SECTION_OVERHEAD = 9;
+
+    private byte[] buf = new byte[4096];
+    private int len;
+    private int openTag = -1;
+    private int openStart;
+    private final List<int[]> sections = new ArrayList<>(); // {tag, start, end}
+
+    private final boolean inline;
+    private final Map<String, Integer> stringIndex = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+
+    SaveWriter() {
+        this(false);
+    }
+
+    /** @param inline write strings in place instead of through the string table */
+    SaveWriter(boolean inline) {
+        this.inline = inline;
+    }
+
+    void beginSection(int tag) {
+        if (openTag >= 0) throw new IllegalStateException("Section " + openTag + " still open");
+        if (tag < SaveFormat.TAG_FIRST_USER || tag > 255) throw new IllegalArgumentException("Bad section tag " + tag);
+        openTag = tag;
+        openStart = len;
+    }
+
+    void endSection() {
+        if (openTag < 0) throw new IllegalStateException("No open section");
+        sections.add(new int[] { openTag, openStart, len });
+        openTag = -1;
+    }
+
+    /** Unsigned varint; negative values take five bytes. */
+    void writeVarInt(int v) {
+        writeVarLong(v & 0xFFFFFFFFL);
+    }
+
+    void writeVarLong(long v) {
+        ensure(10);
+        while ((v & ~0x7FL) != 0) {
+            buf[len++] = (byte) ((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        buf[len++] = (byte) v;
+    }
+
+    void writeSignedInt(int v) {
+        writeVarInt((v << 1) ^ (v >> 31));
+    }
+
+    void writeSignedLong(long v) {
+        writeVarLong((v << 1) ^ (v >> 63));
+    }
+
+    /** Eight bytes big-endian, for values with no small-number bias (seeds, doubles). */
+    void writeFixedLong(long v) {
+        ensure(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buf[len++] = (byte) (v >>> shift);
+        }
+    }
+
+    void writeDouble(double v) {
+        writeFixedLong(Double.doubleToLongBits(v));
+    }
+
+    /** Write {@code s} as a string table index (or in place); {@code null} is allowed. */
+    void writeString(String s) {
+        if (s == null) {
+            writeVarInt(0);
+            return;
+        }
+        if (inline) {
+            writeUtf(s, 1);
+            return;
+        }
+        Integer idx = stringIndex.get(s);
+        if (idx == null) {
+            strings.add(s);
+            idx = strings.size();
+            stringIndex.put(s, idx);
+        }
+        writeVarInt(idx);
+    }
+
+    /** Encoded size so far, string table excluded. */
+    int size() {
+        return len;
+    }
+
+    /** The encoded bytes, valid up to {@link #size()}; shared, not copied. */
+    byte[] buffer() {
+        return buf;
+    }
+
+    /** Forget everything written, keeping the buffer. */
+    void reset() {
+        len = 0;
+        openTag = -1;
+        sections.clear();
+        stringIndex.clear();
+        strings.clear();
+    }
+
+    /** Raw bytes, length-prefixed. */
+    void writeBytes(byte[] data) {
+        writeVarInt(data.length);
+        ensure(data.length);
+        System.arraycopy(data, 0, buf, len, data.length);
+        len += data.length;
+    }
+
+    /** Header, string table and sections as one byte array, ready to be stored. */
+    byte[] toByteArray() {
+        if (openTag >= 0) throw new IllegalStateException("Section " + openTag + " still open");
+        if (inline) throw new IllegalStateException("Inline writers have no save layout");
+
+        // Encode the table past the sections and drop it again afterwards
+        int tableStart = len;
+        writeVarInt(strings.size());
+        for (String s : strings) {
+            writeUtf(s, 0);
+        }
+        int tableEnd = len;
+        len = tableStart;
+
+        int total = SaveFormat.HEADER_SIZE + SECTION_OVERHEAD * (sections.size() + 2) + tableEnd;
+        ByteBuffer out = ByteBuffer.allocate(total);
+        out.putInt(SaveFormat.MAGIC);
+        out.putShort((short) GameConstants.SAVE_VERSION);
+        out.putShort((short) 0);
+        writeSection(out, SaveFormat.TAG_STRINGS, tableStart, tableEnd - tableStart);
+        for (int[] s : sections) {
+            writeSection(out, s[0], s[1], s[2] - s[1]);
+        }
+        writeSection(out, SaveFormat.TAG_END, 0, 0);
+        return out.array();
+    }
+
+    private void writeSection(ByteBuffer out, int tag, int off, int n) {
+        out.put((byte) tag).putInt(n);
+        out.put(buf, off, n);
+        out.putInt(SaveFormat.crc32c(buf, off, n));
+    }
+
+    // Length (plus bias, so 0 can mean null) and UTF-8 bytes
+    private void writeUtf(String s, int bias) {
+        byte[] utf = s.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(utf.length + bias);
+        ensure(utf.length);
+        System.arraycopy(utf, 0, buf, len, utf.length);
+        len += utf.length;
+    }
+
+    private void ensure(int extra) {
+        if (len + extra > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(len + extra, buf.length * 2));
+        }
+    }
+}
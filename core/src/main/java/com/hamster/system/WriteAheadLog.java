@@ -0,0 +1,487 @@
+package com.hamster.system;
+
+import com.hamster.model.FoodInventory;
+import com.hamster.model.FoodItem;
+import com.hamster.model.GameState;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only log of what changed in a run since its last full save.
+ *
+ * Full saves are written every few minutes. In between, the world is compared with the
+ * previous capture every couple of seconds ({@link #diff}) and the difference goes out as
+ * one small {@link Batch} of records: a money delta, new stat values, a hamster born or
+ * died, a buff added, a poop spawned or cleaned, a food count. Each batch is synced, so a
+ * crash loses at most the last couple of seconds, and loading replays the log over the
+ * snapshot ({@link #replay}).
+ *
+ * The file is a header (magic, version, flags, epoch) followed by batches of
+ * [length][CRC32C][records]. The epoch ties the log to its snapshot: every full save
+ * stores a new epoch and then restarts the log with it, so a log left over from before
+ * that save (a crash between the two writes) no longer matches and is skipped. A torn last
+ * batch is dropped. Writing is for the save thread only.
+ */
+public final class WriteAheadLog {
+
+    /** "HMWL" */
+    private static final int MAGIC = 0x484D574C;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+
+    private static final int REC_IDS = 1;
+    private static final int REC_TICK = 2;
+    private static final int REC_MONEY = 3;
+    private static final int REC_COUNTERS = 4;
+    private static final int REC_STATS = 5;
+    private static final int REC_BORN = 6;
+    private static final int REC_HAMSTER = 7;
+    private static final int REC_DIED = 8;
+    private static final int REC_BUFF = 9;
+    private static final int REC_POOP_SPAWNED = 10;
+    private static final int REC_POOP_CLEANED = 11;
+    private static final int REC_FOOD = 12;
+
+    private static final FoodItem[] FOODS = FoodItem.values();
+
+    /** Records for one append, tagged with the epoch of the snapshot they build on. */
+    public static final class Batch {
+        private final long epoch;
+        private final SaveWriter out = new SaveWriter(true);
+        private int records;
+
+        Batch(long epoch) {
+            this.epoch = epoch;
+        }
+
+        public long epoch() { return epoch; }
+
+        public boolean isEmpty() { return records == 0; }
+
+        /** Encoded size in bytes. */
+        public int size() { return out.size(); }
+
+        private void begin(int type) {
+            out.writeVarInt(type);
+            records++;
+        }
+
+        void ids(List<GameState.HamsterData> hamsters) {
+            begin(REC_IDS);
+            out.writeVarInt(hamsters.size());
+            for (GameState.HamsterData hd : hamsters) out.writeVarInt(hd.id);
+        }
+
+        void tick(long totalFrames, long savedAtMillis) {
+            begin(REC_TICK);
+            out.writeVarLong(totalFrames);
+            out.writeVarLong(savedAtMillis);
+        }
+
+        void money(int delta) {
+            begin(REC_MONEY);
+            out.writeSignedInt(delta);
+        }
+
+        void counters(GameState s) {
+            begin(REC_COUNTERS);
+            out.writeVarInt(s.hamstersRaised);
+            out.writeVarInt(s.qualifiedHamsters);
+            out.writeVarInt(s.hamsterPurchaseCount);
+        }
+
+        void stats(GameState.HamsterData hd) {
+            begin(REC_STATS);
+            out.writeVarInt(hd.id);
+            out.writeVarInt(hd.hunger);
+            out.writeVarInt(hd.happiness);
+            out.writeVarInt(hd.energy);
+            out.writeVarInt(hd.poopTimer);
+            out.writeVarLong(hd.ageFrames);
+            out.writeVarInt(hd.breedCooldownFrames);
+        }
+
+        /** A new hamster, or ({@code born} false) one whose details changed. */
+        void hamster(GameState.HamsterData hd, boolean born) {
+            begin(born ? REC_BORN : REC_HAMSTER);
+            out.writeVarInt(hd.id);
+            SaveManager.writeHamster(out, hd);
+        }
+
+        void died(int id) {
+            begin(REC_DIED);
+            out.writeVarInt(id);
+        }
+
+        void buffAdded(int id, GameState.BuffData bd) {
+            begin(REC_BUFF);
+            out.writeVarInt(id);
+            SaveManager.writeBuff(out, bd);
+        }
+
+        void poop(boolean spawned, int x, int y) {
+            begin(spawned ? REC_POOP_SPAWNED : REC_POOP_CLEANED);
+            out.writeSignedInt(x);
+            out.writeSignedInt(y);
+        }
+
+        void food(FoodItem food, int count) {
+            begin(REC_FOOD);
+            out.writeString(food.name());
+            out.writeVarInt(count);
+        }
+    }
+
+    private final File file;
+    private FileChannel ch;
+    private long epoch = -1;
+    private volatile long size;
+
+    public WriteAheadLog(File file) {
+        this.file = file;
+    }
+
+    /** Bytes in the log, readable from any thread. */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Start an empty log for the snapshot {@code state} that was just saved. Its first
+     * record maps the snapshot's hamsters to the ids later records use.
+     */
+    void restart(GameState state) throws IOException {
+        close();
+        ch = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        epoch = state.logEpoch;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putShort((short) VERSION).putShort((short) 0).putLong(epoch);
+        header.flip();
+        while (header.hasRemaining()) ch.write(header);
+        size = HEADER_SIZE;
+
+        Batch first = new Batch(epoch);
+        first.ids(state.hamsters);
+        append(first);
+    }
+
+    /** Append {@code batch} and sync it. Batches for another epoch are dropped. */
+    void append(Batch batch) throws IOException {
+        if (ch == null || batch.epoch != epoch) return;
+        int n = batch.out.size();
+        ByteBuffer frame = ByteBuffer.allocate(8 + n);
+        frame.putInt(n).putInt(SaveFormat.crc32c(batch.out.buffer(), 0, n));
+        frame.put(batch.out.buffer(), 0, n);
+        frame.flip();
+        while (frame.hasRemaining()) ch.write(frame);
+        ch.force(false);
+        size += frame.limit();
+    }
+
+    void close() {
+        if (ch != null) {
+            try {
+                ch.close();
+            } catch (IOException e) {
+                GameLogger.warn("Failed to close save log: " + e.getMessage());
+            }
+            ch = null;
+        }
+        epoch = -1;
+        size = 0;
+    }
+
+    void delete() {
+        close();
+        if (file.exists()) file.delete();
+    }
+
+    // ===================== Diff =====================
+
+    /**
+     * Records that turn {@code before} into {@code after}, both captures of the same run.
+     * Positions are left to the next full save, as are expired buffs, which the replay
+     * drops by their expiry tick.
+     */
+    public static Batch diff(GameState before, GameState after) {
+        Batch b = new Batch(after.logEpoch);
+        if (after.totalFrames != before.totalFrames) b.tick(after.totalFrames, after.savedAtMillis);
+        if (after.money != before.money) b.money(after.money - before.money);
+        if (after.hamstersRaised != before.hamstersRaised
+                || after.qualifiedHamsters != before.qualifiedHamsters
+                || after.hamsterPurchaseCount != before.hamsterPurchaseCount) {
+            b.counters(after);
+        }
+
+        Map<Integer, GameState.HamsterData> old = new HashMap<>();
+        for (GameState.HamsterData hd : before.hamsters) old.put(hd.id, hd);
+        HashSet<Integer> alive = new HashSet<>();
+        for (GameState.HamsterData hd : after.hamsters) alive.add(hd.id);
+        for (GameState.HamsterData hd : before.hamsters) {
+            if (!alive.contains(hd.id)) b.died(hd.id);
+        }
+        for (GameState.HamsterData hd : after.hamsters) {
+            GameState.HamsterData prev = old.get(hd.id);
+            if (prev == null) {
+                b.hamster(hd, true);
+            } else if (!sameDetails(prev, hd)) {
+                b.hamster(hd, false);
+            } else {
+                if (prev.hunger != hd.hunger || prev.happiness != hd.happiness || prev.energy != hd.energy
+                        || prev.poopTimer != hd.poopTimer || prev.ageFrames != hd.ageFrames
+                        || prev.breedCooldownFrames != hd.breedCooldownFrames) {
+                    b.stats(hd);
+                }
+                for (GameState.BuffData bd : hd.buffs) {
+                    if (!containsBuff(prev.buffs, bd)) b.buffAdded(hd.id, bd);
+                }
+            }
+        }
+
+        diffPoops(b, before.poops, after.poops);
+
+        for (FoodItem food : FOODS) {
+            int was = count(before.foodInventory, food);
+            int now = count(after.foodInventory, food);
+            if (was != now) b.food(food, now);
+        }
+        return b;
+    }
+
+    private static boolean sameDetails(GameState.HamsterData a, GameState.HamsterData b) {
+        return a.name.equals(b.name) && a.color == b.color
+                && a.lifespanFrames == b.lifespanFrames && a.generation == b.generation
+                && a.legacyHungerBonus == b.legacyHungerBonus
+                && a.legacyHappinessBonus == b.legacyHappinessBonus
+                && a.legacyEnergyBonus == b.legacyEnergyBonus
+                && a.legacyLifespanBonus == b.legacyLifespanBonus
+                && a.legacyMaxStatBonus == b.legacyMaxStatBonus
+                && a.maxHunger == b.maxHunger && a.maxHappiness == b.maxHappiness && a.maxEnergy == b.maxEnergy
+                && a.personality.equals(b.personality)
+                && a.equippedAccessories.equals(b.equippedAccessories)
+                && new HashSet<>(a.ownedAccessories).equals(new HashSet<>(b.ownedAccessories));
+    }
+
+    private static boolean containsBuff(List<GameState.BuffData> buffs, GameState.BuffData bd) {
+        for (GameState.BuffData o : buffs) {
+            if (o.type == bd.type && o.expiresAtTick == bd.expiresAtTick
+                    && o.multiplier == bd.multiplier && o.description.equals(bd.description)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Poops have no identity: diff the sorted positions as multisets
+    private static void diffPoops(Batch b, List<GameState.PoopData> before, List<GameState.PoopData> after) {
+        long[] was = packPoops(before);
+        long[] now = packPoops(after);
+        int i = 0, j = 0;
+        while (i < was.length || j < now.length) {
+            if (j == now.length || (i < was.length && was[i] < now[j])) {
+                b.poop(false, (int) (was[i] >> 32), (int) was[i]);
+                i++;
+            } else if (i == was.length || now[j] < was[i]) {
+                b.poop(true, (int) (now[j] >> 32), (int) now[j]);
+                j++;
+            } else {
+                i++;
+                j++;
+            }
+        }
+    }
+
+    private static long[] packPoops(List<GameState.PoopData> poops) {
+        long[] packed = new long[poops.size()];
+        for (int k = 0; k < packed.length; k++) {
+            GameState.PoopData pd = poops.get(k);
+            packed[k] = ((long) pd.screenX << 32) | (pd.screenY & 0xFFFFFFFFL);
+        }
+        Arrays.sort(packed);
+        return packed;
+    }
+
+    private static int count(FoodInventory inv, FoodItem food) {
+        return inv != null ? inv.getCount(food) : 0;
+    }
+
+    // ===================== Replay =====================
+
+    /**
+     * Apply the log in {@code file} to {@code state} if it belongs to that snapshot.
+     *
+     * @return the number of records applied, or -1 if there was no matching log
+     */
+    static int replay(File file, GameState state) {
+        if (!file.exists()) return -1;
+        byte[] data;
+        try {
+            data = Files.readAllBytes(file.toPath());
+        } catch (IOException e) {
+            GameLogger.error("Failed to read save log", e);
+            return -1;
+        }
+        ByteBuffer in = ByteBuffer.wrap(data);
+        if (data.length < HEADER_SIZE || in.getInt() != MAGIC || (in.getShort() & 0xFFFF) != VERSION) {
+            GameLogger.warn("Ignoring unreadable save log: " + file);
+            return -1;
+        }
+        in.getShort(); // flags, unused
+        long logEpoch = in.getLong();
+        if (logEpoch != state.logEpoch) {
+            GameLogger.info("Ignoring save log of epoch " + logEpoch + " (save is at " + state.logEpoch + ")");
+            return -1;
+        }
+
+        int applied = 0;
+        while (in.remaining() >= 8) {
+            int n = in.getInt();
+            int crc = in.getInt();
+            if (n < 0 || n > in.remaining()) {
+                GameLogger.warn("Save log ends in a torn batch; dropped it");
+                break;
+            }
+            int off = in.position();
+            if (SaveFormat.crc32c(data, off, n) != crc) {
+                GameLogger.warn("Save log batch failed its checksum; replay stops there");
+                break;
+            }
+            try {
+                applied += apply(new SaveReader(Arrays.copyOfRange(data, off, off + n), n), state);
+            } catch (IOException | RuntimeException e) {
+                GameLogger.error("Malformed save log batch; replay stops there", e);
+                break;
+            }
+            in.position(off + n);
+        }
+
+        // Expiry is not logged
+        for (GameState.HamsterData hd : state.hamsters) {
+            for (Iterator<GameState.BuffData> it = hd.buffs.iterator(); it.hasNext(); ) {
+                if (it.next().expiresAtTick <= state.totalFrames) it.remove();
+            }
+        }
+        return applied;
+    }
+
+    private static int apply(SaveReader in, GameState state) throws IOException {
+        int records = 0;
+        while (in.remaining() > 0) {
+            int type = in.readVarInt();
+            switch (type) {
+                case REC_IDS: {
+                    int count = in.readVarInt();
+                    for (int i = 0; i < count; i++) {
+                        int id = in.readVarInt();
+                        if (i < state.hamsters.size()) state.hamsters.get(i).id = id;
+                    }
+                    break;
+                }
+                case REC_TICK:
+                    state.totalFrames = in.readVarLong();
+                    state.savedAtMillis = in.readVarLong();
+                    break;
+                case REC_MONEY:
+                    state.money = (int) Math.max(0, Math.min(Integer.MAX_VALUE, (long) state.money + in.readSignedInt()));
+                    break;
+                case REC_COUNTERS:
+                    state.hamstersRaised = in.readVarInt();
+                    state.qualifiedHamsters = in.readVarInt();
+                    state.hamsterPurchaseCount = in.readVarInt();
+                    break;
+                case REC_STATS: {
+                    GameState.HamsterData hd = find(state, in.readVarInt());
+                    int hunger = in.readVarInt();
+                    int happiness = in.readVarInt();
+                    int energy = in.readVarInt();
+                    int poopTimer = in.readVarInt();
+                    long ageFrames = in.readVarLong();
+                    int breedCooldown = in.readVarInt();
+                    if (hd != null) {
+                        hd.hunger = hunger;
+                        hd.happiness = happiness;
+                        hd.energy = energy;
+                        hd.poopTimer = poopTimer;
+                        hd.ageFrames = ageFrames;
+                        hd.breedCooldownFrames = breedCooldown;
+                    }
+                    break;
+                }
+                case REC_BORN:
+                case REC_HAMSTER: {
+                    int id = in.readVarInt();
+                    GameState.HamsterData hd = SaveManager.readHamster(in);
+                    hd.id = id;
+                    GameState.HamsterData prev = find(state, id);
+                    if (prev != null) state.hamsters.set(state.hamsters.indexOf(prev), hd);
+                    else state.hamsters.add(hd);
+                    break;
+                }
+                case REC_DIED:
+                    state.hamsters.remove(find(state, in.readVarInt()));
+                    break;
+                case REC_BUFF: {
+                    GameState.HamsterData hd = find(state, in.readVarInt());
+                    GameState.BuffData bd = SaveManager.readBuff(in);
+                    if (hd != null) hd.buffs.add(bd);
+                    break;
+                }
+                case REC_POOP_SPAWNED: {
+                    GameState.PoopData pd = new GameState.PoopData();
+                    pd.screenX = in.readSignedInt();
+                    pd.screenY = in.readSignedInt();
+                    state.poops.add(pd);
+                    break;
+                }
+                case REC_POOP_CLEANED: {
+                    int x = in.readSignedInt();
+                    int y = in.readSignedInt();
+                    for (Iterator<GameState.PoopData> it = state.poops.iterator(); it.hasNext(); ) {
+                        GameState.PoopData pd = it.next();
+                        if (pd.screenX == x && pd.screenY == y) {
+                            it.remove();
+                            break;
+                        }
+                    }
+                    break;
+                }
+                case REC_FOOD: {
+                    FoodItem food = SaveManager.safeEnum(FoodItem.class, in.readString(), null);
+                    int count = in.readVarInt();
+                    if (food != null) {
+                        if (state.foodInventory == null) {
+                            state.foodInventory = new FoodInventory();
+                            state.foodInventory.clear();
+                        }
+                        state.foodInventory.setCount(food, count);
+                    }
+                    break;
+                }
+                default:
+                    throw new IOException("Unknown save log record " + type);
+            }
+            records++;
+        }
+        return records;
+    }
+
+    private static GameState.HamsterData find(GameState state, int id) {
+        for (GameState.HamsterData hd : state.hamsters) {
+            if (hd.id == id) return hd;
+        }
+        return null;
+    }
+}
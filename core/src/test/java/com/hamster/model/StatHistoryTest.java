@@ -0,0 +1,128 @@
+package com.hamster.model;
+
+import com.hamster.model.StatHistory.Channel;
+import com.hamster.model.StatHistory.Resolution;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Ring order, wraparound and downsampling of {@link StatHistory}.
+ */
+public class StatHistoryTest {
+
+    @Test
+    public void bucketsStayInOrderWhileTheRingGrows() {
+        StatHistory h = new StatHistory();
+        for (int i = 0; i < 40; i++) {
+            h.record(i, 100 - i, 2 * i);
+        }
+        assertEquals(40, h.size(Resolution.SECONDS));
+        assertEquals(40, h.version(Resolution.SECONDS));
+        for (int i = 0; i < 40; i++) {
+            assertEquals(i, h.get(Resolution.SECONDS, Channel.HUNGER, i));
+            assertEquals(100 - i, h.get(Resolution.SECONDS, Channel.HAPPINESS, i));
+            assertEquals(2 * i, h.get(Resolution.SECONDS, Channel.ENERGY, i));
+        }
+    }
+
+    @Test
+    public void fullRingDropsTheOldestBucket() {
+        StatHistory h = new StatHistory();
+        int capacity = Resolution.SECONDS.capacity;
+        int n = 2 * capacity + 37;
+        for (int i = 0; i < n; i++) {
+            h.addCoins(i);
+            h.record(i % 101, 0, 0);
+        }
+        assertEquals(capacity, h.size(Resolution.SECONDS));
+        assertEquals(n, h.version(Resolution.SECONDS));
+        // Oldest first, across the point where the ring wrapped
+        for (int i = 0; i < capacity; i++) {
+            int sample = n - capacity + i;
+            assertEquals("bucket " + i, sample % 101, h.get(Resolution.SECONDS, Channel.HUNGER, i));
+            assertEquals("bucket " + i, sample, h.get(Resolution.SECONDS, Channel.COINS, i));
+        }
+    }
+
+    @Test
+    public void coarserBucketsAverageStatsAndSumCoins() {
+        StatHistory h = new StatHistory();
+        int span = Resolution.MINUTES.samples;
+        for (int i = 0; i < span - 1; i++) {
+            h.addCoins(2);
+            h.record(i, 40, i % 2 == 0 ? 0 : 100);
+        }
+        // The bucket being filled is not visible yet
+        assertEquals(0, h.size(Resolution.MINUTES));
+        assertEquals(0, h.version(Resolution.MINUTES));
+
+        h.addCoins(2);
+        h.addCoins(5);
+        h.record(span - 1, 40, 100);
+        assertEquals(1, h.size(Resolution.MINUTES));
+        assertEquals(1, h.version(Resolution.MINUTES));
+        assertEquals((span - 1) / 2, h.get(Resolution.MINUTES, Channel.HUNGER, 0));
+        assertEquals(40, h.get(Resolution.MINUTES, Channel.HAPPINESS, 0));
+        assertEquals(50, h.get(Resolution.MINUTES, Channel.ENERGY, 0));
+        assertEquals(2 * span + 5, h.get(Resolution.MINUTES, Channel.COINS, 0));
+        // Coins counted once, in the sample they were earned before
+        assertEquals(7, h.get(Resolution.SECONDS, Channel.COINS, span - 1));
+
+        // The next bucket starts from zero
+        for (int i = 0; i < span; i++) {
+            h.record(90, 10, 20);
+        }
+        assertEquals(2, h.size(Resolution.MINUTES));
+        assertEquals(90, h.get(Resolution.MINUTES, Channel.HUNGER, 1));
+        assertEquals(0, h.get(Resolution.MINUTES, Channel.COINS, 1));
+    }
+
+    @Test
+    public void everyResolutionWrapsOnItsOwn() {
+        StatHistory h = new StatHistory();
+        int span = Resolution.MINUTES.samples;
+        int buckets = Resolution.MINUTES.capacity + 5;
+        for (int b = 0; b < buckets; b++) {
+            for (int i = 0; i < span; i++) {
+                h.record(b % 100, 0, 0);
+            }
+        }
+        assertEquals(Resolution.MINUTES.capacity, h.size(Resolution.MINUTES));
+        assertEquals(5, h.get(Resolution.MINUTES, Channel.HUNGER, 0));
+        assertEquals((buckets - 1) % 100,
+                h.get(Resolution.MINUTES, Channel.HUNGER, Resolution.MINUTES.capacity - 1));
+
+        int days = buckets * span / Resolution.DAYS.samples;
+        assertEquals(Resolution.DAYS.samples, GameConstants.FRAMES_PER_DAY / GameConstants.TICKS_PER_SECOND);
+        assertEquals(days, h.size(Resolution.DAYS));
+        assertEquals(days, h.version(Resolution.DAYS));
+    }
+
+    @Test
+    public void bucketsOutsideTheRingAreRejected() {
+        StatHistory h = new StatHistory();
+        h.record(1, 2, 3);
+        assertOutOfRange(h, -1);
+        assertOutOfRange(h, 1);
+        assertEquals(1, h.get(Resolution.SECONDS, Channel.HUNGER, 0));
+    }
+
+    @Test
+    public void percentIsClamped() {
+        assertEquals(50, StatHistory.percent(60, 120));
+        assertEquals(100, StatHistory.percent(130, 120));
+        assertEquals(0, StatHistory.percent(-5, 120));
+        assertEquals(0, StatHistory.percent(10, 0));
+    }
+
+    private static void assertOutOfRange(StatHistory h, int i) {
+        try {
+            h.get(Resolution.SECONDS, Channel.HUNGER, i);
+            fail("bucket " + i + " of " + h.size(Resolution.SECONDS));
+        } catch (IndexOutOfBoundsException expected) {
+            // Only closed buckets can be read
+        }
+    }
+}
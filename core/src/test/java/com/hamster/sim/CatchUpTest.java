@@ -0,0 +1,161 @@
+package com.hamster.sim;
+
+import com.hamster.model.Buff;
+import com.hamster.model.GameClock;
+import com.hamster.model.GameConstants;
+import com.hamster.model.GameStatistics;
+import com.hamster.model.Hamster;
+import com.hamster.model.HamsterColor;
+import com.hamster.system.AchievementManager;
+import com.hamster.system.HamsterJournal;
+import com.hamster.system.MetaProgress;
+import com.hamster.system.ProfileStore;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * {@link World#catchUp} against a tick-by-tick replay of the same span. The replay runs
+ * hidden (no random events or interactions) and has its poops cleaned every tick, since
+ * catch-up skips all of those.
+ */
+public class CatchUpTest {
+
+    private static final long SEED = 5;
+    private static final int HAMSTERS = 200;
+    private static final long DAY_MILLIS = 86_400_000L;
+    private static final long EPOCH_DAY = 1_700_000_000_000L / DAY_MILLIS * DAY_MILLIS;
+
+    // Colony means of a replay and a catch-up may differ by this much
+    private static final double HUNGER_TOLERANCE = 0.3;
+    private static final double HAPPINESS_TOLERANCE = 2;
+    private static final double ENERGY_TOLERANCE = 1;
+
+    /** Simulated wall clock shared by a test's worlds. */
+    private long nowMillis;
+
+    @Rule
+    public final TemporaryFolder temp = new TemporaryFolder();
+
+    @Before
+    public void useTemporaryProfile() {
+        // Unlocks and meta progress commit to the shared profile; keep the user's out of it
+        ProfileStore.setShared(ProfileStore.open(new File(temp.getRoot(), "profile.dat")));
+    }
+
+    @After
+    public void dropTemporaryProfile() {
+        ProfileStore.setShared(null);
+    }
+
+    @Test
+    public void statsMatchReplayAcrossTheDay() {
+        for (int hour : new int[] {2, 9, 16, 21}) {
+            assertEquals(0, compare(hour, 9_000));
+        }
+    }
+
+    @Test
+    public void statsMatchReplayWhileHoveringAtNapEdges() {
+        // Long enough to reach the 60 (night naps) or 20 (forced sleep) edge, across hours
+        for (int hour : new int[] {1, 11, 20}) {
+            assertEquals(0, compare(hour, 21_000));
+        }
+    }
+
+    @Test
+    public void deathsMatchReplay() {
+        for (int hour : new int[] {5, 19}) {
+            assertEquals(HAMSTERS, compare(hour, 60_000));
+        }
+    }
+
+    /** @return hamsters that died in the replay, each checked against the catch-up */
+    private int compare(int startHour, int ticks) {
+        long start = EPOCH_DAY + startHour * 3_600_000L + 1_234_567L;
+        long span = ticks * 1000L / GameConstants.TICKS_PER_SECOND;
+
+        nowMillis = start;
+        World replay = newWorld();
+        Map<String, Long> replayDeaths = new HashMap<>();
+        replay.setListener(new WorldListener() {
+            @Override
+            public void onHamsterDied(Hamster hamster, String causeOfDeath) {
+                replayDeaths.put(hamster.getName(), hamster.getAgeFrames());
+            }
+        });
+        long cleaningReward = 0;
+        for (int s = 0; s < ticks; s++) {
+            nowMillis = start + (s + 1) * 1000L / GameConstants.TICKS_PER_SECOND;
+            replay.step();
+            cleaningReward += (long) replay.cleanAllPoops() * GameConstants.POOP_CLEAN_ALL_REWARD;
+        }
+
+        nowMillis = start;
+        World fast = newWorld();
+        nowMillis = start + span;
+        assertEquals(ticks, fast.catchUp(span));
+
+        String at = "from " + startHour + ":20 over " + ticks + " ticks: ";
+        assertEquals(at + "ticks", replay.getTotalFrames(), fast.getTotalFrames());
+        assertEquals(at + "income", replay.getMoney() - cleaningReward, fast.getMoney());
+
+        Map<String, Hamster> replayAlive = new HashMap<>();
+        for (Hamster h : replay.getHamsters()) {
+            replayAlive.put(h.getName(), h);
+        }
+        double hunger = 0, happiness = 0, energy = 0;
+        int alive = 0;
+        for (Hamster h : fast.getHamsters()) {
+            if (h.isDead()) {
+                Long ageAtDeath = replayDeaths.get(h.getName());
+                assertNotNull(at + h.getName() + " died only in the catch-up", ageAtDeath);
+                assertEquals(at + h.getName() + " age at death", (long) ageAtDeath, h.getAgeFrames());
+                continue;
+            }
+            Hamster r = replayAlive.get(h.getName());
+            assertNotNull(at + h.getName() + " died only in the replay", r);
+            hunger += r.getHunger() - h.getHunger();
+            happiness += r.getHappiness() - h.getHappiness();
+            energy += r.getEnergy() - h.getEnergy();
+            alive++;
+        }
+        assertEquals(at + "survivors", replayAlive.size(), alive);
+        if (alive > 0) {
+            assertEquals(at + "mean hunger", 0, hunger / alive, HUNGER_TOLERANCE);
+            assertEquals(at + "mean happiness", 0, happiness / alive, HAPPINESS_TOLERANCE);
+            assertEquals(at + "mean energy", 0, energy / alive, ENERGY_TOLERANCE);
+        }
+        return replayDeaths.size();
+    }
+
+    private World newWorld() {
+        World w = new World(1920, 1040, new MetaProgress(), new GameStatistics(), new AchievementManager(),
+                new HamsterJournal(), new RngService(SEED));
+        w.setClock(new GameClock(() -> nowMillis, TimeZone.getTimeZone("UTC")));
+        w.setHidden(true);
+        for (int i = 0; i < HAMSTERS; i++) {
+            Hamster h = w.getHamsterManager().createHamster(1920, HamsterColor.WHITE, "h" + i);
+            w.addHamster(h, 100 + (i % 1700), 1040);
+            // Buffs that run out at different points of the span
+            switch (i % 5) {
+                case 0: h.addBuff(new Buff(Buff.Type.HUNGER_DRAIN, 0.5, 6_000, "slow hunger")); break;
+                case 1: h.addBuff(new Buff(Buff.Type.ENERGY_DRAIN, 1.5, 4_500, "tired")); break;
+                case 2: h.addBuff(new Buff(Buff.Type.HAPPINESS_DRAIN, 2.0, 3_000, "gloomy")); break;
+                case 3: h.addBuff(new Buff(Buff.Type.COIN_BONUS, 2.0, 12_000, "lucky")); break;
+                default: break;
+            }
+        }
+        return w;
+    }
+}
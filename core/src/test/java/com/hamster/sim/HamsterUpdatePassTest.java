@@ -0,0 +1,116 @@
+package com.hamster.sim;
+
+import com.hamster.model.GameClock;
+import com.hamster.model.GameState;
+import com.hamster.model.GameStatistics;
+import com.hamster.model.Hamster;
+import com.hamster.model.HamsterColor;
+import com.hamster.system.AchievementManager;
+import com.hamster.system.HamsterJournal;
+import com.hamster.system.MetaProgress;
+import com.hamster.system.ProfileStore;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.TimeZone;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The update pass must give the same world whether its chunks run on the calling thread
+ * or across a pool.
+ */
+public class HamsterUpdatePassTest {
+
+    private static final long SEED = 7;
+    private static final int HAMSTERS = 3000;
+    private static final int STEPS = 600;
+    private static final long NOON_UTC = 1_700_000_000_000L / 86_400_000L * 86_400_000L + 12 * 3_600_000L;
+
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void startPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void stopPool() {
+        pool.shutdown();
+    }
+
+    @Rule
+    public final TemporaryFolder temp = new TemporaryFolder();
+
+    @Before
+    public void useTemporaryProfile() {
+        // Unlocks and meta progress commit to the shared profile; keep the user's out of it
+        ProfileStore.setShared(ProfileStore.open(new File(temp.getRoot(), "profile.dat")));
+    }
+
+    @After
+    public void dropTemporaryProfile() {
+        ProfileStore.setShared(null);
+    }
+
+    @Test
+    public void parallelStepsMatchSerialSteps() {
+        World serial = newWorld(new HamsterUpdatePass(pool, Integer.MAX_VALUE));
+        World parallel = newWorld(new HamsterUpdatePass(pool, 0));
+        assertTrue(HAMSTERS > HamsterUpdatePass.CHUNK_SIZE * 2);
+
+        for (int s = 0; s < STEPS; s++) {
+            serial.step();
+            parallel.step();
+            if (s % 100 == 99) {
+                assertEquals("money after step " + s, serial.getMoney(), parallel.getMoney());
+                assertEquals("state after step " + s, describe(serial.captureState()), describe(parallel.captureState()));
+            }
+        }
+        assertEquals(serial.getMoney(), parallel.getMoney());
+        assertEquals(describe(serial.captureState()), describe(parallel.captureState()));
+    }
+
+    private static World newWorld(HamsterUpdatePass pass) {
+        World w = new World(1920, 1040, new MetaProgress(), new GameStatistics(), new AchievementManager(),
+                new HamsterJournal(), new RngService(SEED), pass);
+        w.setClock(new GameClock(() -> NOON_UTC, TimeZone.getTimeZone("UTC")));
+        for (int i = 0; i < HAMSTERS; i++) {
+            Hamster h = w.getHamsterManager().createHamster(1920, HamsterColor.WHITE, "h" + i);
+            w.addHamster(h, 100 + (i % 1700), 1040);
+        }
+        return w;
+    }
+
+    // Everything a save writes, except the wall-clock time of the capture
+    private static String describe(GameState state) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(state.money).append(' ').append(state.totalFrames).append(' ').append(state.hamstersRaised)
+                .append(' ').append(state.qualifiedHamsters).append(' ').append(state.hamsterPurchaseCount)
+                .append(' ').append(state.rngSeed).append('\n');
+        for (GameState.HamsterData h : state.hamsters) {
+            sb.append(h.name).append(' ').append(h.color).append(' ').append(h.hunger).append(' ')
+                    .append(h.happiness).append(' ').append(h.energy).append(' ').append(h.poopTimer).append(' ')
+                    .append(h.ageFrames).append(' ').append(h.lifespanFrames).append(' ')
+                    .append(h.windowX).append(' ').append(h.windowY).append(' ').append(h.generation).append(' ')
+                    .append(h.maxHunger).append(' ').append(h.maxHappiness).append(' ').append(h.maxEnergy)
+                    .append(' ').append(h.breedCooldownFrames).append(' ').append(h.personality);
+            for (GameState.BuffData b : h.buffs) {
+                sb.append(' ').append(b.type).append(':').append(b.multiplier).append(':').append(b.expiresAtTick);
+            }
+            sb.append('\n');
+        }
+        for (GameState.PoopData p : state.poops) {
+            sb.append(p.screenX).append(',').append(p.screenY).append(' ');
+        }
+        return sb.toString();
+    }
+}
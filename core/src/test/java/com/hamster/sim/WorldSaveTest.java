@@ -0,0 +1,134 @@
+package com.hamster.sim;
+
+import com.hamster.model.GameConstants;
+import com.hamster.model.GameStatistics;
+import com.hamster.system.Achievement;
+import com.hamster.system.AchievementManager;
+import com.hamster.system.HamsterJournal;
+import com.hamster.system.MetaProgress;
+import com.hamster.system.ProfileStore;
+import com.hamster.system.SaveManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * What a world stages in the profile, and which commit carries it. Commits and save
+ * jobs are collected instead of run, so a test can stop anywhere a crash could.
+ */
+public class WorldSaveTest {
+
+    @Rule
+    public final TemporaryFolder temp = new TemporaryFolder();
+
+    private File file;
+    private final List<Runnable> commits = new ArrayList<>();
+    private final List<Runnable> saves = new ArrayList<>();
+
+    @Before
+    public void useTemporaryProfile() {
+        file = new File(temp.getRoot(), "profile.dat");
+        ProfileStore profile = ProfileStore.open(file);
+        profile.setCommitExecutor(commits::add);
+        ProfileStore.setShared(profile);
+    }
+
+    @After
+    public void dropTemporaryProfile() {
+        ProfileStore.setShared(null);
+    }
+
+    @Test
+    public void unlockCommitsWithItsSeedsAndTheRun() {
+        GameStatistics stats = new GameStatistics();
+        stats.totalHamstersRaised = 1;
+        AchievementManager achievements = new AchievementManager();
+        World world = newWorld(stats, achievements);
+
+        world.step();
+        assertTrue(achievements.isUnlocked(Achievement.FIRST_HAMSTER));
+        assertEquals(1, commits.size());
+        assertEquals(1, saves.size());
+
+        // The seeds' commit goes out, then the process dies before the save job runs
+        commits.get(0).run();
+        ProfileStore.setShared(ProfileStore.open(file));
+        assertEquals(Achievement.FIRST_HAMSTER.getRewardAmount(), MetaProgress.load().sunflowerSeeds);
+        assertTrue(AchievementManager.load().isUnlocked(Achievement.FIRST_HAMSTER));
+        assertTrue(SaveManager.autoSaveExists());
+    }
+
+    @Test
+    public void unlockSurvivesADroppedSaveJob() {
+        GameStatistics stats = new GameStatistics();
+        stats.totalHamstersRaised = 1;
+        AchievementManager achievements = new AchievementManager();
+        World world = newWorld(stats, achievements);
+
+        world.step();
+        assertEquals(1, saves.size());
+        // The pipeline replaces the waiting job with the next save, and no other commit ran
+        saves.clear();
+        commits.clear();
+        world.captureSave().run();
+
+        ProfileStore.setShared(ProfileStore.open(file));
+        assertTrue(AchievementManager.load().isUnlocked(Achievement.FIRST_HAMSTER));
+        assertEquals(Achievement.FIRST_HAMSTER.getRewardAmount(), MetaProgress.load().sunflowerSeeds);
+        assertEquals(-1, achievements.stageChanges());
+    }
+
+    @Test
+    public void recordsOutsideTheRunAreSavedBetweenFullSaves() {
+        GameStatistics stats = new GameStatistics();
+        AchievementManager achievements = new AchievementManager();
+        World world = newWorld(stats, achievements);
+        int[] profileSaves = new int[1];
+        world.setListener(new WorldListener() {
+            @Override
+            public void onAutoSaveDue(World w) {
+                saves.add(w.captureSave());
+            }
+
+            @Override
+            public void onProfileSaveDue(World w) {
+                profileSaves[0]++;
+            }
+        });
+        world.setHidden(true);
+
+        for (int s = 0; s < GameConstants.AUTO_SAVE_INTERVAL; s++) {
+            world.step();
+        }
+        assertEquals(1, saves.size());
+        assertEquals(GameConstants.AUTO_SAVE_INTERVAL / GameConstants.PROFILE_SAVE_INTERVAL - 1, profileSaves[0]);
+
+        stats.totalPoopsCleaned = 12;
+        achievements.add(AchievementManager.Counter.BREEDS, 2);
+        world.captureProfileSave().run();
+        ProfileStore.setShared(ProfileStore.open(file));
+        assertEquals(12, GameStatistics.load().totalPoopsCleaned);
+        assertEquals(-1, achievements.stageChanges());
+    }
+
+    private World newWorld(GameStatistics stats, AchievementManager achievements) {
+        World world = new World(1920, 1040, new MetaProgress(), stats, achievements, new HamsterJournal(),
+                new RngService(3));
+        world.setListener(new WorldListener() {
+            @Override
+            public void onAutoSaveDue(World w) {
+                saves.add(w.captureSave());
+            }
+        });
+        return world;
+    }
+}
@@ -0,0 +1,138 @@
+package com.hamster.system;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Threshold unlocks and saving of the achievement record, against a profile in a
+ * temporary folder.
+ */
+public class AchievementManagerTest {
+
+    @Rule
+    public final TemporaryFolder temp = new TemporaryFolder();
+
+    private ProfileStore profile;
+
+    @Before
+    public void useTemporaryProfile() {
+        profile = ProfileStore.open(new File(temp.getRoot(), "profile.dat"));
+        ProfileStore.setShared(profile);
+    }
+
+    @After
+    public void dropTemporaryProfile() {
+        ProfileStore.setShared(null);
+    }
+
+    @Test
+    public void changesStayUnsavedUntilTheirCommitIsAcknowledged() {
+        AchievementManager mgr = new AchievementManager();
+        assertEquals(-1, mgr.stageChanges());
+        mgr.add(AchievementManager.Counter.POOPS_CLEANED, 3);
+
+        int staged = mgr.stageChanges();
+        assertTrue(staged >= 0);
+        // Not on disk yet, e.g. the save job was dropped or its write failed
+        mgr.acknowledge(staged);
+        assertEquals(staged, mgr.stageChanges());
+
+        profile.commit();
+        mgr.acknowledge(staged);
+        assertEquals(-1, mgr.stageChanges());
+    }
+
+    @Test
+    public void changesAfterTheStagedVersionStayUnsaved() {
+        AchievementManager mgr = new AchievementManager();
+        mgr.add(AchievementManager.Counter.POOPS_CLEANED, 3);
+        int staged = mgr.stageChanges();
+        mgr.add(AchievementManager.Counter.BREEDS, 1);
+
+        profile.commit();
+        mgr.acknowledge(staged);
+        int next = mgr.stageChanges();
+        assertTrue(next > staged);
+        profile.commit();
+        mgr.acknowledge(next);
+        assertEquals(-1, mgr.stageChanges());
+        assertEquals("1", profile.getProperties("achievements", null).getProperty("totalBreeds"));
+    }
+
+    @Test
+    public void eachThresholdUnlocksOnceWhenReached() {
+        AchievementManager mgr = new AchievementManager();
+        List<String> unlocks = new ArrayList<>();
+        for (int n = 1; n <= 1200; n++) {
+            mgr.add(AchievementManager.Counter.POOPS_CLEANED, 1);
+            for (Achievement ach : mgr.takeUnlocked()) {
+                unlocks.add(ach + "@" + n);
+            }
+        }
+        assertEquals(Arrays.asList("POOP_50@50", "POOP_200@200", "POOP_1000@1000"), unlocks);
+    }
+
+    @Test
+    public void oneUpdateCanCrossSeveralThresholds() {
+        AchievementManager mgr = new AchievementManager();
+        mgr.reach(AchievementManager.Counter.COINS_EARNED, 499);
+        assertFalse(mgr.hasUnlocked());
+        mgr.reach(AchievementManager.Counter.COINS_EARNED, 60_000);
+        assertEquals(Arrays.asList(Achievement.FIVE_HUNDRED_COINS, Achievement.FIVE_THOUSAND_COINS,
+                Achievement.FIFTY_THOUSAND_COINS), mgr.takeUnlocked());
+
+        mgr.reach(AchievementManager.Counter.COINS_EARNED, 100_000);
+        mgr.reach(AchievementManager.Counter.COINS_EARNED, 10);
+        assertEquals(Collections.emptyList(), mgr.takeUnlocked());
+        assertEquals(3, mgr.getUnlockedCount());
+    }
+
+    @Test
+    public void cursorsResumeAfterLoad() {
+        AchievementManager mgr = new AchievementManager();
+        mgr.add(AchievementManager.Counter.POOPS_CLEANED, 250);
+        mgr.reach(AchievementManager.Counter.HAMSTERS_RAISED, 7);
+        assertEquals(Arrays.asList(Achievement.FIRST_HAMSTER, Achievement.FIVE_HAMSTERS, Achievement.POOP_50,
+                Achievement.POOP_200), mgr.takeUnlocked());
+        mgr.save();
+        profile.commit();
+
+        AchievementManager loaded = AchievementManager.load();
+        assertFalse(loaded.hasUnlocked());
+        loaded.add(AchievementManager.Counter.POOPS_CLEANED, 749);
+        // Mirrored counters are not saved; the world raises them again from the statistics
+        loaded.reach(AchievementManager.Counter.HAMSTERS_RAISED, 7);
+        assertFalse(loaded.hasUnlocked());
+        loaded.add(AchievementManager.Counter.POOPS_CLEANED, 1);
+        loaded.reach(AchievementManager.Counter.HAMSTERS_RAISED, 10);
+        assertEquals(Arrays.asList(Achievement.TEN_HAMSTERS, Achievement.POOP_1000), loaded.takeUnlocked());
+    }
+
+    @Test
+    public void thresholdsReachedButNotTakenUnlockOnLoad() {
+        AchievementManager mgr = new AchievementManager();
+        mgr.add(AchievementManager.Counter.BREEDS, 20);
+        assertTrue(mgr.hasUnlocked());
+        // Saved before the rewards were granted, then the process died
+        mgr.save();
+        profile.commit();
+
+        AchievementManager loaded = AchievementManager.load();
+        assertEquals(Arrays.asList(Achievement.BREED_5, Achievement.BREED_20), loaded.takeUnlocked());
+        loaded.add(AchievementManager.Counter.BREEDS, 1);
+        assertFalse(loaded.hasUnlocked());
+    }
+}
@@ -0,0 +1,270 @@
+package com.hamster.system;
+
+import com.hamster.system.HamsterJournal.JournalEntry;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Segments, dictionary records and the index of the journal log, in a temporary folder.
+ */
+public class JournalLogTest {
+
+    private static final String[] COLORS = { "\uAC08\uC0C9", "\uD770\uC0C9", "\uAC80\uC740\uC0C9" };
+    private static final String[] PERSONALITIES = { "\uBA85\uB791", "\uAC8C\uC73C\uB984" };
+    private static final String[] CAUSES = { "\uB178\uD658", "\uBC30\uACE0\uD514", "\uC9C0\uCE68", "\uC6B0\uC6B8" };
+
+    @Rule
+    public final TemporaryFolder temp = new TemporaryFolder();
+
+    @Test
+    public void fullSegmentsAreSealedAndIndexed() {
+        File dir = temp.getRoot();
+        JournalLog log = new JournalLog(dir);
+        int n = 2 * JournalLog.SEGMENT_ENTRIES + 452;
+        // Flushed in uneven batches so rollovers fall inside a batch
+        for (int i = 0; i < n; i++) {
+            log.append(entry(i));
+            if (i % 700 == 699) log.flush();
+        }
+        log.flush();
+
+        assertEquals(Arrays.asList("0000000000.seg", "0000001024.seg", "0000002048.seg"), segments(dir));
+        assertTrue(new File(dir, "index.dat").exists());
+        // Sealed entries are read back from their segments
+        assertAll(log, n);
+        assertAll(new JournalLog(dir), n);
+    }
+
+    @Test
+    public void appendsContinueAfterReopen() {
+        File dir = temp.getRoot();
+        JournalLog log = new JournalLog(dir);
+        for (int i = 0; i < 1000; i++) {
+            log.append(entry(i));
+        }
+        log.flush();
+
+        JournalLog reopened = new JournalLog(dir);
+        for (int i = 1000; i < 1100; i++) {
+            reopened.append(entry(i));
+        }
+        reopened.flush();
+        assertEquals(Arrays.asList("0000000000.seg", "0000001024.seg"), segments(dir));
+        assertAll(new JournalLog(dir), 1100);
+    }
+
+    @Test
+    public void eachStringIsWrittenOncePerSegment() throws IOException {
+        File dir = temp.getRoot();
+        JournalLog log = new JournalLog(dir);
+        int n = JournalLog.SEGMENT_ENTRIES + 100;
+        for (int i = 0; i < n; i++) {
+            log.append(entry(i));
+        }
+        log.flush();
+
+        for (String seg : segments(dir)) {
+            byte[] data = Files.readAllBytes(new File(dir, seg).toPath());
+            for (String s : COLORS) {
+                assertEquals(seg + " " + s, 1, occurrences(data, s));
+            }
+            for (String s : CAUSES) {
+                assertEquals(seg + " " + s, 1, occurrences(data, s));
+            }
+        }
+        // The second segment decodes with its own dictionary, without the first
+        Files.delete(new File(dir, "index.dat").toPath());
+        Files.delete(new File(dir, "0000000000.seg").toPath());
+        JournalLog rest = new JournalLog(dir);
+        assertEquals(100, rest.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(describe(entry(JournalLog.SEGMENT_ENTRIES + i)), describe(rest.getAt(i)));
+        }
+    }
+
+    @Test
+    public void missingIndexIsRebuilt() throws IOException {
+        File dir = temp.getRoot();
+        File index = new File(dir, "index.dat");
+        int n = 3 * JournalLog.SEGMENT_ENTRIES + 10;
+        fill(dir, n);
+        byte[] written = Files.readAllBytes(index.toPath());
+        Files.delete(index.toPath());
+
+        assertAll(new JournalLog(dir), n);
+        assertArrayEquals(written, Files.readAllBytes(index.toPath()));
+    }
+
+    @Test
+    public void damagedIndexIsRebuilt() throws IOException {
+        File dir = temp.getRoot();
+        File index = new File(dir, "index.dat");
+        int n = 2 * JournalLog.SEGMENT_ENTRIES + 10;
+        fill(dir, n);
+        byte[] written = Files.readAllBytes(index.toPath());
+        byte[] damaged = written.clone();
+        damaged[damaged.length - 1] ^= 0x01;
+        Files.write(index.toPath(), damaged);
+
+        assertAll(new JournalLog(dir), n);
+        assertArrayEquals(written, Files.readAllBytes(index.toPath()));
+    }
+
+    @Test
+    public void staleIndexIsRebuilt() throws IOException {
+        File dir = temp.getRoot();
+        File index = new File(dir, "index.dat");
+        JournalLog log = new JournalLog(dir);
+        for (int i = 0; i < JournalLog.SEGMENT_ENTRIES + 10; i++) {
+            log.append(entry(i));
+        }
+        log.flush();
+        byte[] older = Files.readAllBytes(index.toPath());
+        int n = 2 * JournalLog.SEGMENT_ENTRIES + 10;
+        for (int i = JournalLog.SEGMENT_ENTRIES + 10; i < n; i++) {
+            log.append(entry(i));
+        }
+        log.flush();
+        byte[] written = Files.readAllBytes(index.toPath());
+
+        // The index of one sealed segment, next to two: the second was sealed, the
+        // index write was lost
+        Files.write(index.toPath(), older);
+        assertAll(new JournalLog(dir), n);
+        assertArrayEquals(written, Files.readAllBytes(index.toPath()));
+    }
+
+    @Test
+    public void tornTailOfTheOpenSegmentIsDropped() throws IOException {
+        File dir = temp.getRoot();
+        JournalLog log = new JournalLog(dir);
+        for (int i = 0; i < 10; i++) {
+            log.append(entry(i));
+        }
+        log.flush();
+        File seg = new File(dir, "0000000000.seg");
+        long intact = seg.length();
+        log.append(entry(10));
+        log.flush();
+        try (RandomAccessFile raf = new RandomAccessFile(seg, "rw")) {
+            raf.setLength(raf.length() - 3);
+        }
+
+        JournalLog reopened = new JournalLog(dir);
+        assertAll(reopened, 10);
+        assertEquals("damaged tail truncated", intact, seg.length());
+        reopened.append(entry(10));
+        reopened.flush();
+        assertAll(new JournalLog(dir), 11);
+    }
+
+    @Test
+    public void logWithoutADirectoryStaysInMemory() {
+        JournalLog log = new JournalLog(null);
+        for (int i = 0; i < 50; i++) {
+            log.append(entry(i));
+        }
+        log.flush();
+        assertAll(log, 50);
+        assertFalse(new File(temp.getRoot(), "index.dat").exists());
+    }
+
+    @Test
+    public void pagesAreNewestFirst() {
+        File dir = temp.getRoot();
+        int n = JournalLog.SEGMENT_ENTRIES + 40;
+        fill(dir, n);
+        JournalLog log = new JournalLog(dir);
+
+        assertEquals(descriptions(n - 1, n - 10), descriptions(log.page(0, 10)));
+        // Across the boundary between the sealed and the open segment
+        assertEquals(descriptions(JournalLog.SEGMENT_ENTRIES + 4, JournalLog.SEGMENT_ENTRIES - 5),
+                descriptions(log.page(35, 10)));
+        assertEquals(descriptions(2, 0), descriptions(log.page(n - 3, 10)));
+        assertTrue(log.page(n, 10).isEmpty());
+        assertTrue(log.page(n + 5, 10).isEmpty());
+        assertTrue(log.page(0, 0).isEmpty());
+        assertEquals(describe(entry(n - 1)), describe(log.get(0)));
+        assertEquals(describe(entry(0)), describe(log.get(n - 1)));
+    }
+
+    private static void fill(File dir, int n) {
+        JournalLog log = new JournalLog(dir);
+        for (int i = 0; i < n; i++) {
+            log.append(entry(i));
+        }
+        log.flush();
+    }
+
+    private static JournalEntry entry(int i) {
+        return new JournalEntry("\uD584\uC2A4\uD130" + i, COLORS[i % COLORS.length],
+                PERSONALITIES[i % PERSONALITIES.length], 1 + i % 7, 10 + i % 50,
+                CAUSES[i % CAUSES.length], 1_700_000_000_000L + 1000L * i);
+    }
+
+    private static String describe(JournalEntry e) {
+        return e.name + ' ' + e.color + ' ' + e.personality + ' ' + e.generation + ' ' + e.lifespanDays
+                + ' ' + e.causeOfDeath + ' ' + e.timestamp;
+    }
+
+    // Every position, oldest first, then in reverse through get
+    private static void assertAll(JournalLog log, int n) {
+        assertEquals(n, log.size());
+        for (int i = 0; i < n; i++) {
+            assertEquals("position " + i, describe(entry(i)), describe(log.getAt(i)));
+        }
+        for (int i = 0; i < n; i++) {
+            assertEquals("index " + i, describe(entry(n - 1 - i)), describe(log.get(i)));
+        }
+    }
+
+    private static List<String> descriptions(int from, int downTo) {
+        List<String> out = new ArrayList<>();
+        for (int i = from; i >= downTo; i--) {
+            out.add(describe(entry(i)));
+        }
+        return out;
+    }
+
+    private static List<String> descriptions(List<JournalEntry> entries) {
+        List<String> out = new ArrayList<>();
+        for (JournalEntry e : entries) {
+            out.add(describe(e));
+        }
+        return out;
+    }
+
+    private static List<String> segments(File dir) {
+        String[] names = dir.list((d, name) -> name.endsWith(".seg"));
+        Arrays.sort(names);
+        return Arrays.asList(names);
+    }
+
+    private static int occurrences(byte[] data, String s) {
+        byte[] needle = s.getBytes(StandardCharsets.UTF_8);
+        int count = 0;
+        outer:
+        for (int i = 0; i + needle.length <= data.length; i++) {
+            for (int j = 0; j < needle.length; j++) {
+                if (data[i + j] != needle[j]) continue outer;
+            }
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,231 @@
+package com.hamster.system;
+
+import com.hamster.model.GameConstants;
+import com.hamster.model.Hamster;
+import com.hamster.model.HamsterColor;
+import com.hamster.model.Personality;
+import com.hamster.system.HamsterJournal.JournalEntry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Filters, orders and pages of {@link HamsterJournal#query} on a small journal kept in
+ * memory.
+ */
+public class JournalQueryTest {
+
+    private static final String OLD_AGE = "\uB178\uD658";
+    private static final String HUNGER = "\uBC30\uACE0\uD514";
+    private static final String GLOOM = "\uC6B0\uC6B8";
+
+    private HamsterJournal journal;
+
+    @Before
+    public void fillJournal() {
+        journal = new HamsterJournal();
+        add(journal, 0, HamsterColor.BROWN, Personality.LAZY, 3, 20, OLD_AGE);
+        add(journal, 1, HamsterColor.WHITE, Personality.CHEERFUL, 2, 25, HUNGER);
+        add(journal, 2, HamsterColor.BROWN, Personality.CHEERFUL, 2, 30, OLD_AGE);
+        add(journal, 3, HamsterColor.BLACK, Personality.LAZY, 3, 22, OLD_AGE);
+        add(journal, 4, HamsterColor.BROWN, Personality.GLUTTON, 3, 35, HUNGER);
+        add(journal, 5, HamsterColor.WHITE, Personality.LAZY, 4, 30, OLD_AGE);
+        add(journal, 6, HamsterColor.BROWN, Personality.LAZY, 5, 28, OLD_AGE);
+        add(journal, 7, HamsterColor.BLACK, Personality.CHEERFUL, 5, 21, GLOOM);
+    }
+
+    @Test
+    public void emptyQueryMatchesEverything() {
+        assertEquals(names(7, 6, 5, 4, 3, 2, 1, 0), names(journal.query(new JournalQuery())));
+        JournalQuery q = new JournalQuery();
+        q.sort = JournalQuery.Sort.OLDEST;
+        assertEquals(names(0, 1, 2, 3, 4, 5, 6, 7), names(journal.query(q)));
+    }
+
+    @Test
+    public void valueFiltersCombine() {
+        JournalQuery q = new JournalQuery();
+        q.color = HamsterColor.BROWN.getDisplayName();
+        assertEquals(names(6, 4, 2, 0), names(journal.query(q)));
+        q.causeOfDeath = OLD_AGE;
+        assertEquals(names(6, 2, 0), names(journal.query(q)));
+        q.personality = Personality.LAZY.getDisplayName();
+        assertEquals(names(6, 0), names(journal.query(q)));
+    }
+
+    @Test
+    public void rangesAreInclusive() {
+        JournalQuery q = new JournalQuery();
+        q.minGeneration = 2;
+        q.maxGeneration = 3;
+        assertEquals(names(4, 3, 2, 1, 0), names(journal.query(q)));
+
+        q = new JournalQuery();
+        q.minGeneration = 5;
+        assertEquals(names(7, 6), names(journal.query(q)));
+
+        q = new JournalQuery();
+        q.color = HamsterColor.WHITE.getDisplayName();
+        q.minLifespanDays = 25;
+        q.maxLifespanDays = 30;
+        assertEquals(names(5, 1), names(journal.query(q)));
+    }
+
+    @Test
+    public void impossibleQueriesMatchNothing() {
+        JournalQuery q = new JournalQuery();
+        q.color = "\uBD84\uD64D";
+        assertEquals(names(), names(journal.query(q)));
+
+        // Known, but as a cause of death rather than a colour
+        q.color = OLD_AGE;
+        assertEquals(names(), names(journal.query(q)));
+
+        q = new JournalQuery();
+        q.minLifespanDays = 30;
+        q.maxLifespanDays = 29;
+        assertEquals(names(), names(journal.query(q)));
+    }
+
+    @Test
+    public void sortedByAttributeWithTiesNewestFirst() {
+        JournalQuery q = new JournalQuery();
+        q.sort = JournalQuery.Sort.LONGEST_LIVED;
+        assertEquals(names(4, 5, 2, 6, 1, 3, 7, 0), names(journal.query(q)));
+        q.sort = JournalQuery.Sort.HIGHEST_GENERATION;
+        assertEquals(names(7, 6, 5, 4, 3, 0, 2, 1), names(journal.query(q)));
+        q.causeOfDeath = OLD_AGE;
+        assertEquals(names(6, 5, 3, 0, 2), names(journal.query(q)));
+    }
+
+    @Test
+    public void resultsAndEntriesPage() {
+        List<JournalEntry> all = journal.query(new JournalQuery());
+        assertEquals(names(5, 4, 3), names(all.subList(2, 5)));
+        assertEquals(names(5, 4, 3), names(journal.getEntries(2, 3)));
+        assertEquals(names(1, 0), names(journal.getEntries(6, 10)));
+        assertEquals(names(), names(journal.getEntries(8, 5)));
+        assertEquals(names(7, 6, 5, 4, 3, 2, 1, 0), names(journal.getEntries()));
+    }
+
+    @Test
+    public void distinctValuesAreMostCommonFirst() {
+        assertEquals(Arrays.asList(HamsterColor.BROWN.getDisplayName(), HamsterColor.BLACK.getDisplayName(),
+                HamsterColor.WHITE.getDisplayName()), journal.distinctValues(JournalQuery.Field.COLOR));
+        assertEquals(Arrays.asList(OLD_AGE, HUNGER, GLOOM),
+                journal.distinctValues(JournalQuery.Field.CAUSE_OF_DEATH));
+    }
+
+    @Test
+    public void entriesAddedAfterTheFirstQueryAreFound() {
+        JournalQuery q = new JournalQuery();
+        q.color = HamsterColor.BLACK.getDisplayName();
+        assertEquals(names(7, 3), names(journal.query(q)));
+        add(journal, 8, HamsterColor.BLACK, Personality.TIMID, 1, 26, GLOOM);
+        assertEquals(names(8, 7, 3), names(journal.query(q)));
+        q.personality = Personality.TIMID.getDisplayName();
+        assertEquals(names(8), names(journal.query(q)));
+    }
+
+    @Test
+    public void randomQueriesMatchAFullScan() {
+        String[] causes = { OLD_AGE, HUNGER, GLOOM };
+        HamsterColor[] colors = HamsterColor.values();
+        Personality[] personalities = Personality.values();
+        Random random = new Random(11);
+        HamsterJournal big = new HamsterJournal();
+        List<JournalEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            add(big, i, colors[random.nextInt(colors.length)], personalities[random.nextInt(personalities.length)],
+                    1 + random.nextInt(12), 18 + random.nextInt(20), causes[random.nextInt(causes.length)]);
+            entries.add(big.getEntries(0, 1).get(0));
+        }
+
+        for (int t = 0; t < 300; t++) {
+            JournalQuery q = new JournalQuery();
+            if (random.nextInt(3) == 0) q.color = colors[random.nextInt(colors.length)].getDisplayName();
+            if (random.nextInt(3) == 0) {
+                q.personality = personalities[random.nextInt(personalities.length)].getDisplayName();
+            }
+            if (random.nextInt(3) == 0) q.causeOfDeath = causes[random.nextInt(causes.length)];
+            if (random.nextBoolean()) {
+                q.minGeneration = random.nextInt(13);
+                q.maxGeneration = q.minGeneration + random.nextInt(4);
+            }
+            if (random.nextBoolean()) {
+                q.minLifespanDays = 18 + random.nextInt(20);
+                if (random.nextBoolean()) q.maxLifespanDays = q.minLifespanDays + random.nextInt(6);
+            }
+            q.sort = JournalQuery.Sort.values()[random.nextInt(JournalQuery.Sort.values().length)];
+            assertEquals("query " + t, scan(entries, q), names(big.query(q)));
+        }
+    }
+
+    // The answer by checking every entry
+    private static List<String> scan(List<JournalEntry> entries, JournalQuery q) {
+        List<Integer> pos = new ArrayList<>();
+        for (int p = 0; p < entries.size(); p++) {
+            JournalEntry e = entries.get(p);
+            if ((q.color == null || q.color.equals(e.color))
+                    && (q.personality == null || q.personality.equals(e.personality))
+                    && (q.causeOfDeath == null || q.causeOfDeath.equals(e.causeOfDeath))
+                    && e.generation >= q.minGeneration && e.generation <= q.maxGeneration
+                    && e.lifespanDays >= q.minLifespanDays && e.lifespanDays <= q.maxLifespanDays) {
+                pos.add(p);
+            }
+        }
+        Collections.reverse(pos);
+        switch (q.sort) {
+            case OLDEST:
+                Collections.reverse(pos);
+                break;
+            case LONGEST_LIVED:
+                pos.sort((a, b) -> Integer.compare(entries.get(b).lifespanDays, entries.get(a).lifespanDays));
+                break;
+            case HIGHEST_GENERATION:
+                pos.sort((a, b) -> Integer.compare(entries.get(b).generation, entries.get(a).generation));
+                break;
+            default:
+                break;
+        }
+        List<String> out = new ArrayList<>();
+        for (int p : pos) {
+            out.add(entries.get(p).name);
+        }
+        return out;
+    }
+
+    private static void add(HamsterJournal journal, int n, HamsterColor color, Personality personality,
+                            int generation, int lifespanDays, String cause) {
+        Hamster h = new Hamster(1920, 1000, color, 30 * GameConstants.FRAMES_PER_DAY, new SplittableRandom(n));
+        h.setName("h" + n);
+        h.setPersonality(personality);
+        h.setGeneration(generation);
+        h.setAgeFrames((long) lifespanDays * GameConstants.FRAMES_PER_DAY);
+        journal.addEntry(h, cause);
+    }
+
+    private static List<String> names(int... n) {
+        List<String> out = new ArrayList<>();
+        for (int i : n) {
+            out.add("h" + i);
+        }
+        return out;
+    }
+
+    private static List<String> names(List<JournalEntry> entries) {
+        List<String> out = new ArrayList<>();
+        for (JournalEntry e : entries) {
+            out.add(e.name);
+        }
+        return out;
+    }
+}
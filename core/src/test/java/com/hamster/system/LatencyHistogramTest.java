@@ -0,0 +1,121 @@
+package com.hamster.system;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Bucket bounds, percentiles and deltas of {@link LatencyHistogram}.
+ */
+public class LatencyHistogramTest {
+
+    private static final int LAST = LatencyHistogram.BUCKETS - 1;
+
+    @Test
+    public void bucketsAreExactUpTo31AndThenDoubleInWidth() {
+        assertEquals(15, LatencyHistogram.index(15));
+        assertEquals(15, LatencyHistogram.upperBound(15));
+        assertEquals(16, LatencyHistogram.index(16));
+        assertEquals(16, LatencyHistogram.lowerBound(16));
+        assertEquals(16, LatencyHistogram.upperBound(16));
+        assertEquals(31, LatencyHistogram.index(31));
+        assertEquals(31, LatencyHistogram.upperBound(31));
+        assertEquals(32, LatencyHistogram.index(32));
+        assertEquals(32, LatencyHistogram.index(33));
+        assertEquals(32, LatencyHistogram.lowerBound(32));
+        assertEquals(33, LatencyHistogram.upperBound(32));
+        assertEquals(33, LatencyHistogram.index(34));
+    }
+
+    @Test
+    public void bucketsTileEveryValueWithinOneSixteenth() {
+        for (int i = 0; i < LAST; i++) {
+            long low = LatencyHistogram.lowerBound(i);
+            long high = LatencyHistogram.upperBound(i);
+            assertEquals("bucket " + i, i, LatencyHistogram.index(low));
+            assertEquals("bucket " + i, i, LatencyHistogram.index(high));
+            assertEquals("bucket " + i, high + 1, LatencyHistogram.lowerBound(i + 1));
+            assertTrue("bucket " + i, high - low + 1 <= Math.max(1, low / 16));
+        }
+    }
+
+    @Test
+    public void valuesAbove2To42AreClamped() {
+        long top = 1L << 42;
+        assertEquals(LAST, LatencyHistogram.index(top - 1));
+        assertEquals(LAST, LatencyHistogram.index(top));
+        assertEquals(LAST, LatencyHistogram.index(Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.upperBound(LAST));
+
+        LatencyHistogram h = new LatencyHistogram();
+        h.record(1L << 50);
+        h.record(-7);
+        assertEquals(2, h.count());
+        assertEquals(1L << 50, h.max());
+        assertEquals(0, h.percentile(50));
+        // The open-ended last bucket reports the largest value recorded
+        assertEquals(1L << 50, h.percentile(100));
+    }
+
+    @Test
+    public void percentileIsTheBoundOfItsBucket() {
+        LatencyHistogram h = new LatencyHistogram();
+        assertEquals(0, h.percentile(99));
+        for (int v = 1; v <= 100; v++) {
+            h.record(v);
+        }
+        assertEquals(100, h.count());
+        assertEquals(50, h.mean());
+        assertEquals(1, h.percentile(0));
+        assertEquals(10, h.percentile(10));
+        // 50 is in [50, 51]
+        assertEquals(51, h.percentile(50));
+        // 99 is in [96, 99], 100 in [100, 103] capped at the max
+        assertEquals(99, h.percentile(99));
+        assertEquals(100, h.percentile(100));
+    }
+
+    @Test
+    public void deltaHoldsOnlyTheNewRecords() {
+        LatencyHistogram now = new LatencyHistogram();
+        now.record(1000);
+        now.record(20);
+        LatencyHistogram before = new LatencyHistogram();
+        before.copyFrom(now);
+        now.record(20);
+        now.record(40);
+
+        LatencyHistogram delta = new LatencyHistogram();
+        delta.setDelta(now, before);
+        assertEquals(2, delta.count());
+        assertEquals(30, delta.mean());
+        // 40 is in [40, 41]; the 1000 came before
+        assertEquals(41, delta.max());
+        assertEquals(41, delta.percentile(100));
+        assertEquals(20, delta.percentile(50));
+        StringBuilder sb = new StringBuilder();
+        delta.appendBuckets(sb);
+        assertEquals("20 20 1\n40 41 1\n", sb.toString());
+
+        delta.setDelta(now, now);
+        assertEquals(0, delta.count());
+        assertEquals(0, delta.max());
+        assertEquals(0, delta.percentile(100));
+    }
+
+    @Test
+    public void deltaMaxIsCappedAtTheLargestValue() {
+        LatencyHistogram before = new LatencyHistogram();
+        LatencyHistogram now = new LatencyHistogram();
+        now.record(5000);
+        LatencyHistogram delta = new LatencyHistogram();
+        delta.setDelta(now, before);
+        assertEquals(5000, delta.max());
+        assertEquals(5000, delta.percentile(100));
+
+        now.clear();
+        assertEquals(0, now.count());
+        assertEquals(0, now.max());
+    }
+}
@@ -0,0 +1,238 @@
+package com.hamster.system;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Commits, reloads and damage of the profile file, in a temporary folder.
+ */
+public class ProfileStoreTest {
+
+    @Rule
+    public final TemporaryFolder temp = new TemporaryFolder();
+
+    private File file() {
+        return new File(temp.getRoot(), "profile.dat");
+    }
+
+    @Test
+    public void committedRecordsSurviveReload() {
+        ProfileStore store = ProfileStore.open(file());
+        store.put("a", bytes(1, 2, 3));
+        store.put("b", bytes(4));
+        assertFalse(store.isCommitted("a"));
+        assertTrue(store.commit());
+        assertTrue(store.isCommitted("a"));
+
+        store.put("a", bytes(5));
+        store.remove("b");
+        store.put("c", bytes(6));
+        assertTrue(store.commit());
+        // Nothing staged: no write
+        store.put("c", bytes(6));
+        assertFalse(store.commit());
+
+        ProfileStore reloaded = ProfileStore.open(file());
+        assertArrayEquals(bytes(5), reloaded.get("a"));
+        assertNull(reloaded.get("b"));
+        assertArrayEquals(bytes(6), reloaded.get("c"));
+    }
+
+    @Test
+    public void stagedRecordsAreLostWithoutCommit() {
+        ProfileStore store = ProfileStore.open(file());
+        store.put("a", bytes(1));
+        store.commit();
+        store.put("a", bytes(2));
+        assertArrayEquals(bytes(2), store.get("a"));
+
+        assertArrayEquals(bytes(1), ProfileStore.open(file()).get("a"));
+    }
+
+    @Test
+    public void tornTailIsCutOffOnLoad() throws IOException {
+        ProfileStore store = ProfileStore.open(file());
+        store.put("a", bytes(1));
+        store.commit();
+        long intact = file().length();
+        store.put("a", bytes(2));
+        store.put("b", bytes(3));
+        store.commit();
+        long whole = file().length();
+
+        // The second commit was cut short by a crash
+        try (RandomAccessFile raf = new RandomAccessFile(file(), "rw")) {
+            raf.setLength(whole - 2);
+        }
+        ProfileStore reloaded = ProfileStore.open(file());
+        assertArrayEquals(bytes(1), reloaded.get("a"));
+        assertNull(reloaded.get("b"));
+        assertEquals("damaged tail truncated", intact, file().length());
+
+        // New commits follow the last intact one
+        reloaded.put("b", bytes(4));
+        reloaded.commit();
+        ProfileStore again = ProfileStore.open(file());
+        assertArrayEquals(bytes(1), again.get("a"));
+        assertArrayEquals(bytes(4), again.get("b"));
+    }
+
+    @Test
+    public void corruptedCommitIsDroppedWithEverythingAfterIt() throws IOException {
+        ProfileStore store = ProfileStore.open(file());
+        store.put("a", bytes(1));
+        store.commit();
+        long intact = file().length();
+        store.put("a", bytes(2));
+        store.commit();
+        store.put("a", bytes(3));
+        store.commit();
+
+        try (RandomAccessFile raf = new RandomAccessFile(file(), "rw")) {
+            raf.seek(intact + 9);
+            int b = raf.read();
+            raf.seek(intact + 9);
+            raf.write(b ^ 0xFF);
+        }
+        assertArrayEquals(bytes(1), ProfileStore.open(file()).get("a"));
+        assertEquals(intact, file().length());
+    }
+
+    @Test
+    public void unreadableFileIsSetAside() throws IOException {
+        try (OutputStream out = new FileOutputStream(file())) {
+            out.write(new byte[] {'n', 'o', 'p', 'e', 0, 0, 0, 0, 1});
+        }
+        ProfileStore store = ProfileStore.open(file());
+        assertNull(store.get("a"));
+        assertTrue(new File(file().getPath() + ".bad").exists());
+    }
+
+    @Test
+    public void fileIsCompactedOnceMostOfItIsStale() {
+        ProfileStore store = ProfileStore.open(file());
+        store.put("keep", bytes(7));
+        long max = 0;
+        for (int i = 0; i < 200; i++) {
+            byte[] big = new byte[4096];
+            big[0] = (byte) i;
+            store.put("churn", big);
+            store.commit();
+            max = Math.max(max, file().length());
+        }
+        // Rewritten whenever it passed both limits, so it never grew far beyond them
+        assertTrue("file reached " + max, max < 4 * (4096 + 64) + 64 * 1024 + 4096 + 64);
+        assertTrue("file is " + file().length(), file().length() < 64 * 1024 + 4096 + 64);
+
+        ProfileStore reloaded = ProfileStore.open(file());
+        assertArrayEquals(bytes(7), reloaded.get("keep"));
+        assertEquals((byte) 199, reloaded.get("churn")[0]);
+    }
+
+    @Test
+    public void propertiesRecordRoundTripsAndLegacyFileIsRetired() throws IOException {
+        File legacy = new File(temp.getRoot(), "settings.properties");
+        Properties props = new Properties();
+        props.setProperty("volume", "7");
+        props.setProperty("name", "\uD584\uC2A4\uD130");
+        try (OutputStream out = new FileOutputStream(legacy)) {
+            props.store(out, null);
+        }
+
+        ProfileStore store = ProfileStore.open(file());
+        List<Runnable> requested = new ArrayList<>();
+        store.setCommitExecutor(requested::add);
+        assertEquals(props, store.getProperties("settings", legacy));
+        assertEquals(1, requested.size());
+        assertTrue("deleted only after a commit", legacy.exists());
+        requested.get(0).run();
+        assertFalse(legacy.exists());
+        assertEquals(props, ProfileStore.open(file()).getProperties("settings", legacy));
+    }
+
+    @Test
+    public void atomicallyHoldsBackCommitsOfOtherThreads() throws Exception {
+        ProfileStore store = ProfileStore.open(file());
+        CountDownLatch inBlock = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+        AtomicBoolean sawBoth = new AtomicBoolean();
+
+        Thread block = new Thread(() -> store.atomically(() -> {
+            store.put("seeds", bytes(1));
+            inBlock.countDown();
+            await(release);
+            store.put("unlock", bytes(2));
+        }));
+        block.start();
+        inBlock.await();
+
+        Thread committer = new Thread(() -> {
+            store.commit();
+            sawBoth.set(store.isCommitted("seeds") && store.isCommitted("unlock"));
+            committed.countDown();
+        });
+        committer.start();
+        assertFalse("commit ran inside another thread's block", committed.await(200, TimeUnit.MILLISECONDS));
+
+        release.countDown();
+        assertTrue(committed.await(5, TimeUnit.SECONDS));
+        block.join();
+        assertTrue("the block's changes went out together", sawBoth.get());
+    }
+
+    @Test
+    public void commitRequestedInsideABlockWaitsForItsEnd() {
+        ProfileStore store = ProfileStore.open(file());
+        int[] commits = new int[1];
+        store.setCommitExecutor(r -> {
+            commits[0]++;
+            r.run();
+        });
+        store.atomically(() -> {
+            store.put("a", bytes(1));
+            store.requestCommit();
+            store.atomically(store::requestCommit);
+            assertEquals("nested block", 0, commits[0]);
+            store.put("b", bytes(2));
+        });
+        assertEquals(1, commits[0]);
+        assertTrue(store.isCommitted("a"));
+        assertTrue(store.isCommitted("b"));
+    }
+
+    private static byte[] bytes(int... values) {
+        byte[] b = new byte[values.length];
+        for (int i = 0; i < b.length; i++) {
+            b[i] = (byte) values[i];
+        }
+        return b;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
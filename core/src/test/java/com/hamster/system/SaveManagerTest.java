@@ -0,0 +1,233 @@
+package com.hamster.system;
+
+import com.hamster.model.Buff;
+import com.hamster.model.FoodInventory;
+import com.hamster.model.FoodItem;
+import com.hamster.model.GameState;
+import com.hamster.model.HamsterColor;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+/**
+ * The run record: binary round trips, and the saves of older builds it migrates from.
+ */
+public class SaveManagerTest {
+
+    @Rule
+    public final TemporaryFolder temp = new TemporaryFolder();
+
+    @Test
+    public void runRoundTrips() throws IOException {
+        GameState state = sampleState();
+        assertEquals(describe(state), describe(decode(SaveManager.encode(state))));
+    }
+
+    @Test
+    public void damagedBinarySaveFallsBackToItsBackup() throws IOException {
+        GameState state = sampleState();
+        byte[] save = SaveManager.encode(state);
+        File file = new File(temp.getRoot(), "save_autosave.dat");
+        Files.write(new File(file.getPath() + ".bak").toPath(), save);
+        Files.write(file.toPath(), Arrays.copyOf(save, save.length - 3));
+
+        assertEquals(describe(state), describe(SaveManager.loadFromFile(file.getPath())));
+        Files.write(new File(file.getPath() + ".bak").toPath(), new byte[] {1, 2, 3});
+        assertNull(SaveManager.loadFromFile(file.getPath()));
+    }
+
+    @Test
+    public void format2PropertiesSaveMigrates() throws IOException {
+        Properties props = new Properties();
+        props.setProperty("saveVersion", "2");
+        props.setProperty("money", "1234");
+        props.setProperty("totalFrames", "45000");
+        props.setProperty("hamstersRaised", "3");
+        props.setProperty("qualifiedHamsters", "1");
+        props.setProperty("hamsterPurchaseCount", "2");
+        props.setProperty("rngSeed", "-77");
+        props.setProperty("savedAt", "1700000000000");
+        props.setProperty("hamsterCount", "1");
+        props.setProperty("hamster.0.name", "\uB561\uCF69");
+        props.setProperty("hamster.0.color", "WHITE");
+        props.setProperty("hamster.0.hunger", "81");
+        props.setProperty("hamster.0.happiness", "62");
+        props.setProperty("hamster.0.energy", "43");
+        props.setProperty("hamster.0.poopTimer", "120");
+        props.setProperty("hamster.0.ageFrames", "30000");
+        props.setProperty("hamster.0.lifespanFrames", "240000");
+        props.setProperty("hamster.0.windowX", "-40");
+        props.setProperty("hamster.0.windowY", "900");
+        props.setProperty("hamster.0.generation", "4");
+        props.setProperty("hamster.0.legacyHungerBonus", "5");
+        props.setProperty("hamster.0.maxHunger", "110");
+        props.setProperty("hamster.0.buffCount", "1");
+        props.setProperty("hamster.0.buff.0.type", "COIN_BONUS");
+        props.setProperty("hamster.0.buff.0.multiplier", "1.5");
+        props.setProperty("hamster.0.buff.0.expiresAt", "46000");
+        props.setProperty("hamster.0.buff.0.description", "\uBCF4\uB108\uC2A4");
+        props.setProperty("hamster.0.personality", "LAZY");
+        props.setProperty("hamster.0.equippedAccessories", "CROWN");
+        props.setProperty("hamster.0.ownedAccessories", "CROWN,SCARF");
+        props.setProperty("poopCount", "1");
+        props.setProperty("poop.0.screenX", "300");
+        props.setProperty("poop.0.screenY", "1000");
+        props.setProperty("inv.food.CHEESE", "3");
+
+        GameState state = SaveManager.loadLegacyFile(write(props).getPath());
+        assertNotNull(state);
+        assertEquals("1234 45000 3 1 2 -77 1700000000000 0\n"
+                + "\uB561\uCF69 WHITE 81 62 43 120 30000 240000 -40 900 4 5 0 0 0 0 110 100 100 0 LAZY"
+                + " [CROWN] [CROWN, SCARF] COIN_BONUS:1.5:46000:\uBCF4\uB108\uC2A4\n"
+                + "poop 300,1000\n"
+                + "food CHEESE=3\n", describe(state));
+        // Carried over into the binary record unchanged
+        assertEquals(describe(state), describe(decode(SaveManager.encode(state))));
+    }
+
+    @Test
+    public void format1PropertiesSaveGetsDefaults() throws IOException {
+        Properties props = new Properties();
+        props.setProperty("money", "50");
+        props.setProperty("totalFrames", "1000");
+        props.setProperty("hamsterCount", "1");
+        props.setProperty("hamster.0.name", "\uBCF4\uB9AC");
+        props.setProperty("hamster.0.color", "NO_SUCH_COLOR");
+        props.setProperty("hamster.0.hunger", "999999");
+        props.setProperty("hamster.0.buffCount", "1");
+        props.setProperty("hamster.0.buff.0.type", "HUNGER_DRAIN");
+        props.setProperty("hamster.0.buff.0.remainingFrames", "600");
+
+        GameState state = SaveManager.loadLegacyFile(write(props).getPath());
+        assertNotNull(state);
+        GameState.HamsterData hd = state.hamsters.get(0);
+        assertEquals(HamsterColor.BROWN, hd.color);
+        assertEquals(com.hamster.model.GameConstants.MAX_STAT_CAP, hd.hunger);
+        assertEquals("CHEERFUL", hd.personality);
+        // A countdown becomes a deadline on the run's clock
+        assertEquals(1600, hd.buffs.get(0).expiresAtTick);
+        assertEquals(1, state.hamstersRaised);
+        assertEquals(describe(state), describe(decode(SaveManager.encode(state))));
+    }
+
+    private File write(Properties props) throws IOException {
+        File file = new File(temp.getRoot(), "save_autosave.properties");
+        try (OutputStream out = new FileOutputStream(file)) {
+            props.store(out, null);
+        }
+        return file;
+    }
+
+    private static GameState decode(byte[] record) throws IOException {
+        try (SaveReader in = new SaveReader(ByteBuffer.wrap(record), "test")) {
+            return SaveManager.readSave(in);
+        }
+    }
+
+    static GameState sampleState() {
+        GameState state = new GameState();
+        state.money = 987;
+        state.totalFrames = 123_456_789L;
+        state.hamstersRaised = 7;
+        state.qualifiedHamsters = 3;
+        state.hamsterPurchaseCount = 2;
+        state.rngSeed = 0x0123456789ABCDEFL;
+        state.savedAtMillis = 1_700_000_000_000L;
+        state.logEpoch = 42;
+        state.hamsters = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            GameState.HamsterData hd = new GameState.HamsterData();
+            hd.name = "\uD584\uC2A4\uD130" + i;
+            hd.color = HamsterColor.values()[i % HamsterColor.values().length];
+            hd.hunger = 10 + i;
+            hd.happiness = 20 + i;
+            hd.energy = 30 + i;
+            hd.poopTimer = 40 + i;
+            hd.ageFrames = 50_000L * (i + 1);
+            hd.lifespanFrames = 225_000;
+            hd.windowX = -100 + 500 * i;
+            hd.windowY = 1000;
+            hd.generation = i + 1;
+            hd.legacyHungerBonus = i;
+            hd.legacyHappinessBonus = 2 * i;
+            hd.legacyEnergyBonus = 3 * i;
+            hd.legacyLifespanBonus = 1000 * i;
+            hd.legacyMaxStatBonus = 5 * i;
+            hd.maxHunger = 100 + i;
+            hd.maxHappiness = 100 + 2 * i;
+            hd.maxEnergy = 100 + 3 * i;
+            hd.breedCooldownFrames = 900 * i;
+            GameState.BuffData bd = new GameState.BuffData();
+            bd.type = Buff.Type.values()[i];
+            bd.multiplier = 0.5 + i;
+            bd.expiresAtTick = state.totalFrames + 600 * i;
+            bd.description = "buff " + i;
+            hd.buffs.add(bd);
+            hd.personality = i == 0 ? "CHEERFUL" : "LAZY";
+            hd.equippedAccessories.add("CROWN");
+            hd.ownedAccessories.add("CROWN");
+            hd.ownedAccessories.add("SCARF");
+            state.hamsters.add(hd);
+        }
+        state.poops = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            GameState.PoopData pd = new GameState.PoopData();
+            pd.screenX = 100 * i - 50;
+            pd.screenY = 1000 + i;
+            state.poops.add(pd);
+        }
+        state.foodInventory = new FoodInventory();
+        state.foodInventory.clear();
+        state.foodInventory.add(FoodItem.CARROT, 4);
+        state.foodInventory.add(FoodItem.CAKE, 1);
+        return state;
+    }
+
+    // Everything a save keeps, one line per hamster, poop and food
+    static String describe(GameState state) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(state.money).append(' ').append(state.totalFrames).append(' ').append(state.hamstersRaised)
+                .append(' ').append(state.qualifiedHamsters).append(' ').append(state.hamsterPurchaseCount)
+                .append(' ').append(state.rngSeed).append(' ').append(state.savedAtMillis)
+                .append(' ').append(state.logEpoch).append('\n');
+        for (GameState.HamsterData h : state.hamsters) {
+            sb.append(h.name).append(' ').append(h.color).append(' ').append(h.hunger).append(' ')
+                    .append(h.happiness).append(' ').append(h.energy).append(' ').append(h.poopTimer).append(' ')
+                    .append(h.ageFrames).append(' ').append(h.lifespanFrames).append(' ')
+                    .append(h.windowX).append(' ').append(h.windowY).append(' ').append(h.generation).append(' ')
+                    .append(h.legacyHungerBonus).append(' ').append(h.legacyHappinessBonus).append(' ')
+                    .append(h.legacyEnergyBonus).append(' ').append(h.legacyLifespanBonus).append(' ')
+                    .append(h.legacyMaxStatBonus).append(' ').append(h.maxHunger).append(' ')
+                    .append(h.maxHappiness).append(' ').append(h.maxEnergy).append(' ')
+                    .append(h.breedCooldownFrames).append(' ').append(h.personality).append(' ')
+                    .append(h.equippedAccessories).append(' ').append(h.ownedAccessories);
+            for (GameState.BuffData b : h.buffs) {
+                sb.append(' ').append(b.type).append(':').append(b.multiplier).append(':')
+                        .append(b.expiresAtTick).append(':').append(b.description);
+            }
+            sb.append('\n');
+        }
+        for (GameState.PoopData p : state.poops) {
+            sb.append("poop ").append(p.screenX).append(',').append(p.screenY).append('\n');
+        }
+        for (FoodItem food : FoodItem.values()) {
+            int n = state.foodInventory.getCount(food);
+            if (n > 0) sb.append("food ").append(food).append('=').append(n).append('\n');
+        }
+        return sb.toString();
+    }
+}
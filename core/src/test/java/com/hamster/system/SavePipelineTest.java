@@ -0,0 +1,75 @@
+package com.hamster.system;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Ordering and coalescing of the save pipeline, with the writer held on a latch so jobs
+ * queue up behind it.
+ */
+public class SavePipelineTest {
+
+    private final SavePipeline pipeline = new SavePipeline();
+    private final List<String> ran = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @After
+    public void stop() {
+        release.countDown();
+        pipeline.shutdown(5000);
+    }
+
+    @Test
+    public void waitingSaveIsReplacedButOtherJobsKeepTheirPlace() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        pipeline.submit(() -> {
+            started.countDown();
+            await(release);
+        });
+        started.await();
+
+        pipeline.submitSave(record("save 1"));
+        pipeline.submitSave(record("save 2"));
+        pipeline.submit(record("delete"));
+        pipeline.submitSave(record("save 3"));
+        release.countDown();
+
+        assertTrue(pipeline.flush(5000));
+        assertEquals(Arrays.asList("save 2", "delete", "save 3"), ran);
+        assertTrue(pipeline.toString(), pipeline.toString().contains("coalesced=1"));
+    }
+
+    @Test
+    public void failedJobDoesNotStopTheWriter() {
+        pipeline.submitSave(() -> {
+            throw new IllegalStateException("disk full");
+        });
+        pipeline.submit(record("after"));
+        release.countDown();
+
+        assertTrue(pipeline.flush(5000));
+        assertEquals(Collections.singletonList("after"), ran);
+        assertTrue(pipeline.toString(), pipeline.toString().contains("failed=1"));
+    }
+
+    private Runnable record(String name) {
+        return () -> ran.add(name);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.hamster.system;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * {@link SaveWriter} and {@link SaveReader} round trips, and damaged saves.
+ */
+public class SaveWriterTest {
+
+    private static final int SEC_A = SaveFormat.TAG_FIRST_USER;
+    private static final int SEC_B = SaveFormat.TAG_FIRST_USER + 1;
+    private static final int SEC_UNKNOWN = 200;
+
+    @Rule
+    public final TemporaryFolder temp = new TemporaryFolder();
+
+    @Test
+    public void valuesRoundTrip() throws IOException {
+        byte[] save = sample();
+        try (SaveReader in = new SaveReader(ByteBuffer.wrap(save), "test")) {
+            assertSample(in);
+        }
+        File file = temp.newFile("save.dat");
+        Files.write(file.toPath(), save);
+        try (SaveReader in = new SaveReader(file)) {
+            assertSample(in);
+        }
+    }
+
+    @Test
+    public void repeatedStringsAreStoredOnce() {
+        SaveWriter once = new SaveWriter();
+        once.beginSection(SEC_A);
+        once.writeString("\uD584\uC2A4\uD130 \uD558\uC591");
+        once.endSection();
+        SaveWriter often = new SaveWriter();
+        often.beginSection(SEC_A);
+        for (int i = 0; i < 100; i++) {
+            often.writeString("\uD584\uC2A4\uD130 \uD558\uC591");
+        }
+        often.endSection();
+        assertEquals(once.toByteArray().length + 99, often.toByteArray().length);
+    }
+
+    @Test
+    public void inlineValuesRoundTrip() throws IOException {
+        SaveWriter out = new SaveWriter(true);
+        out.writeString("\uAC08\uC0C9");
+        out.writeString(null);
+        out.writeSignedLong(-5);
+        out.writeBytes(new byte[] {1, 2, 3});
+        SaveReader in = new SaveReader(out.buffer(), out.size());
+        assertEquals("\uAC08\uC0C9", in.readString());
+        assertNull(in.readString());
+        assertEquals(-5, in.readSignedLong());
+        assertArrayEquals(new byte[] {1, 2, 3}, in.readBytes());
+        assertEquals(0, in.remaining());
+        try {
+            in.readVarInt();
+            fail("read past the end");
+        } catch (IOException expected) {
+            // The record ended
+        }
+    }
+
+    @Test
+    public void flippedPayloadByteFailsTheChecksum() throws IOException {
+        byte[] save = sample();
+        // Last payload byte of the first game section, behind the header and string table
+        int tableLength = ByteBuffer.wrap(save, SaveFormat.HEADER_SIZE + 1, 4).getInt();
+        int sectionA = SaveFormat.HEADER_SIZE + 9 + tableLength;
+        int payloadLength = ByteBuffer.wrap(save, sectionA + 1, 4).getInt();
+        save[sectionA + 5 + payloadLength - 1] ^= 0x01;
+
+        try (SaveReader in = new SaveReader(ByteBuffer.wrap(save), "test")) {
+            in.nextSection();
+            fail("damaged section accepted");
+        } catch (IOException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("Checksum mismatch"));
+        }
+    }
+
+    @Test
+    public void truncatedSaveFailsAtEveryLength() throws IOException {
+        byte[] save = sample();
+        File file = temp.newFile("save.dat");
+        for (int n = 0; n < save.length; n++) {
+            byte[] cut = Arrays.copyOf(save, n);
+            assertUnreadable(() -> new SaveReader(ByteBuffer.wrap(cut), "test"), n);
+            Files.write(file.toPath(), cut);
+            assertUnreadable(() -> new SaveReader(file), n);
+        }
+    }
+
+    @Test
+    public void badMagicIsRejected() {
+        byte[] save = sample();
+        save[0] = 'X';
+        try {
+            new SaveReader(ByteBuffer.wrap(save), "test");
+            fail("not a save");
+        } catch (IOException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("Not a binary save"));
+        }
+    }
+
+    // Two sections and an unknown one between them, covering every value type
+    private static byte[] sample() {
+        SaveWriter out = new SaveWriter();
+        out.beginSection(SEC_A);
+        out.writeVarInt(0);
+        out.writeVarInt(127);
+        out.writeVarInt(128);
+        out.writeVarInt(Integer.MAX_VALUE);
+        out.writeVarLong(Long.MAX_VALUE);
+        out.writeSignedInt(-1);
+        out.writeSignedInt(Integer.MIN_VALUE);
+        out.writeSignedLong(Long.MIN_VALUE);
+        out.writeFixedLong(0x0123456789ABCDEFL);
+        out.writeDouble(-1.25);
+        out.writeString("\uD584\uC2A4\uD130");
+        out.writeString(null);
+        out.writeString("\uD584\uC2A4\uD130");
+        out.endSection();
+        out.beginSection(SEC_UNKNOWN);
+        out.writeString("from a newer build");
+        out.endSection();
+        out.beginSection(SEC_B);
+        out.writeBytes(new byte[] {9, 8, 7});
+        out.endSection();
+        return out.toByteArray();
+    }
+
+    private static void assertSample(SaveReader in) throws IOException {
+        assertEquals(SEC_A, in.nextSection());
+        assertEquals(0, in.readVarInt());
+        assertEquals(127, in.readVarInt());
+        assertEquals(128, in.readVarInt());
+        assertEquals(Integer.MAX_VALUE, in.readVarInt());
+        assertEquals(Long.MAX_VALUE, in.readVarLong());
+        assertEquals(-1, in.readSignedInt());
+        assertEquals(Integer.MIN_VALUE, in.readSignedInt());
+        assertEquals(Long.MIN_VALUE, in.readSignedLong());
+        assertEquals(0x0123456789ABCDEFL, in.readFixedLong());
+        assertEquals(-1.25, in.readDouble(), 0);
+        assertEquals("\uD584\uC2A4\uD130", in.readString());
+        assertNull(in.readString());
+        assertEquals("\uD584\uC2A4\uD130", in.readString());
+        assertEquals(0, in.remaining());
+
+        // Readers skip what they don't know by asking for the next section
+        assertEquals(SEC_UNKNOWN, in.nextSection());
+        assertEquals(SEC_B, in.nextSection());
+        assertArrayEquals(new byte[] {9, 8, 7}, in.readBytes());
+        assertEquals(SaveFormat.TAG_END, in.nextSection());
+        assertEquals(SaveFormat.TAG_END, in.nextSection());
+    }
+
+    private interface Source {
+        SaveReader open() throws IOException;
+    }
+
+    // Reading a cut-off save must end in an exception, never in TAG_END
+    private static void assertUnreadable(Source source, int length) throws IOException {
+        try (SaveReader in = source.open()) {
+            while (in.nextSection() != SaveFormat.TAG_END) {
+                // Skip the payloads
+            }
+            fail("save cut to " + length + " bytes was read to the end");
+        } catch (EOFException expected) {
+            // Truncated
+        }
+    }
+}
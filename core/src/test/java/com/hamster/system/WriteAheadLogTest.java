@@ -0,0 +1,191 @@
+package com.hamster.system;
+
+import com.hamster.model.Buff;
+import com.hamster.model.FoodItem;
+import com.hamster.model.GameState;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The save log against the full save it builds on: the snapshot goes through the binary
+ * record like a real save, then the log is replayed over it.
+ */
+public class WriteAheadLogTest {
+
+    @Rule
+    public final TemporaryFolder temp = new TemporaryFolder();
+
+    private File file;
+    private WriteAheadLog log;
+    private GameState saved;
+
+    @Before
+    public void startLog() throws IOException {
+        file = new File(temp.getRoot(), "save_autosave.wal");
+        log = new WriteAheadLog(file);
+        saved = SaveManagerTest.sampleState();
+        for (int i = 0; i < saved.hamsters.size(); i++) {
+            saved.hamsters.get(i).id = 100 + i;
+            // Buffs that expire are dropped by the replay; keep these alive
+            saved.hamsters.get(i).buffs.get(0).expiresAtTick += 1_000_000;
+        }
+        log.restart(saved);
+    }
+
+    @After
+    public void closeLog() {
+        log.close();
+    }
+
+    @Test
+    public void replayOverTheFullSaveRestoresEveryChange() throws IOException {
+        GameState first = firstChanges(copy(saved));
+        GameState second = secondChanges(copy(first));
+        log.append(WriteAheadLog.diff(saved, first));
+        log.append(WriteAheadLog.diff(first, second));
+
+        GameState loaded = load();
+        assertTrue(WriteAheadLog.replay(file, loaded) > 10);
+        assertEquals(SaveManagerTest.describe(second), SaveManagerTest.describe(loaded));
+    }
+
+    @Test
+    public void tornLastBatchIsIgnored() throws IOException {
+        GameState first = firstChanges(copy(saved));
+        GameState second = secondChanges(copy(first));
+        log.append(WriteAheadLog.diff(saved, first));
+        long whole = log.size();
+        log.append(WriteAheadLog.diff(first, second));
+        log.close();
+
+        // Cut anywhere inside the last batch
+        byte[] all = Files.readAllBytes(file.toPath());
+        for (long len = whole; len < all.length; len++) {
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                raf.setLength(len);
+            }
+            GameState loaded = load();
+            WriteAheadLog.replay(file, loaded);
+            assertEquals("log cut to " + len, SaveManagerTest.describe(first), SaveManagerTest.describe(loaded));
+            Files.write(file.toPath(), all);
+        }
+    }
+
+    @Test
+    public void damagedLastBatchIsIgnored() throws IOException {
+        GameState first = firstChanges(copy(saved));
+        GameState second = secondChanges(copy(first));
+        log.append(WriteAheadLog.diff(saved, first));
+        log.append(WriteAheadLog.diff(first, second));
+        log.close();
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.seek(raf.length() - 1);
+            int b = raf.read();
+            raf.seek(raf.length() - 1);
+            raf.write(b ^ 0x40);
+        }
+
+        GameState loaded = load();
+        WriteAheadLog.replay(file, loaded);
+        assertEquals(SaveManagerTest.describe(first), SaveManagerTest.describe(loaded));
+    }
+
+    @Test
+    public void logOfAnotherEpochIsSkipped() throws IOException {
+        GameState first = firstChanges(copy(saved));
+        log.append(WriteAheadLog.diff(saved, first));
+
+        // A newer full save landed, then the process died before the log was restarted
+        GameState newer = copy(first);
+        newer.logEpoch = saved.logEpoch + 1;
+        GameState loaded = copy(newer);
+        assertEquals(-1, WriteAheadLog.replay(file, loaded));
+        assertEquals(SaveManagerTest.describe(newer), SaveManagerTest.describe(loaded));
+    }
+
+    @Test
+    public void batchesOfTheOldEpochAreDroppedAfterRestart() throws IOException {
+        GameState first = firstChanges(copy(saved));
+        GameState newer = copy(first);
+        newer.logEpoch = saved.logEpoch + 1;
+        log.restart(newer);
+
+        // Captured before the full save, appended after it
+        log.append(WriteAheadLog.diff(saved, first));
+        GameState loaded = copy(newer);
+        assertEquals("only the id map", 1, WriteAheadLog.replay(file, loaded));
+        assertEquals(SaveManagerTest.describe(newer), SaveManagerTest.describe(loaded));
+    }
+
+    // A few seconds of play: time, money, stats, a death, a birth, a buff, poops, food
+    private static GameState firstChanges(GameState s) {
+        s.totalFrames += 60;
+        s.savedAtMillis += 2000;
+        s.money += 15;
+        s.hamsters.get(0).hunger -= 1;
+        s.hamsters.get(0).ageFrames += 60;
+        s.hamsters.remove(1);
+        GameState.HamsterData baby = copy(s).hamsters.get(0);
+        baby.id = 200;
+        baby.name = "baby";
+        baby.generation = 5;
+        s.hamsters.add(baby);
+        s.hamstersRaised++;
+        GameState.BuffData bd = new GameState.BuffData();
+        bd.type = Buff.Type.COIN_BONUS;
+        bd.multiplier = 2;
+        bd.expiresAtTick = s.totalFrames + 5000;
+        bd.description = "event";
+        s.hamsters.get(1).buffs.add(bd);
+        s.poops.remove(0);
+        GameState.PoopData pd = new GameState.PoopData();
+        pd.screenX = 777;
+        pd.screenY = 1001;
+        s.poops.add(pd);
+        s.foodInventory.setCount(FoodItem.CARROT, 3);
+        return s;
+    }
+
+    private static GameState secondChanges(GameState s) {
+        s.totalFrames += 60;
+        s.money -= 40;
+        s.hamsters.get(0).energy += 2;
+        s.hamsters.get(0).equippedAccessories.clear();
+        s.poops.clear();
+        s.foodInventory.setCount(FoodItem.CHEESE, 2);
+        return s;
+    }
+
+    // The full save as the profile holds it; ids are not saved, the log maps them
+    private GameState load() {
+        return decode(SaveManager.encode(saved));
+    }
+
+    private static GameState copy(GameState s) {
+        GameState c = decode(SaveManager.encode(s));
+        for (int i = 0; i < s.hamsters.size(); i++) {
+            c.hamsters.get(i).id = s.hamsters.get(i).id;
+        }
+        return c;
+    }
+
+    private static GameState decode(byte[] record) {
+        try (SaveReader in = new SaveReader(ByteBuffer.wrap(record), "test")) {
+            return SaveManager.readSave(in);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -3,6 +3,7 @@ import com.hamster.model.Accessory;
 import com.hamster.model.Buff;
 import com.hamster.model.FoodInventory;
 import com.hamster.model.FoodItem;
+import com.hamster.model.GameClock;
 import com.hamster.model.GameConstants;
 import com.hamster.model.GameState;
 import com.hamster.model.GameStatistics;
@@ -13,23 +14,37 @@ import com.hamster.model.Poop;
 import com.hamster.model.Settings;
 import com.hamster.model.UITheme;
 import com.hamster.render.HamsterIcon;
+import com.hamster.render.HamsterRenderer;
 import com.hamster.render.ItemIcon;
+import com.hamster.sim.FixedStepLoop;
+import com.hamster.sim.RngService;
+import com.hamster.sim.World;
+import com.hamster.sim.WorldListener;
 import com.hamster.system.Achievement;
 import com.hamster.system.AchievementManager;
 import com.hamster.system.GameLogger;
 import com.hamster.system.GlobalHotkeyManager;
-import com.hamster.system.HamsterInteraction;
 import com.hamster.system.HamsterJournal;
 import com.hamster.system.HamsterManager;
 import com.hamster.system.MetaProgress;
+import com.hamster.system.PhaseProfiler;
+import com.hamster.system.PhaseProfiler.Phase;
+import com.hamster.system.ProfileStore;
 import com.hamster.system.RandomEvent;
 import com.hamster.system.SaveManager;
+import com.hamster.system.SavePipeline;
+import com.hamster.system.WriteAheadLog;
 import com.hamster.ui.AchievementDialog;
 import com.hamster.ui.ControlPanel;
+import com.hamster.ui.Emoji;
 import com.hamster.ui.EventDialog;
+import com.hamster.ui.HamsterLayer;
+import com.hamster.ui.HamsterScene;
 import com.hamster.ui.HamsterWindow;
+import com.hamster.ui.HamsterWindowLayer;
 import com.hamster.ui.JournalDialog;
-import com.hamster.ui.PoopWindow;
+import com.hamster.ui.PoopOverlay;
+import com.hamster.ui.ProfilerOverlay;
 import com.hamster.ui.SettingsDialog;
 import com.hamster.ui.ShopDialog;
 import com.hamster.ui.StartDialog;
@@ -44,52 +59,42 @@ import java.io.*;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
-import java.util.Random;
 
 public class Main {
 
-    private final List<Hamster> hamsters = new ArrayList<>();
-    private final List<HamsterWindow> hamsterWindows = new ArrayList<>();
-    private final List<PoopWindow> poopWindows = new ArrayList<>();
-    private final Random random = new Random();
+    // Simulation of the current run; windows below are views onto it
+    private World world;
+    private HamsterLayer hamsterLayer;
+    private PoopOverlay poopOverlay;
 
     private ControlPanel controlPanel;
-    private int money = 0;
-    private long totalFrames = 0;
     private boolean hidden = false;
     private boolean sentBack = false;
     private GlobalHotkeyManager hotkeyManager;
-    private int eventTimer = 0;
     private int[] pendingLegacy = null; // stored when last hamster dies
-    private boolean allFrozen = false;
     private boolean pendingGameOver = false;
+    private boolean eventDialogOpen = false;
 
     private MetaProgress metaProgress;
     private Settings settings;
-    private int hamstersRaised = 1;
-    private int qualifiedHamsters = 0; // hamsters that lived >= 1 day (for seed calc)
-    private Timer gameTimer;
+    private FixedStepLoop gameLoop;
+    private long lastFrameNanos; // when the previous batch of steps reached the screen
+    private ProfilerOverlay profilerOverlay;
     private boolean systemSetupDone = false;
 
     // 2.0 systems
     private GameStatistics statistics;
     private AchievementManager achievementManager;
     private HamsterJournal journal;
-    private FoodInventory foodInventory;
-    private int interactionTimer = 0;
-    private int achievementCheckTimer = 0;
-    private int hamsterPurchaseCount = 0;
-    private HamsterManager hamsterManager;
 
     // Dialog instance tracking (prevent duplicate opens)
     private JDialog activeUpgradeDialog = null;
     private JDialog activeFeedPopup = null;
     private JDialog activeEquipPopup = null;
-    private boolean eventInProgress = false;
 
     private final HamsterWindow.ContextMenuCallback contextMenuCallback = new HamsterWindow.ContextMenuCallback() {
         @Override public void onFeed(Hamster h) { onFeedWithFood(h); }
-        @Override public void onPlay(Hamster h) { h.play(); statistics.totalPlayActions++; achievementManager.totalPlays++; }
+        @Override public void onPlay(Hamster h) { h.play(); statistics.totalPlayActions++; achievementManager.add(AchievementManager.Counter.PLAYS, 1); }
         @Override public void onRunWheel(Hamster h) { h.runWheel(); statistics.totalWheelActions++; }
         @Override public void onSleep(Hamster h) { h.sleep(); statistics.totalSleepActions++; }
         @Override public void onEquipAccessory(Hamster h) { onEquipAccessory_(h); }
@@ -97,7 +102,13 @@ public class Main {
     };
 
     private static final String SAVE_DIR = GameConstants.SAVE_DIR;
+    private static final String LEGACY_RECORD = "legacy";
+    // Read once to migrate into the profile
     private static final String LEGACY_FILE = SAVE_DIR + "pending_legacy.properties";
+    private static final long SAVE_FLUSH_TIMEOUT_MS = 5000;
+
+    // Auto-saves are captured on the EDT and written on this pipeline's thread
+    private final SavePipeline savePipeline = new SavePipeline();
 
     public static void main(String[] args) {
         GameLogger.init();
@@ -119,16 +130,23 @@ public class Main {
     }
 
     private void start() {
+        if (!systemSetupDone) {
+            // Profile commits (settings, meta progress, ...) are written on the save thread too
+            ProfileStore.shared().setCommitExecutor(savePipeline::submit);
+        }
         metaProgress = MetaProgress.load();
         settings = Settings.load();
         statistics = GameStatistics.load();
         achievementManager = AchievementManager.load();
         journal = HamsterJournal.load();
-        hamsterManager = new HamsterManager(metaProgress, random);
         loadPendingLegacy();
 
         if (!systemSetupDone) {
             setupTrayIcon();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                savePipeline.shutdown(SAVE_FLUSH_TIMEOUT_MS);
+                GameLogger.info("Profile store: " + ProfileStore.shared());
+            }, "SaveFlush"));
             hotkeyManager = new GlobalHotkeyManager();
             hotkeyManager.setFailureCallback((name, text) -> {
                 JOptionPane.showMessageDialog(null,
@@ -138,6 +156,14 @@ public class Main {
                         "\uB2E8\uCD95\uD0A4 \uB4F1\uB85D \uC2E4\uD328", JOptionPane.WARNING_MESSAGE);
             });
             hotkeyManager.start(settings);
+            poopOverlay = new PoopOverlay(this::onPoopClicked);
+            hamsterLayer = createHamsterLayer(settings);
+            // Refresh the time-of-day title when the period changes (fired from World.step on the EDT)
+            GameClock.system().addPeriodListener((previous, current) -> {
+                if (controlPanel != null && world != null) {
+                    controlPanel.rebuild(world.getHamsters());
+                }
+            });
             systemSetupDone = true;
         }
 
@@ -158,32 +184,31 @@ public class Main {
         }
     }
 
-    private void startNewGame() {
+    private World createWorld(RngService rng) {
         Dimension screenSize = Toolkit.getDefaultToolkit().getScreenSize();
-        int groundY = hamsterManager.getGroundY(screenSize);
+        Insets screenInsets = Toolkit.getDefaultToolkit().getScreenInsets(
+                GraphicsEnvironment.getLocalGraphicsEnvironment()
+                        .getDefaultScreenDevice().getDefaultConfiguration());
+        World w = new World(screenSize.width, screenSize.height - screenInsets.bottom,
+                metaProgress, statistics, achievementManager, journal, rng);
+        w.setListener(worldListener);
+        return w;
+    }
+
+    private void startNewGame() {
+        world = createWorld(new RngService(RngService.newSeed()));
 
-        Hamster h = hamsterManager.createHamster(screenSize.width, HamsterColor.WHITE, "\uB0B4 \uD584\uC2A4\uD130");
+        Hamster h = world.getHamsterManager().createHamster(world.getWidth(), HamsterColor.WHITE, "\uB0B4 \uD584\uC2A4\uD130");
 
         if (pendingLegacy != null) {
-            hamsterManager.applyPendingLegacy(h, pendingLegacy);
+            world.getHamsterManager().applyPendingLegacy(h, pendingLegacy);
             pendingLegacy = null;
             savePendingLegacy();
         }
 
-        hamsterManager.registerWithAchievements(h, achievementManager);
-        hamsters.add(h);
-
-        HamsterWindow w = new HamsterWindow(h);
-        w.setContextMenuCallback(contextMenuCallback);
-        w.setLocation(screenSize.width / 2 - 40, groundY);
-        hamsterWindows.add(w);
-        applySentBackState(w);
+        world.addHamster(h, world.getWidth() / 2, world.getHeight());
+        hamsterLayer.add(h);
 
-        money = 0;
-        totalFrames = 0;
-        hamstersRaised = 1;
-        hamsterPurchaseCount = 0;
-        foodInventory = new FoodInventory();
         statistics.totalGamesPlayed++;
         statistics.totalHamstersRaised++;
 
@@ -191,99 +216,52 @@ public class Main {
     }
 
     private void startFromSave(GameState state) {
-        Dimension screenSize = Toolkit.getDefaultToolkit().getScreenSize();
-
-        money = state.money;
-        totalFrames = state.totalFrames;
-        hamstersRaised = state.hamstersRaised;
-        qualifiedHamsters = state.qualifiedHamsters;
-        foodInventory = state.foodInventory != null ? state.foodInventory : new FoodInventory();
-        hamsterPurchaseCount = state.hamsterPurchaseCount;
+        world = createWorld(RngService.resume(state.rngSeed, state.totalFrames));
+        world.loadState(state);
+        // Time passes while the game is closed
+        if (state.savedAtMillis > 0) {
+            world.catchUp(world.getClock().currentTimeMillis() - state.savedAtMillis);
+        }
         pendingLegacy = null; // discard pending legacy when loading a save
         savePendingLegacy(); // delete legacy file
 
-        for (GameState.HamsterData hd : state.hamsters) {
-            Hamster h = new Hamster(screenSize.width, 10, hd.color, hd.lifespanFrames);
-            h.setName(hd.name);
-            h.setHunger(hd.hunger);
-            h.setHappiness(hd.happiness);
-            h.setEnergy(hd.energy);
-            h.setPoopTimer(hd.poopTimer);
-            h.setAgeFrames(hd.ageFrames);
-            // Restore roguelike data
-            h.setGeneration(hd.generation);
-            h.setLegacyHungerBonus(hd.legacyHungerBonus);
-            h.setLegacyHappinessBonus(hd.legacyHappinessBonus);
-            h.setLegacyEnergyBonus(hd.legacyEnergyBonus);
-            h.setLegacyLifespanBonus(hd.legacyLifespanBonus);
-            h.setLegacyMaxStatBonus(hd.legacyMaxStatBonus);
-            h.setMaxHunger(hd.maxHunger);
-            h.setMaxHappiness(hd.maxHappiness);
-            h.setMaxEnergy(hd.maxEnergy);
-            h.setBreedCooldownFrames(hd.breedCooldownFrames);
-            // Apply meta values
-            hamsterManager.applyMetaValues(h);
-            for (GameState.BuffData bd : hd.buffs) {
-                h.addBuff(new Buff(bd.type, bd.multiplier, bd.remainingFrames, bd.description));
-            }
-            // 2.0: personality
-            try {
-                h.setPersonality(Personality.valueOf(hd.personality));
-            } catch (Exception e) {
-                h.setPersonality(Personality.CHEERFUL);
-            }
-            // 2.0: accessories
-            for (String accName : hd.ownedAccessories) {
-                h.getOwnedAccessories().add(accName);
-            }
-            for (String accName : hd.equippedAccessories) {
-                try {
-                    h.equipAccessory(Accessory.valueOf(accName));
-                } catch (Exception ignored) {}
-            }
-            hamsters.add(h);
-
-            HamsterWindow w = new HamsterWindow(h);
-            w.setContextMenuCallback(contextMenuCallback);
-            w.setLocation(hd.windowX, hd.windowY);
-            hamsterWindows.add(w);
-            applySentBackState(w);
+        for (Hamster h : world.getHamsters()) {
+            hamsterLayer.add(h);
         }
-
-        // Merge global accessories to all hamsters (in case they were bought after last save)
-        for (Hamster h : hamsters) {
-            for (String accName : achievementManager.accessoriesBought) {
-                h.getOwnedAccessories().add(accName);
-            }
-        }
-
-        for (GameState.PoopData pd : state.poops) {
-            Poop poop = new Poop(pd.screenX, pd.screenY, 0);
-            final PoopWindow[] holder = new PoopWindow[1];
-            holder[0] = new PoopWindow(poop, () -> {
-                poopWindows.remove(holder[0]);
-                addMoney(GameConstants.POOP_CLICK_REWARD, null);
-            });
-            poopWindows.add(holder[0]);
-            applySentBackState(holder[0]);
-            holder[0].setVisible(true);
+        for (Poop poop : world.getPoops()) {
+            poopOverlay.add(poop);
         }
 
         startGameLoop();
     }
 
+    private HamsterLayer createHamsterLayer(Settings s) {
+        HamsterLayer layer = s.sceneRendering
+                ? new HamsterScene(contextMenuCallback)
+                : new HamsterWindowLayer(contextMenuCallback);
+        if (hidden) layer.setShown(false);
+        if (sentBack) layer.setAlwaysOnTop(false);
+        if (currentOpacity < 1.0f) layer.setOpacity(currentOpacity);
+        return layer;
+    }
+
+    private void onPoopClicked(Poop poop) {
+        if (world != null) world.cleanPoop(poop);
+    }
+
+    /** Adds a newborn or purchased hamster next to the others. */
+    private void spawnHamster(Hamster h) {
+        int offsetX = world.getHamsters().size() * 80;
+        world.addHamster(h, world.getWidth() / 2 + offsetX, world.getHeight());
+        hamsterLayer.add(h);
+    }
+
     private void startGameLoop() {
-        controlPanel = new ControlPanel(hamsters, new ControlPanel.Callbacks() {
+        controlPanel = new ControlPanel(world.getHamsters(), new ControlPanel.Callbacks() {
             @Override
             public void onCleanAll() {
-                int count = poopWindows.size();
-                for (PoopWindow pw : new ArrayList<>(poopWindows)) {
-                    pw.dispose();
-                }
-                addMoney(GameConstants.POOP_CLEAN_ALL_REWARD * count, null);
-                poopWindows.clear();
-                statistics.totalPoopsCleaned += count;
-                achievementManager.totalPoopsCleaned += count;
+                poopOverlay.clear();
+                world.cleanAllPoops();
             }
 
             @Override
@@ -295,7 +273,7 @@ public class Main {
             public void onPlay(Hamster h) {
                 h.play();
                 statistics.totalPlayActions++;
-                achievementManager.totalPlays++;
+                achievementManager.add(AchievementManager.Counter.PLAYS, 1);
             }
 
             @Override
@@ -387,201 +365,163 @@ public class Main {
             setAllWindowsOpacity(settings.opacity / 100f);
         }
 
-        gameTimer = new Timer(GameConstants.GAME_TICK_MS, e -> gameLoop());
-        gameTimer.start();
+        gameLoop = new FixedStepLoop(GameConstants.GAME_STEP_NANOS, GameConstants.MAX_CATCH_UP_STEPS,
+                SwingUtilities::invokeLater, this::runSteps);
+        // Resumed from sleep: fast-forward instead of losing the time
+        gameLoop.setGapListener(GameConstants.OFFLINE_GAP_MILLIS * 1_000_000L,
+                gapNanos -> world.catchUp(gapNanos / 1_000_000L));
+        // The save log builds on a full save of this run
+        autoSave();
+        gameLoop.start();
     }
 
-    private void gameLoop() {
-        // Tick all windows (animation continues even when paused)
-        for (HamsterWindow w : hamsterWindows) {
-            w.tick();
-        }
+    /** Runs on the EDT with the steps that came due since the last batch. */
+    private void runSteps(int steps) {
+        World current = world;
+        for (int i = 0; i < steps; i++) {
+            long stepStart = PhaseProfiler.start();
+            current.step();
+            PhaseProfiler.end(Phase.STEP, stepStart);
+            if (current != world) return; // the run ended inside this step
+        }
+
+        // Bring the views up to date (animation continues even when paused)
+        long syncStart = System.nanoTime();
+        hamsterLayer.syncAll();
+        recordViewSync(System.nanoTime() - syncStart);
+        long refreshStart = PhaseProfiler.start();
+        controlPanel.refresh(world.getPoops().size(), world.getMoney(), metaProgress.sunflowerSeeds);
+        PhaseProfiler.end(Phase.PANEL_REFRESH, refreshStart);
+
+        long now = System.nanoTime();
+        if (lastFrameNanos != 0) PhaseProfiler.record(Phase.FRAME, now - lastFrameNanos);
+        lastFrameNanos = now;
+    }
 
-        // Check poop for each hamster (even when paused)
-        for (int i = 0; i < hamsters.size(); i++) {
-            Hamster h = hamsters.get(i);
-            if (!h.isDead() && h.shouldPoop()) {
-                spawnPoop(hamsterWindows.get(i));
-            }
+    private final WorldListener worldListener = new WorldListener() {
+        @Override
+        public void onPoopSpawned(Poop poop) {
+            poopOverlay.add(poop);
         }
 
-        // Refresh control panel (always update UI)
-        int poopCount = poopWindows.size();
-        controlPanel.refresh(poopCount, money, metaProgress.sunflowerSeeds);
+        @Override
+        public void onHamsterDied(Hamster h, String cause) {
+            pendingLegacy = world.getPendingLegacy();
+            savePendingLegacy();
 
-        // Skip all game logic when paused
-        if (allFrozen) return;
+            hamsterLayer.remove(h);
 
-        totalFrames++;
-        statistics.totalPlayTimeFrames++;
+            String deathMsg = h.getName() + "\uC774(\uAC00) \uBB34\uC9C0\uAC1C \uB2E4\uB9AC\uB97C \uAC74\uB110\uC2B5\uB2C8\uB2E4. (" + h.getGeneration() + "\uC138\uB300)\n\uC0AC\uC778: " + cause;
 
-        // Collect pending coins from ongoing actions
-        for (Hamster h : hamsters) {
-            int coins = h.collectPendingCoins();
-            if (coins > 0) {
-                addMoney(coins, h);
+            // Show legacy earned message
+            int avgStat = (h.getHunger() + h.getHappiness() + h.getEnergy()) / 3;
+            if (avgStat > 30) {
+                deathMsg += "\n\uB808\uAC70\uC2DC \uD68D\uB4DD! \uBC30\uACE0\uD514+5, \uD589\uBCF5+5, \uCCB4\uB825+5, \uC218\uBA85+1\uC77C, \uCD5C\uB300\uC2A4\uD0EF+5";
             }
-        }
 
-        // Apply poop penalty
-        for (Hamster h : hamsters) {
-            h.applyPoopPenalty(poopCount);
-        }
-
-        // Track max stat reached (check every frame so we don't miss it)
-        if (!achievementManager.maxStatReached) {
-            for (Hamster h : hamsters) {
-                if (!h.isDead() && (h.getHunger() >= h.getMaxHunger()
-                        || h.getHappiness() >= h.getMaxHappiness()
-                        || h.getEnergy() >= h.getMaxEnergy())) {
-                    achievementManager.maxStatReached = true;
-                    break;
-                }
+            if (!hidden) {
+                showMessageLater(deathMsg, "\uC548\uB155\uD788...");
             }
         }
 
-        // Check deaths
-        checkDeaths();
-
-        // Random event check (skip when hidden or event already showing)
-        eventTimer++;
-        if (!hidden && !eventInProgress && eventTimer >= metaProgress.getEventInterval() && !hamsters.isEmpty()) {
-            eventTimer = 0;
-            triggerRandomEvent();
-            statistics.totalEventsTriggered++;
-            achievementManager.totalEventsTriggered++;
+        @Override
+        public void onHamstersChanged() {
+            controlPanel.rebuild(world.getHamsters());
         }
 
-        // Hamster interactions (skip when hidden)
-        interactionTimer++;
-        if (!hidden && interactionTimer >= GameConstants.INTERACTION_CHECK_INTERVAL && hamsterWindows.size() >= 2) {
-            interactionTimer = 0;
-            tryInteraction();
+        @Override
+        public void onColonyLost() {
+            if (hidden) {
+                pendingGameOver = true;
+            } else {
+                gameOver();
+            }
         }
 
-        // Passive income
-        if (totalFrames % GameConstants.PASSIVE_INCOME_INTERVAL == 0) {
-            for (Hamster h : hamsters) {
-                if (!h.isDead()) {
-                    addMoney(GameConstants.PASSIVE_INCOME_AMOUNT, h);
+        @Override
+        public void onRandomEvent(World w, Hamster target, RandomEvent event) {
+            // Ask after the step so the modal dialog never runs inside the simulation
+            if (eventDialogOpen) return;
+            eventDialogOpen = true;
+            SwingUtilities.invokeLater(() -> {
+                try {
+                    boolean choiceA = EventDialog.showEvent(event);
+                    if (w != world || !w.getHamsters().contains(target)) return; // run ended or target died meanwhile
+                    String result;
+                    if (choiceA) {
+                        result = event.applyChoiceA(target, w);
+                    } else {
+                        result = event.applyChoiceB(target, w);
+                    }
+
+                    JOptionPane.showMessageDialog(controlPanel,
+                            target.getName() + ": " + result,
+                            "\uC774\uBCA4\uD2B8 \uACB0\uACFC", JOptionPane.INFORMATION_MESSAGE);
+                } finally {
+                    eventDialogOpen = false;
                 }
-            }
+            });
         }
 
-        // Achievement check (skip when hidden)
-        achievementCheckTimer++;
-        if (!hidden && achievementCheckTimer >= GameConstants.ACHIEVEMENT_CHECK_INTERVAL) {
-            achievementCheckTimer = 0;
-            checkAchievements();
+        @Override
+        public void onInteraction(Hamster a, Hamster b, String result) {
+            showMessageLater(result, "\uC0C1\uD638\uC791\uC6A9!");
         }
 
-        // Track longest lifespan
-        for (Hamster h : hamsters) {
-            if (!h.isDead()) {
-                int days = h.getAgeDays();
-                if (days > statistics.longestLifespanDays) {
-                    statistics.longestLifespanDays = days;
-                }
-                if (h.getGeneration() > statistics.maxGenerationReached) {
-                    statistics.maxGenerationReached = h.getGeneration();
-                }
+        @Override
+        public void onAchievementUnlocked(Achievement ach) {
+            String reward;
+            if (ach.getRewardType() == Achievement.RewardType.COINS) {
+                reward = ach.getRewardAmount() + " \uCF54\uC778";
+            } else {
+                reward = ach.getRewardAmount() + " \uD574\uBC14\uB77C\uAE30\uC528";
             }
+            showMessageLater("\uD83C\uDFC6 \uC5C5\uC801 \uD574\uAE08!\n\n" + ach.getDisplayName() + "\n" + ach.getDescription()
+                            + "\n\uBCF4\uC0C1: " + reward,
+                    "\uC5C5\uC801");
         }
 
-        // Auto-save
-        if (totalFrames % GameConstants.AUTO_SAVE_INTERVAL == 0) {
+        @Override
+        public void onAutoSaveDue(World w) {
             autoSave();
         }
-    }
 
-    private void spawnPoop(HamsterWindow window) {
-        Point pos = window.getHamsterScreenPosition();
-        int offsetX = random.nextInt(21) - 10;
-        int offsetY = random.nextInt(11) - 5;
-        Poop poop = new Poop(pos.x - 15 + offsetX, pos.y - 30 + offsetY, 0);
-        final PoopWindow[] holder = new PoopWindow[1];
-        holder[0] = new PoopWindow(poop, () -> {
-            poopWindows.remove(holder[0]);
-            addMoney(GameConstants.POOP_CLICK_REWARD, null);
-        });
-        poopWindows.add(holder[0]);
-        applySentBackState(holder[0]);
-        if (!hidden) {
-            holder[0].setVisible(true);
+        @Override
+        public void onProfileSaveDue(World w) {
+            savePipeline.submit(w.captureProfileSave());
         }
-    }
-
-    private void checkDeaths() {
-        boolean anyDied = false;
-        for (int i = hamsters.size() - 1; i >= 0; i--) {
-            Hamster h = hamsters.get(i);
-            if (h.isDead()) {
-                String name = h.getName();
-                int gen = h.getGeneration();
-                int[] legacy = h.computeLegacy();
-                if (pendingLegacy == null) {
-                    pendingLegacy = legacy;
-                } else {
-                    // Keep the best legacy values from multiple deaths
-                    for (int j = 0; j < legacy.length; j++) {
-                        pendingLegacy[j] = Math.max(pendingLegacy[j], legacy[j]);
-                    }
-                }
-                savePendingLegacy();
-
-                // Determine cause of death
-                String cause = hamsterManager.getCauseOfDeath(h);
-                journal.addEntry(h, cause);
-                statistics.totalDeaths++;
-
-                int lifeDays = h.getAgeDays();
-                if (lifeDays >= 1) {
-                    qualifiedHamsters++;
-                }
-                if (lifeDays > statistics.longestLifespanDays) {
-                    statistics.longestLifespanDays = lifeDays;
-                }
 
-                HamsterWindow w = hamsterWindows.get(i);
-                w.dispose();
-                hamsters.remove(i);
-                hamsterWindows.remove(i);
-                anyDied = true;
-
-                String deathMsg = name + "\uC774(\uAC00) \uBB34\uC9C0\uAC1C \uB2E4\uB9AC\uB97C \uAC74\uB110\uC2B5\uB2C8\uB2E4. (" + gen + "\uC138\uB300)\n\uC0AC\uC778: " + cause;
-
-                // Show legacy earned message
-                int avgStat = (h.getHunger() + h.getHappiness() + h.getEnergy()) / 3;
-                if (avgStat > 30) {
-                    deathMsg += "\n\uB808\uAC70\uC2DC \uD68D\uB4DD! \uBC30\uACE0\uD514+5, \uD589\uBCF5+5, \uCCB4\uB825+5, \uC218\uBA85+1\uC77C, \uCD5C\uB300\uC2A4\uD0EF+5";
-                }
-
-                if (!hidden) {
-                    JOptionPane.showMessageDialog(controlPanel, deathMsg,
-                            "\uC548\uB155\uD788...", JOptionPane.INFORMATION_MESSAGE);
-                }
-            }
-        }
-        if (anyDied) {
-            controlPanel.rebuild(hamsters);
-            if (hamsters.isEmpty()) {
-                if (hidden) {
-                    pendingGameOver = true;
-                } else {
-                    gameOver();
-                }
-            }
+        @Override
+        public void onSaveLogDue(World w) {
+            saveLog();
         }
+    };
+
+    /**
+     * Show an information dialog once the current batch of steps is done. Modal dialogs
+     * pump events, so opening one from inside World.step() would re-enter the simulation.
+     */
+    private void showMessageLater(String message, String title) {
+        SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(controlPanel, message,
+                title, JOptionPane.INFORMATION_MESSAGE));
     }
 
     private void gameOver() {
-        gameTimer.stop();
+        gameLoop.stop();
+        // A save still queued would put the run back after it is dropped below
+        savePipeline.flush(SAVE_FLUSH_TIMEOUT_MS);
 
+        int qualifiedHamsters = world.getQualifiedHamsters();
+        int money = world.getMoney();
         int seeds = MetaProgress.calculateSeeds(qualifiedHamsters, money);
-        metaProgress.addSeeds(seeds);
+        // Game over = no continue: the run goes in the same commit that grants the seeds
+        ProfileStore.shared().atomically(() -> {
+            SaveManager.deleteAutoSave();
+            metaProgress.addSeeds(seeds);
+        });
 
         String msg = "\uAC8C\uC784 \uC624\uBC84!\n\n" +
-                "\uD0A4\uC6B4 \uD584\uC2A4\uD130: " + hamstersRaised + "\uB9C8\uB9AC\n" +
+                "\uD0A4\uC6B4 \uD584\uC2A4\uD130: " + world.getHamstersRaised() + "\uB9C8\uB9AC\n" +
                 "\uBCF4\uC0C1 \uB300\uC0C1: " + qualifiedHamsters + "\uB9C8\uB9AC (1\uC77C \uC774\uC0C1 \uC0DD\uC874)\n" +
                 "\uB0A8\uC740 \uCF54\uC778: " + money + "\n\n" +
                 "\uD68D\uB4DD \uD574\uBC14\uB77C\uAE30\uC528: " + seeds + "\uAC1C\n" +
@@ -590,23 +530,16 @@ public class Main {
                 "\uAC8C\uC784 \uC624\uBC84", JOptionPane.INFORMATION_MESSAGE);
 
         // Cleanup windows
-        for (HamsterWindow w : new ArrayList<>(hamsterWindows)) w.dispose();
-        hamsterWindows.clear();
-        for (PoopWindow pw : new ArrayList<>(poopWindows)) pw.dispose();
-        poopWindows.clear();
-        hamsters.clear();
+        hamsterLayer.clear();
+        poopOverlay.clear();
         controlPanel.dispose();
 
-        // Delete auto-save (game over = no continue)
-        SaveManager.deleteAutoSave();
+        // The old run's save log must be gone before the next run saves
+        savePipeline.submit(SaveManager::deleteLog);
+        savePipeline.flush(SAVE_FLUSH_TIMEOUT_MS);
 
-        // Reset state (pendingLegacy is kept for next run)
-        money = 0;
-        totalFrames = 0;
-        hamstersRaised = 1;
-        qualifiedHamsters = 0;
-        hamsterPurchaseCount = 0;
-        eventTimer = 0;
+        // Drop the finished run (pendingLegacy is kept for next run)
+        world = null;
 
         // Back to start screen
         start();
@@ -614,7 +547,7 @@ public class Main {
 
     private void openBreed() {
         int maxSlots = metaProgress.getMaxHamsterSlots();
-        if (hamsters.size() >= maxSlots) {
+        if (world.getHamsters().size() >= maxSlots) {
             JOptionPane.showMessageDialog(controlPanel,
                     "\uD584\uC2A4\uD130 \uC2AC\uB86F\uC774 \uAC00\uB4DD \uCC3C\uC2B5\uB2C8\uB2E4!",
                     "\uAD50\uBC30", JOptionPane.WARNING_MESSAGE);
@@ -625,7 +558,7 @@ public class Main {
 
         // Find eligible hamsters
         List<Hamster> eligible = new ArrayList<>();
-        for (Hamster h : hamsters) {
+        for (Hamster h : world.getHamsters()) {
             if (h.canBreed(breedAgeFrames)) {
                 eligible.add(h);
             }
@@ -697,30 +630,19 @@ public class Main {
             name = "\uC544\uAE30 \uD584\uC2A4\uD130";
         }
 
-        Dimension screenSize = Toolkit.getDefaultToolkit().getScreenSize();
-        int groundY = hamsterManager.getGroundY(screenSize);
-
-        Hamster baby = hamsterManager.createBabyHamster(screenSize.width, parent1, parent2, name.trim());
-        hamsterManager.registerWithAchievements(baby, achievementManager);
-        hamsters.add(baby);
-        hamstersRaised++;
+        Hamster baby = world.getHamsterManager().createBabyHamster(world.getWidth(), parent1, parent2, name.trim());
+        spawnHamster(baby);
+        world.recordHamsterRaised();
         statistics.totalHamstersRaised++;
         statistics.totalBreeds++;
-        achievementManager.totalBreeds++;
-
-        int offsetX = (hamsters.size() - 1) * 80;
-        HamsterWindow w = new HamsterWindow(baby);
-        w.setContextMenuCallback(contextMenuCallback);
-        w.setLocation(screenSize.width / 2 - 40 + offsetX, groundY);
-        hamsterWindows.add(w);
-        applySentBackState(w);
+        achievementManager.add(AchievementManager.Counter.BREEDS, 1);
 
         // Apply cooldown to both parents
         parent1.startBreedCooldown();
         parent2.startBreedCooldown();
 
-        controlPanel.rebuild(hamsters);
-        autoSave();
+        controlPanel.rebuild(world.getHamsters());
+        saveLog();
 
         JOptionPane.showMessageDialog(controlPanel,
                 "\uC544\uAE30 \uD584\uC2A4\uD130 \"" + baby.getName() + "\"\uC774(\uAC00) \uD0DC\uC5B4\uB0AC\uC2B5\uB2C8\uB2E4! (" + baby.getGeneration() + "\uC138\uB300)\n" +
@@ -731,11 +653,26 @@ public class Main {
     // applyMetaValues and applyStartingStats are now in HamsterManager
 
     private void autoSave() {
-        GameState state = GameState.capture(money, totalFrames, hamsters, hamsterWindows, poopWindows, hamstersRaised, qualifiedHamsters, foodInventory, hamsterPurchaseCount);
-        SaveManager.saveAuto(state);
-        statistics.save();
-        achievementManager.save();
-        journal.save();
+        long start = PhaseProfiler.start();
+        Runnable write = world.captureSave();
+        PhaseProfiler.end(Phase.SAVE_CAPTURE, start);
+        savePipeline.submitSave(() -> {
+            long writeStart = PhaseProfiler.start();
+            write.run();
+            PhaseProfiler.end(Phase.SAVE_WRITE, writeStart);
+        });
+    }
+
+    /** Log what changed since the last save; falls back to a full save once the log grows large. */
+    private void saveLog() {
+        if (SaveManager.logSize() > GameConstants.SAVE_LOG_MAX_BYTES) {
+            autoSave();
+            return;
+        }
+        WriteAheadLog.Batch batch = world.captureLogBatch();
+        if (batch != null) {
+            savePipeline.submit(() -> SaveManager.appendLog(batch));
+        }
     }
 
     private void showUpgradeInfoDialog() {
@@ -757,7 +694,7 @@ public class Main {
         panel.setBorder(BorderFactory.createEmptyBorder(20, 30, 20, 30));
         panel.setBackground(new Color(255, 250, 240));
 
-        JLabel titleLabel = new JLabel(ControlPanel.wrapEmoji("\uD83D\uDCCA \uC5C5\uADF8\uB808\uC774\uB4DC \uC815\uBCF4"));
+        JLabel titleLabel = Emoji.label("\uD83D\uDCCA \uC5C5\uADF8\uB808\uC774\uB4DC \uC815\uBCF4");
         titleLabel.setFont(new Font("Noto Sans KR", Font.BOLD, 16));
         titleLabel.setForeground(new Color(80, 50, 20));
         titleLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
@@ -862,33 +799,33 @@ public class Main {
 
     private void openShop() {
         int maxSlots = metaProgress.getMaxHamsterSlots();
-        ShopDialog.showAndBuy(money, hamsters.size(), maxSlots,
-                foodInventory, achievementManager.accessoriesBought, hamsterPurchaseCount,
+        ShopDialog.showAndBuy(world.getMoney(), world.getHamsters().size(), maxSlots,
+                world.getFoodInventory(), achievementManager.getAccessoriesBought(), world.getHamsterPurchaseCount(),
                 new ShopDialog.ShopCallback() {
                     @Override
                     public void onShopClosed(ShopDialog.ShopResult shopResult) {
                         // Deduct money spent on food/accessories
                         if (shopResult.totalSpent > 0) {
-                            spendMoney(shopResult.totalSpent);
+                            world.spendMoney(shopResult.totalSpent);
                         }
 
                         // Track new accessories globally
                         for (String accName : shopResult.newAccessories) {
-                            achievementManager.accessoriesBought.add(accName);
-                            for (Hamster h : hamsters) {
+                            achievementManager.buyAccessory(accName);
+                            for (Hamster h : world.getHamsters()) {
                                 h.getOwnedAccessories().add(accName);
                             }
                         }
 
                         // Handle hamster purchase
                         if (shopResult.boughtHamster) {
-                            hamsterPurchaseCount++;
-                            hamstersRaised++;
+                            world.recordHamsterPurchase();
+                            world.recordHamsterRaised();
                             statistics.totalHamstersRaised++;
 
                             HamsterColor[] colors = HamsterColor.values();
-                            HamsterColor purchased = colors[random.nextInt(colors.length)];
-                            achievementManager.colorsSeen.add(purchased.name());
+                            HamsterColor purchased = colors[world.getRng().breeding().nextInt(colors.length)];
+                            achievementManager.seeColor(purchased);
 
                             String name = JOptionPane.showInputDialog(controlPanel,
                                     purchased.getDisplayName() + " \uD584\uC2A4\uD130\uAC00 \uD0DC\uC5B4\uB0AC\uC2B5\uB2C8\uB2E4!\n\uC774\uB984\uC744 \uC785\uB825\uD558\uC138\uC694:",
@@ -897,24 +834,13 @@ public class Main {
                                 name = purchased.getDisplayName() + " \uD584\uC2A4\uD130";
                             }
 
-                            Dimension screenSize = Toolkit.getDefaultToolkit().getScreenSize();
-                            int groundY = hamsterManager.getGroundY(screenSize);
-
-                            Hamster h = hamsterManager.createHamster(screenSize.width, purchased, name.trim());
-                            hamsterManager.registerWithAchievements(h, achievementManager);
-                            hamsters.add(h);
+                            Hamster h = world.getHamsterManager().createHamster(world.getWidth(), purchased, name.trim());
+                            spawnHamster(h);
 
-                            int offsetX = (hamsters.size() - 1) * 80;
-                            HamsterWindow w = new HamsterWindow(h);
-                            w.setContextMenuCallback(contextMenuCallback);
-                            w.setLocation(screenSize.width / 2 - 40 + offsetX, groundY);
-                            hamsterWindows.add(w);
-                            applySentBackState(w);
-
-                            controlPanel.rebuild(hamsters);
+                            controlPanel.rebuild(world.getHamsters());
                         }
 
-                        autoSave();
+                        saveLog();
                     }
                 });
     }
@@ -929,54 +855,6 @@ public class Main {
         // checkDeaths in next gameLoop tick will handle the rest
     }
 
-    public void addMoney(int amount, Hamster source) {
-        int actual;
-        if (source != null) {
-            actual = (int)(amount * source.getCoinMultiplier());
-        } else {
-            actual = amount;
-        }
-        money += actual;
-        if (money < 0) money = 0;
-        if (money > 999_999_999) money = 999_999_999;
-        if (actual > 0) {
-            statistics.totalCoinsEarned += actual;
-        }
-    }
-
-    public void spendMoney(int amount) {
-        money -= amount;
-        if (money < 0) money = 0;
-        statistics.totalCoinsSpent += amount;
-    }
-
-    private void triggerRandomEvent() {
-        if (eventInProgress) return;
-        // Pick a random living hamster
-        Hamster target = null;
-        List<Hamster> living = new ArrayList<>();
-        for (Hamster h : hamsters) {
-            if (!h.isDead()) living.add(h);
-        }
-        if (living.isEmpty()) return;
-        target = living.get(random.nextInt(living.size()));
-
-        eventInProgress = true;
-        RandomEvent event = RandomEvent.pickRandom(random);
-        boolean choiceA = EventDialog.showEvent(event);
-        String result;
-        if (choiceA) {
-            result = event.applyChoiceA(target, this);
-        } else {
-            result = event.applyChoiceB(target, this);
-        }
-
-        JOptionPane.showMessageDialog(controlPanel,
-                target.getName() + ": " + result,
-                "\uC774\uBCA4\uD2B8 \uACB0\uACFC", JOptionPane.INFORMATION_MESSAGE);
-        eventInProgress = false;
-    }
-
     private void toggleControlPanel() {
         if (controlPanel == null) return;
         controlPanel.setVisible(!controlPanel.isVisible());
@@ -984,13 +862,14 @@ public class Main {
 
     private void toggleAllWindows() {
         hidden = !hidden;
+        if (world != null) world.setHidden(hidden);
         if (hidden) {
-            for (HamsterWindow w : hamsterWindows) w.setVisible(false);
-            for (PoopWindow pw : poopWindows) pw.setVisible(false);
+            hamsterLayer.setShown(false);
+            poopOverlay.setShown(false);
             controlPanel.setVisible(false);
         } else {
-            for (HamsterWindow w : hamsterWindows) w.setVisible(true);
-            for (PoopWindow pw : poopWindows) pw.setVisible(true);
+            hamsterLayer.setShown(true);
+            poopOverlay.setShown(true);
             controlPanel.setVisible(true);
             if (pendingGameOver) {
                 pendingGameOver = false;
@@ -1002,19 +881,20 @@ public class Main {
     private void sendBackAllWindows() {
         sentBack = !sentBack;
         if (sentBack) {
-            for (HamsterWindow w : hamsterWindows) { w.setAlwaysOnTop(false); w.toBack(); }
-            for (PoopWindow pw : poopWindows) { pw.setAlwaysOnTop(false); pw.toBack(); }
+            hamsterLayer.setAlwaysOnTop(false);
+            poopOverlay.setAlwaysOnTop(false);
             controlPanel.setAlwaysOnTop(false);
             controlPanel.toBack();
         } else {
-            for (HamsterWindow w : hamsterWindows) { w.setAlwaysOnTop(true); w.toFront(); }
-            for (PoopWindow pw : poopWindows) { pw.setAlwaysOnTop(true); pw.toFront(); }
+            hamsterLayer.setAlwaysOnTop(true);
+            poopOverlay.setAlwaysOnTop(true);
             controlPanel.setAlwaysOnTop(true);
             controlPanel.toFront();
         }
     }
 
     private void killAllHamsters() {
+        List<Hamster> hamsters = world.getHamsters();
         String msg = hamsters.isEmpty()
                 ? "\uAC8C\uC784\uC744 \uD3EC\uAE30\uD558\uC2DC\uACA0\uC2B5\uB2C8\uAE4C?\n\uAC8C\uC784\uC774 \uC989\uC2DC \uC885\uB8CC\uB429\uB2C8\uB2E4."
                 : "\uC815\uB9D0\uB85C \uBAA8\uB4E0 \uD584\uC2A4\uD130\uB97C \uBCF4\uB0B4\uC2DC\uACA0\uC2B5\uB2C8\uAE4C?\n\uAC8C\uC784\uC774 \uC989\uC2DC \uC885\uB8CC\uB429\uB2C8\uB2E4.";
@@ -1032,97 +912,19 @@ public class Main {
     }
 
     private void gatherAllHamsters() {
-        if (hamsterWindows.isEmpty()) return;
-        Dimension screenSize = Toolkit.getDefaultToolkit().getScreenSize();
-        Insets screenInsets = Toolkit.getDefaultToolkit().getScreenInsets(
-                GraphicsEnvironment.getLocalGraphicsEnvironment()
-                        .getDefaultScreenDevice().getDefaultConfiguration());
-
+        if (hamsterLayer.isEmpty()) return;
         // Position above the system tray (bottom-right corner, above taskbar)
-        int taskbarHeight = screenInsets.bottom;
-        int baseX = screenSize.width;
-        int baseY = screenSize.height - taskbarHeight;
-
-        HamsterWindow first = hamsterWindows.get(0);
-        int x = baseX - first.getWidth();
-        int y = baseY - first.getHeight();
-        if (x < 0) x = 0;
-        if (y < 0) y = 0;
-        for (HamsterWindow w : hamsterWindows) {
-            w.setLocation(x, y);
-        }
+        world.gatherAll();
+        hamsterLayer.syncAll();
     }
 
     private void freezeAllHamsters() {
-        allFrozen = !allFrozen;
-        for (Hamster h : hamsters) {
-            h.setFrozen(allFrozen);
-        }
-    }
-
-    private void tryInteraction() {
-        if (hamsterWindows.size() < 2) return;
-        for (int i = 0; i < hamsterWindows.size(); i++) {
-            for (int j = i + 1; j < hamsterWindows.size(); j++) {
-                Hamster a = hamsters.get(i);
-                Hamster b = hamsters.get(j);
-                if (a.isDead() || b.isDead()) continue;
-                if (!a.canInteract() || !b.canInteract()) continue;
-                if (HamsterInteraction.areClose(hamsterWindows.get(i), hamsterWindows.get(j))) {
-                    HamsterInteraction.Type type = HamsterInteraction.pickRandom(random);
-                    String result = HamsterInteraction.interact(a, b, type);
-                    a.startInteractionCooldown();
-                    b.startInteractionCooldown();
-                    statistics.totalInteractions++;
-                    achievementManager.totalInteractions++;
-
-                    JOptionPane.showMessageDialog(controlPanel, result,
-                            "\uC0C1\uD638\uC791\uC6A9!", JOptionPane.INFORMATION_MESSAGE);
-                    return; // only one interaction per check
-                }
-            }
-        }
-    }
-
-    private void checkAchievements() {
-        int maxGen = 0;
-        for (Hamster h : hamsters) {
-            if (h.getGeneration() > maxGen) maxGen = h.getGeneration();
-        }
-        if (maxGen > statistics.maxGenerationReached) {
-            statistics.maxGenerationReached = maxGen;
-        }
-
-        java.util.List<Achievement> newAchievements = achievementManager.checkAndUnlock(
-                statistics.totalHamstersRaised,
-                statistics.maxGenerationReached,
-                statistics.totalCoinsEarned,
-                statistics.longestLifespanDays,
-                hamsters
-        );
-
-        if (!newAchievements.isEmpty()) {
-            achievementManager.save();
-        }
-
-        for (Achievement ach : newAchievements) {
-            String reward;
-            if (ach.getRewardType() == Achievement.RewardType.COINS) {
-                addMoney(ach.getRewardAmount(), null);
-                reward = ach.getRewardAmount() + " \uCF54\uC778";
-            } else {
-                metaProgress.addSeeds(ach.getRewardAmount());
-                reward = ach.getRewardAmount() + " \uD574\uBC14\uB77C\uAE30\uC528";
-            }
-            JOptionPane.showMessageDialog(controlPanel,
-                    "\uD83C\uDFC6 \uC5C5\uC801 \uD574\uAE08!\n\n" + ach.getDisplayName() + "\n" + ach.getDescription()
-                            + "\n\uBCF4\uC0C1: " + reward,
-                    "\uC5C5\uC801", JOptionPane.INFORMATION_MESSAGE);
-        }
+        world.setPaused(!world.isPaused());
     }
 
     // 2.0 callback methods for ControlPanel
     private void onFeedWithFood(Hamster h) {
+        FoodInventory foodInventory = world.getFoodInventory();
         if (foodInventory == null || foodInventory.isEmpty()) {
             h.feed();
             statistics.totalFeedActions++;
@@ -1175,7 +977,7 @@ public class Main {
         ));
 
         // Title bar
-        JLabel title = new JLabel(ControlPanel.wrapEmoji("\uD83C\uDF7D\uFE0F " + h.getName() + "\uC758 \uBA39\uC774"));
+        JLabel title = Emoji.label("\uD83C\uDF7D\uFE0F " + h.getName() + "\uC758 \uBA39\uC774");
         title.setFont(new Font("Noto Sans KR", Font.BOLD, 12));
         title.setForeground(new Color(80, 50, 20));
         title.setBorder(BorderFactory.createEmptyBorder(0, 4, 6, 0));
@@ -1201,7 +1003,7 @@ public class Main {
                     count > 0 ? borderActive : borderEmpty, 1));
 
             // Emoji icon centered
-            JLabel emojiLabel = new JLabel(ControlPanel.wrapEmoji(food.getEmoji()), SwingConstants.CENTER);
+            JLabel emojiLabel = Emoji.label(food.getEmoji(), SwingConstants.CENTER);
             emojiLabel.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 22));
             if (count <= 0) emojiLabel.setEnabled(false);
             slot.add(emojiLabel, BorderLayout.CENTER);
@@ -1234,7 +1036,7 @@ public class Main {
                         foodInventory.remove(food);
                         h.feed(food);
                         statistics.totalFeedActions++;
-                        achievementManager.foodsTried.add(food.name());
+                        achievementManager.tryFood(food);
                         popup.dispose();
                     }
                     @Override
@@ -1289,7 +1091,7 @@ public class Main {
     }
 
     private void onShowStatistics_() {
-        StatisticsDialog.show(controlPanel, statistics);
+        StatisticsDialog.show(controlPanel, statistics, world.getColonyHistory(), world.getHamsters());
     }
 
     private void onEquipAccessory_(Hamster h) {
@@ -1328,7 +1130,7 @@ public class Main {
                 BorderFactory.createEmptyBorder(6, 6, 6, 6)
         ));
 
-        JLabel title = new JLabel(ControlPanel.wrapEmoji("\uD83C\uDFA8 " + h.getName() + "\uC758 \uCE58\uC7A5"));
+        JLabel title = Emoji.label("\uD83C\uDFA8 " + h.getName() + "\uC758 \uCE58\uC7A5");
         title.setFont(new Font("Noto Sans KR", Font.BOLD, 12));
         title.setForeground(new Color(80, 50, 20));
         title.setBorder(BorderFactory.createEmptyBorder(0, 4, 6, 0));
@@ -1477,70 +1279,74 @@ public class Main {
         ttm.setInitialDelay(origInitial);
         ttm.setDismissDelay(origDismiss);
 
-        autoSave();
+        saveLog();
     }
 
-    // Accessor for food inventory (used by shop)
-    public FoodInventory getFoodInventory() { return foodInventory; }
-
     private void onSettingsSaved(Settings newSettings) {
         this.settings = newSettings;
         hotkeyManager.updateHotkeys(newSettings);
         if (controlPanel != null) {
             controlPanel.applyTheme(newSettings.theme);
         }
+        // Switch render mode in place
+        if (hamsterLayer != null && (hamsterLayer instanceof HamsterScene) != newSettings.sceneRendering) {
+            hamsterLayer.dispose();
+            hamsterLayer = createHamsterLayer(newSettings);
+            if (world != null) {
+                for (Hamster h : world.getHamsters()) hamsterLayer.add(h);
+            }
+            GameLogger.info("Hamster rendering: " + (newSettings.sceneRendering ? "scene" : "window per hamster"));
+        }
     }
 
     private float currentOpacity = 1.0f;
 
     private void setAllWindowsOpacity(float opacity) {
         currentOpacity = opacity;
-        for (HamsterWindow w : hamsterWindows) w.setOpacity(opacity);
-        for (PoopWindow pw : poopWindows) pw.setOpacity(opacity);
+        hamsterLayer.setOpacity(opacity);
+        poopOverlay.setOpacity(opacity);
         controlPanel.setOpacity(opacity);
     }
 
-    private void applySentBackState(java.awt.Window w) {
-        if (sentBack) {
-            w.setAlwaysOnTop(false);
-            w.toBack();
-        }
-        if (currentOpacity < 1.0f) {
-            w.setOpacity(currentOpacity);
-        }
+    // View-sync cost on the EDT, logged once a minute to compare the render modes
+    private long viewSyncNanos;
+    private int viewSyncCount;
+    private long viewSyncWindowStart = System.nanoTime();
+
+    private void recordViewSync(long nanos) {
+        PhaseProfiler.record(Phase.VIEW_SYNC, nanos);
+        viewSyncNanos += nanos;
+        viewSyncCount++;
+        long now = System.nanoTime();
+        if (now - viewSyncWindowStart < 60_000_000_000L) return;
+        GameLogger.debug(String.format("View sync: %d hamsters, %d native windows, avg %.3f ms; sprite cache: %s",
+                world.getHamsters().size(), hamsterLayer.nativeWindowCount(),
+                viewSyncNanos / 1e6 / viewSyncCount, HamsterRenderer.cacheStats()));
+        viewSyncNanos = 0;
+        viewSyncCount = 0;
+        viewSyncWindowStart = now;
     }
 
     private void savePendingLegacy() {
-        File dir = new File(SAVE_DIR);
-        if (!dir.exists()) dir.mkdirs();
-        File file = new File(LEGACY_FILE);
+        ProfileStore profile = ProfileStore.shared();
         if (pendingLegacy == null) {
-            file.delete();
-            return;
-        }
-        Properties props = new Properties();
-        props.setProperty("generation", String.valueOf(pendingLegacy[0]));
-        props.setProperty("hungerBonus", String.valueOf(pendingLegacy[1]));
-        props.setProperty("happinessBonus", String.valueOf(pendingLegacy[2]));
-        props.setProperty("energyBonus", String.valueOf(pendingLegacy[3]));
-        props.setProperty("lifespanBonus", String.valueOf(pendingLegacy[4]));
-        props.setProperty("maxStatBonus", String.valueOf(pendingLegacy[5]));
-        try (FileOutputStream fos = new FileOutputStream(file)) {
-            props.store(fos, "Pending Legacy");
-        } catch (IOException e) {
-            GameLogger.error("Failed to save pending legacy", e);
-        }
+            profile.remove(LEGACY_RECORD);
+        } else {
+            Properties props = new Properties();
+            props.setProperty("generation", String.valueOf(pendingLegacy[0]));
+            props.setProperty("hungerBonus", String.valueOf(pendingLegacy[1]));
+            props.setProperty("happinessBonus", String.valueOf(pendingLegacy[2]));
+            props.setProperty("energyBonus", String.valueOf(pendingLegacy[3]));
+            props.setProperty("lifespanBonus", String.valueOf(pendingLegacy[4]));
+            props.setProperty("maxStatBonus", String.valueOf(pendingLegacy[5]));
+            profile.putProperties(LEGACY_RECORD, props);
+        }
+        profile.requestCommit();
     }
 
     private void loadPendingLegacy() {
-        File file = new File(LEGACY_FILE);
-        if (!file.exists()) return;
-        Properties props = new Properties();
-        try (FileInputStream fis = new FileInputStream(file)) {
-            props.load(fis);
-        } catch (IOException e) {
-            return;
-        }
+        Properties props = ProfileStore.shared().getProperties(LEGACY_RECORD, new File(LEGACY_FILE));
+        if (props == null) return;
         pendingLegacy = new int[] {
             Integer.parseInt(props.getProperty("generation", "1")),
             Integer.parseInt(props.getProperty("hungerBonus", "0")),
@@ -1551,6 +1357,25 @@ public class Main {
         };
     }
 
+    private void toggleProfilerOverlay() {
+        if (profilerOverlay == null) {
+            profilerOverlay = new ProfilerOverlay(() -> gameLoop);
+        }
+        profilerOverlay.toggle();
+    }
+
+    /** Write the phase histograms next to the log, for comparing runs. */
+    private void exportProfile() {
+        try {
+            File file = PhaseProfiler.export(new File(GameConstants.SAVE_DIR));
+            showMessageLater("\uC800\uC7A5\uB428: " + file.getPath(), "\uC131\uB2A5 \uAE30\uB85D");
+        } catch (IOException e) {
+            GameLogger.error("Failed to export profiler histograms", e);
+            showMessageLater("\uC800\uC7A5\uD558\uC9C0 \uBABB\uD588\uC2B5\uB2C8\uB2E4: " + e.getMessage(),
+                    "\uC131\uB2A5 \uAE30\uB85D");
+        }
+    }
+
     private void setupTrayIcon() {
         if (!SystemTray.isSupported()) return;
         try {
@@ -1570,9 +1395,16 @@ public class Main {
             JMenuItem sendBackItem = new JMenuItem("\uB4A4\uB85C \uBCF4\uB0B4\uAE30/\uC55E\uC73C\uB85C (ALT+W)");
             sendBackItem.addActionListener(e -> sendBackAllWindows());
 
+            JMenuItem overlayItem = new JMenuItem("\uC131\uB2A5 \uC624\uBC84\uB808\uC774 \uCF1C\uAE30/\uB044\uAE30");
+            overlayItem.addActionListener(e -> toggleProfilerOverlay());
+
+            JMenuItem exportItem = new JMenuItem("\uC131\uB2A5 \uAE30\uB85D \uB0B4\uBCF4\uB0B4\uAE30");
+            exportItem.addActionListener(e -> exportProfile());
+
             JMenuItem exitItem = new JMenuItem("\uC885\uB8CC");
             exitItem.addActionListener(e -> {
                 if (hotkeyManager != null) hotkeyManager.stop();
+                savePipeline.shutdown(SAVE_FLUSH_TIMEOUT_MS);
                 System.exit(0);
             });
 
@@ -1580,6 +1412,9 @@ public class Main {
             popup.add(toggleItem);
             popup.add(sendBackItem);
             popup.addSeparator();
+            popup.add(overlayItem);
+            popup.add(exportItem);
+            popup.addSeparator();
             popup.add(exitItem);
 
             // Hidden dialog as anchor for the popup menu
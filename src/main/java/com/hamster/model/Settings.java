@@ -1,6 +1,6 @@
 package com.hamster.model;
 
-import com.hamster.system.GameLogger;
+import com.hamster.system.ProfileStore;
 
 import java.awt.event.KeyEvent;
 import java.io.*;
@@ -9,6 +9,8 @@ import java.util.Properties;
 public class Settings {
 
     private static final String SAVE_DIR = GameConstants.SAVE_DIR;
+    private static final String RECORD = "settings";
+    // Read once to migrate into the profile
     private static final String SETTINGS_FILE = SAVE_DIR + "settings.properties";
 
     // Toggle hotkey (hide/show) - default ALT+Q
@@ -29,15 +31,16 @@ public class Settings {
     // UI Theme
     public UITheme theme = UITheme.CLASSIC;
 
+    // Draw all hamsters in one window per screen instead of one window each
+    public boolean sceneRendering = false;
+
     // Windows API modifier constants
     public static final int MOD_ALT = 0x0001;
     public static final int MOD_CTRL = 0x0002;
     public static final int MOD_SHIFT = 0x0004;
 
+    /** Stage the profile record and commit it on the save thread. */
     public void save() {
-        File dir = new File(SAVE_DIR);
-        if (!dir.exists()) dir.mkdirs();
-
         Properties props = new Properties();
         props.setProperty("toggleModifier", String.valueOf(toggleModifier));
         props.setProperty("toggleKeyCode", String.valueOf(toggleKeyCode));
@@ -47,26 +50,16 @@ public class Settings {
         props.setProperty("panelToggleKeyCode", String.valueOf(panelToggleKeyCode));
         props.setProperty("opacity", String.valueOf(opacity));
         props.setProperty("theme", theme.name());
+        props.setProperty("sceneRendering", String.valueOf(sceneRendering));
 
-        try (FileOutputStream fos = new FileOutputStream(SETTINGS_FILE)) {
-            props.store(fos, "DesktopHamster Settings");
-        } catch (IOException e) {
-            GameLogger.error("Failed to save settings", e);
-        }
+        ProfileStore.shared().putProperties(RECORD, props);
+        ProfileStore.shared().requestCommit();
     }
 
     public static Settings load() {
         Settings s = new Settings();
-        File file = new File(SETTINGS_FILE);
-        if (!file.exists()) return s;
-
-        Properties props = new Properties();
-        try (FileInputStream fis = new FileInputStream(file)) {
-            props.load(fis);
-        } catch (IOException e) {
-            GameLogger.error("Failed to load settings", e);
-            return s;
-        }
+        Properties props = ProfileStore.shared().getProperties(RECORD, new File(SETTINGS_FILE));
+        if (props == null) return s;
 
         s.toggleModifier = Integer.parseInt(props.getProperty("toggleModifier", String.valueOf(MOD_ALT)));
         s.toggleKeyCode = Integer.parseInt(props.getProperty("toggleKeyCode", "81"));
@@ -75,6 +68,7 @@ public class Settings {
         s.panelToggleModifier = Integer.parseInt(props.getProperty("panelToggleModifier", String.valueOf(MOD_ALT)));
         s.panelToggleKeyCode = Integer.parseInt(props.getProperty("panelToggleKeyCode", "69"));
         s.opacity = Integer.parseInt(props.getProperty("opacity", "100"));
+        s.sceneRendering = Boolean.parseBoolean(props.getProperty("sceneRendering", "false"));
         try {
             s.theme = UITheme.valueOf(props.getProperty("theme", "CLASSIC"));
         } catch (IllegalArgumentException e) {
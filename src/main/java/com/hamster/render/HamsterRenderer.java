@@ -4,33 +4,233 @@ import com.hamster.model.Hamster;
 import com.hamster.model.HamsterColor;
 
 import java.awt.*;
-import java.awt.geom.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.List;
 
 public class HamsterRenderer {
 
-    private static final Color EYE_COLOR = new Color(30, 30, 30);
-    private static final Color SEED_COLOR = new Color(160, 130, 60);
+    private static final Color EYE_COLOR = RenderResources.color(30, 30, 30);
+    private static final Color SEED_COLOR = RenderResources.color(160, 130, 60);
+    private static final Color SEED_LINE = SEED_COLOR.darker();
+    private static final Color SHADOW = RenderResources.color(0, 0, 0, 30);
+    private static final RenderResources.AlphaRamp ZZZ = RenderResources.alphaRamp(100, 150, 255);
+    private static final Color SPARKLE = RenderResources.color(255, 220, 50, 200);
+    private static final RenderResources.AlphaRamp SWEAT = RenderResources.alphaRamp(120, 190, 255);
+    private static final Color STAND = RenderResources.color(160, 140, 120);
+    private static final Color SPOKE = RenderResources.color(170, 150, 130);
+    private static final Color RUNG = RenderResources.color(190, 170, 150);
+    private static final Color HUB = RenderResources.color(150, 130, 110);
+    private static final Color HUB_EDGE = RenderResources.color(120, 100, 80);
+    private static final Color RIM = RenderResources.color(180, 160, 140);
+    private static final Color NAME_BUBBLE = RenderResources.color(255, 255, 255, 180);
+    private static final Color NAME_BORDER = RenderResources.color(200, 160, 100, 120);
+    private static final Color NAME_TEXT = RenderResources.color(80, 50, 20);
+
+    private static final BasicStroke STROKE_0_8 = RenderResources.stroke(0.8f);
+    private static final BasicStroke STROKE_1 = RenderResources.stroke(1);
+    private static final BasicStroke STROKE_1_5 = RenderResources.stroke(1.5f);
+    private static final BasicStroke STROKE_2 = RenderResources.stroke(2);
+    private static final BasicStroke STROKE_3_5 = RenderResources.stroke(3.5f);
+    private static final BasicStroke STROKE_4 = RenderResources.stroke(4);
+    private static final BasicStroke STROKE_4_5 = RenderResources.stroke(4.5f);
 
     private static final String FONT_NAME = "Noto Sans KR";
-
+    private static final Font NAME_FONT = RenderResources.font(FONT_NAME, Font.BOLD, 11);
+    private static final Font ZZZ_SMALL = RenderResources.font("SansSerif", Font.BOLD, 10);
+    private static final Font ZZZ_MEDIUM = RenderResources.font("SansSerif", Font.BOLD, 13);
+    private static final Font ZZZ_LARGE = RenderResources.font("SansSerif", Font.BOLD, 16);
+
+    /**
+     * Draw a hamster. Every distinct frame is rendered once into a cached sprite keyed by
+     * colour, state, direction, equipped accessories and the pose the animation frame
+     * resolves to (bounce, leg swing, blink, ...), so a frame is normally two blits: the
+     * sprite and the name tag. Wheel runners are stacked from a shared wheel image, a
+     * runner sprite and the rim, with the sweat drops drawn live.
+     */
     public static void draw(Graphics2D g2, Hamster hamster) {
+        Hamster.State state = hamster.getState();
+        if (state == Hamster.State.RUNNING_WHEEL) {
+            drawWheelScene(g2, hamster);
+            return;
+        }
+
+        int frame = hamster.getAnimFrame();
+        int bounceY = state == Hamster.State.WALKING ? (int)(Math.sin(frame * 0.3) * 3) : 0;
+        long accessories = accessoryKey(hamster.getEquippedAccessories());
+        if (accessories < 0) {
+            // More accessories than the key holds: draw directly
+            setHints(g2);
+            AffineTransform original = g2.getTransform();
+            drawBody(g2, hamster, frame);
+            g2.setTransform(original);
+        } else {
+            long key = spriteKey(KIND_BODY, hamster.getColor(), state, hamster.getDirection() == -1,
+                    bodyPose(state, frame)) | accessories;
+            SpriteCache.Sprite sprite = SPRITES.get(key);
+            if (sprite == null) {
+                sprite = renderSprite(state, g -> drawBody(g, hamster, frame));
+                SPRITES.put(key, sprite);
+            }
+            sprite.draw(g2, 0, 0);
+        }
+
+        // --- name above head (never flipped) ---
+        nameTag(hamster.getName()).draw(g2, 30, bounceY - 10);
+    }
+
+    /** Horizontal offset of the drawing's origin inside the hamster's footprint. */
+    public static int originX(Hamster.State state) {
+        return state == Hamster.State.RUNNING_WHEEL ? 5 : 10;
+    }
+
+    /** Vertical offset of the drawing's origin inside the hamster's footprint. */
+    public static int originY(Hamster.State state) {
+        return state == Hamster.State.RUNNING_WHEEL ? 15 : 28;
+    }
+
+    /** Sprite cache occupancy and hit rate, for the debug log. */
+    public static String cacheStats() {
+        return SPRITES.toString();
+    }
+
+    // --- sprite cache ---
+
+    private static final long CACHE_BUDGET_BYTES = 32L << 20;
+    private static final SpriteCache SPRITES = new SpriteCache(CACHE_BUDGET_BYTES);
+
+    private static final long KIND_BODY = 0, KIND_WHEEL = 1, KIND_RUNNER = 2, KIND_RIM = 3, KIND_SWEAT = 4;
+
+    // Everything drawSweatDrops can touch, in wheel scene coordinates
+    private static final Rectangle SWEAT_BOUNDS = new Rectangle(44, 20, 56, 26);
+
+    // The wheel's look repeats every eighth of a turn (8 spokes, 24 rungs); sample it this finely
+    private static final int WHEEL_STEPS = 24;
+    private static final double WHEEL_PERIOD = Math.PI / 4;
+
+    private static final int ACCESSORY_BITS = 5;
+    private static final int ACCESSORY_SLOTS = 6;
+
+    private interface Painter {
+        void paint(Graphics2D g2);
+    }
+
+    // kind:3 | colour:8 | state:3 | flipped:1 | pose:15 | accessories:30
+    private static long spriteKey(long kind, HamsterColor color, Hamster.State state, boolean flipped, int pose) {
+        return kind << 60
+                | (long) (color != null ? color.ordinal() + 1 : 0) << 52
+                | (long) state.ordinal() << 49
+                | (flipped ? 1L : 0L) << 48
+                | (long) pose << 30;
+    }
+
+    /** Equipped accessories in draw order, or -1 if they do not fit the key. */
+    private static long accessoryKey(List<Accessory> equipped) {
+        if (equipped.size() > ACCESSORY_SLOTS) return -1;
+        long key = 0;
+        for (int k = 0; k < equipped.size(); k++) {
+            int code = equipped.get(k).ordinal() + 1;
+            if (code >= 1 << ACCESSORY_BITS) return -1;
+            key |= (long) code << (k * ACCESSORY_BITS);
+        }
+        return key;
+    }
+
+    /** Everything {@link #drawBody} reads from the animation frame, packed into 15 bits. */
+    private static int bodyPose(Hamster.State state, int frame) {
+        int bounce = 0, leg = 0, blink = 0, seed = 0, drift = 0, sparkle = 0;
+        switch (state) {
+            case WALKING:
+                bounce = (int)(Math.sin(frame * 0.3) * 3);
+                leg = (int)(Math.sin(frame * 0.4) * 4);
+                break;
+            case EATING:
+                seed = frame % 20 < 10 ? 1 : 0;
+                break;
+            case SLEEPING:
+                drift = (frame / 30) % 3;
+                break;
+            case HAPPY:
+                int s = frame % 30;
+                sparkle = s < 15 ? s : 30 - s; // the sparkle grows and shrinks symmetrically
+                break;
+            default:
+                break;
+        }
+        if (state != Hamster.State.SLEEPING && state != Hamster.State.HAPPY) {
+            blink = frame % 120 > 115 ? 1 : 0;
+        }
+        return (bounce + 4) | (leg + 4) << 3 | blink << 7 | seed << 8 | (drift & 3) << 9 | (sparkle & 15) << 11;
+    }
+
+    /** Render a footprint-sized sprite whose origin lines up with the drawing's origin. */
+    private static SpriteCache.Sprite renderSprite(Hamster.State state, Painter painter) {
+        return renderSprite(new Rectangle(-originX(state), -originY(state),
+                Hamster.footprintWidth(state), Hamster.footprintHeight(state)), painter);
+    }
+
+    /** Render the part of a drawing inside {@code bounds} (drawing coordinates). */
+    private static SpriteCache.Sprite renderSprite(Rectangle bounds, Painter painter) {
+        BufferedImage img = createImage(bounds.width, bounds.height);
+        Graphics2D g = img.createGraphics();
+        setHints(g);
+        g.translate(-bounds.x, -bounds.y);
+        painter.paint(g);
+        g.dispose();
+        return new SpriteCache.Sprite(img, bounds.x, bounds.y);
+    }
+
+    private static SpriteCache.Sprite nameTag(String name) {
+        SpriteCache.Sprite tag = SPRITES.get(name);
+        if (tag != null) return tag;
+
+        Font font = NAME_FONT;
+        BufferedImage scratch = createImage(1, 1);
+        Graphics2D sg = scratch.createGraphics();
+        setHints(sg);
+        FontMetrics fm = sg.getFontMetrics(font);
+        sg.dispose();
+
+        // The bubble's top-left relative to drawName's (cx, y), see drawName
+        int pad = 4;
+        int left = fm.stringWidth(name) / 2 + pad;
+        int top = fm.getAscent() + pad - 2;
+        BufferedImage img = createImage(fm.stringWidth(name) + pad * 2 + 1, fm.getHeight() + pad + 1);
+        Graphics2D g = img.createGraphics();
+        setHints(g);
+        drawName(g, name, left, top);
+        g.dispose();
+
+        tag = new SpriteCache.Sprite(img, -left, -top);
+        SPRITES.put(name, tag);
+        return tag;
+    }
+
+    private static GraphicsConfiguration imageConfig;
+
+    // Match the screen's pixel layout so blits need no conversion
+    private static BufferedImage createImage(int w, int h) {
+        if (imageConfig == null && !GraphicsEnvironment.isHeadless()) {
+            imageConfig = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice().getDefaultConfiguration();
+        }
+        return imageConfig != null
+                ? imageConfig.createCompatibleImage(w, h, Transparency.TRANSLUCENT)
+                : new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+
+    private static void setHints(Graphics2D g2) {
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+    }
+
+    // --- vector drawing ---
 
+    private static void drawBody(Graphics2D g2, Hamster hamster, int frame) {
         int dir = hamster.getDirection();
-        int frame = hamster.getAnimFrame();
         Hamster.State state = hamster.getState();
         HamsterColor palette = hamster.getColor();
 
-        AffineTransform original = g2.getTransform();
-
-        // Wheel state has its own complete rendering
-        if (state == Hamster.State.RUNNING_WHEEL) {
-            drawWheelScene(g2, hamster);
-            g2.setTransform(original);
-            return;
-        }
-
         // flip horizontally if facing left
         if (dir == -1) {
             g2.translate(60, 0);
@@ -46,7 +246,7 @@ public class HamsterRenderer {
         int baseY = bounceY;
 
         // --- shadow ---
-        g2.setColor(new Color(0, 0, 0, 30));
+        g2.setColor(SHADOW);
         g2.fillOval(5, 52 - bounceY, 50, 10);
 
         // --- tail ---
@@ -103,11 +303,6 @@ public class HamsterRenderer {
         for (Accessory acc : hamster.getEquippedAccessories()) {
             acc.draw(g2, dir, baseY);
         }
-
-        g2.setTransform(original);
-
-        // --- name above head (drawn after transform reset so text is never flipped) ---
-        drawName(g2, hamster.getName(), 30, baseY - 10);
     }
 
     private static void drawLegs(Graphics2D g2, int frame, Hamster.State state, int baseY, HamsterColor palette) {
@@ -135,17 +330,17 @@ public class HamsterRenderer {
         if (state == Hamster.State.SLEEPING) {
             // closed eyes (lines)
             g2.setColor(EYE_COLOR);
-            g2.setStroke(new BasicStroke(2));
+            g2.setStroke(STROKE_2);
             g2.drawArc(19, 20 + baseY, 8, 6, 0, 180);
             g2.drawArc(35, 20 + baseY, 8, 6, 0, 180);
-            g2.setStroke(new BasicStroke(1));
+            g2.setStroke(STROKE_1);
         } else if (state == Hamster.State.HAPPY) {
             // happy eyes (^_^)
             g2.setColor(EYE_COLOR);
-            g2.setStroke(new BasicStroke(2));
+            g2.setStroke(STROKE_2);
             g2.drawArc(19, 18 + baseY, 8, 8, 0, 180);
             g2.drawArc(35, 18 + baseY, 8, 8, 0, 180);
-            g2.setStroke(new BasicStroke(1));
+            g2.setStroke(STROKE_1);
         } else if (state == Hamster.State.RUNNING_WHEEL) {
             // determined/focused eyes with eyebrows
             g2.setColor(EYE_COLOR);
@@ -156,19 +351,19 @@ public class HamsterRenderer {
             g2.fillOval(39, 20 + baseY, 3, 3);
             // small determined eyebrows
             g2.setColor(palette.getEyebrow());
-            g2.setStroke(new BasicStroke(1.5f));
+            g2.setStroke(STROKE_1_5);
             g2.drawLine(20, 17 + baseY, 27, 16 + baseY);
             g2.drawLine(42, 17 + baseY, 35, 16 + baseY);
-            g2.setStroke(new BasicStroke(1));
+            g2.setStroke(STROKE_1);
         } else {
             // normal eyes with blink
             g2.setColor(EYE_COLOR);
             boolean blink = (frame % 120 > 115);
             if (blink) {
-                g2.setStroke(new BasicStroke(2));
+                g2.setStroke(STROKE_2);
                 g2.drawLine(20, 23 + baseY, 26, 23 + baseY);
                 g2.drawLine(36, 23 + baseY, 42, 23 + baseY);
-                g2.setStroke(new BasicStroke(1));
+                g2.setStroke(STROKE_1);
             } else {
                 g2.fillOval(21, 19 + baseY, 6, 7);
                 g2.fillOval(37, 19 + baseY, 6, 7);
@@ -196,8 +391,8 @@ public class HamsterRenderer {
         g2.fillOval(28, 27 + baseY, 5, 4);
 
         // mouth
-        g2.setColor(palette.getNose().darker());
-        g2.setStroke(new BasicStroke(1));
+        g2.setColor(palette.getMouth());
+        g2.setStroke(STROKE_1);
         if (state == Hamster.State.EATING) {
             // open mouth
             g2.drawOval(27, 31 + baseY, 6, 4);
@@ -208,7 +403,7 @@ public class HamsterRenderer {
 
         // whiskers
         g2.setColor(palette.getWhisker());
-        g2.setStroke(new BasicStroke(0.8f));
+        g2.setStroke(STROKE_0_8);
         // left whiskers
         g2.drawLine(14, 28 + baseY, 2, 25 + baseY);
         g2.drawLine(14, 30 + baseY, 2, 30 + baseY);
@@ -217,7 +412,7 @@ public class HamsterRenderer {
         g2.drawLine(46, 28 + baseY, 58, 25 + baseY);
         g2.drawLine(46, 30 + baseY, 58, 30 + baseY);
         g2.drawLine(46, 32 + baseY, 58, 35 + baseY);
-        g2.setStroke(new BasicStroke(1));
+        g2.setStroke(STROKE_1);
     }
 
     private static void drawSeed(Graphics2D g2, int frame, int baseY) {
@@ -226,30 +421,29 @@ public class HamsterRenderer {
 
         g2.setColor(SEED_COLOR);
         g2.fillOval(28, seedY, 6, 8);
-        g2.setColor(SEED_COLOR.darker());
+        g2.setColor(SEED_LINE);
         g2.drawLine(30, seedY, 32, seedY + 4);
     }
 
     private static void drawZzz(Graphics2D g2, int frame, int baseY) {
-        g2.setColor(new Color(100, 150, 255, 180));
-        g2.setFont(new Font("SansSerif", Font.BOLD, 10));
+        g2.setFont(ZZZ_SMALL);
         int drift = (frame / 30) % 3;
         int alpha1 = 180 - drift * 40;
         int alpha2 = 140 - drift * 30;
         int alpha3 = 100 - drift * 20;
 
-        g2.setColor(new Color(100, 150, 255, Math.max(0, alpha1)));
+        g2.setColor(ZZZ.at(alpha1));
         g2.drawString("z", 48, 14 + baseY - drift * 2);
-        g2.setFont(new Font("SansSerif", Font.BOLD, 13));
-        g2.setColor(new Color(100, 150, 255, Math.max(0, alpha2)));
+        g2.setFont(ZZZ_MEDIUM);
+        g2.setColor(ZZZ.at(alpha2));
         g2.drawString("z", 54, 6 + baseY - drift * 3);
-        g2.setFont(new Font("SansSerif", Font.BOLD, 16));
-        g2.setColor(new Color(100, 150, 255, Math.max(0, alpha3)));
+        g2.setFont(ZZZ_LARGE);
+        g2.setColor(ZZZ.at(alpha3));
         g2.drawString("Z", 58, -3 + baseY - drift * 4);
     }
 
     private static void drawSparkles(Graphics2D g2, int frame, int baseY) {
-        g2.setColor(new Color(255, 220, 50, 200));
+        g2.setColor(SPARKLE);
         int sparkle = frame % 30;
         double scale = sparkle < 15 ? sparkle / 15.0 : (30 - sparkle) / 15.0;
 
@@ -260,39 +454,90 @@ public class HamsterRenderer {
 
     private static void drawStar(Graphics2D g2, int cx, int cy, int size) {
         if (size <= 0) return;
-        g2.setStroke(new BasicStroke(2));
+        g2.setStroke(STROKE_2);
         g2.drawLine(cx - size, cy, cx + size, cy);
         g2.drawLine(cx, cy - size, cx, cy + size);
         g2.drawLine(cx - size/2, cy - size/2, cx + size/2, cy + size/2);
         g2.drawLine(cx + size/2, cy - size/2, cx - size/2, cy + size/2);
-        g2.setStroke(new BasicStroke(1));
+        g2.setStroke(STROKE_1);
     }
 
     private static void drawWheelScene(Graphics2D g2, Hamster hamster) {
         int frame = hamster.getAnimFrame();
         HamsterColor palette = hamster.getColor();
+        Hamster.State state = Hamster.State.RUNNING_WHEEL;
+
+        // Wheel and stand, shared by every runner; the rotation is sampled to WHEEL_STEPS
+        int step = (int)((frame * 0.15) % WHEEL_PERIOD / WHEEL_PERIOD * WHEEL_STEPS) % WHEEL_STEPS;
+        long wheelKey = spriteKey(KIND_WHEEL, null, state, false, step);
+        SpriteCache.Sprite wheel = SPRITES.get(wheelKey);
+        if (wheel == null) {
+            wheel = renderSprite(state, g -> drawWheel(g, step * WHEEL_PERIOD / WHEEL_STEPS));
+            SPRITES.put(wheelKey, wheel);
+        }
+        wheel.draw(g2, 0, 0);
+
+        // === HAMSTER inside wheel ===
+        int bounceY = (int)(Math.sin(frame * 0.5) * 2);
+        int legAnim = (int)(Math.sin(frame * 0.8) * 5);
+        long runnerKey = spriteKey(KIND_RUNNER, palette, state, false, (bounceY + 4) | (legAnim + 8) << 3);
+        SpriteCache.Sprite runner = SPRITES.get(runnerKey);
+        if (runner == null) {
+            runner = renderSprite(state, g -> drawWheelRunner(g, frame, palette));
+            SPRITES.put(runnerKey, runner);
+        }
+        runner.draw(g2, 0, 0);
+
+        // Sweat drops, a small sprite per drop phase and bounce shared by every runner
+        int sweatPhase = frame % 25;
+        long sweatKey = spriteKey(KIND_SWEAT, null, state, false, sweatPhase | (bounceY + 4) << 5);
+        SpriteCache.Sprite sweat = SPRITES.get(sweatKey);
+        if (sweat == null) {
+            sweat = renderSprite(SWEAT_BOUNDS, g -> {
+                g.translate(40, 26);
+                drawSweatDrops(g, frame, bounceY);
+            });
+            SPRITES.put(sweatKey, sweat);
+        }
+        sweat.draw(g2, 0, 0);
 
-        // Wheel parameters
-        int cx = 70, cy = 45;
-        int outerR = 42;
-        int innerR = 38;
-        double rotation = frame * 0.15;
+        // === WHEEL outer rim (drawn last, in front of hamster for depth) ===
+        long rimKey = spriteKey(KIND_RIM, null, state, false, 0);
+        SpriteCache.Sprite rim = SPRITES.get(rimKey);
+        if (rim == null) {
+            rim = renderSprite(state, HamsterRenderer::drawWheelRim);
+            SPRITES.put(rimKey, rim);
+        }
+        rim.draw(g2, 0, 0);
+
+        // --- name above wheel ---
+        nameTag(hamster.getName()).draw(g2, WHEEL_CX, WHEEL_CY - WHEEL_OUTER_R - 12);
+    }
+
+    private static final int WHEEL_CX = 70, WHEEL_CY = 45;
+    private static final int WHEEL_OUTER_R = 42;
+    private static final int WHEEL_INNER_R = 38;
+
+    private static void drawWheel(Graphics2D g2, double rotation) {
+        int cx = WHEEL_CX, cy = WHEEL_CY;
+        int outerR = WHEEL_OUTER_R;
+        int innerR = WHEEL_INNER_R;
 
         // === STAND (behind everything) ===
-        g2.setColor(new Color(160, 140, 120));
-        g2.setStroke(new BasicStroke(3.5f));
+        g2.setColor(STAND);
+        g2.setStroke(STROKE_3_5);
         // Support legs from axle to ground
         g2.drawLine(cx - 3, cy + 2, cx - 20, cy + outerR + 14);
         g2.drawLine(cx + 3, cy + 2, cx + 20, cy + outerR + 14);
         // Base bar
-        g2.setStroke(new BasicStroke(4f));
+        g2.setStroke(STROKE_4);
         g2.drawLine(cx - 28, cy + outerR + 14, cx + 28, cy + outerR + 14);
-        g2.setStroke(new BasicStroke(1));
+        g2.setStroke(STROKE_1);
 
         // === WHEEL ===
         // Spokes
-        g2.setColor(new Color(170, 150, 130));
-        g2.setStroke(new BasicStroke(1.5f));
+        g2.setColor(SPOKE);
+        g2.setStroke(STROKE_1_5);
         for (int i = 0; i < 8; i++) {
             double angle = rotation + i * Math.PI / 4;
             int x1 = cx + (int)(Math.cos(angle) * 6);
@@ -303,8 +548,8 @@ public class HamsterRenderer {
         }
 
         // Rungs along inner rim
-        g2.setColor(new Color(190, 170, 150));
-        g2.setStroke(new BasicStroke(2f));
+        g2.setColor(RUNG);
+        g2.setStroke(STROKE_2);
         for (int i = 0; i < 24; i++) {
             double angle = rotation + i * Math.PI / 12;
             int x1 = cx + (int)(Math.cos(angle) * (innerR - 3));
@@ -315,15 +560,15 @@ public class HamsterRenderer {
         }
 
         // Center hub/axle
-        g2.setColor(new Color(150, 130, 110));
+        g2.setColor(HUB);
         g2.fillOval(cx - 5, cy - 5, 10, 10);
-        g2.setColor(new Color(120, 100, 80));
-        g2.setStroke(new BasicStroke(1.5f));
+        g2.setColor(HUB_EDGE);
+        g2.setStroke(STROKE_1_5);
         g2.drawOval(cx - 5, cy - 5, 10, 10);
-        g2.setStroke(new BasicStroke(1));
+        g2.setStroke(STROKE_1);
+    }
 
-        // === HAMSTER inside wheel ===
-        AffineTransform saved = g2.getTransform();
+    private static void drawWheelRunner(Graphics2D g2, int frame, HamsterColor palette) {
         // Position hamster at bottom of wheel
         g2.translate(40, 26);
 
@@ -361,38 +606,30 @@ public class HamsterRenderer {
 
         // Face - determined expression
         drawFace(g2, Hamster.State.RUNNING_WHEEL, frame, baseY, palette);
+    }
 
-        // Sweat drops
-        drawSweatDrops(g2, frame, baseY);
-
-        g2.setTransform(saved);
-
-        // === WHEEL outer rim (drawn last, in front of hamster for depth) ===
-        g2.setColor(new Color(180, 160, 140));
-        g2.setStroke(new BasicStroke(4.5f));
-        g2.drawOval(cx - outerR, cy - outerR, outerR * 2, outerR * 2);
-        g2.setStroke(new BasicStroke(1));
-
-        // --- name above wheel ---
-        drawName(g2, hamster.getName(), cx, cy - outerR - 12);
+    private static void drawWheelRim(Graphics2D g2) {
+        g2.setColor(RIM);
+        g2.setStroke(STROKE_4_5);
+        g2.drawOval(WHEEL_CX - WHEEL_OUTER_R, WHEEL_CY - WHEEL_OUTER_R, WHEEL_OUTER_R * 2, WHEEL_OUTER_R * 2);
+        g2.setStroke(STROKE_1);
     }
 
     private static void drawName(Graphics2D g2, String name, int cx, int y) {
-        Font font = new Font(FONT_NAME, Font.BOLD, 11);
-        g2.setFont(font);
+        g2.setFont(NAME_FONT);
         FontMetrics fm = g2.getFontMetrics();
         int textWidth = fm.stringWidth(name);
         int x = cx - textWidth / 2;
 
         // background bubble
         int pad = 4;
-        g2.setColor(new Color(255, 255, 255, 180));
+        g2.setColor(NAME_BUBBLE);
         g2.fillRoundRect(x - pad, y - fm.getAscent() - pad + 2, textWidth + pad * 2, fm.getHeight() + pad, 10, 10);
-        g2.setColor(new Color(200, 160, 100, 120));
+        g2.setColor(NAME_BORDER);
         g2.drawRoundRect(x - pad, y - fm.getAscent() - pad + 2, textWidth + pad * 2, fm.getHeight() + pad, 10, 10);
 
         // text
-        g2.setColor(new Color(80, 50, 20));
+        g2.setColor(NAME_TEXT);
         g2.drawString(name, x, y);
     }
 
@@ -402,7 +639,7 @@ public class HamsterRenderer {
         if (cycle1 < 12) {
             float progress = cycle1 / 12.0f;
             int alpha = (int)(200 * (1 - progress));
-            g2.setColor(new Color(120, 190, 255, alpha));
+            g2.setColor(SWEAT.at(alpha));
             int dx = (int)(-5 * progress);
             int dy = (int)(-8 * progress);
             g2.fillOval(12 + dx, 10 + baseY + dy, 3, 5);
@@ -412,7 +649,7 @@ public class HamsterRenderer {
         if (cycle2 < 12) {
             float progress = cycle2 / 12.0f;
             int alpha = (int)(180 * (1 - progress));
-            g2.setColor(new Color(120, 190, 255, alpha));
+            g2.setColor(SWEAT.at(alpha));
             int dx = (int)(5 * progress);
             int dy = (int)(-10 * progress);
             g2.fillOval(48 + dx, 8 + baseY + dy, 3, 5);
@@ -0,0 +1,194 @@
+package com.hamster.render;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Least-recently-used store of pre-rendered images under a memory budget.
+ *
+ * Entries are filled lazily by the caller on a miss; once the estimated pixel memory
+ * passes the budget the least recently drawn entries are dropped. Sprites are keyed by
+ * a {@code long} the caller packs the drawing's inputs into (held in a primitive-keyed
+ * table, so a lookup boxes nothing), name tags by their text. Used from the EDT only.
+ */
+final class SpriteCache {
+
+    /** A pre-rendered image and where its origin sits relative to the drawing position. */
+    static final class Sprite {
+        final BufferedImage image;
+        final int dx, dy;
+
+        Sprite(BufferedImage image, int dx, int dy) {
+            this.image = image;
+            this.dx = dx;
+            this.dy = dy;
+        }
+
+        void draw(Graphics2D g2, int x, int y) {
+            g2.drawImage(image, x + dx, y + dy, null);
+        }
+
+        long bytes() {
+            return (long) image.getWidth() * image.getHeight() * 4;
+        }
+    }
+
+    private static final class Entry {
+        final long key;
+        final String name; // null for long-keyed entries
+        final Sprite sprite;
+        Entry chain;         // next in the same table bucket
+        Entry older, newer;  // recency list
+
+        Entry(long key, String name, Sprite sprite) {
+            this.key = key;
+            this.name = name;
+            this.sprite = sprite;
+        }
+    }
+
+    private final long budgetBytes;
+    private Entry[] table = new Entry[256];
+    private int keyed;
+    private final Map<String, Entry> named = new HashMap<>();
+    private Entry oldest, newest;
+    private int size;
+    private long usedBytes;
+    private long hits, misses, evictions;
+
+    SpriteCache(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+    }
+
+    /** The cached sprite for {@code key}, or null (counted as a miss) so the caller renders it. */
+    Sprite get(long key) {
+        Entry e = table[index(key, table.length)];
+        while (e != null && e.key != key) e = e.chain;
+        return touch(e);
+    }
+
+    Sprite get(String name) {
+        return touch(named.get(name));
+    }
+
+    void put(long key, Sprite sprite) {
+        Entry old = table[index(key, table.length)];
+        while (old != null && old.key != key) old = old.chain;
+        if (old != null) remove(old);
+
+        if (keyed >= table.length - (table.length >> 2)) grow();
+        Entry e = new Entry(key, null, sprite);
+        int b = index(key, table.length);
+        e.chain = table[b];
+        table[b] = e;
+        keyed++;
+        append(e);
+    }
+
+    void put(String name, Sprite sprite) {
+        Entry old = named.get(name);
+        if (old != null) remove(old);
+        Entry e = new Entry(0, name, sprite);
+        named.put(name, e);
+        append(e);
+    }
+
+    void clear() {
+        for (Entry e = oldest; e != null; e = e.newer) e.sprite.image.flush();
+        Arrays.fill(table, null);
+        named.clear();
+        oldest = newest = null;
+        keyed = size = 0;
+        usedBytes = 0;
+    }
+
+    private Sprite touch(Entry e) {
+        if (e == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        if (e != newest) {
+            unlinkRecency(e);
+            linkNewest(e);
+        }
+        return e.sprite;
+    }
+
+    // Add as most recent, then evict (never the entry just added, even if it alone is over budget)
+    private void append(Entry e) {
+        linkNewest(e);
+        size++;
+        usedBytes += e.sprite.bytes();
+        while (usedBytes > budgetBytes && size > 1) {
+            Entry victim = oldest;
+            remove(victim);
+            victim.sprite.image.flush();
+            evictions++;
+        }
+    }
+
+    private void remove(Entry e) {
+        if (e.name != null) {
+            named.remove(e.name);
+        } else {
+            int b = index(e.key, table.length);
+            if (table[b] == e) {
+                table[b] = e.chain;
+            } else {
+                Entry p = table[b];
+                while (p.chain != e) p = p.chain;
+                p.chain = e.chain;
+            }
+            keyed--;
+        }
+        unlinkRecency(e);
+        size--;
+        usedBytes -= e.sprite.bytes();
+    }
+
+    private void linkNewest(Entry e) {
+        e.older = newest;
+        e.newer = null;
+        if (newest != null) newest.newer = e;
+        else oldest = e;
+        newest = e;
+    }
+
+    private void unlinkRecency(Entry e) {
+        if (e.older != null) e.older.newer = e.newer;
+        else oldest = e.newer;
+        if (e.newer != null) e.newer.older = e.older;
+        else newest = e.older;
+        e.older = e.newer = null;
+    }
+
+    private void grow() {
+        Entry[] bigger = new Entry[table.length * 2];
+        for (Entry head : table) {
+            for (Entry e = head; e != null; ) {
+                Entry next = e.chain;
+                int b = index(e.key, bigger.length);
+                e.chain = bigger[b];
+                bigger[b] = e;
+                e = next;
+            }
+        }
+        table = bigger;
+    }
+
+    private static int index(long key, int length) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 40) & (length - 1);
+    }
+
+    @Override
+    public String toString() {
+        long lookups = hits + misses;
+        return String.format("%d sprites, %d KB, %.1f%% hits, %d evicted",
+                size, usedBytes / 1024, lookups == 0 ? 0.0 : hits * 100.0 / lookups, evictions);
+    }
+}
@@ -34,7 +34,7 @@ public class AchievementDialog {
         headerPanel.setBorder(BorderFactory.createEmptyBorder(15, 30, 5, 30));
         headerPanel.setOpaque(false);
 
-        JLabel titleLabel = new JLabel(ControlPanel.wrapEmoji("\uD83C\uDFC6 \uC5C5\uC801"));
+        JLabel titleLabel = Emoji.label("\uD83C\uDFC6 \uC5C5\uC801");
         titleLabel.setFont(new Font("Noto Sans KR", Font.BOLD, 18));
         titleLabel.setForeground(new Color(80, 50, 20));
         titleLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
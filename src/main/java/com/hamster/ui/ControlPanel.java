@@ -2,6 +2,7 @@ package com.hamster.ui;
 import com.hamster.model.Buff;
 import com.hamster.model.Hamster;
 import com.hamster.model.Poop;
+import com.hamster.model.StatHistory;
 import com.hamster.model.TimeOfDay;
 import com.hamster.model.UITheme;
 import com.hamster.render.HamsterIcon;
@@ -17,43 +18,6 @@ public class ControlPanel extends JFrame {
     private static final String FONT_NAME = "Noto Sans KR";
     public static final String VERSION = "2.2.0";
 
-    /** Wraps emoji characters in HTML with Segoe UI Emoji font for proper rendering. */
-    public static String wrapEmoji(String text) {
-        boolean hasEmoji = false;
-        for (int i = 0; i < text.length(); i++) {
-            char c = text.charAt(i);
-            if (Character.isHighSurrogate(c) || c == '\u2B50' || c == '\u2600' || c == '\u2699') {
-                hasEmoji = true;
-                break;
-            }
-        }
-        if (!hasEmoji) return text;
-        StringBuilder sb = new StringBuilder("<html><nobr>");
-        for (int i = 0; i < text.length(); i++) {
-            char c = text.charAt(i);
-            if (Character.isHighSurrogate(c) && i + 1 < text.length()) {
-                sb.append("<span style='font-family:Segoe UI Emoji'>")
-                  .append(c).append(text.charAt(i + 1));
-                i++;
-                // Include variation selector if present
-                if (i + 1 < text.length() && text.charAt(i + 1) == '\uFE0F') {
-                    sb.append(text.charAt(++i));
-                }
-                sb.append("</span>");
-            } else if (c == '\u2B50' || c == '\u2600' || c == '\u2699') {
-                sb.append("<span style='font-family:Segoe UI Emoji'>").append(c);
-                if (i + 1 < text.length() && text.charAt(i + 1) == '\uFE0F') {
-                    sb.append(text.charAt(++i));
-                }
-                sb.append("</span>");
-            } else {
-                sb.append(c);
-            }
-        }
-        sb.append("</nobr></html>");
-        return sb.toString();
-    }
-
     public interface Callbacks {
         void onCleanAll();
         void onFeed(Hamster h);
@@ -85,6 +49,16 @@ public class ControlPanel extends JFrame {
     private int initialOpacity = 100;
     private UITheme currentTheme = UITheme.CLASSIC;
 
+    // refresh() is called every frame but only publishes at rates a person can read:
+    // stats four times a second, buff countdowns once a second
+    private static final long STATS_INTERVAL_NANOS = 250_000_000L;
+    private static final long TIMER_INTERVAL_NANOS = 1_000_000_000L;
+    private long lastStatsRefresh, lastTimerRefresh;
+    private boolean refreshDue = true; // publish on the next call regardless of the rates
+
+    // Last published top-bar values
+    private int shownPoops, shownMoney, shownSeeds;
+
     private boolean dragging = false;
     private int dragOffsetX, dragOffsetY;
 
@@ -131,6 +105,9 @@ public class ControlPanel extends JFrame {
     private void buildUI() {
         mainPanel.removeAll();
         hamsterUIs.clear();
+        // Fresh labels: publish everything on the next refresh
+        shownPoops = shownMoney = shownSeeds = Integer.MIN_VALUE;
+        refreshDue = true;
 
         // Title bar
         JPanel titleBar = new JPanel(new BorderLayout(0, 0));
@@ -138,7 +115,7 @@ public class ControlPanel extends JFrame {
         titleBar.setAlignmentX(Component.LEFT_ALIGNMENT);
 
         TimeOfDay tod = TimeOfDay.getCurrentPeriod();
-        JLabel titleLabel = new JLabel(wrapEmoji("\uD83D\uDC39 " + tod.getEmoji() + tod.getDisplayName()));
+        JLabel titleLabel = Emoji.label("\uD83D\uDC39 " + tod.getEmoji() + tod.getDisplayName());
         titleLabel.setFont(new Font(FONT_NAME, Font.BOLD, F_TITLE));
         titleLabel.setForeground(currentTheme.textPrimary);
         titleBar.add(titleLabel, BorderLayout.CENTER);
@@ -174,7 +151,7 @@ public class ControlPanel extends JFrame {
         currRow.add(seedLabel);
         currencyPanel.add(currRow, BorderLayout.CENTER);
 
-        JButton settingsBtn = new JButton(wrapEmoji("\u2699"));
+        JButton settingsBtn = Emoji.button("\u2699");
         settingsBtn.setFont(new Font(FONT_NAME, Font.PLAIN, 15));
         settingsBtn.setBackground(currentTheme.buttonBg);
         settingsBtn.setBorder(BorderFactory.createCompoundBorder(
@@ -290,6 +267,9 @@ public class ControlPanel extends JFrame {
         section.add(createBarPanel("\uD589", ui.happinessBar));
         section.add(Box.createVerticalStrut(1));
         section.add(createBarPanel("\uCCB4", ui.energyBar));
+        section.add(Box.createVerticalStrut(1));
+        ui.trend.setAlignmentX(Component.LEFT_ALIGNMENT);
+        section.add(ui.trend);
         section.add(Box.createVerticalStrut(2));
 
         // Action buttons: 2 rows of 3
@@ -327,18 +307,32 @@ public class ControlPanel extends JFrame {
     }
 
     public void refresh(int poopCount, int money, int seeds) {
+        long now = System.nanoTime();
+        boolean stats = refreshDue || now - lastStatsRefresh >= STATS_INTERVAL_NANOS;
+        boolean timers = refreshDue || now - lastTimerRefresh >= TIMER_INTERVAL_NANOS;
+        if (!stats && !timers) return;
+        if (stats) lastStatsRefresh = now;
+        if (timers) lastTimerRefresh = now;
+        refreshDue = false;
+
         boolean sizeChanged = false;
         for (HamsterUI ui : hamsterUIs) {
-            boolean wasLegacy = ui.legacyLabel.isVisible();
-            boolean wasBuff = ui.buffLabel.isVisible();
-            refreshHamsterUI(ui);
-            if (wasLegacy != ui.legacyLabel.isVisible() || wasBuff != ui.buffLabel.isVisible()) {
-                sizeChanged = true;
+            if (ui.publish(stats, timers)) sizeChanged = true;
+        }
+        if (stats) {
+            if (poopCount != shownPoops) {
+                shownPoops = poopCount;
+                Emoji.setText(poopLabel, "\uD83D\uDCA9" + poopCount);
+            }
+            if (money != shownMoney) {
+                shownMoney = money;
+                Emoji.setText(moneyLabel, "\uD83D\uDCB0" + money);
+            }
+            if (seeds != shownSeeds) {
+                shownSeeds = seeds;
+                Emoji.setText(seedLabel, "\uD83C\uDF3B" + seeds);
             }
         }
-        poopLabel.setText(wrapEmoji("\uD83D\uDCA9" + poopCount));
-        moneyLabel.setText(wrapEmoji("\uD83D\uDCB0" + money));
-        seedLabel.setText(wrapEmoji("\uD83C\uDF3B" + seeds));
         if (sizeChanged) {
             pack();
         }
@@ -377,64 +371,13 @@ public class ControlPanel extends JFrame {
         setLocation(loc);
     }
 
-    private void refreshHamsterUI(HamsterUI ui) {
-        Hamster h = ui.hamster;
-        String age = h.getAgeDays() + "\uC77C";
-        String gen = h.getGeneration() > 1 ? " " + h.getGeneration() + "\uC138\uB300" : "";
-        String dead = h.isDead() ? " \u2620" : "";
-        ui.nameLabel.setText(wrapEmoji("\uD83D\uDC39" + h.getName() + " " + age + gen + dead));
-
-        ui.hungerBar.setValue(Math.min(100, h.getHunger()));
-        ui.hungerBar.setString(h.getHunger() + "/" + h.getMaxHunger());
-        ui.happinessBar.setValue(Math.min(100, h.getHappiness()));
-        ui.happinessBar.setString(h.getHappiness() + "/" + h.getMaxHappiness());
-        ui.energyBar.setValue(Math.min(100, h.getEnergy()));
-        ui.energyBar.setString(h.getEnergy() + "/" + h.getMaxEnergy());
-
-        // Info: personality + state
-        String pName = h.getPersonality() != null ? h.getPersonality().getDisplayName() : "";
-        String stateText;
-        switch (h.getState()) {
-            case WALKING:       stateText = "\uAC77\uB294\uC911"; break;
-            case EATING:        stateText = "\uBA39\uB294\uC911"; break;
-            case SLEEPING:      stateText = "zzZ"; break;
-            case HAPPY:         stateText = "\uD589\uBCF5!"; break;
-            case RUNNING_WHEEL: stateText = "\uCCC7\uBC14\uD034"; break;
-            default:            stateText = "\uB300\uAE30"; break;
-        }
-        ui.infoLabel.setText(pName + " | " + stateText);
-
-        // Legacy
-        if (h.getGeneration() > 1) {
-            StringBuilder leg = new StringBuilder();
-            if (h.getLegacyHungerBonus() > 0) leg.append("\uBC30+").append(h.getLegacyHungerBonus()).append(" ");
-            if (h.getLegacyHappinessBonus() > 0) leg.append("\uD589+").append(h.getLegacyHappinessBonus()).append(" ");
-            if (h.getLegacyEnergyBonus() > 0) leg.append("\uCCB4+").append(h.getLegacyEnergyBonus()).append(" ");
-            if (h.getLegacyLifespanBonus() > 0) leg.append("\uC218\uBA85+").append(h.getLegacyLifespanBonus() / Hamster.FRAMES_PER_DAY).append("\uC77C");
-            ui.legacyLabel.setText(leg.toString());
-            ui.legacyLabel.setVisible(true);
-        } else {
-            ui.legacyLabel.setVisible(false);
-        }
-
-        // Buff
-        java.util.List<Buff> buffs = h.getBuffs();
-        if (!buffs.isEmpty()) {
-            StringBuilder bt = new StringBuilder();
-            for (int i = 0; i < buffs.size(); i++) {
-                Buff b = buffs.get(i);
-                int sec = b.getRemainingFrames() / 30;
-                if (i > 0) bt.append("|");
-                bt.append(b.getDescription()).append(sec / 60).append(":").append(String.format("%02d", sec % 60));
-            }
-            ui.buffLabel.setText(bt.toString());
-            ui.buffLabel.setVisible(true);
-        } else {
-            ui.buffLabel.setVisible(false);
-        }
-    }
-
     // --- inner class for per-hamster UI elements ---
+    /**
+     * The widgets of one hamster plus the values they last showed. {@link #publish}
+     * compares the model against those values and only formats text and touches the
+     * components whose output would change, since every setText on an HTML label means
+     * a re-parse and re-layout.
+     */
     private class HamsterUI {
         final Hamster hamster;
         final JLabel nameLabel;
@@ -444,10 +387,20 @@ public class ControlPanel extends JFrame {
         final JProgressBar hungerBar;
         final JProgressBar happinessBar;
         final JProgressBar energyBar;
+        final Sparkline trend; // the three stats over the last 10 minutes
+
+        // Last published values (sentinels until the first publish)
+        private String shownName;
+        private int shownAge = -1, shownGeneration = -1;
+        private boolean shownDead;
+        private final int[] shownBars = {-1, -1, -1, -1, -1, -1}; // value, max per bar
+        private Hamster.State shownState;
+        private int shownLegacyGeneration = -1;
+        private int shownBuffCount = -1;
 
         HamsterUI(Hamster hamster) {
             this.hamster = hamster;
-            nameLabel = new JLabel(wrapEmoji("\uD83D\uDC39 " + hamster.getName()));
+            nameLabel = Emoji.label("\uD83D\uDC39 " + hamster.getName());
             nameLabel.setFont(new Font(FONT_NAME, Font.BOLD, F_LABEL));
             nameLabel.setForeground(currentTheme.textPrimary);
 
@@ -469,6 +422,100 @@ public class ControlPanel extends JFrame {
             hungerBar = createBar(new Color(255, 150, 80));
             happinessBar = createBar(new Color(255, 200, 80));
             energyBar = createBar(new Color(100, 200, 120));
+
+            trend = new Sparkline(hamster.getHistory(), StatHistory.Resolution.SECONDS, 90, 14,
+                    new StatHistory.Channel[] {
+                            StatHistory.Channel.HUNGER, StatHistory.Channel.HAPPINESS, StatHistory.Channel.ENERGY },
+                    new Color[] { new Color(255, 150, 80), new Color(255, 200, 80), new Color(100, 200, 120) });
+            trend.setMaximumSize(new Dimension(Short.MAX_VALUE, 14));
+        }
+
+        /**
+         * Bring the widgets up to date; {@code stats} and {@code timers} say which
+         * refresh rates are due. Returns whether a label was shown or hidden.
+         */
+        boolean publish(boolean stats, boolean timers) {
+            Hamster h = hamster;
+            boolean sizeChanged = false;
+            if (stats) {
+                int age = h.getAgeDays();
+                int gen = h.getGeneration();
+                boolean dead = h.isDead();
+                if (age != shownAge || gen != shownGeneration || dead != shownDead || !h.getName().equals(shownName)) {
+                    shownName = h.getName();
+                    shownAge = age;
+                    shownGeneration = gen;
+                    shownDead = dead;
+                    String genText = gen > 1 ? " " + gen + "\uC138\uB300" : "";
+                    String deadText = dead ? " \u2620" : "";
+                    Emoji.setText(nameLabel, "\uD83D\uDC39" + shownName + " " + age + "\uC77C" + genText + deadText);
+                }
+
+                publishBar(hungerBar, 0, h.getHunger(), h.getMaxHunger());
+                publishBar(happinessBar, 2, h.getHappiness(), h.getMaxHappiness());
+                publishBar(energyBar, 4, h.getEnergy(), h.getMaxEnergy());
+                trend.update();
+
+                // Info: personality + state
+                if (h.getState() != shownState) {
+                    shownState = h.getState();
+                    String pName = h.getPersonality() != null ? h.getPersonality().getDisplayName() : "";
+                    infoLabel.setText(pName + " | " + stateText(shownState));
+                }
+
+                // Legacy bonuses are fixed per hamster once it has a generation
+                if (gen != shownLegacyGeneration) {
+                    shownLegacyGeneration = gen;
+                    boolean wasVisible = legacyLabel.isVisible();
+                    if (gen > 1) {
+                        StringBuilder leg = new StringBuilder();
+                        if (h.getLegacyHungerBonus() > 0) leg.append("\uBC30+").append(h.getLegacyHungerBonus()).append(" ");
+                        if (h.getLegacyHappinessBonus() > 0) leg.append("\uD589+").append(h.getLegacyHappinessBonus()).append(" ");
+                        if (h.getLegacyEnergyBonus() > 0) leg.append("\uCCB4+").append(h.getLegacyEnergyBonus()).append(" ");
+                        if (h.getLegacyLifespanBonus() > 0) leg.append("\uC218\uBA85+").append(h.getLegacyLifespanBonus() / Hamster.FRAMES_PER_DAY).append("\uC77C");
+                        legacyLabel.setText(leg.toString());
+                        legacyLabel.setVisible(true);
+                    } else {
+                        legacyLabel.setVisible(false);
+                    }
+                    sizeChanged |= wasVisible != legacyLabel.isVisible();
+                }
+            }
+
+            // Buff countdowns tick at the timer rate; a buff appearing or running out shows at the stats rate
+            List<Buff> buffs = h.getBuffs();
+            if (timers || (stats && buffs.size() != shownBuffCount)) {
+                shownBuffCount = buffs.size();
+                boolean wasVisible = buffLabel.isVisible();
+                if (!buffs.isEmpty()) {
+                    StringBuilder bt = new StringBuilder();
+                    for (int i = 0; i < buffs.size(); i++) {
+                        Buff b = buffs.get(i);
+                        int sec = h.getBuffRemainingFrames(b) / 30;
+                        int s = sec % 60;
+                        if (i > 0) bt.append("|");
+                        bt.append(b.getDescription()).append(sec / 60).append(":").append(s < 10 ? "0" : "").append(s);
+                    }
+                    String text = bt.toString();
+                    if (!text.equals(buffLabel.getText())) buffLabel.setText(text);
+                    buffLabel.setVisible(true);
+                } else {
+                    buffLabel.setVisible(false);
+                }
+                sizeChanged |= wasVisible != buffLabel.isVisible();
+            }
+            return sizeChanged;
+        }
+
+        private void publishBar(JProgressBar bar, int slot, int value, int max) {
+            if (value != shownBars[slot]) {
+                bar.setValue(Math.min(100, value));
+            }
+            if (value != shownBars[slot] || max != shownBars[slot + 1]) {
+                shownBars[slot] = value;
+                shownBars[slot + 1] = max;
+                bar.setString(value + "/" + max);
+            }
         }
 
         private JProgressBar createBar(Color color) {
@@ -491,6 +538,17 @@ public class ControlPanel extends JFrame {
 
     // --- helper methods ---
 
+    private static String stateText(Hamster.State state) {
+        switch (state) {
+            case WALKING:       return "\uAC77\uB294\uC911";
+            case EATING:        return "\uBA39\uB294\uC911";
+            case SLEEPING:      return "zzZ";
+            case HAPPY:         return "\uD589\uBCF5!";
+            case RUNNING_WHEEL: return "\uCCC7\uBC14\uD034";
+            default:            return "\uB300\uAE30";
+        }
+    }
+
     private JButton createWindowButton(String symbol, Color color) {
         JButton btn = new JButton(symbol);
         btn.setFont(new Font("SansSerif", Font.BOLD, 14));
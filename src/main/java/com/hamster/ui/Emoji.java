@@ -0,0 +1,151 @@
+package com.hamster.ui;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * Text with emoji for labels, buttons and menu items, without HTML.
+ *
+ * Text containing emoji is shown through an {@link Icon} that lays out plain runs in the
+ * component's own font and colour and emoji from {@link EmojiAtlas}; anything else stays
+ * ordinary component text. The icon measures with the component's current font, so it
+ * may be installed before the font is set.
+ */
+public final class Emoji {
+
+    private Emoji() {}
+
+    public static JLabel label(String text) {
+        JLabel l = new JLabel();
+        setText(l, text);
+        return l;
+    }
+
+    public static JLabel label(String text, int horizontalAlignment) {
+        JLabel l = label(text);
+        l.setHorizontalAlignment(horizontalAlignment);
+        return l;
+    }
+
+    public static JButton button(String text) {
+        JButton b = new JButton();
+        setText(b, text);
+        return b;
+    }
+
+    public static JMenuItem menuItem(String text) {
+        JMenuItem m = new JMenuItem();
+        setText(m, text);
+        return m;
+    }
+
+    public static void setText(JLabel l, String text) {
+        Icon icon = l.getIcon();
+        if (icon instanceof TextIcon && ((TextIcon) icon).text.equals(text)) return;
+        if (!EmojiAtlas.containsEmoji(text)) {
+            if (icon instanceof TextIcon) l.setIcon(null);
+            l.setText(text);
+            return;
+        }
+        l.setText("");
+        l.getAccessibleContext().setAccessibleName(text);
+        if (icon instanceof TextIcon) {
+            ((TextIcon) icon).text = text;
+            l.revalidate();
+            l.repaint();
+        } else {
+            l.setIcon(new TextIcon(l, text));
+        }
+    }
+
+    public static void setText(AbstractButton b, String text) {
+        Icon icon = b.getIcon();
+        if (icon instanceof TextIcon && ((TextIcon) icon).text.equals(text)) return;
+        if (!EmojiAtlas.containsEmoji(text)) {
+            if (icon instanceof TextIcon) b.setIcon(null);
+            b.setText(text);
+            return;
+        }
+        b.setText("");
+        b.getAccessibleContext().setAccessibleName(text);
+        if (icon instanceof TextIcon) {
+            ((TextIcon) icon).text = text;
+            b.revalidate();
+            b.repaint();
+        } else {
+            b.setIcon(new TextIcon(b, text));
+        }
+    }
+
+    /** Mixed text and emoji, measured and painted with the owner's font and colour. */
+    private static final class TextIcon implements Icon {
+        private final JComponent owner;
+        String text;
+
+        TextIcon(JComponent owner, String text) {
+            this.owner = owner;
+            this.text = text;
+        }
+
+        @Override
+        public int getIconWidth() {
+            Font font = owner.getFont();
+            FontMetrics fm = owner.getFontMetrics(font);
+            int w = 0;
+            for (int i = 0; i < text.length(); ) {
+                int len = EmojiAtlas.emojiLength(text, i);
+                if (len > 0) {
+                    w += EmojiAtlas.glyph(text.substring(i, i + len), font.getSize(), owner.getForeground()).image.getWidth();
+                    i += len;
+                } else {
+                    int end = runEnd(i);
+                    w += fm.stringWidth(text.substring(i, end));
+                    i = end;
+                }
+            }
+            return w;
+        }
+
+        @Override
+        public int getIconHeight() {
+            FontMetrics fm = owner.getFontMetrics(owner.getFont());
+            return fm.getAscent() + fm.getDescent();
+        }
+
+        @Override
+        public void paintIcon(Component c, Graphics g, int x, int y) {
+            Graphics2D g2 = (Graphics2D) g.create();
+            g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            Font font = owner.getFont();
+            FontMetrics fm = owner.getFontMetrics(font);
+            Color fg = c.isEnabled() ? owner.getForeground() : UIManager.getColor("Label.disabledForeground");
+            if (fg == null) fg = Color.GRAY;
+            g2.setFont(font);
+            g2.setColor(fg);
+            int baseline = y + fm.getAscent();
+            int px = x;
+            for (int i = 0; i < text.length(); ) {
+                int len = EmojiAtlas.emojiLength(text, i);
+                if (len > 0) {
+                    EmojiAtlas.Glyph glyph = EmojiAtlas.glyph(text.substring(i, i + len), font.getSize(), fg);
+                    g2.drawImage(glyph.image, px, baseline - glyph.ascent, null);
+                    px += glyph.image.getWidth();
+                    i += len;
+                } else {
+                    int end = runEnd(i);
+                    String run = text.substring(i, end);
+                    g2.drawString(run, px, baseline);
+                    px += fm.stringWidth(run);
+                    i = end;
+                }
+            }
+            g2.dispose();
+        }
+
+        private int runEnd(int from) {
+            int end = from + 1;
+            while (end < text.length() && EmojiAtlas.emojiLength(text, end) == 0) end++;
+            return end;
+        }
+    }
+}
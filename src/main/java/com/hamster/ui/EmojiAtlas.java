@@ -0,0 +1,112 @@
+package com.hamster.ui;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rasterised emoji glyphs, drawn once per (emoji, size, colour) on first use.
+ *
+ * Each glyph comes from the first installed emoji font that can display it (Windows,
+ * macOS and the common Linux fonts, in that order), falling back to the dialog font;
+ * fonts that only have outlines come out in the requested colour. Used from the EDT only.
+ */
+final class EmojiAtlas {
+
+    private static final String[] FONT_CANDIDATES = {
+            "Segoe UI Emoji", "Apple Color Emoji", "Noto Color Emoji", "Noto Emoji", "Symbola"
+    };
+
+    /** A rasterised glyph; draw with its top-left {@code ascent} above the baseline. */
+    static final class Glyph {
+        final BufferedImage image;
+        final int ascent;
+
+        Glyph(BufferedImage image, int ascent) {
+            this.image = image;
+            this.ascent = ascent;
+        }
+    }
+
+    private static final Map<Long, Map<String, Glyph>> GLYPHS = new HashMap<>();
+    private static String[] installed;
+
+    private EmojiAtlas() {}
+
+    static Glyph glyph(String emoji, int size, Color color) {
+        long key = (long) size << 32 | (color.getRGB() & 0xFFFFFFFFL);
+        Map<String, Glyph> sheet = GLYPHS.get(key);
+        if (sheet == null) {
+            sheet = new HashMap<>();
+            GLYPHS.put(key, sheet);
+        }
+        Glyph g = sheet.get(emoji);
+        if (g == null) {
+            g = rasterise(emoji, size, color);
+            sheet.put(emoji, g);
+        }
+        return g;
+    }
+
+    /** Length of the emoji starting at {@code i} (with a trailing variation selector), or 0. */
+    static int emojiLength(String text, int i) {
+        char c = text.charAt(i);
+        int len;
+        if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+            len = 2;
+        } else if ((c >= '\u2600' && c <= '\u27BF') || (c >= '\u2B00' && c <= '\u2BFF')) {
+            len = 1;
+        } else {
+            return 0;
+        }
+        if (i + len < text.length() && text.charAt(i + len) == '\uFE0F') len++;
+        return len;
+    }
+
+    static boolean containsEmoji(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (emojiLength(text, i) > 0) return true;
+        }
+        return false;
+    }
+
+    private static Glyph rasterise(String emoji, int size, Color color) {
+        Font font = fontFor(emoji, size);
+        BufferedImage probe = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D pg = probe.createGraphics();
+        FontMetrics fm = pg.getFontMetrics(font);
+        pg.dispose();
+
+        int w = Math.max(1, fm.stringWidth(emoji));
+        int h = Math.max(1, fm.getAscent() + fm.getDescent());
+        BufferedImage img = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = img.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g.setFont(font);
+        g.setColor(color);
+        g.drawString(emoji, 0, fm.getAscent());
+        g.dispose();
+        return new Glyph(img, fm.getAscent());
+    }
+
+    private static Font fontFor(String emoji, int size) {
+        if (installed == null) {
+            List<String> names = Arrays.asList(
+                    GraphicsEnvironment.getLocalGraphicsEnvironment().getAvailableFontFamilyNames());
+            List<String> found = new ArrayList<>();
+            for (String candidate : FONT_CANDIDATES) {
+                if (names.contains(candidate)) found.add(candidate);
+            }
+            installed = found.toArray(new String[0]);
+        }
+        for (String name : installed) {
+            Font f = new Font(name, Font.PLAIN, size);
+            if (f.canDisplayUpTo(emoji) == -1) return f;
+        }
+        return new Font(Font.DIALOG, Font.PLAIN, size);
+    }
+}
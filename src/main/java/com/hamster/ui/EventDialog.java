@@ -29,7 +29,7 @@ public class EventDialog {
         panel.setBackground(new Color(255, 250, 240));
 
         // Title
-        JLabel titleLabel = new JLabel(ControlPanel.wrapEmoji(event.getTitle()));
+        JLabel titleLabel = Emoji.label(event.getTitle());
         titleLabel.setFont(new Font(FONT_NAME, Font.BOLD, 16));
         titleLabel.setForeground(new Color(80, 50, 20));
         titleLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
@@ -0,0 +1,34 @@
+package com.hamster.ui;
+import com.hamster.model.Hamster;
+
+/**
+ * Puts the world's hamsters on the desktop. {@link HamsterWindowLayer} gives every
+ * hamster its own window; {@link HamsterScene} draws them all in one window per screen.
+ * Used from the EDT only.
+ */
+public interface HamsterLayer {
+
+    void add(Hamster h);
+
+    void remove(Hamster h);
+
+    /** Remove every hamster (e.g. on game over); the layer stays usable. */
+    void clear();
+
+    boolean isEmpty();
+
+    /** Bring the views up to date with the model after a batch of steps. */
+    void syncAll();
+
+    /** Show or hide every hamster (e.g. for the hide-all hotkey). */
+    void setShown(boolean shown);
+
+    void setAlwaysOnTop(boolean onTop);
+
+    void setOpacity(float opacity);
+
+    /** Native windows the layer currently holds, for comparing the render modes. */
+    int nativeWindowCount();
+
+    void dispose();
+}
@@ -0,0 +1,283 @@
+package com.hamster.ui;
+import com.hamster.model.Hamster;
+import com.hamster.system.PhaseProfiler;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.*;
+import java.awt.geom.Path2D;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Draws every hamster in one transparent window per screen instead of one window each.
+ *
+ * {@link #syncAll()} compares every hamster's footprint with the one it was last drawn
+ * at, repaints the old and new rectangles and paints the whole batch in a single pass,
+ * so a frame costs one paint per screen rather than one move and one paint per hamster.
+ * The window's shape is cut down to the footprints (re-cut only when one of them moved),
+ * so clicks between hamsters still reach the desktop; mouse handling mirrors
+ * {@link HamsterWindow}.
+ */
+public class HamsterScene implements HamsterLayer {
+
+    private final HamsterWindow.ContextMenuCallback contextMenuCallback;
+    private final List<ScreenLayer> layers = new ArrayList<>();
+
+    // Paint order (last is on top), with the footprint each hamster was last drawn at
+    private Hamster[] hamsters = new Hamster[16];
+    private Rectangle[] drawn = new Rectangle[16];
+    private int count;
+
+    private boolean shown = true;
+
+    public HamsterScene(HamsterWindow.ContextMenuCallback contextMenuCallback) {
+        this.contextMenuCallback = contextMenuCallback;
+        for (GraphicsDevice device : GraphicsEnvironment.getLocalGraphicsEnvironment().getScreenDevices()) {
+            layers.add(new ScreenLayer(device.getDefaultConfiguration().getBounds()));
+        }
+    }
+
+    @Override
+    public void add(Hamster h) {
+        if (count == hamsters.length) {
+            hamsters = Arrays.copyOf(hamsters, count * 2);
+            drawn = Arrays.copyOf(drawn, count * 2);
+        }
+        Rectangle r = footprint(h);
+        hamsters[count] = h;
+        drawn[count] = r;
+        count++;
+        invalidate(r);
+        reshape();
+    }
+
+    @Override
+    public void remove(Hamster h) {
+        for (int i = 0; i < count; i++) {
+            if (hamsters[i] == h) {
+                Rectangle r = drawn[i];
+                count--;
+                System.arraycopy(hamsters, i + 1, hamsters, i, count - i);
+                System.arraycopy(drawn, i + 1, drawn, i, count - i);
+                hamsters[count] = null;
+                drawn[count] = null;
+                invalidate(r);
+                reshape();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(hamsters, 0, count, null);
+        Arrays.fill(drawn, 0, count, null);
+        count = 0;
+        for (ScreenLayer layer : layers) layer.repaint();
+        reshape();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public void syncAll() {
+        boolean moved = false;
+        for (int i = 0; i < count; i++) {
+            Rectangle old = drawn[i];
+            Rectangle now = footprint(hamsters[i]);
+            if (!now.equals(old)) {
+                drawn[i] = now;
+                invalidate(old);
+                moved = true;
+            }
+            // Sprites animate every frame, so the current footprint is always repainted
+            invalidate(now);
+        }
+        if (moved) reshape();
+    }
+
+    @Override
+    public void setShown(boolean shown) {
+        this.shown = shown;
+        reshape();
+    }
+
+    @Override
+    public void setAlwaysOnTop(boolean onTop) {
+        for (ScreenLayer layer : layers) {
+            layer.setAlwaysOnTop(onTop);
+            if (onTop) layer.toFront();
+            else layer.toBack();
+        }
+    }
+
+    @Override
+    public void setOpacity(float opacity) {
+        for (ScreenLayer layer : layers) layer.setOpacity(opacity);
+    }
+
+    @Override
+    public int nativeWindowCount() {
+        return layers.size();
+    }
+
+    @Override
+    public void dispose() {
+        clear();
+        for (ScreenLayer layer : layers) layer.dispose();
+        layers.clear();
+    }
+
+    // Screen coordinates, as HamsterWindow#sync() would place the window
+    private static Rectangle footprint(Hamster h) {
+        Hamster.State state = h.getState();
+        int w = Hamster.footprintWidth(state);
+        int ht = Hamster.footprintHeight(state);
+        return new Rectangle(h.getX() - w / 2, h.getY() - ht, w, ht);
+    }
+
+    private void invalidate(Rectangle r) {
+        for (ScreenLayer layer : layers) {
+            if (layer.screen.intersects(r)) {
+                layer.repaint(r.x - layer.screen.x, r.y - layer.screen.y, r.width, r.height);
+            }
+        }
+    }
+
+    private void reshape() {
+        for (ScreenLayer layer : layers) layer.updateShape();
+    }
+
+    private class ScreenLayer extends JWindow {
+        final Rectangle screen;
+        private boolean shapePending;
+
+        // Drag state, as in HamsterWindow
+        private Hamster pressed;
+        private boolean didDrag;
+        private int dragOffsetX, dragOffsetY;
+
+        ScreenLayer(Rectangle screen) {
+            this.screen = screen;
+            setAlwaysOnTop(true);
+            setBounds(screen);
+            setBackground(new Color(0, 0, 0, 0));
+            setFocusableWindowState(false);
+
+            JPanel panel = new JPanel() {
+                { setOpaque(false); }
+
+                @Override
+                protected void paintComponent(Graphics g) {
+                    long start = PhaseProfiler.start();
+                    super.paintComponent(g);
+                    Rectangle clip = g.getClipBounds();
+                    for (int i = 0; i < count; i++) {
+                        Rectangle r = drawn[i];
+                        int x = r.x - screen.x;
+                        int y = r.y - screen.y;
+                        if (clip != null && !clip.intersects(x, y, r.width, r.height)) continue;
+                        Graphics2D g2 = (Graphics2D) g.create(x, y, r.width, r.height);
+                        HamsterWindow.paintHamster(g2, hamsters[i]);
+                        g2.dispose();
+                    }
+                    PhaseProfiler.end(PhaseProfiler.Phase.WINDOW_PAINT, start);
+                }
+            };
+            panel.addMouseListener(new MouseAdapter() {
+                @Override
+                public void mousePressed(MouseEvent e) {
+                    if (!SwingUtilities.isLeftMouseButton(e)) return;
+                    int i = hitTest(e.getXOnScreen(), e.getYOnScreen());
+                    if (i < 0) return;
+                    pressed = hamsters[i];
+                    didDrag = false;
+                    pressed.setGrabbed(true);
+                    dragOffsetX = e.getXOnScreen() - drawn[i].x;
+                    dragOffsetY = e.getYOnScreen() - drawn[i].y;
+                    pressed.wake();
+                }
+
+                @Override
+                public void mouseReleased(MouseEvent e) {
+                    if (SwingUtilities.isLeftMouseButton(e) && pressed != null) {
+                        pressed.setGrabbed(false);
+                        if (!didDrag && e.getClickCount() == 1) {
+                            HamsterWindow.promptRename(pressed);
+                        }
+                        pressed = null;
+                    }
+                    if (SwingUtilities.isRightMouseButton(e) && contextMenuCallback != null) {
+                        int i = hitTest(e.getXOnScreen(), e.getYOnScreen());
+                        if (i >= 0 && !hamsters[i].isDead()) {
+                            HamsterWindow.showContextMenu(hamsters[i], contextMenuCallback,
+                                    e.getXOnScreen(), e.getYOnScreen());
+                        }
+                    }
+                }
+            });
+            panel.addMouseMotionListener(new MouseMotionAdapter() {
+                @Override
+                public void mouseDragged(MouseEvent e) {
+                    if (pressed == null) return;
+                    didDrag = true;
+                    Hamster.State state = pressed.getState();
+                    int x = e.getXOnScreen() - dragOffsetX;
+                    int y = e.getYOnScreen() - dragOffsetY;
+                    pressed.setPosition(x + Hamster.footprintWidth(state) / 2, y + Hamster.footprintHeight(state));
+                    syncAll();
+                }
+            });
+            add(panel);
+        }
+
+        // Topmost (last drawn) hamster under a screen point, or -1
+        private int hitTest(int sx, int sy) {
+            for (int i = count - 1; i >= 0; i--) {
+                if (drawn[i].contains(sx, sy)) return i;
+            }
+            return -1;
+        }
+
+        /**
+         * Re-cut the window to the footprints on this screen and show or hide it.
+         * Coalesced like the poop overlay's: a frame's moves reshape once, and the shape
+         * is always set before the window shows.
+         */
+        void updateShape() {
+            if (!shown || count == 0) {
+                if (isVisible()) setVisible(false);
+                return;
+            }
+            if (shapePending) return;
+            shapePending = true;
+            SwingUtilities.invokeLater(() -> {
+                shapePending = false;
+                if (!shown || count == 0) return;
+                Path2D.Float shape = new Path2D.Float(Path2D.WIND_NON_ZERO, count * 5);
+                int onScreen = 0;
+                for (int i = 0; i < count; i++) {
+                    Rectangle r = drawn[i];
+                    if (!screen.intersects(r)) continue;
+                    shape.append(new Rectangle(r.x - screen.x, r.y - screen.y, r.width, r.height), false);
+                    onScreen++;
+                }
+                if (onScreen == 0) {
+                    if (isVisible()) setVisible(false);
+                    return;
+                }
+                try {
+                    setShape(shape);
+                } catch (UnsupportedOperationException e) {
+                    // No shaped windows here: transparent pixels may still catch clicks
+                }
+                if (!isVisible()) setVisible(true);
+            });
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.hamster.ui;
 import com.hamster.model.GameConstants;
 import com.hamster.model.Hamster;
 import com.hamster.render.HamsterRenderer;
+import com.hamster.system.PhaseProfiler;
 
 import javax.swing.*;
 import java.awt.*;
@@ -11,8 +12,6 @@ public class HamsterWindow extends JWindow {
 
     private static final int WINDOW_WIDTH = GameConstants.HAMSTER_WINDOW_WIDTH;
     private static final int WINDOW_HEIGHT = GameConstants.HAMSTER_WINDOW_HEIGHT;
-    private static final int WHEEL_WIDTH = GameConstants.WHEEL_WINDOW_WIDTH;
-    private static final int WHEEL_HEIGHT = GameConstants.WHEEL_WINDOW_HEIGHT;
 
     /**
      * Callback interface for right-click context menu actions.
@@ -30,24 +29,15 @@ public class HamsterWindow extends JWindow {
     private final HamsterPanel hamsterPanel;
     private ContextMenuCallback contextMenuCallback;
 
-    private final Dimension screenSize;
-    private final Insets screenInsets;
-
     private boolean dragging = false;
     private boolean didDrag = false;
     private int dragOffsetX, dragOffsetY;
-    private Hamster.State lastState = Hamster.State.IDLE;
 
     public HamsterWindow(Hamster hamster) {
         this.hamster = hamster;
 
-        screenSize = Toolkit.getDefaultToolkit().getScreenSize();
-        screenInsets = Toolkit.getDefaultToolkit().getScreenInsets(
-                GraphicsEnvironment.getLocalGraphicsEnvironment()
-                        .getDefaultScreenDevice().getDefaultConfiguration());
-
         setAlwaysOnTop(true);
-        setSize(WINDOW_WIDTH, WINDOW_HEIGHT);
+        setBounds(hamster.getX() - WINDOW_WIDTH / 2, hamster.getY() - WINDOW_HEIGHT, WINDOW_WIDTH, WINDOW_HEIGHT);
         setBackground(new Color(0, 0, 0, 0));
 
         hamsterPanel = new HamsterPanel();
@@ -57,49 +47,23 @@ public class HamsterWindow extends JWindow {
         setVisible(true);
     }
 
-    public void tick() {
-        if (hamster.isFrozen()) {
-            hamsterPanel.repaint();
-            return;
-        }
-
-        hamster.update();
-
-        // Handle window resize for wheel state transitions
-        Hamster.State currentState = hamster.getState();
-        if (currentState == Hamster.State.RUNNING_WHEEL && lastState != Hamster.State.RUNNING_WHEEL) {
-            Point loc = getLocation();
-            setSize(WHEEL_WIDTH, WHEEL_HEIGHT);
-            setLocation(
-                    loc.x - (WHEEL_WIDTH - WINDOW_WIDTH) / 2,
-                    loc.y - (WHEEL_HEIGHT - WINDOW_HEIGHT));
-        } else if (currentState != Hamster.State.RUNNING_WHEEL && lastState == Hamster.State.RUNNING_WHEEL) {
-            Point loc = getLocation();
-            setSize(WINDOW_WIDTH, WINDOW_HEIGHT);
-            setLocation(
-                    loc.x + (WHEEL_WIDTH - WINDOW_WIDTH) / 2,
-                    loc.y + (WHEEL_HEIGHT - WINDOW_HEIGHT));
-        }
-        lastState = currentState;
-
-        // move window when hamster walks
-        if (hamster.getState() == Hamster.State.WALKING && !dragging) {
-            Point loc = getLocation();
-            int newX = loc.x + (int) Math.round(hamster.getMoveX());
-            int newY = loc.y + (int) Math.round(hamster.getMoveY());
-            int maxX = screenSize.width - getWidth();
-            int maxY = screenSize.height - screenInsets.bottom - getHeight();
-            if (newX <= 0 || newX >= maxX) {
-                hamster.bounceX();
-                newX = Math.max(0, Math.min(newX, maxX));
-            }
-            if (newY <= 0 || newY >= maxY) {
-                hamster.bounceY();
-                newY = Math.max(0, Math.min(newY, maxY));
+    /**
+     * Move/resize the window to match the hamster's model position and repaint.
+     * The hamster itself is advanced by {@link com.hamster.sim.World#step()}.
+     */
+    public void sync() {
+        if (!dragging) {
+            Hamster.State state = hamster.getState();
+            int w = Hamster.footprintWidth(state);
+            int h = Hamster.footprintHeight(state);
+            int x = hamster.getX() - w / 2;
+            int y = hamster.getY() - h;
+            if (w != getWidth() || h != getHeight()) {
+                setBounds(x, y, w, h);
+            } else if (x != getX() || y != getY()) {
+                setLocation(x, y);
             }
-            setLocation(newX, newY);
         }
-
         hamsterPanel.repaint();
     }
 
@@ -112,8 +76,7 @@ public class HamsterWindow extends JWindow {
     }
 
     public Point getHamsterScreenPosition() {
-        Point loc = getLocation();
-        return new Point(loc.x + getWidth() / 2, loc.y + getHeight());
+        return new Point(hamster.getX(), hamster.getY());
     }
 
     private void setupMouse() {
@@ -123,6 +86,7 @@ public class HamsterWindow extends JWindow {
                 if (SwingUtilities.isLeftMouseButton(e)) {
                     dragging = true;
                     didDrag = false;
+                    hamster.setGrabbed(true);
                     dragOffsetX = e.getXOnScreen() - getX();
                     dragOffsetY = e.getYOnScreen() - getY();
                     hamster.wake();
@@ -133,21 +97,18 @@ public class HamsterWindow extends JWindow {
             public void mouseReleased(MouseEvent e) {
                 if (SwingUtilities.isLeftMouseButton(e)) {
                     dragging = false;
+                    hamster.setGrabbed(false);
                 }
                 // Right-click context menu
                 if (SwingUtilities.isRightMouseButton(e) && contextMenuCallback != null && !hamster.isDead()) {
-                    showContextMenu(e);
+                    showContextMenu(hamster, contextMenuCallback, e.getXOnScreen(), e.getYOnScreen());
                 }
             }
 
             @Override
             public void mouseClicked(MouseEvent e) {
                 if (SwingUtilities.isLeftMouseButton(e) && e.getClickCount() == 1 && !didDrag) {
-                    String newName = JOptionPane.showInputDialog(
-                            null, "\ud584\uc2a4\ud130 \uc774\ub984\uc744 \uc785\ub825\ud558\uc138\uc694:", hamster.getName());
-                    if (newName != null && !newName.trim().isEmpty()) {
-                        hamster.setName(newName.trim());
-                    }
+                    promptRename(hamster);
                 }
             }
         });
@@ -157,49 +118,59 @@ public class HamsterWindow extends JWindow {
             public void mouseDragged(MouseEvent e) {
                 if (dragging) {
                     didDrag = true;
-                    setLocation(
-                            e.getXOnScreen() - dragOffsetX,
-                            e.getYOnScreen() - dragOffsetY
-                    );
+                    int x = e.getXOnScreen() - dragOffsetX;
+                    int y = e.getYOnScreen() - dragOffsetY;
+                    setLocation(x, y);
+                    hamster.setPosition(x + getWidth() / 2, y + getHeight());
                 }
             }
         });
     }
 
-    private void showContextMenu(MouseEvent e) {
+    /** Ask for a new name (shared with {@link HamsterScene}). */
+    static void promptRename(Hamster hamster) {
+        String newName = JOptionPane.showInputDialog(
+                null, "\ud584\uc2a4\ud130 \uc774\ub984\uc744 \uc785\ub825\ud558\uc138\uc694:", hamster.getName());
+        if (newName != null && !newName.trim().isEmpty()) {
+            hamster.setName(newName.trim());
+        }
+    }
+
+    /** Right-click menu at a screen position (shared with {@link HamsterScene}). */
+    static void showContextMenu(Hamster hamster, ContextMenuCallback contextMenuCallback, int screenX, int screenY) {
         JPopupMenu menu = new JPopupMenu();
         menu.setBackground(new Color(255, 250, 240));
 
         // Header: hamster name
-        JMenuItem header = new JMenuItem(ControlPanel.wrapEmoji("\uD83D\uDC39 " + hamster.getName()));
+        JMenuItem header = Emoji.menuItem("\uD83D\uDC39 " + hamster.getName());
         header.setFont(new Font("Noto Sans KR", Font.BOLD, 12));
         header.setEnabled(false);
         menu.add(header);
         menu.addSeparator();
 
-        JMenuItem feedItem = new JMenuItem(ControlPanel.wrapEmoji("\uD83C\uDF7D\uFE0F \uBC25\uC8FC\uAE30"));
+        JMenuItem feedItem = Emoji.menuItem("\uD83C\uDF7D\uFE0F \uBC25\uC8FC\uAE30");
         feedItem.setFont(new Font("Noto Sans KR", Font.PLAIN, 12));
         feedItem.addActionListener(ev -> contextMenuCallback.onFeed(hamster));
         menu.add(feedItem);
 
-        JMenuItem playItem = new JMenuItem(ControlPanel.wrapEmoji("\uD83C\uDFB5 \uB180\uAE30"));
+        JMenuItem playItem = Emoji.menuItem("\uD83C\uDFB5 \uB180\uAE30");
         playItem.setFont(new Font("Noto Sans KR", Font.PLAIN, 12));
         playItem.addActionListener(ev -> contextMenuCallback.onPlay(hamster));
         menu.add(playItem);
 
-        JMenuItem wheelItem = new JMenuItem(ControlPanel.wrapEmoji("\uD83C\uDFA1 \uCCC7\uBC14\uD034"));
+        JMenuItem wheelItem = Emoji.menuItem("\uD83C\uDFA1 \uCCC7\uBC14\uD034");
         wheelItem.setFont(new Font("Noto Sans KR", Font.PLAIN, 12));
         wheelItem.addActionListener(ev -> contextMenuCallback.onRunWheel(hamster));
         menu.add(wheelItem);
 
-        JMenuItem sleepItem = new JMenuItem(ControlPanel.wrapEmoji("\uD83D\uDCA4 \uC7A0\uC790\uAE30"));
+        JMenuItem sleepItem = Emoji.menuItem("\uD83D\uDCA4 \uC7A0\uC790\uAE30");
         sleepItem.setFont(new Font("Noto Sans KR", Font.PLAIN, 12));
         sleepItem.addActionListener(ev -> contextMenuCallback.onSleep(hamster));
         menu.add(sleepItem);
 
         menu.addSeparator();
 
-        JMenuItem equipItem = new JMenuItem(ControlPanel.wrapEmoji("\uD83C\uDFA8 \uCE58\uC7A5"));
+        JMenuItem equipItem = Emoji.menuItem("\uD83C\uDFA8 \uCE58\uC7A5");
         equipItem.setFont(new Font("Noto Sans KR", Font.PLAIN, 12));
         equipItem.addActionListener(ev -> contextMenuCallback.onEquipAccessory(hamster));
         menu.add(equipItem);
@@ -227,7 +198,7 @@ public class HamsterWindow extends JWindow {
         anchor.setUndecorated(true);
         anchor.setSize(1, 1);
         anchor.setAlwaysOnTop(true);
-        anchor.setLocation(e.getXOnScreen(), e.getYOnScreen());
+        anchor.setLocation(screenX, screenY);
         anchor.setVisible(true);
 
         menu.addPopupMenuListener(new javax.swing.event.PopupMenuListener() {
@@ -247,15 +218,19 @@ public class HamsterWindow extends JWindow {
 
         @Override
         protected void paintComponent(Graphics g) {
+            long start = PhaseProfiler.start();
             super.paintComponent(g);
             Graphics2D g2 = (Graphics2D) g.create();
-            if (hamster.getState() == Hamster.State.RUNNING_WHEEL) {
-                g2.translate(5, 15);
-            } else {
-                g2.translate(10, 28);
-            }
-            HamsterRenderer.draw(g2, hamster);
+            paintHamster(g2, hamster);
             g2.dispose();
+            PhaseProfiler.end(PhaseProfiler.Phase.WINDOW_PAINT, start);
         }
     }
+
+    /** Draw a hamster with its footprint's top-left corner at the origin. */
+    static void paintHamster(Graphics2D g2, Hamster hamster) {
+        Hamster.State state = hamster.getState();
+        g2.translate(HamsterRenderer.originX(state), HamsterRenderer.originY(state));
+        HamsterRenderer.draw(g2, hamster);
+    }
 }
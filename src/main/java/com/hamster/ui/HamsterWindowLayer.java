@@ -0,0 +1,93 @@
+package com.hamster.ui;
+import com.hamster.model.Hamster;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** The classic mode: one translucent {@link HamsterWindow} per hamster. */
+public class HamsterWindowLayer implements HamsterLayer {
+
+    private final Map<Hamster, HamsterWindow> windows = new LinkedHashMap<>();
+    private final HamsterWindow.ContextMenuCallback contextMenuCallback;
+    private boolean shown = true;
+    private boolean onTop = true;
+    private float opacity = 1.0f;
+
+    public HamsterWindowLayer(HamsterWindow.ContextMenuCallback contextMenuCallback) {
+        this.contextMenuCallback = contextMenuCallback;
+    }
+
+    @Override
+    public void add(Hamster h) {
+        HamsterWindow w = new HamsterWindow(h);
+        w.setContextMenuCallback(contextMenuCallback);
+        if (!onTop) {
+            w.setAlwaysOnTop(false);
+            w.toBack();
+        }
+        if (opacity < 1.0f) {
+            w.setOpacity(opacity);
+        }
+        if (!shown) {
+            w.setVisible(false);
+        }
+        windows.put(h, w);
+    }
+
+    @Override
+    public void remove(Hamster h) {
+        HamsterWindow w = windows.remove(h);
+        if (w != null) w.dispose();
+    }
+
+    @Override
+    public void clear() {
+        for (HamsterWindow w : new ArrayList<>(windows.values())) w.dispose();
+        windows.clear();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return windows.isEmpty();
+    }
+
+    @Override
+    public void syncAll() {
+        for (HamsterWindow w : windows.values()) {
+            w.sync();
+        }
+    }
+
+    @Override
+    public void setShown(boolean shown) {
+        this.shown = shown;
+        for (HamsterWindow w : windows.values()) w.setVisible(shown);
+    }
+
+    @Override
+    public void setAlwaysOnTop(boolean onTop) {
+        this.onTop = onTop;
+        for (HamsterWindow w : windows.values()) {
+            w.setAlwaysOnTop(onTop);
+            if (onTop) w.toFront();
+            else w.toBack();
+        }
+    }
+
+    @Override
+    public void setOpacity(float opacity) {
+        this.opacity = opacity;
+        for (HamsterWindow w : windows.values()) w.setOpacity(opacity);
+    }
+
+    @Override
+    public int nativeWindowCount() {
+        return windows.size();
+    }
+
+    @Override
+    public void dispose() {
+        clear();
+    }
+}
@@ -1,10 +1,13 @@
 package com.hamster.ui;
 import com.hamster.render.HamsterIcon;
 import com.hamster.system.HamsterJournal;
+import com.hamster.system.JournalQuery;
 
 import javax.swing.*;
 import java.awt.*;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 
@@ -12,6 +15,26 @@ public class JournalDialog {
 
     private static JDialog activeInstance = null;
 
+    private static final int ROW_HEIGHT = 88;
+
+    private static final String ANY = "\uC804\uCCB4";
+    private static final String[] LIFESPAN_LABELS = {
+            "\uC218\uBA85 " + ANY, "0~2\uC77C", "3~6\uC77C", "7~13\uC77C", "14\uC77C \uC774\uC0C1"
+    };
+    private static final int[][] LIFESPAN_RANGES = {
+            { 0, Integer.MAX_VALUE }, { 0, 2 }, { 3, 6 }, { 7, 13 }, { 14, Integer.MAX_VALUE }
+    };
+    private static final String[] GENERATION_LABELS = {
+            "\uC138\uB300 " + ANY, "1\uC138\uB300", "2~4\uC138\uB300", "5\uC138\uB300 \uC774\uC0C1"
+    };
+    private static final int[][] GENERATION_RANGES = {
+            { 0, Integer.MAX_VALUE }, { 1, 1 }, { 2, 4 }, { 5, Integer.MAX_VALUE }
+    };
+    // Same order as JournalQuery.Sort
+    private static final String[] SORT_LABELS = {
+            "\uCD5C\uC2E0\uC21C", "\uC624\uB798\uB41C\uC21C", "\uC7A5\uC218\uC21C", "\uC138\uB300\uC21C"
+    };
+
     public static void show(Component parent, HamsterJournal journal) {
         if (activeInstance != null && activeInstance.isVisible()) {
             activeInstance.toFront();
@@ -38,7 +61,7 @@ public class JournalDialog {
         headerPanel.setBorder(BorderFactory.createEmptyBorder(15, 30, 5, 30));
         headerPanel.setOpaque(false);
 
-        JLabel titleLabel = new JLabel(ControlPanel.wrapEmoji("\uD83D\uDCD6 \uD584\uC2A4\uD130 \uB3C4\uAC10"));
+        JLabel titleLabel = Emoji.label("\uD83D\uDCD6 \uD584\uC2A4\uD130 \uB3C4\uAC10");
         titleLabel.setFont(new Font("Noto Sans KR", Font.BOLD, 18));
         titleLabel.setForeground(new Color(80, 50, 20));
         titleLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
@@ -52,69 +75,84 @@ public class JournalDialog {
         headerPanel.add(countLabel);
         outerPanel.add(headerPanel);
 
-        // Journal entries
-        JPanel listPanel = new JPanel();
-        listPanel.setLayout(new BoxLayout(listPanel, BoxLayout.Y_AXIS));
-        listPanel.setBorder(BorderFactory.createEmptyBorder(10, 20, 10, 20));
-        listPanel.setBackground(new Color(255, 250, 240));
-
-        List<HamsterJournal.JournalEntry> entries = journal.getEntries();
-        if (entries.isEmpty()) {
-            JLabel emptyLabel = new JLabel("\uC544\uC9C1 \uAE30\uB85D\uC774 \uC5C6\uC2B5\uB2C8\uB2E4.");
-            emptyLabel.setFont(new Font("Noto Sans KR", Font.PLAIN, 13));
-            emptyLabel.setForeground(new Color(150, 150, 150));
-            emptyLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-            listPanel.add(emptyLabel);
-        } else {
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy.MM.dd HH:mm");
-            for (HamsterJournal.JournalEntry entry : entries) {
-                JPanel card = new JPanel();
-                card.setLayout(new BoxLayout(card, BoxLayout.Y_AXIS));
-                card.setBackground(new Color(255, 252, 245));
-                card.setBorder(BorderFactory.createCompoundBorder(
-                        BorderFactory.createLineBorder(new Color(210, 190, 150), 1, true),
-                        BorderFactory.createEmptyBorder(8, 12, 8, 12)
-                ));
-                card.setMaximumSize(new Dimension(380, 100));
-                card.setAlignmentX(Component.CENTER_ALIGNMENT);
-
-                JLabel nameLabel = new JLabel(ControlPanel.wrapEmoji("\uD83D\uDC39 " + entry.name
-                        + " (" + entry.generation + "\uC138\uB300)"));
-                nameLabel.setFont(new Font("Noto Sans KR", Font.BOLD, 13));
-                nameLabel.setForeground(new Color(80, 50, 20));
-                card.add(nameLabel);
-
-                JLabel infoLabel = new JLabel("\uC0C9\uC0C1: " + entry.color
-                        + " | \uC131\uACA9: " + entry.personality
-                        + " | \uC218\uBA85: " + entry.lifespanDays + "\uC77C");
-                infoLabel.setFont(new Font("Noto Sans KR", Font.PLAIN, 11));
-                infoLabel.setForeground(new Color(100, 80, 50));
-                card.add(infoLabel);
-
-                JLabel deathLabel = new JLabel("\uC0AC\uC778: " + entry.causeOfDeath);
-                deathLabel.setFont(new Font("Noto Sans KR", Font.PLAIN, 11));
-                deathLabel.setForeground(new Color(180, 100, 80));
-                card.add(deathLabel);
-
-                if (entry.timestamp > 0) {
-                    JLabel dateLabel = new JLabel(sdf.format(new Date(entry.timestamp)));
-                    dateLabel.setFont(new Font("Noto Sans KR", Font.PLAIN, 10));
-                    dateLabel.setForeground(new Color(160, 150, 130));
-                    card.add(dateLabel);
-                }
-
-                listPanel.add(card);
-                listPanel.add(Box.createVerticalStrut(6));
-            }
-        }
+        // Filters
+        JComboBox<String> colorBox = filterBox("\uC0C9\uC0C1", journal.distinctValues(JournalQuery.Field.COLOR));
+        JComboBox<String> personalityBox = filterBox("\uC131\uACA9",
+                journal.distinctValues(JournalQuery.Field.PERSONALITY));
+        JComboBox<String> causeBox = filterBox("\uC0AC\uC778",
+                journal.distinctValues(JournalQuery.Field.CAUSE_OF_DEATH));
+        JComboBox<String> lifespanBox = styledBox(LIFESPAN_LABELS);
+        JComboBox<String> generationBox = styledBox(GENERATION_LABELS);
+        JComboBox<String> sortBox = styledBox(SORT_LABELS);
+
+        JPanel filterPanel = new JPanel(new GridLayout(2, 3, 6, 6));
+        filterPanel.setBorder(BorderFactory.createEmptyBorder(8, 20, 0, 20));
+        filterPanel.setOpaque(false);
+        filterPanel.add(colorBox);
+        filterPanel.add(personalityBox);
+        filterPanel.add(causeBox);
+        filterPanel.add(lifespanBox);
+        filterPanel.add(generationBox);
+        filterPanel.add(sortBox);
+        outerPanel.add(filterPanel);
 
-        JScrollPane scrollPane = new JScrollPane(listPanel);
+        // Journal entries: only the visible rows are read and formatted
+        EntryModel model = new EntryModel();
+        JList<HamsterJournal.JournalEntry> list = new JList<>(model);
+        list.setCellRenderer(new EntryRenderer());
+        list.setFixedCellHeight(ROW_HEIGHT);
+        list.setFixedCellWidth(380);
+        list.setBackground(new Color(255, 250, 240));
+        list.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+
+        JLabel emptyLabel = new JLabel("", SwingConstants.CENTER);
+        emptyLabel.setFont(new Font("Noto Sans KR", Font.PLAIN, 13));
+        emptyLabel.setForeground(new Color(150, 150, 150));
+
+        JScrollPane scrollPane = new JScrollPane(list);
         scrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED);
         scrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
-        scrollPane.setBorder(null);
+        scrollPane.setBorder(BorderFactory.createEmptyBorder(10, 20, 10, 20));
         scrollPane.setPreferredSize(new Dimension(420, 400));
         scrollPane.getViewport().setBackground(new Color(255, 250, 240));
-        outerPanel.add(scrollPane);
+        scrollPane.getVerticalScrollBar().setUnitIncrement(ROW_HEIGHT / 2);
+
+        CardLayout cards = new CardLayout();
+        JPanel listHolder = new JPanel(cards);
+        listHolder.setOpaque(false);
+        listHolder.add(scrollPane, "list");
+        listHolder.add(emptyLabel, "empty");
+        listHolder.setPreferredSize(new Dimension(420, 400));
+        outerPanel.add(listHolder);
+
+        Runnable refresh = () -> {
+            JournalQuery q = new JournalQuery();
+            q.color = selected(colorBox);
+            q.personality = selected(personalityBox);
+            q.causeOfDeath = selected(causeBox);
+            int life = lifespanBox.getSelectedIndex();
+            q.minLifespanDays = LIFESPAN_RANGES[life][0];
+            q.maxLifespanDays = LIFESPAN_RANGES[life][1];
+            int gen = generationBox.getSelectedIndex();
+            q.minGeneration = GENERATION_RANGES[gen][0];
+            q.maxGeneration = GENERATION_RANGES[gen][1];
+            q.sort = JournalQuery.Sort.values()[sortBox.getSelectedIndex()];
+
+            List<HamsterJournal.JournalEntry> entries = journal.query(q);
+            model.setEntries(entries);
+            list.ensureIndexIsVisible(0);
+            int total = journal.getEntryCount();
+            countLabel.setText("\uAE30\uB85D\uB41C \uD584\uC2A4\uD130: " + total + "\uB9C8\uB9AC"
+                    + (entries.size() != total ? " (\uD45C\uC2DC: " + entries.size() + ")" : ""));
+            emptyLabel.setText(total == 0 ? "\uC544\uC9C1 \uAE30\uB85D\uC774 \uC5C6\uC2B5\uB2C8\uB2E4."
+                    : "\uC870\uAC74\uC5D0 \uB9DE\uB294 \uAE30\uB85D\uC774 \uC5C6\uC2B5\uB2C8\uB2E4.");
+            cards.show(listHolder, entries.isEmpty() ? "empty" : "list");
+        };
+        for (JComboBox<String> box : Arrays.asList(colorBox, personalityBox, causeBox,
+                lifespanBox, generationBox, sortBox)) {
+            box.addActionListener(e -> refresh.run());
+        }
+        refresh.run();
 
         // Close button
         JPanel footerPanel = new JPanel();
@@ -141,4 +179,97 @@ public class JournalDialog {
         dialog.setLocationRelativeTo(parent);
         dialog.setVisible(true);
     }
+
+    // First item is "<label> all", the rest are the values
+    private static JComboBox<String> filterBox(String label, List<String> values) {
+        String[] items = new String[values.size() + 1];
+        items[0] = label + " " + ANY;
+        for (int i = 0; i < values.size(); i++) {
+            items[i + 1] = values.get(i);
+        }
+        return styledBox(items);
+    }
+
+    private static JComboBox<String> styledBox(String[] items) {
+        JComboBox<String> box = new JComboBox<>(items);
+        box.setFont(new Font("Noto Sans KR", Font.PLAIN, 11));
+        box.setFocusable(false);
+        return box;
+    }
+
+    private static String selected(JComboBox<String> box) {
+        return box.getSelectedIndex() > 0 ? (String) box.getSelectedItem() : null;
+    }
+
+    /** Rows of a query result; the list reads entries lazily. */
+    private static final class EntryModel extends AbstractListModel<HamsterJournal.JournalEntry> {
+        private List<HamsterJournal.JournalEntry> entries = Collections.emptyList();
+
+        void setEntries(List<HamsterJournal.JournalEntry> entries) {
+            int old = this.entries.size();
+            this.entries = entries;
+            if (old > 0) fireIntervalRemoved(this, 0, old - 1);
+            if (!entries.isEmpty()) fireIntervalAdded(this, 0, entries.size() - 1);
+        }
+
+        @Override
+        public int getSize() {
+            return entries.size();
+        }
+
+        @Override
+        public HamsterJournal.JournalEntry getElementAt(int index) {
+            return entries.get(index);
+        }
+    }
+
+    /** One card, reused for every visible row. */
+    private static final class EntryRenderer extends JPanel implements ListCellRenderer<HamsterJournal.JournalEntry> {
+        private final SimpleDateFormat sdf = new SimpleDateFormat("yyyy.MM.dd HH:mm");
+        private final JLabel nameLabel = new JLabel();
+        private final JLabel infoLabel = new JLabel();
+        private final JLabel deathLabel = new JLabel();
+        private final JLabel dateLabel = new JLabel();
+        private final JPanel card = new JPanel();
+
+        EntryRenderer() {
+            setLayout(new BorderLayout());
+            setBorder(BorderFactory.createEmptyBorder(0, 0, 6, 0));
+            setOpaque(true);
+            setBackground(new Color(255, 250, 240));
+
+            card.setLayout(new BoxLayout(card, BoxLayout.Y_AXIS));
+            card.setBorder(BorderFactory.createCompoundBorder(
+                    BorderFactory.createLineBorder(new Color(210, 190, 150), 1, true),
+                    BorderFactory.createEmptyBorder(8, 12, 8, 12)
+            ));
+            nameLabel.setFont(new Font("Noto Sans KR", Font.BOLD, 13));
+            nameLabel.setForeground(new Color(80, 50, 20));
+            infoLabel.setFont(new Font("Noto Sans KR", Font.PLAIN, 11));
+            infoLabel.setForeground(new Color(100, 80, 50));
+            deathLabel.setFont(new Font("Noto Sans KR", Font.PLAIN, 11));
+            deathLabel.setForeground(new Color(180, 100, 80));
+            dateLabel.setFont(new Font("Noto Sans KR", Font.PLAIN, 10));
+            dateLabel.setForeground(new Color(160, 150, 130));
+            card.add(nameLabel);
+            card.add(infoLabel);
+            card.add(deathLabel);
+            card.add(dateLabel);
+            add(card, BorderLayout.CENTER);
+        }
+
+        @Override
+        public Component getListCellRendererComponent(JList<? extends HamsterJournal.JournalEntry> list,
+                HamsterJournal.JournalEntry entry, int index, boolean isSelected, boolean cellHasFocus) {
+            card.setBackground(isSelected ? new Color(255, 240, 210) : new Color(255, 252, 245));
+            Emoji.setText(nameLabel, "\uD83D\uDC39 " + entry.name
+                    + " (" + entry.generation + "\uC138\uB300)");
+            infoLabel.setText("\uC0C9\uC0C1: " + entry.color
+                    + " | \uC131\uACA9: " + entry.personality
+                    + " | \uC218\uBA85: " + entry.lifespanDays + "\uC77C");
+            deathLabel.setText("\uC0AC\uC778: " + entry.causeOfDeath);
+            dateLabel.setText(entry.timestamp > 0 ? sdf.format(new Date(entry.timestamp)) : " ");
+            return this;
+        }
+    }
 }
@@ -0,0 +1,279 @@
+package com.hamster.ui;
+import com.hamster.model.Poop;
+import com.hamster.render.RenderResources;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.*;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Draws every poop on the desktop.
+ *
+ * Instead of one always-on-top window per poop there is one transparent window per
+ * screen. Each keeps its poops in primitive position arrays, paints them all in one pass
+ * from a pre-rendered sprite and hit-tests clicks itself. The window's shape is cut down
+ * to the poop squares, so clicks anywhere else fall through to the desktop.
+ */
+public class PoopOverlay {
+
+    static final int SIZE = 30;
+
+    private static final BufferedImage SPRITE = renderSprite();
+
+    private final Consumer<Poop> onClean;
+    private final List<ScreenLayer> layers = new ArrayList<>();
+    private boolean shown = true;
+
+    /** @param onClean called on the EDT when a poop is clicked (after it was removed) */
+    public PoopOverlay(Consumer<Poop> onClean) {
+        this.onClean = onClean;
+        for (GraphicsDevice device : GraphicsEnvironment.getLocalGraphicsEnvironment().getScreenDevices()) {
+            layers.add(new ScreenLayer(device.getDefaultConfiguration().getBounds()));
+        }
+    }
+
+    public void add(Poop poop) {
+        layerFor(poop.getScreenX(), poop.getScreenY()).add(poop);
+    }
+
+    public void remove(Poop poop) {
+        for (ScreenLayer layer : layers) {
+            if (layer.remove(poop)) return;
+        }
+    }
+
+    public void clear() {
+        for (ScreenLayer layer : layers) layer.clear();
+    }
+
+    public int size() {
+        int n = 0;
+        for (ScreenLayer layer : layers) n += layer.count;
+        return n;
+    }
+
+    /** Show or hide every poop (e.g. for the hide-all hotkey). */
+    public void setShown(boolean shown) {
+        this.shown = shown;
+        for (ScreenLayer layer : layers) layer.updateShape();
+    }
+
+    public void setAlwaysOnTop(boolean onTop) {
+        for (ScreenLayer layer : layers) {
+            layer.setAlwaysOnTop(onTop);
+            if (onTop) layer.toFront();
+            else layer.toBack();
+        }
+    }
+
+    public void setOpacity(float opacity) {
+        for (ScreenLayer layer : layers) layer.setOpacity(opacity);
+    }
+
+    public void dispose() {
+        for (ScreenLayer layer : layers) layer.dispose();
+        layers.clear();
+    }
+
+    // The screen containing the poop, else the nearest one (the world may overhang a screen)
+    private ScreenLayer layerFor(int x, int y) {
+        ScreenLayer best = layers.get(0);
+        long bestDist = Long.MAX_VALUE;
+        for (ScreenLayer layer : layers) {
+            Rectangle b = layer.screen;
+            if (b.contains(x, y)) return layer;
+            long dx = Math.max(0, Math.max(b.x - x, x - (b.x + b.width)));
+            long dy = Math.max(0, Math.max(b.y - y, y - (b.y + b.height)));
+            if (dx * dx + dy * dy < bestDist) {
+                bestDist = dx * dx + dy * dy;
+                best = layer;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Draw the first {@code count} poops whose squares meet the clip. {@code clip} is
+     * scratch space holding the area to assume when {@code g} has no clip; nothing is
+     * allocated.
+     */
+    static void paintPoops(Graphics g, Rectangle clip, int[] xs, int[] ys, int count) {
+        g.getClipBounds(clip);
+        for (int i = 0; i < count; i++) {
+            if (clip.intersects(xs[i], ys[i], SIZE, SIZE)) {
+                g.drawImage(SPRITE, xs[i], ys[i], null);
+            }
+        }
+    }
+
+    private class ScreenLayer extends JWindow {
+        final Rectangle screen;
+        Poop[] poops = new Poop[16];
+        int[] xs = new int[16]; // top-left, relative to the screen
+        int[] ys = new int[16];
+        int count;
+        private boolean shapePending;
+        private final Rectangle clip = new Rectangle();
+
+        ScreenLayer(Rectangle screen) {
+            this.screen = screen;
+            setAlwaysOnTop(true);
+            setBounds(screen);
+            setBackground(new Color(0, 0, 0, 0));
+            setFocusableWindowState(false);
+
+            JPanel panel = new JPanel() {
+                { setOpaque(false); }
+
+                @Override
+                protected void paintComponent(Graphics g) {
+                    super.paintComponent(g);
+                    clip.setBounds(0, 0, getWidth(), getHeight());
+                    paintPoops(g, clip, xs, ys, count);
+                }
+            };
+            panel.addMouseListener(new MouseAdapter() {
+                @Override
+                public void mouseClicked(MouseEvent e) {
+                    // Topmost (last drawn) poop under the cursor
+                    for (int i = count - 1; i >= 0; i--) {
+                        if (e.getX() >= xs[i] && e.getX() < xs[i] + SIZE
+                                && e.getY() >= ys[i] && e.getY() < ys[i] + SIZE) {
+                            Poop poop = poops[i];
+                            removeAt(i);
+                            onClean.accept(poop);
+                            return;
+                        }
+                    }
+                }
+            });
+            panel.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+            add(panel);
+        }
+
+        void add(Poop poop) {
+            if (count == poops.length) {
+                poops = Arrays.copyOf(poops, count * 2);
+                xs = Arrays.copyOf(xs, count * 2);
+                ys = Arrays.copyOf(ys, count * 2);
+            }
+            poops[count] = poop;
+            xs[count] = poop.getScreenX() - screen.x;
+            ys[count] = poop.getScreenY() - screen.y;
+            count++;
+            changed(count - 1);
+        }
+
+        boolean remove(Poop poop) {
+            for (int i = 0; i < count; i++) {
+                if (poops[i] == poop) {
+                    removeAt(i);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // Keep the order (it is the paint order); poops are few enough to shift
+        void removeAt(int i) {
+            int x = xs[i], y = ys[i];
+            count--;
+            System.arraycopy(poops, i + 1, poops, i, count - i);
+            System.arraycopy(xs, i + 1, xs, i, count - i);
+            System.arraycopy(ys, i + 1, ys, i, count - i);
+            poops[count] = null;
+            updateShape();
+            repaint(x, y, SIZE, SIZE);
+        }
+
+        void clear() {
+            Arrays.fill(poops, 0, count, null);
+            count = 0;
+            updateShape();
+            repaint();
+        }
+
+        private void changed(int i) {
+            updateShape();
+            repaint(xs[i], ys[i], SIZE, SIZE);
+        }
+
+        /**
+         * Re-cut the window to the poops and show or hide it. Coalesced, so a burst of adds
+         * (e.g. loading a save) reshapes once; the shape is always set before the window
+         * shows, so it never catches clicks across the whole screen.
+         */
+        void updateShape() {
+            if (!shown || count == 0) {
+                if (isVisible()) setVisible(false);
+                return;
+            }
+            if (shapePending) return;
+            shapePending = true;
+            SwingUtilities.invokeLater(() -> {
+                shapePending = false;
+                if (!shown || count == 0) return;
+                Path2D.Float shape = new Path2D.Float(Path2D.WIND_NON_ZERO, count * 5);
+                for (int i = 0; i < count; i++) {
+                    shape.append(new Rectangle(xs[i], ys[i], SIZE, SIZE), false);
+                }
+                try {
+                    setShape(shape);
+                } catch (UnsupportedOperationException e) {
+                    // No shaped windows here: transparent pixels may still catch clicks
+                }
+                if (!isVisible()) setVisible(true);
+            });
+        }
+    }
+
+    private static BufferedImage renderSprite() {
+        BufferedImage img = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = img.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        int cx = SIZE / 2;
+
+        // Bottom blob
+        g2.setColor(RenderResources.color(139, 90, 43));
+        g2.fillOval(cx - 10, 16, 20, 12);
+
+        // Middle blob
+        g2.setColor(RenderResources.color(149, 100, 53));
+        g2.fillOval(cx - 7, 10, 14, 12);
+
+        // Top blob
+        g2.setColor(RenderResources.color(159, 110, 63));
+        g2.fillOval(cx - 4, 5, 9, 10);
+
+        // Tip
+        g2.fillOval(cx - 1, 2, 5, 6);
+
+        // Highlight
+        g2.setColor(RenderResources.color(255, 255, 255, 60));
+        g2.fillOval(cx - 5, 12, 4, 3);
+
+        // Eyes
+        g2.setColor(RenderResources.color(30, 30, 30));
+        g2.fillOval(cx - 5, 14, 3, 3);
+        g2.fillOval(cx + 3, 14, 3, 3);
+
+        // Eye highlights
+        g2.setColor(Color.WHITE);
+        g2.fillOval(cx - 4, 14, 1, 1);
+        g2.fillOval(cx + 4, 14, 1, 1);
+
+        // Smile
+        g2.setColor(RenderResources.color(30, 30, 30));
+        g2.setStroke(RenderResources.stroke(1));
+        g2.drawArc(cx - 3, 17, 6, 4, 200, 140);
+
+        g2.dispose();
+        return img;
+    }
+}
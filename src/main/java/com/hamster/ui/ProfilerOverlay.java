@@ -0,0 +1,137 @@
+package com.hamster.ui;
+import com.hamster.sim.FixedStepLoop;
+import com.hamster.system.LatencyHistogram;
+import com.hamster.system.PhaseProfiler;
+import com.hamster.system.PhaseProfiler.Phase;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.function.Supplier;
+
+/**
+ * Always-on-top readout of the {@link PhaseProfiler}: step time (p50/p99/max), frames per
+ * second and how far the EDT is behind the game loop, then the p99 and max of each phase.
+ * Figures cover the last second: the overlay keeps a copy of every histogram from its
+ * previous refresh and shows the difference, reusing the same arrays each time.
+ */
+public class ProfilerOverlay extends JWindow {
+
+    private static final int REFRESH_MS = 1000;
+    private static final Phase[] DETAIL = {
+            Phase.UPDATE_PASS, Phase.DEATHS, Phase.SCHEDULED, Phase.RANDOM_EVENT, Phase.ACHIEVEMENTS,
+            Phase.VIEW_SYNC, Phase.PANEL_REFRESH, Phase.WINDOW_PAINT, Phase.SAVE_CAPTURE, Phase.SAVE_WRITE
+    };
+
+    private final Supplier<FixedStepLoop> loop;
+    private final Timer timer = new Timer(REFRESH_MS, e -> refresh());
+    private final LatencyHistogram[] previous = new LatencyHistogram[Phase.values().length];
+    private final LatencyHistogram window = new LatencyHistogram();
+    private long previousNanos;
+    private long previousDropped;
+
+    private final Font font = new Font(Font.MONOSPACED, Font.PLAIN, 11);
+    private String[] lines = { "..." };
+
+    /** @param loop the running game loop, or null between games */
+    public ProfilerOverlay(Supplier<FixedStepLoop> loop) {
+        this.loop = loop;
+        for (int i = 0; i < previous.length; i++) {
+            previous[i] = new LatencyHistogram();
+        }
+        setAlwaysOnTop(true);
+        setFocusableWindowState(false);
+        setBackground(new Color(0, 0, 0, 0));
+
+        JPanel panel = new JPanel() {
+            { setOpaque(false); }
+
+            @Override
+            protected void paintComponent(Graphics g) {
+                Graphics2D g2 = (Graphics2D) g.create();
+                g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+                g2.setColor(new Color(20, 20, 20, 200));
+                g2.fillRoundRect(0, 0, getWidth(), getHeight(), 8, 8);
+                g2.setFont(font);
+                g2.setColor(new Color(220, 255, 220));
+                FontMetrics fm = g2.getFontMetrics();
+                for (int i = 0; i < lines.length; i++) {
+                    g2.drawString(lines[i], 6, 4 + fm.getAscent() + i * fm.getHeight());
+                }
+                g2.dispose();
+            }
+        };
+        FontMetrics fm = panel.getFontMetrics(font);
+        panel.setPreferredSize(new Dimension(fm.charWidth('0') * 52 + 12, fm.getHeight() * (DETAIL.length + 3) + 8));
+        setContentPane(panel);
+        pack();
+
+        Rectangle screen = GraphicsEnvironment.getLocalGraphicsEnvironment().getMaximumWindowBounds();
+        setLocation(screen.x + screen.width - getWidth() - 10, screen.y + 10);
+    }
+
+    /** Show or hide the overlay; it only samples while shown. */
+    public void toggle() {
+        if (isVisible()) {
+            timer.stop();
+            setVisible(false);
+        } else {
+            snapshot();
+            lines = new String[] { "..." };
+            setVisible(true);
+            timer.start();
+        }
+    }
+
+    private void refresh() {
+        long now = System.nanoTime();
+        double seconds = Math.max(1e-9, (now - previousNanos) / 1e9);
+        FixedStepLoop current = loop.get();
+        long dropped = current != null ? current.getDroppedSteps() : 0;
+
+        String[] out = new String[DETAIL.length + 3];
+        delta(Phase.STEP);
+        out[0] = String.format("step   p50 %6.2f  p99 %6.2f  max %6.2f ms",
+                ms(window.percentile(50)), ms(window.percentile(99)), ms(window.max()));
+        delta(Phase.FRAME);
+        long frames = window.count();
+        delta(Phase.EDT_WAIT);
+        out[1] = String.format("FPS %3.0f  EDT wait p99 %5.2f ms  queued %d  dropped %d",
+                frames / seconds, ms(window.percentile(99)),
+                current != null ? current.getPendingSteps() : 0, Math.max(0, dropped - previousDropped));
+        out[2] = String.format("%-14s %6s %8s %8s", "phase", "n", "p99 ms", "max ms");
+        for (int i = 0; i < DETAIL.length; i++) {
+            delta(DETAIL[i]);
+            out[i + 3] = window.count() == 0
+                    ? String.format("%-14s %6d %8s %8s", DETAIL[i].label(), 0, "-", "-")
+                    : String.format("%-14s %6d %8.2f %8.2f", DETAIL[i].label(), window.count(),
+                            ms(window.percentile(99)), ms(window.max()));
+        }
+        lines = out;
+        previousDropped = dropped;
+        previousNanos = now;
+        copyHistograms();
+        getContentPane().repaint();
+    }
+
+    // Load the last second of phase into window
+    private void delta(Phase phase) {
+        window.setDelta(PhaseProfiler.histogram(phase), previous[phase.ordinal()]);
+    }
+
+    private void snapshot() {
+        previousNanos = System.nanoTime();
+        FixedStepLoop current = loop.get();
+        previousDropped = current != null ? current.getDroppedSteps() : 0;
+        copyHistograms();
+    }
+
+    private void copyHistograms() {
+        for (Phase p : Phase.values()) {
+            previous[p.ordinal()].copyFrom(PhaseProfiler.histogram(p));
+        }
+    }
+
+    private static double ms(long nanos) {
+        return nanos / 1e6;
+    }
+}
@@ -46,7 +46,7 @@ public class SettingsDialog {
         gbc.gridx = 0; gbc.gridy = 0; gbc.gridwidth = 2;
         gbc.insets = new Insets(0, 0, 12, 0);
         gbc.anchor = GridBagConstraints.CENTER;
-        JLabel title = new JLabel(ControlPanel.wrapEmoji("\u2699 \uC124\uC815"));
+        JLabel title = Emoji.label("\u2699 \uC124\uC815");
         title.setFont(new Font(FONT_NAME, Font.BOLD, 18));
         title.setForeground(new Color(80, 50, 20));
         panel.add(title, gbc);
@@ -143,8 +143,17 @@ public class SettingsDialog {
         gbc.insets = new Insets(0, 0, 10, 0);
         panel.add(previewPanel, gbc);
 
+        // Render mode
+        gbc.gridy = 9; gbc.gridx = 0; gbc.gridwidth = 2;
+        gbc.insets = new Insets(0, 0, 12, 0);
+        gbc.anchor = GridBagConstraints.WEST;
+        final JCheckBox sceneBox = new JCheckBox("\uBAA8\uB4E0 \uD584\uC2A4\uD130\uB97C \uD55C \uCC3D\uC5D0 \uADF8\uB9AC\uAE30 (\uD584\uC2A4\uD130\uAC00 \uB9CE\uC744 \uB54C \uAC00\uBCBC\uC6C0)", settings.sceneRendering);
+        sceneBox.setFont(new Font(FONT_NAME, Font.PLAIN, 12));
+        sceneBox.setOpaque(false);
+        panel.add(sceneBox, gbc);
+
         // Save / Cancel buttons
-        gbc.gridy = 9; gbc.gridwidth = 2;
+        gbc.gridy = 10; gbc.gridwidth = 2;
         gbc.insets = new Insets(0, 0, 0, 0);
         gbc.anchor = GridBagConstraints.CENTER;
         JPanel btnPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 0));
@@ -162,6 +171,7 @@ public class SettingsDialog {
             settings.panelToggleModifier = panelMod[0];
             settings.panelToggleKeyCode = panelKey[0];
             settings.theme = UITheme.values()[themeCombo.getSelectedIndex()];
+            settings.sceneRendering = sceneBox.isSelected();
             settings.save();
             // Resume hotkeys with new settings
             if (hotkeyManager != null) hotkeyManager.resume(settings);
@@ -68,7 +68,7 @@ public class ShopDialog extends JDialog {
         mainPanel.setBackground(BG_COLOR);
 
         // Title
-        JLabel titleLabel = new JLabel(ControlPanel.wrapEmoji("\uD83D\uDCB0 \uC0C1\uC810"));
+        JLabel titleLabel = Emoji.label("\uD83D\uDCB0 \uC0C1\uC810");
         titleLabel.setFont(new Font(FONT_NAME, Font.BOLD, 18));
         titleLabel.setForeground(TEXT_COLOR);
         titleLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
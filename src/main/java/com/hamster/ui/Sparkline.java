@@ -0,0 +1,109 @@
+package com.hamster.ui;
+import com.hamster.model.StatHistory;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * A small line chart of some {@link StatHistory} channels at one resolution.
+ *
+ * The lines are drawn into a cached image, which is only redrawn when a bucket closes at
+ * that resolution (or the history, resolution or size changes); painting otherwise just
+ * blits the image. {@link #update()} compares one int and is cheap enough for every
+ * refresh. Stat channels are scaled 0~100, coins to the largest bucket shown.
+ */
+final class Sparkline extends JComponent {
+
+    private StatHistory history;
+    private StatHistory.Resolution resolution;
+    private final StatHistory.Channel[] channels;
+    private final Color[] colors;
+
+    private BufferedImage image;
+    private int drawnVersion = -1;
+
+    Sparkline(StatHistory history, StatHistory.Resolution resolution, int width, int height,
+              StatHistory.Channel[] channels, Color[] colors) {
+        this.history = history;
+        this.resolution = resolution;
+        this.channels = channels;
+        this.colors = colors;
+        Dimension size = new Dimension(width, height);
+        setPreferredSize(size);
+        setMinimumSize(size);
+        setMaximumSize(size);
+        setOpaque(false);
+    }
+
+    void setHistory(StatHistory history) {
+        if (history == this.history) return;
+        this.history = history;
+        image = null;
+        repaint();
+    }
+
+    void setResolution(StatHistory.Resolution resolution) {
+        if (resolution == this.resolution) return;
+        this.resolution = resolution;
+        image = null;
+        repaint();
+    }
+
+    /** Repaint if a bucket closed since the image was drawn. */
+    void update() {
+        if (history != null && history.version(resolution) != drawnVersion) {
+            repaint();
+        }
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        int w = getWidth(), h = getHeight();
+        if (w <= 0 || h <= 0) return;
+        int version = history != null ? history.version(resolution) : 0;
+        if (image == null || image.getWidth() != w || image.getHeight() != h || version != drawnVersion) {
+            image = render(w, h);
+            drawnVersion = version;
+        }
+        g.drawImage(image, 0, 0, null);
+    }
+
+    private BufferedImage render(int w, int h) {
+        BufferedImage img = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = img.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.setColor(new Color(0, 0, 0, 20));
+        g2.fillRect(0, 0, w, h);
+
+        int n = history != null ? history.size(resolution) : 0;
+        if (n > 0) {
+            g2.setStroke(new BasicStroke(1.2f));
+            float top = 1.5f, span = h - 3f;
+            for (int c = 0; c < channels.length; c++) {
+                StatHistory.Channel ch = channels[c];
+                int max = 100;
+                if (ch == StatHistory.Channel.COINS) {
+                    max = 1;
+                    for (int i = 0; i < n; i++) {
+                        max = Math.max(max, history.get(resolution, ch, i));
+                    }
+                }
+                // A single bucket is drawn as a flat line across
+                Path2D.Float path = new Path2D.Float();
+                for (int i = 0; i < Math.max(n, 2); i++) {
+                    int b = Math.min(i, n - 1);
+                    float x = i * (w - 1f) / (Math.max(n, 2) - 1);
+                    float y = top + span * (1f - history.get(resolution, ch, b) / (float) max);
+                    if (i == 0) path.moveTo(x, y);
+                    else path.lineTo(x, y);
+                }
+                g2.setColor(colors[c]);
+                g2.draw(path);
+            }
+        }
+        g2.dispose();
+        return img;
+    }
+}
@@ -28,37 +28,6 @@ public class StartDialog extends JDialog {
     private SettingsDialog.OnSave onSettingsSaved;
     private static JFrame ownerFrame;
 
-    private static String wrapEmoji(String text) {
-        boolean hasEmoji = false;
-        for (int i = 0; i < text.length(); i++) {
-            char c = text.charAt(i);
-            if (Character.isHighSurrogate(c) || c == '\u2B50' || c == '\u2600' || c == '\u2699') {
-                hasEmoji = true;
-                break;
-            }
-        }
-        if (!hasEmoji) return text;
-        StringBuilder sb = new StringBuilder("<html><nobr>");
-        for (int i = 0; i < text.length(); i++) {
-            char c = text.charAt(i);
-            if (Character.isHighSurrogate(c) && i + 1 < text.length()) {
-                sb.append("<span style='font-family:Segoe UI Emoji'>")
-                  .append(c).append(text.charAt(i + 1)).append("</span>");
-                i++;
-            } else if (c == '\u2B50' || c == '\u2600' || c == '\u2699') {
-                sb.append("<span style='font-family:Segoe UI Emoji'>").append(c);
-                if (i + 1 < text.length() && text.charAt(i + 1) == '\uFE0F') {
-                    sb.append(text.charAt(++i));
-                }
-                sb.append("</span>");
-            } else {
-                sb.append(c);
-            }
-        }
-        sb.append("</nobr></html>");
-        return sb.toString();
-    }
-
     private static JFrame getOwnerFrame() {
         if (ownerFrame == null) {
             ownerFrame = new JFrame("\uB370\uC2A4\uD06C\uD0D1 \uD584\uC2A4\uD130");
@@ -86,7 +55,7 @@ public class StartDialog extends JDialog {
         mainPanel.setBackground(new Color(255, 250, 240));
 
         // Title
-        JLabel titleLabel = new JLabel(wrapEmoji("\uD83D\uDC39 \uB370\uC2A4\uD06C\uD0D1 \uD584\uC2A4\uD130"));
+        JLabel titleLabel = Emoji.label("\uD83D\uDC39 \uB370\uC2A4\uD06C\uD0D1 \uD584\uC2A4\uD130");
         titleLabel.setFont(new Font("Noto Sans KR", Font.BOLD, 22));
         titleLabel.setForeground(new Color(80, 50, 20));
         titleLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
@@ -94,7 +63,7 @@ public class StartDialog extends JDialog {
         mainPanel.add(Box.createVerticalStrut(10));
 
         // Sunflower seeds display
-        JLabel seedLabel = new JLabel(wrapEmoji("\uD83C\uDF3B \uD574\uBC14\uB77C\uAE30\uC528: " + metaProgress.sunflowerSeeds + "\uAC1C"));
+        JLabel seedLabel = Emoji.label("\uD83C\uDF3B \uD574\uBC14\uB77C\uAE30\uC528: " + metaProgress.sunflowerSeeds + "\uAC1C");
         seedLabel.setFont(new Font("Noto Sans KR", Font.BOLD, 14));
         seedLabel.setForeground(new Color(180, 140, 20));
         seedLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
@@ -137,14 +106,14 @@ public class StartDialog extends JDialog {
         mainPanel.add(Box.createVerticalStrut(10));
 
         // Upgrade button
-        JButton upgradeBtn = createMenuButton(wrapEmoji("\uD83C\uDF3B \uC5C5\uADF8\uB808\uC774\uB4DC"));
+        JButton upgradeBtn = createMenuButton("\uD83C\uDF3B \uC5C5\uADF8\uB808\uC774\uB4DC");
         upgradeBtn.setBackground(new Color(255, 240, 180));
         upgradeBtn.addActionListener(e -> showUpgradeShop(seedLabel));
         mainPanel.add(upgradeBtn);
         mainPanel.add(Box.createVerticalStrut(10));
 
         // Journal button
-        JButton journalBtn = createMenuButton(wrapEmoji("\uD83D\uDCD6 \uB3C4\uAC10"));
+        JButton journalBtn = createMenuButton("\uD83D\uDCD6 \uB3C4\uAC10");
         journalBtn.setBackground(new Color(220, 240, 255));
         journalBtn.addActionListener(e -> {
             HamsterJournal journal = HamsterJournal.load();
@@ -154,7 +123,7 @@ public class StartDialog extends JDialog {
         mainPanel.add(Box.createVerticalStrut(10));
 
         // Statistics button
-        JButton statsBtn = createMenuButton(wrapEmoji("\uD83D\uDCCA \uD1B5\uACC4"));
+        JButton statsBtn = createMenuButton("\uD83D\uDCCA \uD1B5\uACC4");
         statsBtn.setBackground(new Color(230, 255, 230));
         statsBtn.addActionListener(e -> {
             GameStatistics stats = GameStatistics.load();
@@ -176,7 +145,7 @@ public class StartDialog extends JDialog {
         JPanel settingsRow = new JPanel(new FlowLayout(FlowLayout.RIGHT, 0, 0));
         settingsRow.setOpaque(false);
         settingsRow.setAlignmentX(Component.LEFT_ALIGNMENT);
-        JButton settingsBtn = new JButton(wrapEmoji("\u2699 \uC124\uC815"));
+        JButton settingsBtn = Emoji.button("\u2699 \uC124\uC815");
         settingsBtn.setFont(new Font("Noto Sans KR", Font.PLAIN, 12));
         settingsBtn.setBackground(new Color(230, 225, 215));
         settingsBtn.setBorder(BorderFactory.createCompoundBorder(
@@ -214,7 +183,7 @@ public class StartDialog extends JDialog {
         headerPanel.setBorder(BorderFactory.createEmptyBorder(15, 30, 5, 30));
         headerPanel.setOpaque(false);
 
-        JLabel titleLabel = new JLabel(wrapEmoji("\uD83C\uDF3B \uC5C5\uADF8\uB808\uC774\uB4DC"));
+        JLabel titleLabel = Emoji.label("\uD83C\uDF3B \uC5C5\uADF8\uB808\uC774\uB4DC");
         titleLabel.setFont(new Font("Noto Sans KR", Font.BOLD, 18));
         titleLabel.setForeground(new Color(80, 50, 20));
         titleLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
@@ -236,7 +205,7 @@ public class StartDialog extends JDialog {
 
         Runnable refreshShop = () -> {
             shopSeedLabel.setText("\uD574\uBC14\uB77C\uAE30\uC528: " + metaProgress.sunflowerSeeds + "\uAC1C");
-            seedLabel.setText(wrapEmoji("\uD83C\uDF3B \uD574\uBC14\uB77C\uAE30\uC528: " + metaProgress.sunflowerSeeds + "\uAC1C"));
+            Emoji.setText(seedLabel, "\uD83C\uDF3B \uD574\uBC14\uB77C\uAE30\uC528: " + metaProgress.sunflowerSeeds + "\uAC1C");
             shopDialog.dispose();
             showUpgradeShop(seedLabel);
         };
@@ -427,7 +396,7 @@ public class StartDialog extends JDialog {
     }
 
     private JButton createMenuButton(String text) {
-        JButton btn = new JButton(text);
+        JButton btn = Emoji.button(text);
         btn.setFont(new Font("Noto Sans KR", Font.BOLD, 14));
         btn.setFocusPainted(false);
         btn.setBackground(new Color(255, 230, 200));
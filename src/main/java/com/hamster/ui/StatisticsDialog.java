@@ -1,15 +1,37 @@
 package com.hamster.ui;
 import com.hamster.model.GameStatistics;
+import com.hamster.model.Hamster;
+import com.hamster.model.StatHistory;
 import com.hamster.render.HamsterIcon;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
 
 public class StatisticsDialog {
 
     private static JDialog activeInstance = null;
 
+    private static final String[] RESOLUTION_LABELS = {
+            "\uCD5C\uADFC 10\uBD84", "\uCD5C\uADFC 4\uC2DC\uAC04", "\uC77C\uBCC4"
+    };
+    private static final String[] CHANNEL_LABELS = {
+            "\uBC30\uACE0\uD514", "\uD589\uBCF5", "\uCCB4\uB825", "\uCF54\uC778"
+    };
+    private static final Color[] CHANNEL_COLORS = {
+            new Color(255, 150, 80), new Color(230, 170, 40), new Color(100, 200, 120), new Color(160, 120, 40)
+    };
+
     public static void show(Component parent, GameStatistics stats) {
+        show(parent, stats, null, null);
+    }
+
+    /**
+     * @param colony   history of the running game, or null outside a game
+     * @param hamsters living hamsters, whose histories can be picked
+     */
+    public static void show(Component parent, GameStatistics stats, StatHistory colony, List<Hamster> hamsters) {
         if (activeInstance != null && activeInstance.isVisible()) {
             activeInstance.toFront();
             return;
@@ -30,7 +52,7 @@ public class StatisticsDialog {
         panel.setBorder(BorderFactory.createEmptyBorder(20, 30, 20, 30));
         panel.setBackground(new Color(255, 250, 240));
 
-        JLabel titleLabel = new JLabel(ControlPanel.wrapEmoji("\uD83D\uDCCA \uD1B5\uACC4"));
+        JLabel titleLabel = Emoji.label("\uD83D\uDCCA \uD1B5\uACC4");
         titleLabel.setFont(new Font("Noto Sans KR", Font.BOLD, 18));
         titleLabel.setForeground(new Color(80, 50, 20));
         titleLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
@@ -68,6 +90,52 @@ public class StatisticsDialog {
         addRow(panel, "\uC774\uBCA4\uD2B8 \uBC1C\uC0DD", String.valueOf(stats.totalEventsTriggered));
         addRow(panel, "\uC0C1\uD638\uC791\uC6A9", String.valueOf(stats.totalInteractions));
 
+        // Trends of the running game
+        Timer chartTimer = null;
+        if (colony != null) {
+            addSection(panel, "\uCD94\uC774");
+            List<Sparkline> charts = new ArrayList<>();
+
+            JComboBox<String> resolutionBox = new JComboBox<>(RESOLUTION_LABELS);
+            addControl(panel, resolutionBox);
+            addLabel(panel, "\uC804\uCCB4 \uD3C9\uADE0");
+            List<Sparkline> colonyCharts = addCharts(panel, colony);
+            charts.addAll(colonyCharts);
+
+            List<Hamster> picks = hamsters != null ? new ArrayList<>(hamsters) : new ArrayList<>();
+            if (!picks.isEmpty()) {
+                String[] names = new String[picks.size()];
+                for (int i = 0; i < names.length; i++) {
+                    names[i] = picks.get(i).getName();
+                }
+                JComboBox<String> hamsterBox = new JComboBox<>(names);
+                panel.add(Box.createVerticalStrut(6));
+                addControl(panel, hamsterBox);
+                List<Sparkline> hamsterCharts = addCharts(panel, picks.get(0).getHistory());
+                charts.addAll(hamsterCharts);
+                hamsterBox.addActionListener(e -> {
+                    StatHistory history = picks.get(hamsterBox.getSelectedIndex()).getHistory();
+                    for (Sparkline chart : hamsterCharts) {
+                        chart.setHistory(history);
+                    }
+                });
+            }
+
+            resolutionBox.addActionListener(e -> {
+                StatHistory.Resolution res = StatHistory.Resolution.values()[resolutionBox.getSelectedIndex()];
+                for (Sparkline chart : charts) {
+                    chart.setResolution(res);
+                }
+            });
+            // Charts only redraw when a bucket closes; checking once a second is enough
+            chartTimer = new Timer(1000, e -> {
+                for (Sparkline chart : charts) {
+                    chart.update();
+                }
+            });
+            chartTimer.start();
+        }
+
         panel.add(Box.createVerticalStrut(15));
 
         JButton closeBtn = new JButton("\uB2EB\uAE30");
@@ -92,6 +160,13 @@ public class StatisticsDialog {
         scroll.setPreferredSize(new Dimension(350, 500));
         scroll.getViewport().setBackground(new Color(255, 250, 240));
 
+        if (chartTimer != null) {
+            Timer timer = chartTimer;
+            dialog.addWindowListener(new java.awt.event.WindowAdapter() {
+                @Override public void windowClosed(java.awt.event.WindowEvent e) { timer.stop(); }
+            });
+        }
+
         dialog.setContentPane(scroll);
         dialog.pack();
         dialog.setAlwaysOnTop(true);
@@ -128,4 +203,47 @@ public class StatisticsDialog {
 
         panel.add(row);
     }
+
+    // One chart per channel, each under its label
+    private static List<Sparkline> addCharts(JPanel panel, StatHistory history) {
+        List<Sparkline> charts = new ArrayList<>();
+        StatHistory.Channel[] channels = StatHistory.Channel.values();
+        for (int c = 0; c < channels.length; c++) {
+            JPanel row = new JPanel(new BorderLayout(10, 0));
+            row.setOpaque(false);
+            row.setAlignmentX(Component.CENTER_ALIGNMENT);
+            row.setMaximumSize(new Dimension(300, 26));
+
+            JLabel nameLabel = new JLabel(CHANNEL_LABELS[c]);
+            nameLabel.setFont(new Font("Noto Sans KR", Font.PLAIN, 12));
+            nameLabel.setForeground(new Color(80, 50, 20));
+            row.add(nameLabel, BorderLayout.WEST);
+
+            Sparkline chart = new Sparkline(history, StatHistory.Resolution.SECONDS, 200, 24,
+                    new StatHistory.Channel[] { channels[c] }, new Color[] { CHANNEL_COLORS[c] });
+            row.add(chart, BorderLayout.EAST);
+            charts.add(chart);
+            panel.add(row);
+            panel.add(Box.createVerticalStrut(2));
+        }
+        return charts;
+    }
+
+    private static void addControl(JPanel panel, JComboBox<String> box) {
+        box.setFont(new Font("Noto Sans KR", Font.PLAIN, 12));
+        box.setFocusable(false);
+        box.setAlignmentX(Component.CENTER_ALIGNMENT);
+        box.setMaximumSize(new Dimension(300, 26));
+        panel.add(box);
+        panel.add(Box.createVerticalStrut(4));
+    }
+
+    private static void addLabel(JPanel panel, String text) {
+        JLabel label = new JLabel(text);
+        label.setFont(new Font("Noto Sans KR", Font.BOLD, 12));
+        label.setForeground(new Color(100, 80, 50));
+        label.setAlignmentX(Component.CENTER_ALIGNMENT);
+        panel.add(label);
+        panel.add(Box.createVerticalStrut(2));
+    }
 }
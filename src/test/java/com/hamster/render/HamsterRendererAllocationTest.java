@@ -0,0 +1,150 @@
+package com.hamster.render;
+
+import com.hamster.model.Accessory;
+import com.hamster.model.GameClock;
+import com.hamster.model.GameStatistics;
+import com.hamster.model.Hamster;
+import com.hamster.model.HamsterColor;
+import com.hamster.sim.RngService;
+import com.hamster.sim.World;
+import com.hamster.system.AchievementManager;
+import com.hamster.system.HamsterJournal;
+import com.hamster.system.MetaProgress;
+import com.hamster.system.ProfileStore;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Once its sprites are cached, {@link HamsterRenderer#draw} allocates nothing per frame.
+ *
+ * Each accessory set is animated twice by the same seeded script: the first run draws
+ * onto an image and warms the sprite cache, the second replays exactly the same frames
+ * into a {@link NullGraphics} and measures the bytes its draw calls allocate on this
+ * thread. Java2D itself allocates temporaries per blit until the JIT compiles them away,
+ * and how soon that happens depends on the VM's flags (interpreter, C1 only, coverage
+ * agents); the null graphics keeps those out, so only the renderer is measured. A
+ * recompile can still allocate once (a deoptimized frame gets its objects back), so the
+ * total is held under one byte per frame: a single object every few frames breaks that.
+ */
+public class HamsterRendererAllocationTest {
+
+    private static final long SEED = 11;
+    private static final int FRAMES = 4800;
+    private static final int ACTION_EVERY = 120;
+    private static final long NOON_UTC = 1_700_000_000_000L / 86_400_000L * 86_400_000L + 12 * 3_600_000L;
+
+    private final BufferedImage canvas = new BufferedImage(150, 140, BufferedImage.TYPE_INT_ARGB_PRE);
+
+    @Rule
+    public final TemporaryFolder temp = new TemporaryFolder();
+
+    @Before
+    public void useTemporaryProfile() {
+        // Unlocks and meta progress commit to the shared profile; keep the user's out of it
+        ProfileStore.setShared(ProfileStore.open(new File(temp.getRoot(), "profile.dat")));
+    }
+
+    @After
+    public void dropTemporaryProfile() {
+        ProfileStore.setShared(null);
+    }
+
+    @Test
+    public void warmDrawsAllocateNothing() {
+        Assume.assumeTrue("thread allocation counting unavailable", ThreadAllocations.supported());
+
+        for (List<Accessory> set : accessorySets()) {
+            Map<Hamster.State, boolean[]> seen = new EnumMap<>(Hamster.State.class);
+            Graphics2D g = canvas.createGraphics();
+            run(set, seen, g);
+            g.dispose();
+            NullGraphics sink = new NullGraphics();
+            long allocated = run(set, seen, sink);
+            assertTrue(allocated + " bytes allocated drawing with " + set, allocated < FRAMES);
+            assertTrue("sprites drawn with " + set, sink.images >= FRAMES);
+
+            for (Hamster.State state : Hamster.State.values()) {
+                boolean[] dirs = seen.get(state);
+                assertTrue(state + " drawn with " + set, dirs != null);
+                if (state != Hamster.State.RUNNING_WHEEL) {
+                    assertTrue(state + " drawn facing both ways with " + set, dirs[0] && dirs[1]);
+                }
+            }
+        }
+    }
+
+    /** No accessories, each accessory alone, and one in every slot. */
+    private static List<List<Accessory>> accessorySets() {
+        List<List<Accessory>> sets = new ArrayList<>();
+        sets.add(new ArrayList<>());
+        List<Accessory> full = new ArrayList<>();
+        EnumMap<Accessory.Slot, Boolean> filled = new EnumMap<>(Accessory.Slot.class);
+        for (Accessory a : Accessory.values()) {
+            List<Accessory> one = new ArrayList<>();
+            one.add(a);
+            sets.add(one);
+            if (filled.put(a.getSlot(), true) == null) full.add(a);
+        }
+        sets.add(full);
+        return sets;
+    }
+
+    /**
+     * Animate a hamster wearing {@code set} through every state, drawing each frame.
+     *
+     * @return bytes allocated by the draw calls
+     */
+    private long run(List<Accessory> set, Map<Hamster.State, boolean[]> seen, Graphics2D g) {
+        World world = new World(1920, 1040, new MetaProgress(), new GameStatistics(), new AchievementManager(),
+                new HamsterJournal(), new RngService(SEED));
+        world.setClock(new GameClock(() -> NOON_UTC, TimeZone.getTimeZone("UTC")));
+        world.setHidden(true);
+        Hamster h = world.getHamsterManager().createHamster(1920, HamsterColor.WHITE, "hammy");
+        for (Accessory a : set) {
+            h.equipAccessory(a);
+        }
+        world.addHamster(h, 900, 1040);
+
+        long allocated = 0;
+        for (int f = 0; f < FRAMES; f++) {
+            if (f % ACTION_EVERY == 0) {
+                switch (f / ACTION_EVERY % 8) {
+                    case 0: h.feed(); break;
+                    case 1: h.play(); break;
+                    case 2: h.sleep(); break;
+                    case 3: h.runWheel(); break;
+                    default: break; // leave the AI to idle and walk
+                }
+            }
+            h.setHunger(h.getMaxHunger());
+            h.setHappiness(h.getMaxHappiness());
+            h.setEnergy(h.getMaxEnergy());
+            world.step();
+            world.cleanAllPoops();
+
+            long before = ThreadAllocations.current();
+            HamsterRenderer.draw(g, h);
+            allocated += ThreadAllocations.current() - before;
+
+            boolean[] dirs = seen.get(h.getState());
+            if (dirs == null) seen.put(h.getState(), dirs = new boolean[2]);
+            dirs[h.getDirection() == -1 ? 0 : 1] = true;
+        }
+        return allocated;
+    }
+}
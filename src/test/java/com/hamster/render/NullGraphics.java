@@ -0,0 +1,412 @@
+package com.hamster.render;
+
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Paint;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.BufferedImageOp;
+import java.awt.image.ImageObserver;
+import java.awt.image.RenderedImage;
+import java.awt.image.renderable.RenderableImage;
+import java.text.AttributedCharacterIterator;
+import java.util.Map;
+
+/**
+ * A {@link Graphics2D} that draws nothing and allocates nothing, so a test can measure
+ * what the paint code itself allocates without counting Java2D's temporaries (which
+ * depend on what the JIT has compiled so far). It keeps the colour, stroke, font and
+ * clip it is given, and counts the calls that would put pixels down.
+ */
+public final class NullGraphics extends Graphics2D {
+
+    /** Image blits so far. */
+    public int images;
+    /** Shape, line and text calls so far. */
+    public int shapes;
+
+    private Color color = Color.BLACK;
+    private Paint paint = Color.BLACK;
+    private Color background = Color.WHITE;
+    private Stroke stroke;
+    private Font font;
+    private Composite composite;
+    private Rectangle clip; // null for none
+
+    // ===================== Drawing: counted =====================
+
+    @Override
+    public boolean drawImage(Image img, int x, int y, ImageObserver observer) {
+        images++;
+        return true;
+    }
+
+    @Override
+    public boolean drawImage(Image img, int x, int y, int width, int height, ImageObserver observer) {
+        images++;
+        return true;
+    }
+
+    @Override
+    public boolean drawImage(Image img, int x, int y, Color bgcolor, ImageObserver observer) {
+        images++;
+        return true;
+    }
+
+    @Override
+    public boolean drawImage(Image img, int x, int y, int width, int height, Color bgcolor,
+                             ImageObserver observer) {
+        images++;
+        return true;
+    }
+
+    @Override
+    public boolean drawImage(Image img, int dx1, int dy1, int dx2, int dy2, int sx1, int sy1, int sx2, int sy2,
+                             ImageObserver observer) {
+        images++;
+        return true;
+    }
+
+    @Override
+    public boolean drawImage(Image img, int dx1, int dy1, int dx2, int dy2, int sx1, int sy1, int sx2, int sy2,
+                             Color bgcolor, ImageObserver observer) {
+        images++;
+        return true;
+    }
+
+    @Override
+    public boolean drawImage(Image img, AffineTransform xform, ImageObserver obs) {
+        images++;
+        return true;
+    }
+
+    @Override
+    public void drawImage(BufferedImage img, BufferedImageOp op, int x, int y) {
+        images++;
+    }
+
+    @Override
+    public void drawRenderedImage(RenderedImage img, AffineTransform xform) {
+        images++;
+    }
+
+    @Override
+    public void drawRenderableImage(RenderableImage img, AffineTransform xform) {
+        images++;
+    }
+
+    @Override
+    public void draw(Shape s) {
+        shapes++;
+    }
+
+    @Override
+    public void fill(Shape s) {
+        shapes++;
+    }
+
+    @Override
+    public void drawLine(int x1, int y1, int x2, int y2) {
+        shapes++;
+    }
+
+    @Override
+    public void fillRect(int x, int y, int width, int height) {
+        shapes++;
+    }
+
+    @Override
+    public void clearRect(int x, int y, int width, int height) {
+        shapes++;
+    }
+
+    @Override
+    public void drawRoundRect(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+        shapes++;
+    }
+
+    @Override
+    public void fillRoundRect(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+        shapes++;
+    }
+
+    @Override
+    public void drawOval(int x, int y, int width, int height) {
+        shapes++;
+    }
+
+    @Override
+    public void fillOval(int x, int y, int width, int height) {
+        shapes++;
+    }
+
+    @Override
+    public void drawArc(int x, int y, int width, int height, int startAngle, int arcAngle) {
+        shapes++;
+    }
+
+    @Override
+    public void fillArc(int x, int y, int width, int height, int startAngle, int arcAngle) {
+        shapes++;
+    }
+
+    @Override
+    public void drawPolyline(int[] xPoints, int[] yPoints, int nPoints) {
+        shapes++;
+    }
+
+    @Override
+    public void drawPolygon(int[] xPoints, int[] yPoints, int nPoints) {
+        shapes++;
+    }
+
+    @Override
+    public void fillPolygon(int[] xPoints, int[] yPoints, int nPoints) {
+        shapes++;
+    }
+
+    @Override
+    public void drawString(String str, int x, int y) {
+        shapes++;
+    }
+
+    @Override
+    public void drawString(String str, float x, float y) {
+        shapes++;
+    }
+
+    @Override
+    public void drawString(AttributedCharacterIterator iterator, int x, int y) {
+        shapes++;
+    }
+
+    @Override
+    public void drawString(AttributedCharacterIterator iterator, float x, float y) {
+        shapes++;
+    }
+
+    @Override
+    public void drawGlyphVector(GlyphVector g, float x, float y) {
+        shapes++;
+    }
+
+    @Override
+    public void copyArea(int x, int y, int width, int height, int dx, int dy) {
+        shapes++;
+    }
+
+    // ===================== State: kept =====================
+
+    @Override
+    public Color getColor() {
+        return color;
+    }
+
+    @Override
+    public void setColor(Color c) {
+        if (c == null) return;
+        color = c;
+        paint = c;
+    }
+
+    @Override
+    public Paint getPaint() {
+        return paint;
+    }
+
+    @Override
+    public void setPaint(Paint paint) {
+        if (paint == null) return;
+        this.paint = paint;
+        if (paint instanceof Color) color = (Color) paint;
+    }
+
+    @Override
+    public Color getBackground() {
+        return background;
+    }
+
+    @Override
+    public void setBackground(Color color) {
+        background = color;
+    }
+
+    @Override
+    public Stroke getStroke() {
+        return stroke;
+    }
+
+    @Override
+    public void setStroke(Stroke s) {
+        stroke = s;
+    }
+
+    @Override
+    public Font getFont() {
+        return font;
+    }
+
+    @Override
+    public void setFont(Font font) {
+        if (font != null) this.font = font;
+    }
+
+    @Override
+    public Composite getComposite() {
+        return composite;
+    }
+
+    @Override
+    public void setComposite(Composite comp) {
+        composite = comp;
+    }
+
+    @Override
+    public Rectangle getClipBounds() {
+        return clip != null ? new Rectangle(clip) : null;
+    }
+
+    @Override
+    public Rectangle getClipBounds(Rectangle r) {
+        if (clip != null) r.setBounds(clip);
+        return r;
+    }
+
+    @Override
+    public Shape getClip() {
+        return getClipBounds();
+    }
+
+    @Override
+    public void setClip(int x, int y, int width, int height) {
+        clip = new Rectangle(x, y, width, height);
+    }
+
+    @Override
+    public void setClip(Shape clip) {
+        this.clip = clip != null ? clip.getBounds() : null;
+    }
+
+    @Override
+    public void clipRect(int x, int y, int width, int height) {
+        Rectangle r = new Rectangle(x, y, width, height);
+        clip = clip != null ? clip.intersection(r) : r;
+    }
+
+    @Override
+    public void clip(Shape s) {
+        Rectangle r = s.getBounds();
+        clip = clip != null ? clip.intersection(r) : r;
+    }
+
+    // ===================== Unused by the paint code =====================
+
+    @Override
+    public Graphics create() {
+        return new NullGraphics();
+    }
+
+    @Override
+    public void dispose() {
+    }
+
+    @Override
+    public void setPaintMode() {
+    }
+
+    @Override
+    public void setXORMode(Color c1) {
+    }
+
+    @Override
+    public FontMetrics getFontMetrics(Font f) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean hit(Rectangle rect, Shape s, boolean onStroke) {
+        return false;
+    }
+
+    @Override
+    public GraphicsConfiguration getDeviceConfiguration() {
+        return null;
+    }
+
+    @Override
+    public void setRenderingHint(RenderingHints.Key hintKey, Object hintValue) {
+    }
+
+    @Override
+    public Object getRenderingHint(RenderingHints.Key hintKey) {
+        return null;
+    }
+
+    @Override
+    public void setRenderingHints(Map<?, ?> hints) {
+    }
+
+    @Override
+    public void addRenderingHints(Map<?, ?> hints) {
+    }
+
+    @Override
+    public RenderingHints getRenderingHints() {
+        return new RenderingHints(null);
+    }
+
+    @Override
+    public FontRenderContext getFontRenderContext() {
+        return new FontRenderContext(null, false, false);
+    }
+
+    // Transforms are not tracked; the hot paint paths draw at fixed offsets
+    @Override
+    public void translate(int x, int y) {
+    }
+
+    @Override
+    public void translate(double tx, double ty) {
+    }
+
+    @Override
+    public void rotate(double theta) {
+    }
+
+    @Override
+    public void rotate(double theta, double x, double y) {
+    }
+
+    @Override
+    public void scale(double sx, double sy) {
+    }
+
+    @Override
+    public void shear(double shx, double shy) {
+    }
+
+    @Override
+    public void transform(AffineTransform tx) {
+    }
+
+    @Override
+    public void setTransform(AffineTransform tx) {
+    }
+
+    @Override
+    public AffineTransform getTransform() {
+        return new AffineTransform();
+    }
+}
@@ -0,0 +1,33 @@
+package com.hamster.render;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Bytes allocated by the current thread, for tests that check a paint path allocates
+ * nothing.
+ */
+public final class ThreadAllocations {
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+
+    private ThreadAllocations() {}
+
+    /** Whether this JVM counts allocations per thread. */
+    public static boolean supported() {
+        return THREADS != null;
+    }
+
+    /** Bytes the current thread has allocated so far. */
+    public static long current() {
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) return null;
+        com.sun.management.ThreadMXBean sun = (com.sun.management.ThreadMXBean) bean;
+        if (!sun.isThreadAllocatedMemorySupported()) return null;
+        sun.setThreadAllocatedMemoryEnabled(true);
+        return sun;
+    }
+}
@@ -0,0 +1,89 @@
+package com.hamster.ui;
+
+import com.hamster.render.NullGraphics;
+import com.hamster.render.ThreadAllocations;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The overlay's paint pass: what a clip lets through, and that repainting a full screen
+ * of poops allocates nothing (measured as in the hamster renderer's test).
+ */
+public class PoopOverlayPaintTest {
+
+    private static final int SIZE = PoopOverlay.SIZE;
+    private static final int COUNT = 500;
+    private static final int FRAMES = 2000;
+
+    private final int[] xs = new int[COUNT];
+    private final int[] ys = new int[COUNT];
+
+    public PoopOverlayPaintTest() {
+        // A row along the bottom of a 1920-wide screen, wrapping every 60
+        for (int i = 0; i < COUNT; i++) {
+            xs[i] = i % 60 * 32;
+            ys[i] = 1000 + i / 60 * 8;
+        }
+    }
+
+    @Test
+    public void onlyPoopsInTheClipAreDrawn() {
+        NullGraphics g = new NullGraphics();
+        Rectangle clip = new Rectangle(0, 0, 1920, 1080);
+        PoopOverlay.paintPoops(g, clip, xs, ys, COUNT);
+        assertEquals("no clip: the whole layer", COUNT, g.images);
+
+        // The repaint after one poop is removed
+        g = new NullGraphics();
+        g.setClip(xs[0], ys[0], SIZE, SIZE);
+        PoopOverlay.paintPoops(g, clip, xs, ys, COUNT);
+        int expected = 0;
+        for (int i = 0; i < COUNT; i++) {
+            if (new Rectangle(xs[i], ys[i], SIZE, SIZE).intersects(new Rectangle(xs[0], ys[0], SIZE, SIZE))) {
+                expected++;
+            }
+        }
+        assertEquals(expected, g.images);
+
+        g = new NullGraphics();
+        g.setClip(0, 0, 1920, 900);
+        PoopOverlay.paintPoops(g, clip, xs, ys, COUNT);
+        assertEquals(0, g.images);
+
+        // Only the first count entries are live
+        g = new NullGraphics();
+        PoopOverlay.paintPoops(g, new Rectangle(0, 0, 1920, 1080), xs, ys, 7);
+        assertEquals(7, g.images);
+    }
+
+    @Test
+    public void paintingAllocatesNothing() {
+        Assume.assumeTrue("thread allocation counting unavailable", ThreadAllocations.supported());
+        // The sprite is drawn for real once; Java2D's own temporaries are not measured
+        BufferedImage screen = new BufferedImage(1920, 1080, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D real = screen.createGraphics();
+        PoopOverlay.paintPoops(real, new Rectangle(0, 0, 1920, 1080), xs, ys, COUNT);
+        real.dispose();
+        assertEquals("sprite drawn", 0xFF, screen.getRGB(xs[0] + SIZE / 2, ys[0] + 22) >>> 24);
+
+        NullGraphics g = new NullGraphics();
+        g.setClip(0, 960, 1920, 120);
+        Rectangle clip = new Rectangle();
+        long allocated = 0;
+        for (int frame = 0; frame < FRAMES; frame++) {
+            clip.setBounds(0, 0, 1920, 1080);
+            long before = ThreadAllocations.current();
+            PoopOverlay.paintPoops(g, clip, xs, ys, COUNT);
+            allocated += ThreadAllocations.current() - before;
+        }
+        assertTrue(allocated + " bytes allocated", allocated < FRAMES);
+        assertEquals(FRAMES * COUNT, g.images);
+    }
+}